@@ -86,6 +86,7 @@ import org.jabref.model.entry.BibtexString;
 import org.jabref.model.entry.LinkedFile;
 import org.jabref.model.entry.event.EntriesEventSource;
 import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.event.FieldsChangedEvent;
 import org.jabref.model.entry.field.FieldFactory;
 import org.jabref.model.groups.GroupTreeNode;
 import org.jabref.model.search.query.SearchQuery;
@@ -1032,6 +1033,11 @@ public class LibraryTab extends Tab {
         public void listen(FieldChangedEvent fieldChangedEvent) {
             indexManager.updateEntry(fieldChangedEvent);
         }
+
+        @Subscribe
+        public void listen(FieldsChangedEvent fieldsChangedEvent) {
+            indexManager.updateEntry(fieldsChangedEvent);
+        }
     }
 
     public static class DatabaseNotification extends NotificationPane {
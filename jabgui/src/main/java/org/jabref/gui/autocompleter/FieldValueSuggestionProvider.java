@@ -1,26 +1,36 @@
 package org.jabref.gui.autocompleter;
 
+import java.util.Collection;
 import java.util.Objects;
 import java.util.stream.Stream;
 
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.entry.field.Field;
 
+import org.controlsfx.control.textfield.AutoCompletionBinding.ISuggestionRequest;
+
 /**
  * Stores the full content of one field.
  */
 class FieldValueSuggestionProvider extends StringSuggestionProvider {
 
-    private final Field field;
-    private final BibDatabase database;
+    private final SuggestionIndex<String> index;
 
     FieldValueSuggestionProvider(Field field, BibDatabase database) {
-        this.field = Objects.requireNonNull(field);
-        this.database = database;
+        this(SuggestionIndex.forFieldValues(Objects.requireNonNull(field), database));
+    }
+
+    FieldValueSuggestionProvider(SuggestionIndex<String> index) {
+        this.index = index;
+    }
+
+    @Override
+    public Collection<String> provideSuggestions(ISuggestionRequest request) {
+        return provideSuggestions(request, index);
     }
 
     @Override
     public Stream<String> getSource() {
-        return database.getEntries().parallelStream().flatMap(entry -> entry.getField(field).stream());
+        return index.getValues();
     }
 }
@@ -1,5 +1,8 @@
 package org.jabref.gui.autocompleter;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.jabref.logic.journals.JournalAbbreviationRepository;
@@ -7,6 +10,7 @@ import org.jabref.model.database.BibDatabase;
 import org.jabref.model.entry.field.Field;
 
 import com.google.common.collect.Streams;
+import org.controlsfx.control.textfield.AutoCompletionBinding.ISuggestionRequest;
 
 public class JournalsSuggestionProvider extends FieldValueSuggestionProvider {
 
@@ -18,6 +22,32 @@ public class JournalsSuggestionProvider extends FieldValueSuggestionProvider {
         this.repository = repository;
     }
 
+    JournalsSuggestionProvider(SuggestionIndex<String> index, JournalAbbreviationRepository repository) {
+        super(index);
+
+        this.repository = repository;
+    }
+
+    /**
+     * Values of the library come first, the remaining suggestions are taken from the journal list
+     */
+    @Override
+    public Collection<String> provideSuggestions(ISuggestionRequest request) {
+        Collection<String> fromLibrary = super.provideSuggestions(request);
+        if (request.getUserText().isEmpty() || (fromLibrary.size() >= MAX_SUGGESTIONS)) {
+            return fromLibrary;
+        }
+        List<String> fromJournalList = repository.getFullNames().stream()
+                                                 .filter(name -> isMatch(name, request))
+                                                 .filter(name -> !fromLibrary.contains(name))
+                                                 .distinct()
+                                                 .limit(MAX_SUGGESTIONS - fromLibrary.size())
+                                                 .toList();
+        return Stream.concat(fromLibrary.stream(), fromJournalList.stream())
+                     .sorted(getComparator())
+                     .collect(Collectors.toList());
+    }
+
     @Override
     public Stream<String> getSource() {
         return Streams.concat(super.getSource(), repository.getFullNames().stream());
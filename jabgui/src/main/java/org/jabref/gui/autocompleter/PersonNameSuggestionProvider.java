@@ -23,17 +23,21 @@ import org.controlsfx.control.textfield.AutoCompletionBinding;
 public class PersonNameSuggestionProvider extends SuggestionProvider<Author> {
 
     private final Collection<Field> fields;
-    private final BibDatabase database;
+    private final SuggestionIndex<Author> index;
 
     PersonNameSuggestionProvider(Field field, BibDatabase database) {
         this(List.of(Objects.requireNonNull(field)), database);
     }
 
     public PersonNameSuggestionProvider(Collection<Field> fields, BibDatabase database) {
+        this(fields, SuggestionIndex.forPersonNames(Objects.requireNonNull(fields), database));
+    }
+
+    PersonNameSuggestionProvider(Collection<Field> fields, SuggestionIndex<Author> index) {
         super();
 
         this.fields = Objects.requireNonNull(fields);
-        this.database = database;
+        this.index = index;
     }
 
     public Stream<Author> getAuthors(BibEntry entry) {
@@ -61,10 +65,13 @@ public class PersonNameSuggestionProvider extends SuggestionProvider<Author> {
         return StringUtil.containsIgnoreCase(candidate.getFamilyGiven(false), request.getUserText());
     }
 
+    @Override
+    public Collection<Author> provideSuggestions(AutoCompletionBinding.ISuggestionRequest request) {
+        return provideSuggestions(request, index);
+    }
+
     @Override
     public Stream<Author> getSource() {
-        return database.getEntries()
-                       .parallelStream()
-                       .flatMap(this::getAuthors);
+        return index.getValues();
     }
 }
@@ -0,0 +1,231 @@
+package org.jabref.gui.autocompleter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.jabref.logic.util.HeadlessExecutorService;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.event.EntriesAddedEvent;
+import org.jabref.model.database.event.EntriesRemovedEvent;
+import org.jabref.model.entry.Author;
+import org.jabref.model.entry.AuthorList;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.event.FieldsChangedEvent;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.strings.StringUtil;
+
+import com.google.common.eventbus.Subscribe;
+
+/**
+ * Index of the suggestions of some fields of a library, together with the number of their occurrences.
+ * <p>
+ * The suggestions are sorted by their lower-cased text, thus the suggestions starting with the text typed by the user
+ * are found without looking at the others. The index is built once, either in the background by {@link #buildInBackground()}
+ * or on the first request, and updated by listening to the changes of the library.
+ *
+ * @param <T> type of the suggestions
+ */
+class SuggestionIndex<T> {
+
+    private static final class Suggestion<T> {
+        private final T value;
+        private final String sortKey;
+        // Changed under the lock of the index only
+        private volatile int occurrences;
+
+        private Suggestion(T value, String sortKey) {
+            this.value = value;
+            this.sortKey = sortKey;
+        }
+    }
+
+    private final BibDatabase database;
+    private final Set<Field> fields;
+    // Parses a field value into suggestions. Equal suggestions of one value are counted once.
+    private final Function<String, Collection<T>> parser;
+    // Suggestions with the same key are considered equal, the first one is kept
+    private final Function<T, String> keyFunction;
+    // The text the user input is matched against
+    private final Function<T, String> textFunction;
+
+    private final Map<String, Suggestion<T>> suggestionsByKey = new ConcurrentHashMap<>();
+    private final NavigableMap<String, Suggestion<T>> suggestionsBySortKey = new ConcurrentSkipListMap<>();
+
+    private volatile boolean built;
+
+    SuggestionIndex(BibDatabase database, Collection<Field> fields, Function<String, Collection<T>> parser, Function<T, String> keyFunction, Function<T, String> textFunction) {
+        this.database = database;
+        this.fields = Set.copyOf(fields);
+        this.parser = parser;
+        this.keyFunction = keyFunction;
+        this.textFunction = textFunction;
+
+        database.registerListener(this);
+    }
+
+    static SuggestionIndex<String> forWords(Field field, BibDatabase database) {
+        return new SuggestionIndex<>(database, List.of(field),
+                value -> new HashSet<>(StringUtil.getStringAsWords(value)),
+                Function.identity(),
+                Function.identity());
+    }
+
+    static SuggestionIndex<String> forFieldValues(Field field, BibDatabase database) {
+        return new SuggestionIndex<>(database, List.of(field),
+                List::of,
+                Function.identity(),
+                Function.identity());
+    }
+
+    static SuggestionIndex<Author> forPersonNames(Collection<Field> fields, BibDatabase database) {
+        return new SuggestionIndex<>(database, fields,
+                value -> AuthorList.parse(value).getAuthors(),
+                Author::getNamePrefixAndFamilyName,
+                author -> author.getFamilyGiven(false));
+    }
+
+    void buildInBackground() {
+        HeadlessExecutorService.INSTANCE.execute(this::ensureBuilt);
+    }
+
+    /**
+     * Returns the most frequent suggestions containing the given text, ignoring case. Suggestions starting with the
+     * text are preferred. The order of the returned suggestions is not specified.
+     */
+    List<T> getSuggestions(String text, int limit) {
+        ensureBuilt();
+        String prefix = text.toLowerCase(Locale.ROOT);
+
+        Collection<Suggestion<T>> startingWithText = suggestionsBySortKey.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values();
+        List<T> result = getMostFrequent(startingWithText.stream(), limit);
+        if (result.size() < limit) {
+            Stream<Suggestion<T>> containingText = suggestionsBySortKey.values().stream()
+                                                                       .filter(suggestion -> !suggestion.sortKey.startsWith(prefix))
+                                                                       .filter(suggestion -> StringUtil.containsIgnoreCase(textFunction.apply(suggestion.value), text));
+            result.addAll(getMostFrequent(containingText, limit - result.size()));
+        }
+        return result;
+    }
+
+    /**
+     * Returns all distinct suggestions
+     */
+    Stream<T> getValues() {
+        ensureBuilt();
+        return suggestionsBySortKey.values().stream().map(suggestion -> suggestion.value);
+    }
+
+    private List<T> getMostFrequent(Stream<Suggestion<T>> suggestions, int limit) {
+        Comparator<Suggestion<T>> byOccurrences = Comparator.comparingInt(suggestion -> suggestion.occurrences);
+        PriorityQueue<Suggestion<T>> mostFrequent = new PriorityQueue<>(byOccurrences);
+        suggestions.forEach(suggestion -> {
+            mostFrequent.add(suggestion);
+            if (mostFrequent.size() > limit) {
+                mostFrequent.poll();
+            }
+        });
+        List<T> result = new ArrayList<>(mostFrequent.size());
+        mostFrequent.forEach(suggestion -> result.add(suggestion.value));
+        return result;
+    }
+
+    private void ensureBuilt() {
+        if (built) {
+            return;
+        }
+        synchronized (this) {
+            if (!built) {
+                for (BibEntry entry : List.copyOf(database.getEntries())) {
+                    add(entry);
+                }
+                built = true;
+            }
+        }
+    }
+
+    private void add(BibEntry entry) {
+        for (Field field : fields) {
+            entry.getField(field).ifPresent(value -> update(value, 1));
+        }
+    }
+
+    private void remove(BibEntry entry) {
+        for (Field field : fields) {
+            entry.getField(field).ifPresent(value -> update(value, -1));
+        }
+    }
+
+    private void update(String fieldValue, int delta) {
+        for (T value : parser.apply(fieldValue)) {
+            String text = textFunction.apply(value);
+            if (StringUtil.isBlank(text)) {
+                continue;
+            }
+            String key = keyFunction.apply(value);
+            Suggestion<T> suggestion = suggestionsByKey.get(key);
+            if (suggestion == null) {
+                if (delta < 0) {
+                    continue;
+                }
+                // The key makes the sort key unique among suggestions with the same text
+                suggestion = new Suggestion<>(value, text.toLowerCase(Locale.ROOT) + '\0' + key);
+                suggestionsByKey.put(key, suggestion);
+                suggestionsBySortKey.put(suggestion.sortKey, suggestion);
+            }
+            suggestion.occurrences += delta;
+            if (suggestion.occurrences <= 0) {
+                suggestionsByKey.remove(key);
+                suggestionsBySortKey.remove(suggestion.sortKey);
+            }
+        }
+    }
+
+    @Subscribe
+    public synchronized void listen(FieldChangedEvent event) {
+        update(event.getField(), event.getOldValue(), event.getNewValue());
+    }
+
+    @Subscribe
+    public synchronized void listen(FieldsChangedEvent event) {
+        event.getChanges().forEach(change -> update(change.getField(), change.getOldValue(), change.getNewValue()));
+    }
+
+    private void update(Field field, String oldValue, String newValue) {
+        if (!built || !fields.contains(field)) {
+            return;
+        }
+        if (oldValue != null) {
+            update(oldValue, -1);
+        }
+        if (newValue != null) {
+            update(newValue, 1);
+        }
+    }
+
+    @Subscribe
+    public synchronized void listen(EntriesAddedEvent event) {
+        if (built) {
+            event.getBibEntries().forEach(this::add);
+        }
+    }
+
+    @Subscribe
+    public synchronized void listen(EntriesRemovedEvent event) {
+        if (built) {
+            event.getBibEntries().forEach(this::remove);
+        }
+    }
+}
@@ -42,14 +42,16 @@ import org.controlsfx.control.textfield.AutoCompletionBinding.ISuggestionRequest
  */
 public abstract class SuggestionProvider<T> {
 
-    public final Collection<T> provideSuggestions(ISuggestionRequest request) {
+    protected static final int MAX_SUGGESTIONS = 10;
+
+    public Collection<T> provideSuggestions(ISuggestionRequest request) {
         if (!request.getUserText().isEmpty()) {
             Comparator<T> comparator = getComparator();
             Equivalence<T> equivalence = getEquivalence();
             return getSource().filter(candidate -> isMatch(candidate, request))
                               .map(equivalence::wrap) // Need to do a bit of acrobatic as there is no distinctBy method
                               .distinct()
-                              .limit(10)
+                              .limit(MAX_SUGGESTIONS)
                               .map(Equivalence.Wrapper::get)
                               .sorted(comparator)
                               .collect(Collectors.toList());
@@ -58,6 +60,19 @@ public abstract class SuggestionProvider<T> {
         }
     }
 
+    /**
+     * Provides the suggestions using the given index instead of filtering {@link #getSource()}
+     */
+    protected Collection<T> provideSuggestions(ISuggestionRequest request, SuggestionIndex<T> index) {
+        if (request.getUserText().isEmpty()) {
+            return List.of();
+        }
+        return index.getSuggestions(request.getUserText(), MAX_SUGGESTIONS)
+                    .stream()
+                    .sorted(getComparator())
+                    .collect(Collectors.toList());
+    }
+
     protected abstract Equivalence<T> getEquivalence();
 
     public List<T> getPossibleSuggestions() {
@@ -1,9 +1,14 @@
 package org.jabref.gui.autocompleter;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 import org.jabref.logic.journals.JournalAbbreviationRepository;
 import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.Author;
 import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.FieldProperty;
 import org.jabref.model.entry.field.StandardField;
@@ -15,6 +20,11 @@ public class SuggestionProviders {
     private JournalAbbreviationRepository abbreviationRepository;
     private AutoCompletePreferences autoCompletePreferences;
 
+    // The indexes are shared by all providers of a field and kept up to date with the library
+    private final Map<Field, SuggestionIndex<Author>> personNameIndexes = new ConcurrentHashMap<>();
+    private final Map<Field, SuggestionIndex<String>> fieldValueIndexes = new ConcurrentHashMap<>();
+    private final Map<Field, SuggestionIndex<String>> wordIndexes = new ConcurrentHashMap<>();
+
     public SuggestionProviders(BibDatabase database, JournalAbbreviationRepository abbreviationRepository, AutoCompletePreferences autoCompletePreferences) {
         this.database = database;
         this.abbreviationRepository = abbreviationRepository;
@@ -33,13 +43,21 @@ public class SuggestionProviders {
 
         Set<FieldProperty> fieldProperties = field.getProperties();
         if (fieldProperties.contains(FieldProperty.PERSON_NAMES)) {
-            return new PersonNameSuggestionProvider(field, database);
+            return new PersonNameSuggestionProvider(List.of(field), getIndex(personNameIndexes, field, () -> SuggestionIndex.forPersonNames(List.of(field), database)));
         } else if (fieldProperties.contains(FieldProperty.SINGLE_ENTRY_LINK) || fieldProperties.contains(FieldProperty.MULTIPLE_ENTRY_LINK)) {
             return new BibEntrySuggestionProvider(database);
         } else if (fieldProperties.contains(FieldProperty.JOURNAL_NAME) || StandardField.PUBLISHER == field) {
-            return new JournalsSuggestionProvider(field, database, abbreviationRepository);
+            return new JournalsSuggestionProvider(getIndex(fieldValueIndexes, field, () -> SuggestionIndex.forFieldValues(field, database)), abbreviationRepository);
         } else {
-            return new WordSuggestionProvider(field, database);
+            return new WordSuggestionProvider(getIndex(wordIndexes, field, () -> SuggestionIndex.forWords(field, database)));
         }
     }
+
+    private static <T> SuggestionIndex<T> getIndex(Map<Field, SuggestionIndex<T>> indexes, Field field, Supplier<SuggestionIndex<T>> indexSupplier) {
+        return indexes.computeIfAbsent(field, _ -> {
+            SuggestionIndex<T> index = indexSupplier.get();
+            index.buildInBackground();
+            return index;
+        });
+    }
 }
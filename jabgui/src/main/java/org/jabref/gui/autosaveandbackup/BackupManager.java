@@ -2,14 +2,21 @@ package org.jabref.gui.autosaveandbackup;
 
 import java.io.IOException;
 import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Queue;
 import java.util.Set;
@@ -29,6 +36,7 @@ import org.jabref.logic.exporter.AtomicFileWriter;
 import org.jabref.logic.exporter.BibWriter;
 import org.jabref.logic.exporter.BibtexDatabaseWriter;
 import org.jabref.logic.exporter.SelfContainedSaveConfiguration;
+import org.jabref.logic.importer.OpenDatabase;
 import org.jabref.logic.preferences.CliPreferences;
 import org.jabref.logic.util.BackupFileType;
 import org.jabref.logic.util.CoarseChangeFilter;
@@ -39,8 +47,14 @@ import org.jabref.model.database.event.BibDatabaseContextChangedEvent;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryTypesManager;
 import org.jabref.model.entry.BibtexString;
+import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.FieldFactory;
+import org.jabref.model.entry.field.InternalField;
+import org.jabref.model.entry.types.EntryTypeFactory;
 import org.jabref.model.metadata.SaveOrder;
 import org.jabref.model.metadata.SelfContainedSaveOrder;
+import org.jabref.model.util.DummyFileUpdateMonitor;
 
 import com.google.common.eventbus.Subscribe;
 import org.slf4j.Logger;
@@ -51,6 +65,11 @@ import org.slf4j.LoggerFactory;
  * An intelligent {@link ExecutorService} with a {@link BlockingQueue} prevents a high load while making backups and
  * rejects all redundant backup tasks. This class does not manage the .bak file which is created when opening a
  * database.
+ * <p>
+ * Writing a backup serializes the whole library. Thus, changes of field values are appended to a journal belonging to
+ * the latest backup instead. A new backup is written only if entries, strings, or the meta data changed, or if the
+ * journal grew too large. After a crash, {@link #replayJournal(Path, Path, CliPreferences, BibEntryTypesManager)}
+ * applies the journal to the latest backup.
  */
 public class BackupManager {
 
@@ -60,6 +79,9 @@ public class BackupManager {
 
     private static final int DELAY_BETWEEN_BACKUP_ATTEMPTS_IN_SECONDS = 19;
 
+    // If the journal gets larger, it is replaced by a new backup
+    private static final long MAXIMUM_JOURNAL_SIZE_IN_BYTES = 1024 * 1024;
+
     private static final Set<BackupManager> RUNNING_INSTANCES = new HashSet<>();
 
     private final BibDatabaseContext bibDatabaseContext;
@@ -74,6 +96,15 @@ public class BackupManager {
     private final Queue<Path> backupFilesQueue = new LinkedBlockingQueue<>();
     private boolean needsBackup = false;
 
+    // Field changes not yet written to the journal: new values (null if the field was cleared) by field and citation key
+    private final Map<String, Map<Field, String>> pendingFieldChanges = new LinkedHashMap<>();
+
+    // Backups and journal appends are written one after another, the lock of this object guards the state changed by events
+    private final Object writeLock = new Object();
+    // Guarded by writeLock. Identifies the backup written by this instance the journal belongs to, null as long as no backup was written.
+    private String journalHeader;
+    private long journalSize;
+
     BackupManager(LibraryTab libraryTab, BibDatabaseContext bibDatabaseContext, BibEntryTypesManager entryTypesManager, CliPreferences preferences) {
         this.bibDatabaseContext = bibDatabaseContext;
         this.entryTypesManager = entryTypesManager;
@@ -99,6 +130,10 @@ public class BackupManager {
         return BackupFileUtil.getPathOfLatestExistingBackupFile(originalPath, BackupFileType.BACKUP, backupDir);
     }
 
+    static Path getJournalPath(Path originalPath, Path backupDir) {
+        return backupDir.resolve(BackupFileUtil.getUniqueFilePrefix(originalPath) + "--" + originalPath.getFileName() + "--journal");
+    }
+
     /**
      * Starts the BackupManager which is associated with the given {@link BibDatabaseContext}. As long as no database
      * file is present in {@link BibDatabaseContext}, the {@link BackupManager} will do nothing.
@@ -212,22 +247,209 @@ public class BackupManager {
         }
     }
 
+    /**
+     * Applies the journal of field changes left by a crashed session to the latest backup file and writes the result as
+     * new backup file. Thus, {@link #backupFileDiffers(Path, Path)} and {@link #restoreBackup(Path, Path)} see all
+     * changes. If no change could be applied, no backup file is written. The journal is removed afterwards.
+     *
+     * @param originalPath Path to the file the journal should be replayed for. Example: jabref.bib.
+     */
+    public static void replayJournal(Path originalPath, Path backupDir, CliPreferences preferences, BibEntryTypesManager entryTypesManager) {
+        Path journalPath = getJournalPath(originalPath, backupDir);
+        if (!Files.exists(journalPath)) {
+            return;
+        }
+        try {
+            Optional<Path> latestBackupPath = getLatestBackupPath(originalPath, backupDir);
+            List<String> lines = readJournal(journalPath);
+            boolean journalBelongsToLatestBackup = latestBackupPath.isPresent()
+                    && !lines.isEmpty()
+                    && lines.getFirst().equals(getJournalHeader(latestBackupPath.get()));
+            // A discarded backup must not be brought back
+            if (journalBelongsToLatestBackup && (lines.size() > 1) && !Files.exists(determineDiscardedFile(originalPath, backupDir))) {
+                BibDatabaseContext backup = OpenDatabase.loadDatabase(latestBackupPath.get(), preferences.getImportFormatPreferences(), new DummyFileUpdateMonitor())
+                                                        .getDatabaseContext();
+                boolean changed = false;
+                for (String line : lines.subList(1, lines.size())) {
+                    changed |= applyJournalLine(backup.getDatabase(), line);
+                }
+                if (changed) {
+                    // The backup file is already in the right order
+                    writeBackup(backup, getBackupPathForNewBackup(originalPath, backupDir), new SelfContainedSaveOrder(SaveOrder.OrderType.ORIGINAL, List.of()), preferences, entryTypesManager);
+                    LOGGER.info("Replayed backup journal {} on backup file {}", journalPath, latestBackupPath.get());
+                } else {
+                    LOGGER.info("Backup journal {} does not change backup file {}", journalPath, latestBackupPath.get());
+                }
+            }
+            Files.delete(journalPath);
+        } catch (IOException e) {
+            LOGGER.error("Error while replaying the backup journal {}", journalPath, e);
+        }
+    }
+
+    /**
+     * Returns the complete lines of the journal. A line which was not written completely because of a crash is left out.
+     */
+    private static List<String> readJournal(Path journalPath) throws IOException {
+        byte[] content = Files.readAllBytes(journalPath);
+        int end = content.length;
+        while ((end > 0) && (content[end - 1] != '\n')) {
+            end--;
+        }
+        return new String(content, 0, end, StandardCharsets.UTF_8).lines().toList();
+    }
+
+    /**
+     * @return true if the line changed an entry
+     */
+    private static boolean applyJournalLine(BibDatabase database, String line) {
+        List<String> columns = Arrays.stream(line.split("\t", -1)).map(BackupManager::unescape).toList();
+        if ((columns.size() < 2) || (columns.size() > 3)) {
+            LOGGER.warn("Ignoring malformed line of backup journal: {}", line);
+            return false;
+        }
+        List<BibEntry> entries = database.getEntriesByCitationKey(columns.getFirst());
+        if (entries.size() != 1) {
+            LOGGER.warn("Ignoring change of backup journal as there is no unique entry with citation key {}", columns.getFirst());
+            return false;
+        }
+        BibEntry entry = entries.getFirst();
+        Field field = FieldFactory.parseField(columns.get(1));
+        if (columns.size() == 2) {
+            return entry.clearField(field).isPresent();
+        } else if (field == InternalField.TYPE_HEADER) {
+            return entry.setType(EntryTypeFactory.parse(columns.get(2))).isPresent();
+        } else {
+            return entry.setField(field, columns.get(2)).isPresent();
+        }
+    }
+
+    /**
+     * Identifies the backup file a journal belongs to. The time is included, because backup files written within the same
+     * second have the same name.
+     */
+    private static String getJournalHeader(Path backupPath) throws IOException {
+        return backupPath.getFileName() + "\t" + Files.getLastModifiedTime(backupPath).toMillis();
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\")
+                    .replace("\t", "\\t")
+                    .replace("\n", "\\n")
+                    .replace("\r", "\\r");
+    }
+
+    private static String unescape(String value) {
+        StringBuilder result = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if ((c == '\\') && (i + 1 < value.length())) {
+                i++;
+                c = switch (value.charAt(i)) {
+                    case 't' ->
+                            '\t';
+                    case 'n' ->
+                            '\n';
+                    case 'r' ->
+                            '\r';
+                    default ->
+                            value.charAt(i);
+                };
+            }
+            result.append(c);
+        }
+        return result.toString();
+    }
+
     Optional<Path> determineBackupPathForNewBackup(Path backupDir) {
         return bibDatabaseContext.getDatabasePath().map(path -> BackupManager.getBackupPathForNewBackup(path, backupDir));
     }
 
     /**
      * This method is called as soon as the scheduler says: "Do the backup"
+     * <p>
+     * If only field values changed since the last backup written by this instance, the changes are appended to the
+     * journal. Otherwise, a new backup is written.
      *
      * <em>SIDE EFFECT: Deletes oldest backup file</em>
      *
      * @param backupPath the full path to the file where the library should be backed up to
      */
     void performBackup(Path backupPath) {
-        if (!needsBackup) {
-            return;
+        performBackup(backupPath, false);
+    }
+
+    /**
+     * @param compactJournal if a journal exists, it is replaced by a new backup
+     */
+    private void performBackup(Path backupPath, boolean compactJournal) {
+        synchronized (writeLock) {
+            boolean writeBackup;
+            List<String> journalLines;
+            synchronized (this) {
+                boolean hasJournal = journalSize > 0;
+                boolean hasFieldChanges = !pendingFieldChanges.isEmpty();
+                writeBackup = needsBackup
+                        || ((journalHeader == null) && hasFieldChanges)
+                        || (compactJournal && (hasJournal || hasFieldChanges))
+                        || (journalSize > MAXIMUM_JOURNAL_SIZE_IN_BYTES);
+                if (!writeBackup && !hasFieldChanges) {
+                    return;
+                }
+                journalLines = writeBackup ? List.of() : getJournalLines();
+                // Changes happening from now on are contained in the backup or are journaled on top of it
+                pendingFieldChanges.clear();
+                needsBackup = false;
+            }
+
+            if (writeBackup) {
+                writeBackup(backupPath);
+            } else {
+                appendToJournal(backupPath, journalLines);
+            }
+        }
+    }
+
+    private List<String> getJournalLines() {
+        List<String> lines = new ArrayList<>();
+        pendingFieldChanges.forEach((citationKey, newValues) -> newValues.forEach((field, newValue) -> {
+            String line = escape(citationKey) + "\t" + escape(FieldFactory.serializeFieldsList(List.of(field)));
+            if (newValue != null) {
+                line += "\t" + escape(newValue);
+            }
+            lines.add(line);
+        }));
+        return lines;
+    }
+
+    private void appendToJournal(Path backupPath, List<String> lines) {
+        Path journalPath = getJournalPath(bibDatabaseContext.getDatabasePath().get(), backupPath.getParent());
+        StringBuilder content = new StringBuilder();
+        if (journalSize == 0) {
+            content.append(journalHeader).append('\n');
+        }
+        lines.forEach(line -> content.append(line).append('\n'));
+        byte[] bytes = content.toString().getBytes(StandardCharsets.UTF_8);
+
+        StandardOpenOption mode = journalSize == 0 ? StandardOpenOption.TRUNCATE_EXISTING : StandardOpenOption.APPEND;
+        try (FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE, mode)) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            // The changes have to survive a crash of the machine, too
+            channel.force(false);
+            journalSize += bytes.length;
+        } catch (IOException e) {
+            LOGGER.error("Error while writing to backup journal {}", journalPath, e);
+            // The changes are not lost, they are contained in the next backup
+            synchronized (this) {
+                needsBackup = true;
+            }
         }
+    }
 
+    private void writeBackup(Path backupPath) {
         // We opted for "while" to delete backups in case there are more than 10
         while (backupFilesQueue.size() >= MAXIMUM_BACKUP_FILE_COUNT) {
             Path oldestBackupFile = backupFilesQueue.poll();
@@ -257,10 +479,6 @@ public class BackupManager {
                     }
                 })
                 .orElse(SaveOrder.getDefaultSaveOrder());
-        SelfContainedSaveConfiguration saveConfiguration = (SelfContainedSaveConfiguration) new SelfContainedSaveConfiguration()
-                .withMakeBackup(false)
-                .withSaveOrder(saveOrder)
-                .withReformatOnSave(preferences.getLibraryPreferences().shouldAlwaysReformatOnSave());
 
         // "Clone" the database context
         // We "know" that "only" the BibEntries might be changed during writing (see [org.jabref.logic.exporter.BibDatabaseWriter.savePartOfDatabase])
@@ -274,6 +492,31 @@ public class BackupManager {
                           .forEach(bibDatabaseClone::addString);
         BibDatabaseContext bibDatabaseContextClone = new BibDatabaseContext(bibDatabaseClone, bibDatabaseContext.getMetaData());
 
+        try {
+            // we save the clone to prevent the original database (and thus the UI) from being changed
+            writeBackup(bibDatabaseContextClone, backupPath, saveOrder, preferences, entryTypesManager);
+            backupFilesQueue.add(backupPath);
+
+            // Changes of field values are journaled on top of the new backup
+            Path journalPath = getJournalPath(bibDatabaseContext.getDatabasePath().get(), backupPath.getParent());
+            Files.deleteIfExists(journalPath);
+            journalHeader = getJournalHeader(backupPath);
+            journalSize = 0;
+        } catch (IOException e) {
+            logIfCritical(backupPath, e);
+            // We want to have successful backups only, thus we try again
+            synchronized (this) {
+                needsBackup = true;
+            }
+        }
+    }
+
+    private static void writeBackup(BibDatabaseContext bibDatabaseContext, Path backupPath, SelfContainedSaveOrder saveOrder, CliPreferences preferences, BibEntryTypesManager entryTypesManager) throws IOException {
+        SelfContainedSaveConfiguration saveConfiguration = (SelfContainedSaveConfiguration) new SelfContainedSaveConfiguration()
+                .withMakeBackup(false)
+                .withSaveOrder(saveOrder)
+                .withReformatOnSave(preferences.getLibraryPreferences().shouldAlwaysReformatOnSave());
+
         Charset encoding = bibDatabaseContext.getMetaData().getEncoding().orElse(StandardCharsets.UTF_8);
         // We want to have successful backups only
         // Thus, we do not use a plain "FileWriter", but the "AtomicFileWriter"
@@ -287,15 +530,7 @@ public class BackupManager {
                     preferences.getFieldPreferences(),
                     preferences.getCitationKeyPatternPreferences(),
                     entryTypesManager)
-                    // we save the clone to prevent the original database (and thus the UI) from being changed
-                    .saveDatabase(bibDatabaseContextClone);
-            backupFilesQueue.add(backupPath);
-
-            // We wrote the file successfully
-            // Thus, we currently do not need any new backup
-            this.needsBackup = false;
-        } catch (IOException e) {
-            logIfCritical(backupPath, e);
+                    .saveDatabase(bibDatabaseContext);
         }
     }
 
@@ -332,10 +567,40 @@ public class BackupManager {
     }
 
     @Subscribe
-    public synchronized void listen(@SuppressWarnings("unused") BibDatabaseContextChangedEvent event) {
-        if (!event.isFilteredOut()) {
-            this.needsBackup = true;
+    public synchronized void listen(BibDatabaseContextChangedEvent event) {
+        if (event.isFilteredOut()) {
+            return;
+        }
+        if (!needsBackup && (event instanceof FieldChangedEvent fieldChange) && addToJournal(fieldChange)) {
+            return;
+        }
+        this.needsBackup = true;
+        // All changes are contained in the next backup
+        pendingFieldChanges.clear();
+    }
+
+    /**
+     * Remembers the new value of the changed field for the journal. The entry is identified by its citation key, thus
+     * changes of entries without unique citation key and changes of the citation key itself cannot be journaled.
+     *
+     * @return <code>true</code> if the change will be written to the journal
+     */
+    private boolean addToJournal(FieldChangedEvent event) {
+        Field field = event.getField();
+        if (field == InternalField.KEY_FIELD) {
+            return false;
+        }
+        if (field == InternalField.INTERNAL_ID_FIELD) {
+            // The id is not written to the library
+            return true;
+        }
+        Optional<String> citationKey = event.getBibEntry().getCitationKey();
+        if (citationKey.isEmpty() || (bibDatabaseContext.getDatabase().getNumberOfCitationKeyOccurrences(citationKey.get()) != 1)) {
+            return false;
         }
+        pendingFieldChanges.computeIfAbsent(citationKey.get(), _ -> new LinkedHashMap<>())
+                           .put(field, event.getNewValue());
+        return true;
     }
 
     private void startBackupTask(Path backupDir) {
@@ -360,6 +625,8 @@ public class BackupManager {
                 List<Path> allSavFiles = Files.list(backupDir)
                                               // just list the .sav belonging to the given targetFile
                                               .filter(p -> p.getFileName().toString().startsWith(prefix))
+                                              // the journal and the discarded file are not rotated
+                                              .filter(p -> p.getFileName().toString().endsWith("." + BackupFileType.BACKUP.getExtensions().getFirst()))
                                               .sorted().toList();
                 backupFilesQueue.addAll(allSavFiles);
             } catch (IOException e) {
@@ -382,7 +649,8 @@ public class BackupManager {
 
         if (createBackup) {
             // Ensure that backup is a recent one
-            determineBackupPathForNewBackup(backupDir).ifPresent(this::performBackup);
+            // The journal is compacted into the backup, thus the library can be opened without replaying it
+            determineBackupPathForNewBackup(backupDir).ifPresent(backupPath -> performBackup(backupPath, true));
         }
     }
 }
@@ -4,6 +4,7 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.BiConsumer;
@@ -71,15 +72,21 @@ public class AutoSetFileLinksUtil {
     public LinkFilesResult linkAssociatedFiles(List<BibEntry> entries, BiConsumer<LinkedFile, BibEntry> onAddLinkedFile) {
         LinkFilesResult result = new LinkFilesResult();
 
-        for (BibEntry entry : entries) {
-            List<LinkedFile> linkedFiles = new ArrayList<>();
+        List<String> extensions = getExtensions();
+        LOGGER.debug("Searching for extensions {} in directories {}", extensions, directories);
 
-            try {
-                linkedFiles = findAssociatedNotLinkedFiles(entry);
-            } catch (IOException e) {
-                result.addFileException(e);
-                LOGGER.error("Problem finding files", e);
-            }
+        // All entries are looked up at once, thus the directories are not searched again for each entry
+        List<List<Path>> foundFiles = Collections.nCopies(entries.size(), List.of());
+        try {
+            foundFiles = FileFinders.constructFromConfiguration(autoLinkPreferences).findAssociatedFiles(entries, directories, extensions);
+        } catch (IOException e) {
+            result.addFileException(e);
+            LOGGER.error("Problem finding files", e);
+        }
+
+        for (int i = 0; i < entries.size(); i++) {
+            BibEntry entry = entries.get(i);
+            List<LinkedFile> linkedFiles = getNotLinkedFiles(entry, foundFiles.get(i));
 
             for (LinkedFile linkedFile : linkedFiles) {
                 // store undo information
@@ -92,9 +99,7 @@ public class AutoSetFileLinksUtil {
     }
 
     public List<LinkedFile> findAssociatedNotLinkedFiles(BibEntry entry) throws IOException {
-        List<LinkedFile> linkedFiles = new ArrayList<>();
-
-        List<String> extensions = externalApplicationsPreferences.getExternalFileTypes().stream().map(ExternalFileType::getExtension).toList();
+        List<String> extensions = getExtensions();
 
         LOGGER.debug("Searching for extensions {} in directories {}", extensions, directories);
 
@@ -102,8 +107,20 @@ public class AutoSetFileLinksUtil {
         FileFinder fileFinder = FileFinders.constructFromConfiguration(autoLinkPreferences);
         List<Path> result = fileFinder.findAssociatedFiles(entry, directories, extensions);
 
-        // Collect the found files that are not yet linked
-        for (Path foundFile : result) {
+        return getNotLinkedFiles(entry, result);
+    }
+
+    private List<String> getExtensions() {
+        return externalApplicationsPreferences.getExternalFileTypes().stream().map(ExternalFileType::getExtension).toList();
+    }
+
+    /**
+     * Collects the found files that are not yet linked to the given entry
+     */
+    private List<LinkedFile> getNotLinkedFiles(BibEntry entry, List<Path> foundFiles) {
+        List<LinkedFile> linkedFiles = new ArrayList<>();
+
+        for (Path foundFile : foundFiles) {
             boolean fileAlreadyLinked = entry.getFiles().stream()
                                              .map(file -> file.findIn(directories))
                                              .anyMatch(file -> {
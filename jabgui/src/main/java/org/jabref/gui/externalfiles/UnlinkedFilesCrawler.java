@@ -7,10 +7,12 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
-import java.util.stream.StreamSupport;
 
 import javafx.scene.control.CheckBoxTreeItem;
 
@@ -18,7 +20,10 @@ import org.jabref.gui.util.FileNodeViewModel;
 import org.jabref.logic.FilePreferences;
 import org.jabref.logic.externalfiles.DateRange;
 import org.jabref.logic.externalfiles.ExternalFileSorter;
+import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.util.BackgroundTask;
+import org.jabref.logic.util.io.DatabaseFileLookup;
+import org.jabref.logic.util.io.DirectoryIndex;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 
@@ -27,30 +32,47 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Util class for searching files on the file system which are not linked to a provided {@link BibDatabase}.
+ * <p>
+ * The directory tree is read using a {@link DirectoryIndex}, which is kept between searches and only re-reads
+ * directories modified since. Directories ignored by git (e.g., {@code .git} or {@code node_modules}) are not read at
+ * all. The directories are then filtered in parallel.
  */
 public class UnlinkedFilesCrawler extends BackgroundTask<FileNodeViewModel> {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(UnlinkedFilesCrawler.class);
 
+    // A constant, thus the index is reused by later searches
+    private static final Predicate<Path> NOT_IGNORED_DIRECTORY = directory -> accept(new GitIgnoreFileFilter(directory.getParent()), directory);
+
     private final Path directory;
     private final Filter<Path> fileFilter;
     private final DateRange dateFilter;
     private final ExternalFileSorter sorter;
-    private final BibDatabaseContext databaseContext;
-    private final FilePreferences filePreferences;
+    private final Supplier<DatabaseFileLookup> linkedFiles;
+    private final int parallelism;
+    private int foundFiles;
 
     public UnlinkedFilesCrawler(Path directory, Filter<Path> fileFilter, DateRange dateFilter, ExternalFileSorter sorter, BibDatabaseContext databaseContext, FilePreferences filePreferences) {
+        this(directory, fileFilter, dateFilter, sorter, () -> new DatabaseFileLookup(databaseContext, filePreferences), Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @param linkedFiles provides the linked files of the library. It is called when the search starts, thus it can
+     *                    return a lookup kept from a previous search.
+     * @param parallelism the number of directories filtered in parallel
+     */
+    public UnlinkedFilesCrawler(Path directory, Filter<Path> fileFilter, DateRange dateFilter, ExternalFileSorter sorter, Supplier<DatabaseFileLookup> linkedFiles, int parallelism) {
         this.directory = directory;
         this.fileFilter = fileFilter;
         this.dateFilter = dateFilter;
         this.sorter = sorter;
-        this.databaseContext = databaseContext;
-        this.filePreferences = filePreferences;
+        this.linkedFiles = linkedFiles;
+        this.parallelism = parallelism;
     }
 
     @Override
     public FileNodeViewModel call() throws IOException {
-        UnlinkedPDFFileFilter unlinkedPDFFileFilter = new UnlinkedPDFFileFilter(fileFilter, databaseContext, filePreferences);
+        UnlinkedPDFFileFilter unlinkedPDFFileFilter = new UnlinkedPDFFileFilter(fileFilter, linkedFiles.get());
         return searchDirectory(directory, unlinkedPDFFileFilter);
     }
 
@@ -64,9 +86,7 @@ public class UnlinkedFilesCrawler extends BackgroundTask<FileNodeViewModel> {
      * The user objects that are attached to the nodes is the {@link FileNodeViewModel}, which wraps the {@link
      * File}-Object. <br>
      * <br>
-     * For ensuring the capability to cancel the work of this recursive method, the first position in the integer array
-     * 'state' must be set to 1, to keep the recursion running. When the states value changes, the method will resolve
-     * its recursion and return what it has saved so far.
+     * If the task is cancelled, the directories not searched yet are left out of the result.
      * <br>
      * The files are filtered according to the {@link DateRange} filter value
      * and then sorted according to the {@link ExternalFileSorter} value.
@@ -82,62 +102,107 @@ public class UnlinkedFilesCrawler extends BackgroundTask<FileNodeViewModel> {
             throw new IOException("Invalid directory for searching: %s".formatted(directory));
         }
 
-        FileNodeViewModel fileNodeViewModelForCurrentDirectory = new FileNodeViewModel(directory);
-
-        // Map from isDirectory (true/false) to full path
-        // Result: Contains only files not matching the filter (i.e., PDFs not linked and files not ignored)
-        // Filters:
-        //   1. UnlinkedPDFFileFilter
-        //   2. GitIgnoreFilter
-        ChainedFilters filters = new ChainedFilters(unlinkedPDFFileFilter, new GitIgnoreFileFilter(directory));
-        Map<Boolean, List<Path>> directoryAndFilePartition;
-        try (Stream<Path> filesStream = StreamSupport.stream(Files.newDirectoryStream(directory, filters).spliterator(), false)) {
-            directoryAndFilePartition = filesStream.collect(Collectors.partitioningBy(Files::isDirectory));
+        DirectoryIndex index;
+        try {
+            index = DirectoryIndex.of(directory, NOT_IGNORED_DIRECTORY, this::isCancelled);
+        } catch (CancellationException e) {
+            return new FileNodeViewModel(directory);
+        }
+        try (ForkJoinPool pool = new ForkJoinPool(parallelism)) {
+            return pool.invoke(new DirectorySearch(directory, index, unlinkedPDFFileFilter));
+        }
+    }
+
+    private static boolean accept(Filter<Path> filter, Path path) {
+        try {
+            return filter.accept(path);
         } catch (IOException e) {
             LOGGER.error("Error while searching files", e);
-            return fileNodeViewModelForCurrentDirectory;
+            return false;
         }
-        List<Path> subDirectories = directoryAndFilePartition.get(true);
-        List<Path> files = directoryAndFilePartition.get(false);
+    }
+
+    /**
+     * Shows the number of files found so far, as the tree is shown only after the search is complete
+     */
+    private synchronized void reportFoundFiles(int numberOfFiles) {
+        foundFiles += numberOfFiles;
+        updateMessage(Localization.lang("Found %0 results.", String.valueOf(foundFiles)));
+    }
 
-        // at this point, only unlinked PDFs AND unignored files are contained
+    /**
+     * Searches one directory. The subdirectories are searched by subtasks.
+     */
+    private class DirectorySearch extends RecursiveTask<FileNodeViewModel> {
 
-        // initially, we find no files at all
-        int fileCountOfSubdirectories = 0;
+        private final Path directory;
+        private final DirectoryIndex index;
+        private final UnlinkedPDFFileFilter unlinkedPDFFileFilter;
 
-        // now we crawl into the found subdirectories first (!)
-        for (Path subDirectory : subDirectories) {
-            FileNodeViewModel subRoot = searchDirectory(subDirectory, unlinkedPDFFileFilter);
-            if (!subRoot.getChildren().isEmpty()) {
-                fileCountOfSubdirectories += subRoot.getFileCount();
-                fileNodeViewModelForCurrentDirectory.getChildren().add(subRoot);
-            }
+        DirectorySearch(Path directory, DirectoryIndex index, UnlinkedPDFFileFilter unlinkedPDFFileFilter) {
+            this.directory = directory;
+            this.index = index;
+            this.unlinkedPDFFileFilter = unlinkedPDFFileFilter;
         }
-        // now we have the data of all subdirectories
-        // it is stored in fileNodeViewModelForCurrentDirectory.getChildren()
 
-        // now we handle the files in the current directory
+        @Override
+        protected FileNodeViewModel compute() {
+            FileNodeViewModel fileNodeViewModelForCurrentDirectory = new FileNodeViewModel(directory);
+            if (UnlinkedFilesCrawler.this.isCancelled()) {
+                return fileNodeViewModelForCurrentDirectory;
+            }
 
-        // filter files according to last edited date.
-        // Note that we do not use the "StreamSupport.stream" filtering functionality, because refactoring the code to that would lead to more code
-        List<Path> resultingFiles = new ArrayList<>();
-        for (Path path : files) {
-            if (FileFilterUtils.filterByDate(path, dateFilter)) {
-                resultingFiles.add(path);
+            // Result: Contains only files not matching the filter (i.e., PDFs not linked and files not ignored)
+            // Filters:
+            //   1. UnlinkedPDFFileFilter
+            //   2. GitIgnoreFilter
+            ChainedFilters filters = new ChainedFilters(unlinkedPDFFileFilter, new GitIgnoreFileFilter(directory));
+
+            // now we crawl into the found subdirectories first (!)
+            List<DirectorySearch> subDirectorySearches = index.getSubdirectories(directory).stream()
+                                                              .filter(subDirectory -> accept(filters, subDirectory))
+                                                              .map(subDirectory -> new DirectorySearch(subDirectory, index, unlinkedPDFFileFilter))
+                                                              .toList();
+            invokeAll(subDirectorySearches);
+
+            // initially, we find no files at all
+            int fileCountOfSubdirectories = 0;
+            for (DirectorySearch subDirectorySearch : subDirectorySearches) {
+                FileNodeViewModel subRoot = subDirectorySearch.join();
+                if (!subRoot.getChildren().isEmpty()) {
+                    fileCountOfSubdirectories += subRoot.getFileCount();
+                    fileNodeViewModelForCurrentDirectory.getChildren().add(subRoot);
+                }
+            }
+            // now we have the data of all subdirectories
+            // it is stored in fileNodeViewModelForCurrentDirectory.getChildren()
+
+            // now we handle the files in the current directory
+
+            // at this point, only unlinked PDFs AND unignored files are contained
+            // filter files according to last edited date.
+            List<Path> resultingFiles = new ArrayList<>();
+            for (Path path : index.getFiles(directory)) {
+                if (accept(filters, path) && FileFilterUtils.filterByDate(path, dateFilter)) {
+                    resultingFiles.add(path);
+                }
             }
-        }
 
-        // sort files according to last edited date.
-        resultingFiles = FileFilterUtils.sortByDate(resultingFiles, sorter);
+            // sort files according to last edited date.
+            resultingFiles = FileFilterUtils.sortByDate(resultingFiles, sorter);
 
-        // the count of all files is the count of the found files in current directory plus the count of all files in the subdirectories
-        fileNodeViewModelForCurrentDirectory.setFileCount(resultingFiles.size() + fileCountOfSubdirectories);
+            // the count of all files is the count of the found files in current directory plus the count of all files in the subdirectories
+            fileNodeViewModelForCurrentDirectory.setFileCount(resultingFiles.size() + fileCountOfSubdirectories);
 
-        // create and add FileNodeViewModel to the FileNodeViewModel for the current directory
-        fileNodeViewModelForCurrentDirectory.getChildren().addAll(resultingFiles.stream()
-                .map(FileNodeViewModel::new)
-                .collect(Collectors.toList()));
+            // create and add FileNodeViewModel to the FileNodeViewModel for the current directory
+            fileNodeViewModelForCurrentDirectory.getChildren().addAll(resultingFiles.stream()
+                    .map(FileNodeViewModel::new)
+                    .collect(Collectors.toList()));
 
-        return fileNodeViewModelForCurrentDirectory;
+            if (!resultingFiles.isEmpty()) {
+                reportFoundFiles(resultingFiles.size());
+            }
+            return fileNodeViewModelForCurrentDirectory;
+        }
     }
 }
@@ -109,6 +109,7 @@ public class UnlinkedFilesDialogView extends BaseDialog<Void> {
             if (button == ButtonType.CANCEL) {
                 viewModel.cancelTasks();
             }
+            viewModel.close();
             saveConfiguration();
             return null;
         });
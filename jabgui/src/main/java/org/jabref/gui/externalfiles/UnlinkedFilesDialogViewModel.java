@@ -41,9 +41,12 @@ import org.jabref.logic.preferences.CliPreferences;
 import org.jabref.logic.util.BackgroundTask;
 import org.jabref.logic.util.StandardFileType;
 import org.jabref.logic.util.TaskExecutor;
+import org.jabref.logic.util.io.DatabaseFileLookup;
 import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.event.EntriesEvent;
 import org.jabref.model.util.FileUpdateMonitor;
 
+import com.google.common.eventbus.Subscribe;
 import de.saxsys.mvvmfx.utils.validation.FunctionBasedValidator;
 import de.saxsys.mvvmfx.utils.validation.ValidationMessage;
 import de.saxsys.mvvmfx.utils.validation.ValidationStatus;
@@ -75,6 +78,8 @@ public class UnlinkedFilesDialogViewModel {
     private final DialogService dialogService;
     private final CliPreferences preferences;
     private BackgroundTask<FileNodeViewModel> findUnlinkedFilesTask;
+    // Kept between searches, because resolving the linked files of a large library takes time. Reset if the entries change.
+    private DatabaseFileLookup linkedFiles;
     private BackgroundTask<List<ImportFilesResultItemViewModel>> importFilesBackgroundTask;
 
     private final BibDatabaseContext bibDatabase;
@@ -116,6 +121,8 @@ public class UnlinkedFilesDialogViewModel {
                 ValidationMessage.error(Localization.lang("Please enter a valid file path.")));
 
         treeRootProperty.setValue(Optional.empty());
+
+        bibDatabase.getDatabase().registerListener(this);
     }
 
     public void startSearch() {
@@ -126,7 +133,7 @@ public class UnlinkedFilesDialogViewModel {
         progressValueProperty.unbind();
         progressTextProperty.unbind();
 
-        findUnlinkedFilesTask = new UnlinkedFilesCrawler(directory, selectedFileFilter, selectedDateFilter, selectedSortFilter, bibDatabase, preferences.getFilePreferences())
+        findUnlinkedFilesTask = new UnlinkedFilesCrawler(directory, selectedFileFilter, selectedDateFilter, selectedSortFilter, this::getLinkedFiles, Runtime.getRuntime().availableProcessors())
                 .onRunning(() -> {
                     progressValueProperty.set(ProgressIndicator.INDETERMINATE_PROGRESS);
                     progressTextProperty.setValue(Localization.lang("Searching file system..."));
@@ -173,6 +180,36 @@ public class UnlinkedFilesDialogViewModel {
         importFilesBackgroundTask.executeWith(taskExecutor);
     }
 
+    /**
+     * Returns the linked files of the library. Called by the search in the background.
+     */
+    private synchronized DatabaseFileLookup getLinkedFiles() {
+        if (linkedFiles == null) {
+            linkedFiles = new DatabaseFileLookup(bibDatabase, preferences.getFilePreferences());
+        }
+        return linkedFiles;
+    }
+
+    private synchronized void resetLinkedFiles() {
+        linkedFiles = null;
+    }
+
+    /**
+     * Entries were added, removed or changed, e.g., by an import or in the entry editor. Thus, the linked files might
+     * have changed.
+     */
+    @Subscribe
+    public void listen(EntriesEvent event) {
+        resetLinkedFiles();
+    }
+
+    /**
+     * Stops listening to changes of the library. Called when the dialog is closed.
+     */
+    public void close() {
+        bibDatabase.getDatabase().unregisterListener(this);
+    }
+
     /**
      * This starts the export of all files of all selected nodes in the file tree view.
      */
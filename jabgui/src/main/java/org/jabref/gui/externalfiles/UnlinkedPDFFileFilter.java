@@ -26,8 +26,15 @@ public class UnlinkedPDFFileFilter implements DirectoryStream.Filter<Path> {
     private final Filter<Path> fileFilter;
 
     public UnlinkedPDFFileFilter(DirectoryStream.Filter<Path> fileFilter, BibDatabaseContext databaseContext, FilePreferences filePreferences) {
+        this(fileFilter, new DatabaseFileLookup(databaseContext, filePreferences));
+    }
+
+    /**
+     * @param lookup the linked files of the library, which can be shared by many filters
+     */
+    public UnlinkedPDFFileFilter(DirectoryStream.Filter<Path> fileFilter, DatabaseFileLookup lookup) {
         this.fileFilter = fileFilter;
-        this.lookup = new DatabaseFileLookup(databaseContext, filePreferences);
+        this.lookup = lookup;
     }
 
     @Override
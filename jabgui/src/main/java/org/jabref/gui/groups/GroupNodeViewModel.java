@@ -518,14 +518,13 @@ public class GroupNodeViewModel {
             }
         }
 
+        /**
+         * The matches of the search group itself are already updated by the {@link org.jabref.logic.search.IndexManager} for all search groups at once.
+         */
         @Subscribe
         public void listen(IndexAddedOrUpdatedEvent event) {
-            if (groupNode.getGroup() instanceof SearchGroup searchGroup) {
-                stateManager.getIndexManager(databaseContext).ifPresent(indexManager -> BackgroundTask.wrap(() -> {
-                    for (BibEntry entry : event.entries()) {
-                        searchGroup.updateMatches(entry, indexManager.isEntryMatched(entry, searchGroup.getSearchQuery()));
-                    }
-                }).onFinished(() -> {
+            if (groupNode.getGroup() instanceof SearchGroup) {
+                UiTaskExecutor.runInJavaFXThread(() -> {
                     for (BibEntry entry : event.entries()) {
                         if (groupNode.matches(entry)) {
                             matchedEntries.add(entry.getId());
@@ -533,7 +532,7 @@ public class GroupNodeViewModel {
                             matchedEntries.remove(entry.getId());
                         }
                     }
-                }).executeWith(taskExecutor));
+                });
             }
         }
 
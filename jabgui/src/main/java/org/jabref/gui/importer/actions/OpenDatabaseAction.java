@@ -251,6 +251,8 @@ public class OpenDatabaseAction extends SimpleCommand {
         Path backupDir = preferences.getFilePreferences().getBackupDirectory();
 
         ParserResult parserResult = null;
+        // Changes journaled by a crashed session become part of the latest backup
+        BackupManager.replayJournal(fileToLoad, backupDir, preferences, entryTypesManager);
         if (BackupManager.backupFileDiffers(fileToLoad, backupDir)) {
             // In case the backup differs, ask the user what to do.
             // In case the user opted for restoring a backup, the content of the backup is contained in parserResult.
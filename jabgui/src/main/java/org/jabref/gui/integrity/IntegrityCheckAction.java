@@ -4,7 +4,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Supplier;
 
-import javafx.collections.ObservableList;
+import javafx.collections.ListChangeListener;
 import javafx.concurrent.Task;
 
 import org.jabref.gui.DialogService;
@@ -13,61 +13,84 @@ import org.jabref.gui.StateManager;
 import org.jabref.gui.actions.SimpleCommand;
 import org.jabref.gui.preferences.GuiPreferences;
 import org.jabref.gui.util.UiTaskExecutor;
+import org.jabref.logic.FilePreferences;
+import org.jabref.logic.citationkeypattern.CitationKeyPatternPreferences;
 import org.jabref.logic.integrity.IntegrityCheck;
 import org.jabref.logic.integrity.IntegrityMessage;
 import org.jabref.logic.journals.JournalAbbreviationRepository;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.database.BibDatabaseMode;
 import org.jabref.model.entry.BibEntry;
 
+import com.airhacks.afterburner.injection.Injector;
+
 import static org.jabref.gui.actions.ActionHelper.needsDatabase;
 
 public class IntegrityCheckAction extends SimpleCommand {
 
+    // The entries are checked in chunks to report the progress
+    private static final int CHUNK_SIZE = 500;
+
     private final UiTaskExecutor taskExecutor;
     private final DialogService dialogService;
     private final Supplier<LibraryTab> tabSupplier;
     private final GuiPreferences preferences;
     private final StateManager stateManager;
-    private final JournalAbbreviationRepository abbreviationRepository;
+
+    // Kept, so that checking the same library again only checks the changed entries
+    private IntegrityCheck integrityCheck;
+    private CheckConfiguration checkConfiguration;
+
+    /**
+     * Everything the cached messages of an {@link IntegrityCheck} depend on besides the entries themselves
+     */
+    private record CheckConfiguration(BibDatabaseContext database,
+                                      BibDatabaseMode mode,
+                                      boolean allowIntegerEdition,
+                                      FilePreferences filePreferences,
+                                      CitationKeyPatternPreferences citationKeyPatternPreferences,
+                                      JournalAbbreviationRepository abbreviationRepository) {
+    }
 
     public IntegrityCheckAction(Supplier<LibraryTab> tabSupplier,
                                 GuiPreferences preferences,
                                 DialogService dialogService,
                                 StateManager stateManager,
-                                UiTaskExecutor taskExecutor,
-                                JournalAbbreviationRepository abbreviationRepository) {
+                                UiTaskExecutor taskExecutor) {
         this.tabSupplier = tabSupplier;
         this.stateManager = stateManager;
         this.taskExecutor = taskExecutor;
         this.preferences = preferences;
         this.dialogService = dialogService;
-        this.abbreviationRepository = abbreviationRepository;
         this.executable.bind(needsDatabase(this.stateManager));
+
+        // The check references the library, thus it is dropped when the library is closed
+        stateManager.getOpenDatabases().addListener((ListChangeListener<BibDatabaseContext>) _ -> {
+            if ((checkConfiguration != null) && !stateManager.getOpenDatabases().contains(checkConfiguration.database())) {
+                dropIntegrityCheck();
+            }
+        });
     }
 
     @Override
     public void execute() {
         BibDatabaseContext database = stateManager.getActiveDatabase().orElseThrow(() -> new NullPointerException("Database null"));
-        IntegrityCheck check = new IntegrityCheck(database,
-                preferences.getFilePreferences(),
-                preferences.getCitationKeyPatternPreferences(),
-                abbreviationRepository,
-                preferences.getEntryEditorPreferences().shouldAllowIntegerEditionBibtex());
+        IntegrityCheck check = getIntegrityCheck(database);
 
         Task<List<IntegrityMessage>> task = new Task<>() {
             @Override
             protected List<IntegrityMessage> call() {
-                ObservableList<BibEntry> entries = database.getDatabase().getEntries();
+                List<BibEntry> entries = List.copyOf(database.getDatabase().getEntries());
                 List<IntegrityMessage> result = new ArrayList<>(check.checkDatabase(database.getDatabase()));
-                for (int i = 0; i < entries.size(); i++) {
+                for (int i = 0; i < entries.size(); i += CHUNK_SIZE) {
                     if (isCancelled()) {
                         break;
                     }
 
-                    BibEntry entry = entries.get(i);
-                    result.addAll(check.checkEntry(entry));
-                    updateProgress(i, entries.size());
+                    int end = Math.min(i + CHUNK_SIZE, entries.size());
+                    result.addAll(check.checkEntries(entries.subList(i, end)));
+                    updateProgress(end, entries.size());
                 }
                 return result;
             }
@@ -88,4 +111,36 @@ public class IntegrityCheckAction extends SimpleCommand {
                 task);
         taskExecutor.execute(task);
     }
+
+    private IntegrityCheck getIntegrityCheck(BibDatabaseContext database) {
+        CheckConfiguration configuration = new CheckConfiguration(
+                database,
+                database.getMode(),
+                preferences.getEntryEditorPreferences().shouldAllowIntegerEditionBibtex(),
+                preferences.getFilePreferences(),
+                preferences.getCitationKeyPatternPreferences(),
+                // The repository is replaced when the journal lists are changed in the preferences
+                Injector.instantiateModelOrService(JournalAbbreviationRepository.class));
+        if ((integrityCheck != null) && configuration.equals(checkConfiguration)) {
+            return integrityCheck;
+        }
+
+        dropIntegrityCheck();
+        integrityCheck = new IntegrityCheck(database,
+                configuration.filePreferences(),
+                configuration.citationKeyPatternPreferences(),
+                configuration.abbreviationRepository(),
+                configuration.allowIntegerEdition())
+                .listenForChanges();
+        checkConfiguration = configuration;
+        return integrityCheck;
+    }
+
+    private void dropIntegrityCheck() {
+        if (integrityCheck != null) {
+            integrityCheck.close();
+        }
+        integrityCheck = null;
+        checkConfiguration = null;
+    }
 }
@@ -1,7 +1,12 @@
 package org.jabref.gui.maintable;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 import javafx.beans.binding.Bindings;
 import javafx.beans.property.IntegerProperty;
@@ -41,11 +46,12 @@ import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import static org.jabref.model.search.PostgreConstants.ENTRY_ID;
-
 public class MainTableDataModel {
     private final Logger LOGGER = LoggerFactory.getLogger(MainTableDataModel.class);
 
+    // Number of entries whose matches are updated by one search query after their index was updated
+    private static final int MAX_ENTRIES_PER_BATCH = 1000;
+
     private final ObservableList<BibEntryTableViewModel> entriesViewModel;
     private final FilteredList<BibEntryTableViewModel> entriesFiltered;
     private final SortedList<BibEntryTableViewModel> entriesFilteredAndSorted;
@@ -210,37 +216,95 @@ public class MainTableDataModel {
         this.fieldValueFormatter.setValue(new MainTableFieldValueFormatter(nameDisplayPreferences, bibDatabaseContext));
     }
 
+    /**
+     * Updates the search and group matches of entries after their index was added or updated.
+     * <p>
+     * Large imports result in many {@link IndexAddedOrUpdatedEvent}s. Thus, the entries of the events are collected and
+     * handled in batches: each batch is searched by one query, and the table is refiltered once per batch.
+     */
     class SearchIndexListener {
+        // Entries waiting for their matches to be updated, keyed by their id
+        private final Map<String, BibEntry> pendingEntries = new LinkedHashMap<>();
+        // Guarded by pendingEntries
+        private boolean isUpdateRunning;
+
         @Subscribe
         public void listen(IndexAddedOrUpdatedEvent indexAddedOrUpdatedEvent) {
-            indexAddedOrUpdatedEvent.entries().forEach(entry -> BackgroundTask.wrap(() -> {
-                int index = bibDatabaseContext.getDatabase().indexOf(entry);
-                if (index >= 0) {
-                    BibEntryTableViewModel viewModel = entriesViewModel.get(index);
-                    boolean isFloatingMode = searchPreferences.getSearchDisplayMode() == SearchDisplayMode.FLOAT;
-                    boolean isMatched;
-                    if (searchQueryProperty.get().isPresent()) {
-                        SearchQuery searchQuery = searchQueryProperty.get().get();
-                        String newSearchExpression = "(" + ENTRY_ID + "= " + entry.getId() + ") AND (" + searchQuery.getSearchExpression() + ")";
-                        SearchQuery entryQuery = new SearchQuery(newSearchExpression, searchQuery.getSearchFlags());
-                        SearchResults results = indexManager.search(entryQuery);
-
-                        isMatched = results.isMatched(entry);
-                        viewModel.hasFullTextResultsProperty().set(results.hasFulltextResults(entry));
-                    } else {
-                        isMatched = true;
-                        viewModel.hasFullTextResultsProperty().set(false);
-                    }
-
-                    updateEntrySearchMatch(viewModel, isMatched, isFloatingMode);
-                    updateEntryGroupMatch(viewModel, groupsMatcher, groupsPreferences.getGroupViewMode().contains(GroupViewMode.INVERT), !groupsPreferences.getGroupViewMode().contains(GroupViewMode.FILTER));
+            synchronized (pendingEntries) {
+                indexAddedOrUpdatedEvent.entries().forEach(entry -> pendingEntries.put(entry.getId(), entry));
+                if (isUpdateRunning) {
+                    // The running update continues with the new entries
+                    return;
                 }
-                return index;
-            }).onSuccess(index -> {
-                if (index >= 0) {
-                    FilteredListProxy.refilterListReflection(entriesFiltered, index, index + 1);
+                isUpdateRunning = true;
+            }
+            updateNextBatch();
+        }
+
+        private void updateNextBatch() {
+            BackgroundTask.wrap(this::updateMatchesOfNextBatch)
+                          .onSuccess(updatedRange -> updatedRange.ifPresent(range -> {
+                              int to = Math.min(range.to(), entriesFiltered.getSource().size());
+                              if (range.from() < to) {
+                                  FilteredListProxy.refilterListReflection(entriesFiltered, range.from(), to);
+                              }
+                          }))
+                          .onFinished(() -> {
+                              synchronized (pendingEntries) {
+                                  if (pendingEntries.isEmpty()) {
+                                      isUpdateRunning = false;
+                                      return;
+                                  }
+                              }
+                              updateNextBatch();
+                          })
+                          .executeWith(taskExecutor);
+        }
+
+        /**
+         * @return the range of the indices of the updated entries
+         */
+        private Optional<SourceRange> updateMatchesOfNextBatch() {
+            List<BibEntry> batch = new ArrayList<>();
+            synchronized (pendingEntries) {
+                Iterator<BibEntry> iterator = pendingEntries.values().iterator();
+                while (iterator.hasNext() && (batch.size() < MAX_ENTRIES_PER_BATCH)) {
+                    batch.add(iterator.next());
+                    iterator.remove();
                 }
-            }).executeWith(taskExecutor));
+            }
+            if (batch.isEmpty()) {
+                return Optional.empty();
+            }
+
+            long startTime = System.nanoTime();
+            Optional<SearchResults> results = searchQueryProperty.get().map(searchQuery -> indexManager.search(searchQuery, batch));
+            boolean isFloatingMode = searchPreferences.getSearchDisplayMode() == SearchDisplayMode.FLOAT;
+            boolean isInvertMode = groupsPreferences.getGroupViewMode().contains(GroupViewMode.INVERT);
+            boolean isGroupFloatingMode = !groupsPreferences.getGroupViewMode().contains(GroupViewMode.FILTER);
+
+            int from = Integer.MAX_VALUE;
+            int to = 0;
+            for (BibEntry entry : batch) {
+                int index = bibDatabaseContext.getDatabase().indexOf(entry);
+                if (index < 0) {
+                    continue;
+                }
+                BibEntryTableViewModel viewModel = entriesViewModel.get(index);
+                boolean isMatched = results.map(searchResults -> searchResults.isMatched(entry)).orElse(true);
+                viewModel.hasFullTextResultsProperty().set(results.map(searchResults -> searchResults.hasFulltextResults(entry)).orElse(false));
+                updateEntrySearchMatch(viewModel, isMatched, isFloatingMode);
+                updateEntryGroupMatch(viewModel, groupsMatcher, isInvertMode, isGroupFloatingMode);
+                from = Math.min(from, index);
+                to = Math.max(to, index + 1);
+            }
+
+            long durationInMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+            LOGGER.debug("Updated matches of {} entries in {} ms ({} entries/s)", batch.size(), durationInMillis, (batch.size() * 1000L) / Math.max(1, durationInMillis));
+            if (from >= to) {
+                return Optional.empty();
+            }
+            return Optional.of(new SourceRange(from, to));
         }
 
         @Subscribe
@@ -248,4 +312,12 @@ public class MainTableDataModel {
             updateSearchMatches(searchQueryProperty.get());
         }
     }
+
+    /**
+     * Range of indices of the source list of {@link #entriesFiltered}
+     *
+     * @param to exclusive
+     */
+    private record SourceRange(int from, int to) {
+    }
 }
@@ -341,9 +341,15 @@ public class JournalAbbreviationsTabViewModel implements PreferenceTabViewModel
                         shouldWriteLists = false;
                     }
                 })
-                .onSuccess(success -> Injector.setModelOrService(
-                        JournalAbbreviationRepository.class,
-                        JournalAbbreviationLoader.loadRepository(abbreviationsPreferences)))
+                .onSuccess(success -> {
+                    JournalAbbreviationRepository previousRepository = Injector.instantiateModelOrService(JournalAbbreviationRepository.class);
+                    Injector.setModelOrService(
+                            JournalAbbreviationRepository.class,
+                            JournalAbbreviationLoader.loadRepository(abbreviationsPreferences));
+                    if (previousRepository != null) {
+                        previousRepository.close();
+                    }
+                })
                 .onFailure(exception -> LOGGER.error("Failed to store journal preferences.", exception))
                 .executeWith(taskExecutor);
     }
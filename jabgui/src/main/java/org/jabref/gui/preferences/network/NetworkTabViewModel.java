@@ -21,6 +21,7 @@ import org.jabref.gui.DialogService;
 import org.jabref.gui.preferences.PreferenceTabViewModel;
 import org.jabref.gui.util.FileDialogConfiguration;
 import org.jabref.logic.InternalPreferences;
+import org.jabref.logic.importer.ImporterPreferences;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.net.ProxyPreferences;
 import org.jabref.logic.net.ProxyRegisterer;
@@ -41,6 +42,7 @@ import kong.unirest.core.UnirestException;
 
 public class NetworkTabViewModel implements PreferenceTabViewModel {
     private final BooleanProperty versionCheckProperty = new SimpleBooleanProperty();
+    private final BooleanProperty cacheWebResponsesProperty = new SimpleBooleanProperty();
     private final BooleanProperty proxyUseProperty = new SimpleBooleanProperty();
     private final StringProperty proxyHostnameProperty = new SimpleStringProperty("");
     private final StringProperty proxyPortProperty = new SimpleStringProperty("");
@@ -63,6 +65,7 @@ public class NetworkTabViewModel implements PreferenceTabViewModel {
     private final ProxyPreferences proxyPreferences;
     private final ProxyPreferences backupProxyPreferences;
     private final InternalPreferences internalPreferences;
+    private final ImporterPreferences importerPreferences;
 
     private final TrustStoreManager trustStoreManager;
 
@@ -74,6 +77,7 @@ public class NetworkTabViewModel implements PreferenceTabViewModel {
         this.preferences = preferences;
         this.proxyPreferences = preferences.getProxyPreferences();
         this.internalPreferences = preferences.getInternalPreferences();
+        this.importerPreferences = preferences.getImporterPreferences();
 
         backupProxyPreferences = new ProxyPreferences(
                 proxyPreferences.shouldUseProxy(),
@@ -122,6 +126,7 @@ public class NetworkTabViewModel implements PreferenceTabViewModel {
     @Override
     public void setValues() {
         versionCheckProperty.setValue(internalPreferences.isVersionCheckEnabled());
+        cacheWebResponsesProperty.setValue(importerPreferences.shouldCacheWebResponses());
 
         setProxyValues();
         setSSLValues();
@@ -159,6 +164,8 @@ public class NetworkTabViewModel implements PreferenceTabViewModel {
     @Override
     public void storeSettings() {
         internalPreferences.setVersionCheckEnabled(versionCheckProperty.getValue());
+        importerPreferences.setCacheWebResponses(cacheWebResponsesProperty.getValue());
+        URLDownload.configureResponseCache(cacheWebResponsesProperty.getValue());
         proxyPreferences.setUseProxy(proxyUseProperty.getValue());
         proxyPreferences.setHostname(proxyHostnameProperty.getValue().trim());
         proxyPreferences.setPort(proxyPortProperty.getValue().trim());
@@ -268,6 +275,10 @@ public class NetworkTabViewModel implements PreferenceTabViewModel {
         return versionCheckProperty;
     }
 
+    public BooleanProperty cacheWebResponsesProperty() {
+        return cacheWebResponsesProperty;
+    }
+
     public BooleanProperty proxyUseProperty() {
         return proxyUseProperty;
     }
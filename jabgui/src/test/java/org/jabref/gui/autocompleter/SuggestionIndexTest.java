@@ -0,0 +1,67 @@
+package org.jabref.gui.autocompleter;
+
+import java.util.List;
+import java.util.Set;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SuggestionIndexTest {
+
+    private BibDatabase database;
+    private SuggestionIndex<String> index;
+
+    @BeforeEach
+    void setUp() {
+        database = new BibDatabase();
+        index = SuggestionIndex.forWords(StandardField.TITLE, database);
+    }
+
+    @Test
+    void mostFrequentWordsAreSuggested() {
+        database.insertEntries(
+                new BibEntry().withField(StandardField.TITLE, "testOne testTwo"),
+                new BibEntry().withField(StandardField.TITLE, "testTwo testThree"),
+                new BibEntry().withField(StandardField.TITLE, "testTwo testThree"));
+
+        assertEquals(Set.of("testTwo", "testThree"), Set.copyOf(index.getSuggestions("test", 2)));
+    }
+
+    @Test
+    void wordsStartingWithTextArePreferred() {
+        database.insertEntries(
+                new BibEntry().withField(StandardField.TITLE, "contest"),
+                new BibEntry().withField(StandardField.TITLE, "contest"),
+                new BibEntry().withField(StandardField.TITLE, "testing"));
+
+        assertEquals(List.of("testing"), index.getSuggestions("test", 1));
+    }
+
+    @Test
+    void changedFieldIsUpdatedInBuiltIndex() {
+        BibEntry entry = new BibEntry().withField(StandardField.TITLE, "oldValue");
+        database.insertEntry(entry);
+        index.getSuggestions("value", 10);
+
+        entry.setField(StandardField.TITLE, "newValue");
+
+        assertEquals(List.of("newValue"), index.getSuggestions("value", 10));
+    }
+
+    @Test
+    void removedEntryIsRemovedFromBuiltIndex() {
+        BibEntry entry = new BibEntry().withField(StandardField.TITLE, "value");
+        database.insertEntry(entry);
+        index.getSuggestions("value", 10);
+
+        database.removeEntry(entry);
+
+        assertEquals(List.of(), index.getSuggestions("value", 10));
+    }
+}
@@ -0,0 +1,161 @@
+package org.jabref.gui.autosaveandbackup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.jabref.gui.LibraryTab;
+import org.jabref.logic.importer.OpenDatabase;
+import org.jabref.logic.preferences.CliPreferences;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.util.DummyFileUpdateMonitor;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Answers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test for the journal of field changes
+ */
+class BackupManagerJournalTest {
+
+    @TempDir
+    Path tempDir;
+
+    private BibDatabaseContext bibDatabaseContext;
+    private BackupManager backupManager;
+    private Path testBib;
+    private Path backupDir;
+    private CliPreferences preferences;
+    private BibEntryTypesManager bibEntryTypesManager;
+    private BibEntry entry;
+
+    @BeforeEach
+    void setup() {
+        backupDir = tempDir.resolve("backups");
+        testBib = tempDir.resolve("test.bib");
+
+        bibDatabaseContext = new BibDatabaseContext(new BibDatabase());
+        bibDatabaseContext.setDatabasePath(testBib);
+
+        bibEntryTypesManager = new BibEntryTypesManager();
+        preferences = mock(CliPreferences.class, Answers.RETURNS_DEEP_STUBS);
+        when(preferences.getImportFormatPreferences().bibEntryPreferences().getKeywordSeparator()).thenReturn(',');
+
+        backupManager = new BackupManager(mock(LibraryTab.class), bibDatabaseContext, bibEntryTypesManager, preferences);
+
+        entry = new BibEntry().withCitationKey("key").withField(StandardField.TITLE, "old title");
+        bibDatabaseContext.getDatabase().insertEntry(entry);
+        makeBackup();
+    }
+
+    private void makeBackup() {
+        backupManager.determineBackupPathForNewBackup(backupDir).ifPresent(path -> backupManager.performBackup(path));
+    }
+
+    private BibEntry getEntryOfLatestBackup() throws IOException {
+        Path latestBackup = BackupManager.getLatestBackupPath(testBib, backupDir).orElseThrow();
+        return OpenDatabase.loadDatabase(latestBackup, preferences.getImportFormatPreferences(), new DummyFileUpdateMonitor())
+                           .getDatabaseContext().getDatabase().getEntryByCitationKey("key").orElseThrow();
+    }
+
+    @Test
+    void fieldChangeIsJournaledInsteadOfBackedUp() throws IOException {
+        entry.setField(StandardField.TITLE, "new title");
+        makeBackup();
+
+        assertTrue(Files.exists(BackupManager.getJournalPath(testBib, backupDir)));
+        assertEquals(Optional.of("old title"), getEntryOfLatestBackup().getField(StandardField.TITLE));
+    }
+
+    @Test
+    void filteredOutChangeIsNotJournaled() throws IOException {
+        FieldChangedEvent event = new FieldChangedEvent(entry, StandardField.TITLE, "new title", "old title");
+        event.setFilteredOut(true);
+
+        backupManager.listen(event);
+        makeBackup();
+
+        assertFalse(Files.exists(BackupManager.getJournalPath(testBib, backupDir)));
+        assertEquals(Optional.of("old title"), getEntryOfLatestBackup().getField(StandardField.TITLE));
+    }
+
+    @Test
+    void journalIsReplayedOnLatestBackup() throws IOException {
+        entry.setField(StandardField.TITLE, "new title");
+        entry.clearField(StandardField.TITLE);
+        entry.setField(StandardField.NOTE, "note");
+        makeBackup();
+
+        BackupManager.replayJournal(testBib, backupDir, preferences, bibEntryTypesManager);
+
+        assertFalse(Files.exists(BackupManager.getJournalPath(testBib, backupDir)));
+        BibEntry restored = getEntryOfLatestBackup();
+        assertEquals(Optional.empty(), restored.getField(StandardField.TITLE));
+        assertEquals(Optional.of("note"), restored.getField(StandardField.NOTE));
+    }
+
+    @Test
+    void escapedCharactersAreReplayed() throws IOException {
+        entry.setField(StandardField.TITLE, "\\textbf{new} title in C:\\temp");
+        makeBackup();
+
+        BackupManager.replayJournal(testBib, backupDir, preferences, bibEntryTypesManager);
+
+        assertEquals(Optional.of("\\textbf{new} title in C:\\temp"), getEntryOfLatestBackup().getField(StandardField.TITLE));
+    }
+
+    @Test
+    void changeOfCitationKeyLeadsToBackup() throws IOException {
+        entry.setField(StandardField.TITLE, "new title");
+        entry.setCitationKey("newKey");
+        entry.setCitationKey("key");
+        makeBackup();
+
+        assertFalse(Files.exists(BackupManager.getJournalPath(testBib, backupDir)));
+        assertEquals(Optional.of("new title"), getEntryOfLatestBackup().getField(StandardField.TITLE));
+    }
+
+    @Test
+    void journalWithoutApplicableChangeWritesNoBackup() throws IOException {
+        entry.setField(StandardField.TITLE, "new title");
+        makeBackup();
+        Path journal = BackupManager.getJournalPath(testBib, backupDir);
+        List<String> lines = Files.readAllLines(journal);
+        Files.write(journal, Stream.concat(Stream.of(lines.getFirst()), lines.stream().skip(1).map(line -> line.replaceFirst("^key\t", "unknown\t"))).toList());
+        Path latestBackup = BackupManager.getLatestBackupPath(testBib, backupDir).orElseThrow();
+
+        BackupManager.replayJournal(testBib, backupDir, preferences, bibEntryTypesManager);
+
+        assertFalse(Files.exists(journal));
+        assertEquals(Optional.of(latestBackup), BackupManager.getLatestBackupPath(testBib, backupDir));
+    }
+
+    @Test
+    void journalOfOtherBackupIsIgnored() throws IOException {
+        entry.setField(StandardField.TITLE, "new title");
+        makeBackup();
+        Path journal = BackupManager.getJournalPath(testBib, backupDir);
+        Files.writeString(journal, "other.bak\t0\nkey\ttitle\tother title\n");
+
+        BackupManager.replayJournal(testBib, backupDir, preferences, bibEntryTypesManager);
+
+        assertFalse(Files.exists(journal));
+        assertEquals(Optional.of("old title"), getEntryOfLatestBackup().getField(StandardField.TITLE));
+    }
+}
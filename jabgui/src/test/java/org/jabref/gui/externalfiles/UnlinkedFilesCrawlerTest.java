@@ -68,4 +68,20 @@ class UnlinkedFilesCrawlerTest {
             assertEquals(fileNodeViewModel.getFileCount(), count - 1);
         }
     }
+
+    @Test
+    void fileAddedAfterPreviousSearchIsFound(@TempDir Path testRoot) throws IOException {
+        Path subDir = Files.createDirectories(testRoot.resolve("subdir"));
+        Files.createFile(subDir.resolve("first.pdf"));
+
+        UnlinkedPDFFileFilter unlinkedPDFFileFilter = mock(UnlinkedPDFFileFilter.class);
+        when(unlinkedPDFFileFilter.accept(any(Path.class))).thenReturn(true);
+        UnlinkedFilesCrawler unlinkedFilesCrawler = new UnlinkedFilesCrawler(testRoot, unlinkedPDFFileFilter, DateRange.ALL_TIME, ExternalFileSorter.DEFAULT, mock(BibDatabaseContext.class), mock(FilePreferences.class));
+        unlinkedFilesCrawler.searchDirectory(testRoot, unlinkedPDFFileFilter);
+
+        Files.createFile(subDir.resolve("second.pdf"));
+        FileNodeViewModel fileNodeViewModel = unlinkedFilesCrawler.searchDirectory(testRoot, unlinkedPDFFileFilter);
+
+        assertEquals(2, fileNodeViewModel.getFileCount());
+    }
 }
@@ -73,6 +73,15 @@ class JournalAbbreviationRepositoryTest {
         assertFalse(repository.isKnownName("?"));
     }
 
+    @Test
+    void customAbbreviationAddedAfterLookupIsFound() {
+        assertEquals("UNKNOWN", repository.getDefaultAbbreviation("Long Name").orElse("UNKNOWN"));
+
+        repository.addCustomAbbreviation(new Abbreviation("Long Name", "L. N."));
+
+        assertEquals("L. N.", repository.getDefaultAbbreviation("Long Name").orElse("UNKNOWN"));
+    }
+
     @Test
     void oneElementWithShortestUniqueAbbreviation() {
         repository.addCustomAbbreviation(new Abbreviation("Long Name", "L. N.", "LN"));
@@ -13,11 +13,14 @@ import java.util.Locale;
 import java.util.Optional;
 import java.util.Set;
 import java.util.prefs.BackingStoreException;
+import java.util.stream.Collectors;
 
 import org.jabref.logic.FilePreferences;
 import org.jabref.logic.JabRefException;
 import org.jabref.logic.bibtex.FieldPreferences;
 import org.jabref.logic.citationkeypattern.CitationKeyGenerator;
+import org.jabref.logic.database.DuplicateCheck;
+import org.jabref.logic.database.DuplicateFinder;
 import org.jabref.logic.exporter.AtomicFileWriter;
 import org.jabref.logic.exporter.BibDatabaseWriter;
 import org.jabref.logic.exporter.BibWriter;
@@ -276,6 +279,43 @@ public class ArgumentProcessor {
         if (cli.isCheckConsistency()) {
             checkConsistency(cliPreferences, entryTypesManager);
         }
+
+        if (cli.isFindDuplicates()) {
+            findDuplicates(cliPreferences, entryTypesManager);
+        }
+    }
+
+    private void findDuplicates(CliPreferences cliPreferences,
+                                BibEntryTypesManager entryTypesManager) {
+        Optional<String> fileName = Optional.ofNullable(cli.getFindDuplicates());
+
+        if (fileName.isEmpty()) {
+            System.out.println(Localization.lang("No file specified for duplicate search."));
+            return;
+        }
+
+        Path filePath = Path.of(fileName.get());
+        ParserResult pr;
+        try {
+            pr = OpenDatabase.loadDatabase(filePath, cliPreferences.getImportFormatPreferences(), fileUpdateMonitor);
+        } catch (IOException ex) {
+            LOGGER.error("Error reading '{}'.", filePath, ex);
+            return;
+        }
+        BibDatabaseContext databaseContext = pr.getDatabaseContext();
+
+        DuplicateFinder duplicateFinder = new DuplicateFinder(new DuplicateCheck(entryTypesManager));
+        List<List<BibEntry>> duplicates = duplicateFinder.findDuplicates(databaseContext.getDatabase().getEntries(), databaseContext.getMode());
+
+        if (!cli.isPorcelainOutputMode()) {
+            System.out.println(Localization.lang("Found %0 groups of duplicates.", String.valueOf(duplicates.size())));
+        }
+        // One line per group, the entries are separated by tabs
+        for (List<BibEntry> group : duplicates) {
+            System.out.println(group.stream()
+                                    .map(entry -> entry.getCitationKey().orElseGet(() -> entry.getAuthorTitleYear(60)))
+                                    .collect(Collectors.joining("\t")));
+        }
     }
 
     private void checkConsistency(CliPreferences cliPreferences,
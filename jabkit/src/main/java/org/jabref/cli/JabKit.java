@@ -14,6 +14,7 @@ import org.jabref.logic.journals.JournalAbbreviationRepository;
 import org.jabref.logic.net.ProxyAuthenticator;
 import org.jabref.logic.net.ProxyPreferences;
 import org.jabref.logic.net.ProxyRegisterer;
+import org.jabref.logic.net.URLDownload;
 import org.jabref.logic.net.ssl.SSLPreferences;
 import org.jabref.logic.net.ssl.TrustStoreManager;
 import org.jabref.logic.preferences.CliPreferences;
@@ -85,6 +86,7 @@ public class JabKit {
 
             configureProxy(preferences.getProxyPreferences());
             configureSSL(preferences.getSSLPreferences());
+            configureResponseCache(args, preferences.getImporterPreferences().shouldCacheWebResponses());
 
             clearOldSearchIndices();
 
@@ -202,6 +204,18 @@ public class JabKit {
         TrustStoreManager.createTruststoreFileIfNotExist(Path.of(sslPreferences.getTruststorePath()));
     }
 
+    /**
+     * The cache is enabled by the preference or for a single run by {@code --cache-web-responses}
+     */
+    private static void configureResponseCache(String[] args, boolean cacheWebResponses) {
+        try {
+            cacheWebResponses |= new JabKitCliOptions(args).isCacheWebResponses();
+        } catch (ParseException e) {
+            // The invalid arguments are reported when processing them
+        }
+        URLDownload.configureResponseCache(cacheWebResponses);
+    }
+
     private static void clearOldSearchIndices() {
         Path currentIndexPath = Directories.getFulltextIndexBaseDirectory();
         Path appData = currentIndexPath.getParent();
@@ -65,6 +65,14 @@ public class JabKitCliOptions {
         return commandLine.getOptionValue("output-format");
     }
 
+    public boolean isFindDuplicates() {
+        return commandLine.hasOption("find-duplicates");
+    }
+
+    public String getFindDuplicates() {
+        return commandLine.getOptionValue("find-duplicates");
+    }
+
     public boolean isPorcelainOutputMode() {
         return commandLine.hasOption("porcelain");
     }
@@ -129,6 +137,10 @@ public class JabKitCliOptions {
         return commandLine.hasOption("debug");
     }
 
+    public boolean isCacheWebResponses() {
+        return commandLine.hasOption("cache-web-responses");
+    }
+
     public boolean isFetcherEngine() {
         return commandLine.hasOption("fetch");
     }
@@ -177,6 +189,7 @@ public class JabKitCliOptions {
         options.addOption("b", "blank", false, Localization.lang("Do not open any files at startup"));
         options.addOption("v", "version", false, Localization.lang("Display version"));
         options.addOption(null, "debug", false, Localization.lang("Show debug level messages"));
+        options.addOption(null, "cache-web-responses", false, Localization.lang("Cache responses of web requests"));
 
         options.addOption(Option
                 .builder("i")
@@ -306,6 +319,14 @@ public class JabKitCliOptions {
                 .argName("FORMAT")
                 .build());
 
+        options.addOption(Option
+                .builder()
+                .longOpt("find-duplicates")
+                .desc(Localization.lang("Find duplicate entries in a library"))
+                .hasArg()
+                .argName("FILE")
+                .build());
+
         options.addOption(Option
                 .builder("porcelain")
                 .longOpt("porcelain")
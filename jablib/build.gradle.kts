@@ -438,6 +438,8 @@ jmh {
     iterations = 10
     fork = 2
     zip64  = true
+    resultFormat = "JSON"
+    resultsFile = layout.buildDirectory.file("reports/jmh/results.json")
 }
 
 tasks.register<Test>("fetcherTest") {
@@ -0,0 +1,155 @@
+package org.jabref.benchmarks;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.StringJoiner;
+
+import org.jabref.logic.bibtex.FieldPreferences;
+import org.jabref.logic.citationkeypattern.CitationKeyPatternPreferences;
+import org.jabref.logic.exporter.BibDatabaseWriter;
+import org.jabref.logic.exporter.BibWriter;
+import org.jabref.logic.exporter.BibtexDatabaseWriter;
+import org.jabref.logic.exporter.SelfContainedSaveConfiguration;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.EntryType;
+import org.jabref.model.entry.types.StandardEntryType;
+import org.jabref.model.metadata.MetaData;
+import org.jabref.model.metadata.SaveOrder;
+
+import org.mockito.Answers;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Generates libraries for the benchmarks. The field values are distributed as in real libraries: few authors and
+ * journals occur very often, most entries are recent, and only some entries have an abstract, a DOI, or are assigned to
+ * groups. The same number of entries always results in the same library.
+ */
+final class BenchmarkLibrary {
+
+    static final List<String> WORDS = List.of(
+            "neural", "network", "learning", "deep", "model", "analysis", "system", "data", "graph", "process",
+            "mining", "software", "evolution", "quantum", "protein", "structure", "inference", "bayesian", "optimization", "language",
+            "semantic", "retrieval", "distributed", "parallel", "algorithm", "complexity", "verification", "security", "privacy", "cloud",
+            "energy", "efficient", "robust", "adaptive", "dynamic", "survey", "review", "empirical", "study", "framework",
+            "clinical", "trial", "cancer", "gene", "expression", "climate", "ocean", "carbon", "policy", "economic");
+
+    static final List<String> LAST_NAMES = List.of(
+            "Smith", "Müller", "Garcia", "Wang", "Kim", "Nguyen", "Rossi", "Novák", "Kowalski", "Johansson",
+            "Dubois", "Tanaka", "Silva", "Ivanov", "O'Brien", "Jensen", "Papadopoulos", "Cohen", "Singh", "Yilmaz",
+            "Schmidt", "Brown", "Martin", "Lee", "Chen", "Li", "Zhang", "Liu", "Kumar", "Sato");
+
+    static final List<String> FIRST_NAMES = List.of(
+            "Anna", "Ben", "Carla", "David", "Eva", "Felix", "Grace", "Hiro", "Ines", "Jonas",
+            "Kai", "Lena", "Marco", "Nora", "Omar", "Paula", "Quentin", "Rosa", "Sven", "Tara");
+
+    private static final List<EntryType> ENTRY_TYPES = List.of(
+            StandardEntryType.Article, StandardEntryType.Article, StandardEntryType.Article, StandardEntryType.Article,
+            StandardEntryType.Article, StandardEntryType.Article, StandardEntryType.InProceedings, StandardEntryType.InProceedings,
+            StandardEntryType.Book, StandardEntryType.TechReport);
+
+    private static final int NUMBER_OF_JOURNALS = 200;
+    private static final int NUMBER_OF_GROUPS = 20;
+
+    private BenchmarkLibrary() {
+    }
+
+    static BibDatabase generate(int numberOfEntries) {
+        Random random = new Random(42);
+        List<BibEntry> entries = new ArrayList<>(numberOfEntries);
+        for (int i = 0; i < numberOfEntries; i++) {
+            EntryType type = ENTRY_TYPES.get(random.nextInt(ENTRY_TYPES.size()));
+            int year = 2025 - (int) (55 * Math.pow(random.nextDouble(), 2));
+            String firstAuthor = pickFrequent(random, LAST_NAMES);
+
+            StringJoiner authors = new StringJoiner(" and ");
+            authors.add(firstAuthor + ", " + pickFrequent(random, FIRST_NAMES));
+            int numberOfCoAuthors = random.nextInt(6);
+            for (int author = 0; author < numberOfCoAuthors; author++) {
+                authors.add(pickFrequent(random, LAST_NAMES) + ", " + pickFrequent(random, FIRST_NAMES));
+            }
+
+            BibEntry entry = new BibEntry(type)
+                    .withCitationKey(firstAuthor.replaceAll("\\W", "") + year + "-" + i)
+                    .withField(StandardField.AUTHOR, authors.toString())
+                    .withField(StandardField.TITLE, words(random, 5 + random.nextInt(10)))
+                    .withField(StandardField.YEAR, String.valueOf(year))
+                    .withField(StandardField.PAGES, (i % 500) + "--" + ((i % 500) + 1 + random.nextInt(30)));
+            if (type == StandardEntryType.Article) {
+                entry.setField(StandardField.JOURNAL, "Journal of " + capitalize(pickFrequent(random, WORDS)) + " " + (random.nextInt(NUMBER_OF_JOURNALS) / 10));
+                entry.setField(StandardField.VOLUME, String.valueOf(1 + random.nextInt(60)));
+            } else if (type == StandardEntryType.InProceedings) {
+                entry.setField(StandardField.BOOKTITLE, "Proceedings of the Conference on " + capitalize(pickFrequent(random, WORDS)));
+            } else {
+                entry.setField(StandardField.PUBLISHER, capitalize(pickFrequent(random, WORDS)) + " Press");
+            }
+            int numberOfKeywords = random.nextInt(6);
+            if (numberOfKeywords > 0) {
+                StringJoiner keywords = new StringJoiner(", ");
+                for (int keyword = 0; keyword < numberOfKeywords; keyword++) {
+                    keywords.add(pickFrequent(random, WORDS));
+                }
+                entry.setField(StandardField.KEYWORDS, keywords.toString());
+            }
+            if (random.nextInt(10) < 4) {
+                StringBuilder abstractText = new StringBuilder();
+                int numberOfSentences = 3 + random.nextInt(6);
+                for (int sentence = 0; sentence < numberOfSentences; sentence++) {
+                    abstractText.append(capitalize(words(random, 8 + random.nextInt(12)))).append(". ");
+                }
+                entry.setField(StandardField.ABSTRACT, abstractText.toString().trim());
+            }
+            if (random.nextBoolean()) {
+                entry.setField(StandardField.DOI, "10.1000/benchmark." + i);
+            }
+            if (random.nextInt(10) < 2) {
+                entry.setField(StandardField.GROUPS, "group" + random.nextInt(NUMBER_OF_GROUPS));
+            }
+            entries.add(entry);
+        }
+
+        BibDatabase database = new BibDatabase();
+        database.insertEntries(entries);
+        return database;
+    }
+
+    static String toBibtex(BibDatabase database) throws IOException {
+        StringWriter outputWriter = new StringWriter();
+        BibWriter bibWriter = new BibWriter(outputWriter, "\n");
+        SelfContainedSaveConfiguration saveConfiguration = new SelfContainedSaveConfiguration(SaveOrder.getDefaultSaveOrder(), false, BibDatabaseWriter.SaveType.WITH_JABREF_META_DATA, false);
+        new BibtexDatabaseWriter(
+                bibWriter,
+                saveConfiguration,
+                new FieldPreferences(true, List.of(), List.of()),
+                mock(CitationKeyPatternPreferences.class, Answers.RETURNS_DEEP_STUBS),
+                new BibEntryTypesManager())
+                .savePartOfDatabase(new BibDatabaseContext(database, new MetaData()), database.getEntries());
+        return outputWriter.toString();
+    }
+
+    /**
+     * Picks an element such that the first elements are picked much more often than the last ones
+     */
+    private static String pickFrequent(Random random, List<String> values) {
+        return values.get((int) (values.size() * Math.pow(random.nextDouble(), 3)));
+    }
+
+    private static String words(Random random, int numberOfWords) {
+        StringJoiner words = new StringJoiner(" ");
+        for (int word = 0; word < numberOfWords; word++) {
+            words.add(WORDS.get(random.nextInt(WORDS.size())));
+        }
+        return words.toString();
+    }
+
+    private static String capitalize(String word) {
+        return Character.toUpperCase(word.charAt(0)) + word.substring(1);
+    }
+}
@@ -105,18 +105,6 @@ public class Benchmarks {
         return getOutputWriter().toString();
     }
 
-    @Benchmark
-    public List<BibEntry> search() {
-        // TODO: Create Benchmark for LuceneSearch
-        return List.of();
-    }
-
-    @Benchmark
-    public List<BibEntry> index() {
-        // TODO: Create Benchmark for LuceneIndexer
-        return List.of();
-    }
-
     @Benchmark
     public BibDatabaseMode inferBibDatabaseMode() {
         return BibDatabaseModeDetection.inferMode(database);
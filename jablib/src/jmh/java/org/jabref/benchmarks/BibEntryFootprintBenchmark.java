@@ -0,0 +1,98 @@
+package org.jabref.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.field.UnknownField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the retained heap per {@link BibEntry}. The result of interest is the <code>bytesPerEntry</code> counter, not the time.
+ * Run it on two revisions to compare the footprint before and after a change of the entry representation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class BibEntryFootprintBenchmark {
+
+    @Param({"100000"})
+    private int numberOfEntries;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+        public long bytesPerEntry;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytesPerEntry = 0;
+        }
+    }
+
+    @Benchmark
+    public List<BibEntry> detachedEntries(Footprint footprint) {
+        long before = usedHeap();
+        List<BibEntry> entries = createEntries();
+        footprint.bytesPerEntry = (usedHeap() - before) / numberOfEntries;
+        return entries;
+    }
+
+    /**
+     * Entries in a library have the library registered as listener and are usually displayed, thus the caches are filled
+     */
+    @Benchmark
+    public BibDatabase entriesInLibrary(Footprint footprint) {
+        long before = usedHeap();
+        BibDatabase database = new BibDatabase(createEntries());
+        for (BibEntry entry : database.getEntries()) {
+            entry.getFieldLatexFree(StandardField.TITLE);
+            entry.getFieldAsKeywords(StandardField.KEYWORDS, ',');
+        }
+        footprint.bytesPerEntry = (usedHeap() - before) / numberOfEntries;
+        return database;
+    }
+
+    private List<BibEntry> createEntries() {
+        List<BibEntry> entries = new ArrayList<>(numberOfEntries);
+        for (int i = 0; i < numberOfEntries; i++) {
+            entries.add(new BibEntry(StandardEntryType.Article)
+                    .withCitationKey("Lastname" + i)
+                    .withField(StandardField.AUTHOR, "Firstname Lastname and Firstname Othername")
+                    .withField(StandardField.TITLE, "A {T}itle about entry number " + i)
+                    .withField(StandardField.JOURNAL, "Journal of Benchmarks")
+                    .withField(StandardField.YEAR, String.valueOf(1900 + (i % 125)))
+                    .withField(StandardField.KEYWORDS, "memory, footprint")
+                    .withField(new UnknownField("custom"), "value"));
+        }
+        return entries;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,77 @@
+package org.jabref.benchmarks;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.logic.importer.ParserResult;
+import org.jabref.logic.importer.fileformat.BibtexParser;
+
+import org.mockito.Answers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Parses a generated library. The entries have comments in front, long bracketed abstracts, quoted fields, string
+ * references and numbers, as found in real libraries. The library ends with JabRef metadata.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BibtexParserBenchmark {
+
+    @Param({"10000", "100000"})
+    private int numberOfEntries;
+
+    private String library;
+    private ImportFormatPreferences importFormatPreferences;
+
+    @Setup(Level.Trial)
+    public void init() {
+        importFormatPreferences = mock(ImportFormatPreferences.class, Answers.RETURNS_DEEP_STUBS);
+        when(importFormatPreferences.bibEntryPreferences().getKeywordSeparator()).thenReturn(',');
+
+        Random random = new Random(42);
+        StringBuilder builder = new StringBuilder();
+        builder.append("% Encoding: UTF-8\n\n");
+        builder.append("@String{acm = {Association for Computing Machinery}}\n\n");
+        for (int i = 0; i < numberOfEntries; i++) {
+            if ((i % 10) == 0) {
+                builder.append("% Entries imported in batch ").append(i / 10).append('\n');
+            }
+            builder.append("@Article{key").append(i).append(",\n")
+                   .append("  author    = {Lastname").append(random.nextInt(1000)).append(", Firstname and {\\\"O}ther, Author},\n")
+                   .append("  title     = {A {Title} with {\\LaTeX} commands number ").append(i).append("},\n")
+                   .append("  journal   = \"Journal of Things ").append(random.nextInt(100)).append("\",\n")
+                   .append("  publisher = acm,\n")
+                   .append("  year      = ").append(1950 + random.nextInt(75)).append(",\n")
+                   .append("  pages     = {").append(i).append("--").append(i + 10).append("},\n")
+                   .append("  abstract  = {");
+            for (int sentence = 0; sentence < 5; sentence++) {
+                builder.append("This is sentence ").append(sentence).append(" of the abstract, {with} some $\\alpha$ math.\n    ");
+            }
+            builder.append("},\n")
+                   .append("  keywords  = {parsing, benchmark, keyword").append(random.nextInt(50)).append("},\n")
+                   .append("}\n\n");
+        }
+        builder.append("@Comment{jabref-meta: databaseType:bibtex;}\n");
+        library = builder.toString();
+    }
+
+    @Benchmark
+    public ParserResult parse() throws IOException {
+        return new BibtexParser(importFormatPreferences).parse(new StringReader(library));
+    }
+}
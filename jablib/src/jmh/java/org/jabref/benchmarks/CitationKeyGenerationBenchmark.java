@@ -0,0 +1,73 @@
+package org.jabref.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jabref.logic.citationkeypattern.CitationKeyGenerator;
+import org.jabref.logic.citationkeypattern.CitationKeyPatternPreferences;
+import org.jabref.logic.citationkeypattern.GlobalCitationKeyPatterns;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Generates the citation keys of all entries of a library. Many entries share author and year, thus most keys need a suffix
+ * and the generator checks the uniqueness of several candidate keys per entry.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CitationKeyGenerationBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int numberOfEntries;
+
+    private BibDatabase database;
+    private CitationKeyGenerator keyGenerator;
+
+    @Setup(Level.Trial)
+    public void init() {
+        database = new BibDatabase();
+        for (int i = 0; i < numberOfEntries; i++) {
+            database.insertEntry(new BibEntry(StandardEntryType.Article)
+                    .withField(StandardField.AUTHOR, "Author" + (i % 500))
+                    .withField(StandardField.TITLE, "Title " + i)
+                    .withField(StandardField.YEAR, String.valueOf(2000 + (i % 20))));
+        }
+
+        CitationKeyPatternPreferences preferences = new CitationKeyPatternPreferences(
+                false,
+                false,
+                false,
+                CitationKeyPatternPreferences.KeySuffix.SECOND_WITH_A,
+                "",
+                "",
+                CitationKeyGenerator.DEFAULT_UNWANTED_CHARACTERS,
+                GlobalCitationKeyPatterns.fromPattern("[auth][year]"),
+                "",
+                ',');
+        keyGenerator = new CitationKeyGenerator(new BibDatabaseContext(database), preferences);
+    }
+
+    @Setup(Level.Invocation)
+    public void clearKeys() {
+        database.getEntries().forEach(BibEntry::clearCiteKey);
+    }
+
+    @Benchmark
+    public BibDatabase generateKeys() {
+        database.getEntries().forEach(keyGenerator::generateAndSetKey);
+        return database;
+    }
+}
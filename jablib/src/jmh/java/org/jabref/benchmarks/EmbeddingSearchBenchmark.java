@@ -0,0 +1,112 @@
+package org.jabref.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.jabref.logic.ai.ingestion.MVStoreEmbeddingStore;
+import org.jabref.logic.util.NotificationService;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import static org.jabref.logic.ai.ingestion.FileEmbeddingsManager.LINK_METADATA_KEY;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Compares the latency of the exact (linear) search of {@link MVStoreEmbeddingStore} with the approximate search using the HNSW index.
+ * The recall of the approximate search is checked at the end of each trial, so that a faster but inaccurate index does not go unnoticed.
+ */
+@State(Scope.Benchmark)
+public class EmbeddingSearchBenchmark {
+    private static final int DIMENSION = 384;
+    private static final int MAX_RESULTS = 10;
+    private static final int RECALL_QUERIES = 100;
+    private static final double MIN_RECALL = 0.9;
+
+    @Param({"20000", "100000"})
+    private int numberOfEmbeddings;
+
+    private final Random random = new Random(42);
+    private Path directory;
+    private MVStoreEmbeddingStore exactStore;
+    private MVStoreEmbeddingStore approximateStore;
+    private EmbeddingSearchRequest request;
+
+    @Setup(Level.Trial)
+    public void init() throws IOException {
+        directory = Files.createTempDirectory("embeddings-benchmark");
+        NotificationService notificationService = mock(NotificationService.class);
+        exactStore = new MVStoreEmbeddingStore(directory.resolve("exact.mv"), notificationService, false);
+        approximateStore = new MVStoreEmbeddingStore(directory.resolve("approximate.mv"), notificationService, true);
+
+        for (int i = 0; i < numberOfEmbeddings; i++) {
+            Embedding embedding = randomEmbedding();
+            // Roughly 100 segments per file, as for a typical paper
+            TextSegment segment = new TextSegment("Segment " + i, new Metadata().put(LINK_METADATA_KEY, "paper" + (i / 100) + ".pdf"));
+            String id = exactStore.add(embedding, segment);
+            approximateStore.add(id, embedding);
+        }
+        request = searchRequest();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        int found = 0;
+        for (int i = 0; i < RECALL_QUERIES; i++) {
+            EmbeddingSearchRequest recallRequest = searchRequest();
+            Set<String> expected = exactStore.search(recallRequest).matches().stream().map(EmbeddingMatch::embeddingId).collect(Collectors.toSet());
+            found += (int) approximateStore.search(recallRequest).matches().stream().map(EmbeddingMatch::embeddingId).filter(expected::contains).count();
+        }
+        double recall = found / (double) (RECALL_QUERIES * MAX_RESULTS);
+
+        exactStore.close();
+        approximateStore.close();
+        FileUtils.deleteDirectory(directory.toFile());
+
+        if (recall < MIN_RECALL) {
+            throw new IllegalStateException("Recall@%d for %d embeddings is %.3f, expected at least %.1f".formatted(MAX_RESULTS, numberOfEmbeddings, recall, MIN_RECALL));
+        }
+    }
+
+    @Benchmark
+    public List<EmbeddingMatch<TextSegment>> exactSearch() {
+        return exactStore.search(request).matches();
+    }
+
+    @Benchmark
+    public List<EmbeddingMatch<TextSegment>> approximateSearch() {
+        return approximateStore.search(request).matches();
+    }
+
+    private EmbeddingSearchRequest searchRequest() {
+        return EmbeddingSearchRequest.builder()
+                                     .queryEmbedding(randomEmbedding())
+                                     .maxResults(MAX_RESULTS)
+                                     .minScore(0.0)
+                                     .build();
+    }
+
+    private Embedding randomEmbedding() {
+        float[] vector = new float[DIMENSION];
+        for (int i = 0; i < DIMENSION; i++) {
+            vector[i] = (float) random.nextGaussian();
+        }
+        return Embedding.from(vector);
+    }
+}
@@ -0,0 +1,101 @@
+package org.jabref.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import javafx.collections.ObservableList;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.groups.AllEntriesGroup;
+import org.jabref.model.groups.AutomaticKeywordGroup;
+import org.jabref.model.groups.AutomaticPersonsGroup;
+import org.jabref.model.groups.ExplicitGroup;
+import org.jabref.model.groups.GroupHierarchyType;
+import org.jabref.model.groups.GroupTreeNode;
+import org.jabref.model.groups.LastNameGroup;
+import org.jabref.model.groups.RegexKeywordGroup;
+import org.jabref.model.groups.WordKeywordGroup;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Matches the entries of a generated library against a group tree containing the common kinds of groups, as done when
+ * the group sidebar is shown. Search groups are covered by {@link SearchBenchmark#matchSearchGroups()}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class GroupMatchingBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int numberOfEntries;
+
+    private BibDatabase database;
+    private GroupTreeNode root;
+    private AutomaticKeywordGroup automaticKeywordGroup;
+    private AutomaticPersonsGroup automaticPersonsGroup;
+
+    @Setup(Level.Trial)
+    public void init() {
+        database = BenchmarkLibrary.generate(numberOfEntries);
+
+        root = GroupTreeNode.fromGroup(new AllEntriesGroup("All entries"));
+        GroupTreeNode keywords = root.addSubgroup(new WordKeywordGroup("Keywords", GroupHierarchyType.INDEPENDENT, StandardField.KEYWORDS, "learning", false, ',', false));
+        for (String word : BenchmarkLibrary.WORDS.subList(0, 10)) {
+            keywords.addSubgroup(new WordKeywordGroup(word, GroupHierarchyType.REFINING, StandardField.KEYWORDS, word, false, ',', false));
+            root.addSubgroup(new RegexKeywordGroup("Title " + word, GroupHierarchyType.INDEPENDENT, StandardField.TITLE, word + ".*(model|system)", false));
+        }
+        for (String lastName : BenchmarkLibrary.LAST_NAMES.subList(0, 10)) {
+            root.addSubgroup(new LastNameGroup(lastName, GroupHierarchyType.INDEPENDENT, StandardField.AUTHOR, lastName));
+        }
+        for (int i = 0; i < 20; i++) {
+            root.addSubgroup(new ExplicitGroup("group" + i, GroupHierarchyType.INDEPENDENT, ','));
+        }
+
+        automaticKeywordGroup = new AutomaticKeywordGroup("Automatic keywords", GroupHierarchyType.INDEPENDENT, StandardField.KEYWORDS, ',', '>');
+        automaticPersonsGroup = new AutomaticPersonsGroup("Automatic authors", GroupHierarchyType.INDEPENDENT, StandardField.AUTHOR);
+    }
+
+    /**
+     * Determines the groups of each entry, as done for the group column of the main table
+     */
+    @Benchmark
+    public int getMatchingGroups() {
+        int matches = 0;
+        for (BibEntry entry : database.getEntries()) {
+            matches += root.getMatchingGroups(entry).size();
+        }
+        return matches;
+    }
+
+    /**
+     * Determines the entries of each group, as done for the number of entries shown next to a group
+     */
+    @Benchmark
+    public int findMatches() {
+        int matches = 0;
+        for (GroupTreeNode node : root.getChildren()) {
+            matches += node.findMatches(database).size();
+        }
+        return matches;
+    }
+
+    @Benchmark
+    public ObservableList<GroupTreeNode> createAutomaticKeywordGroups() {
+        return automaticKeywordGroup.createSubgroups(database.getEntries());
+    }
+
+    @Benchmark
+    public ObservableList<GroupTreeNode> createAutomaticPersonsGroups() {
+        return automaticPersonsGroup.createSubgroups(database.getEntries());
+    }
+}
@@ -0,0 +1,214 @@
+package org.jabref.benchmarks;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jabref.logic.importer.Importer;
+import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.logic.importer.ParserResult;
+import org.jabref.logic.importer.fileformat.EndnoteImporter;
+import org.jabref.logic.importer.fileformat.MedlineImporter;
+import org.jabref.logic.importer.fileformat.ModsImporter;
+import org.jabref.logic.importer.fileformat.RisImporter;
+import org.jabref.model.entry.AuthorList;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.mockito.Answers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Imports a generated library in the formats of the major reference managers and databases. BibTeX is covered by
+ * {@link BibtexParserBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ImporterBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int numberOfEntries;
+
+    @Param({"ris", "endnote", "medline", "mods"})
+    private String format;
+
+    private Importer importer;
+    private String input;
+
+    @Setup(Level.Trial)
+    public void init() {
+        List<BibEntry> entries = BenchmarkLibrary.generate(numberOfEntries).getEntries();
+        StringBuilder builder = new StringBuilder();
+        switch (format) {
+            case "ris" -> {
+                importer = new RisImporter();
+                entries.forEach(entry -> appendRis(builder, entry));
+            }
+            case "endnote" -> {
+                importer = new EndnoteImporter();
+                entries.forEach(entry -> appendEndnote(builder, entry));
+            }
+            case "medline" -> {
+                importer = new MedlineImporter();
+                builder.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<PubmedArticleSet>\n");
+                for (int i = 0; i < entries.size(); i++) {
+                    appendMedline(builder, entries.get(i), i);
+                }
+                builder.append("</PubmedArticleSet>\n");
+            }
+            case "mods" -> {
+                ImportFormatPreferences importFormatPreferences = mock(ImportFormatPreferences.class, Answers.RETURNS_DEEP_STUBS);
+                when(importFormatPreferences.bibEntryPreferences().getKeywordSeparator()).thenReturn(',');
+                importer = new ModsImporter(importFormatPreferences);
+                builder.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<modsCollection xmlns=\"http://www.loc.gov/mods/v3\">\n");
+                entries.forEach(entry -> appendMods(builder, entry));
+                builder.append("</modsCollection>\n");
+            }
+            default -> throw new IllegalArgumentException("Unknown format " + format);
+        }
+        input = builder.toString();
+    }
+
+    @Benchmark
+    public ParserResult importEntries() throws IOException {
+        return importer.importDatabase(new BufferedReader(new StringReader(input)));
+    }
+
+    private static void appendRis(StringBuilder builder, BibEntry entry) {
+        String type = switch (entry.getType()) {
+            case StandardEntryType.Article -> "JOUR";
+            case StandardEntryType.InProceedings -> "CONF";
+            case StandardEntryType.Book -> "BOOK";
+            default -> "RPRT";
+        };
+        builder.append("TY  - ").append(type).append('\n');
+        getAuthors(entry).forEach(author -> builder.append("AU  - ").append(author).append('\n'));
+        appendField(builder, "TI  - ", entry, StandardField.TITLE);
+        appendField(builder, "PY  - ", entry, StandardField.YEAR);
+        appendField(builder, "JO  - ", entry, StandardField.JOURNAL);
+        appendField(builder, "T2  - ", entry, StandardField.BOOKTITLE);
+        appendField(builder, "PB  - ", entry, StandardField.PUBLISHER);
+        appendField(builder, "VL  - ", entry, StandardField.VOLUME);
+        entry.getField(StandardField.PAGES).ifPresent(pages -> {
+            String[] range = pages.split("--");
+            builder.append("SP  - ").append(range[0]).append('\n');
+            builder.append("EP  - ").append(range[1]).append('\n');
+        });
+        entry.getField(StandardField.KEYWORDS).ifPresent(keywords -> {
+            for (String keyword : keywords.split(", ")) {
+                builder.append("KW  - ").append(keyword).append('\n');
+            }
+        });
+        appendField(builder, "AB  - ", entry, StandardField.ABSTRACT);
+        appendField(builder, "DO  - ", entry, StandardField.DOI);
+        builder.append("ER  - \n\n");
+    }
+
+    private static void appendEndnote(StringBuilder builder, BibEntry entry) {
+        String type = switch (entry.getType()) {
+            case StandardEntryType.Article -> "Journal Article";
+            case StandardEntryType.InProceedings -> "Conference Proceedings";
+            case StandardEntryType.Book -> "Book";
+            default -> "Report";
+        };
+        builder.append("%0 ").append(type).append('\n');
+        getAuthors(entry).forEach(author -> builder.append("%A ").append(author).append('\n'));
+        appendField(builder, "%T ", entry, StandardField.TITLE);
+        appendField(builder, "%D ", entry, StandardField.YEAR);
+        appendField(builder, "%J ", entry, StandardField.JOURNAL);
+        appendField(builder, "%B ", entry, StandardField.BOOKTITLE);
+        appendField(builder, "%I ", entry, StandardField.PUBLISHER);
+        appendField(builder, "%V ", entry, StandardField.VOLUME);
+        entry.getField(StandardField.PAGES).ifPresent(pages -> builder.append("%P ").append(pages.replace("--", "-")).append('\n'));
+        appendField(builder, "%K ", entry, StandardField.KEYWORDS);
+        appendField(builder, "%X ", entry, StandardField.ABSTRACT);
+        appendField(builder, "%R ", entry, StandardField.DOI);
+        builder.append('\n');
+    }
+
+    private static void appendMedline(StringBuilder builder, BibEntry entry, int pmid) {
+        builder.append("<PubmedArticle>\n<MedlineCitation Status=\"MEDLINE\" Owner=\"NLM\">\n")
+               .append("<PMID Version=\"1\">").append(pmid + 1).append("</PMID>\n")
+               .append("<Article PubModel=\"Print\">\n<Journal>\n<JournalIssue CitedMedium=\"Print\">\n");
+        appendField(builder, "<Volume>", entry, StandardField.VOLUME, "</Volume>");
+        builder.append("<PubDate>");
+        appendField(builder, "<Year>", entry, StandardField.YEAR, "</Year>");
+        builder.append("</PubDate>\n</JournalIssue>\n");
+        builder.append("<Title>").append(xml(entry.getField(StandardField.JOURNAL).orElse("Journal of Medicine"))).append("</Title>\n</Journal>\n");
+        appendField(builder, "<ArticleTitle>", entry, StandardField.TITLE, "</ArticleTitle>");
+        entry.getField(StandardField.PAGES).ifPresent(pages -> builder.append("<Pagination><MedlinePgn>").append(pages.replace("--", "-")).append("</MedlinePgn></Pagination>\n"));
+        appendField(builder, "<Abstract><AbstractText>", entry, StandardField.ABSTRACT, "</AbstractText></Abstract>");
+        builder.append("<AuthorList CompleteYN=\"Y\">\n");
+        entry.getField(StandardField.AUTHOR).map(AuthorList::parse).ifPresent(authors -> authors.getAuthors().forEach(author -> builder
+                .append("<Author ValidYN=\"Y\"><LastName>").append(xml(author.getFamilyName().orElse("")))
+                .append("</LastName><ForeName>").append(xml(author.getGivenName().orElse("")))
+                .append("</ForeName></Author>\n")));
+        builder.append("</AuthorList>\n<Language>eng</Language>\n</Article>\n");
+        entry.getField(StandardField.KEYWORDS).ifPresent(keywords -> {
+            builder.append("<KeywordList Owner=\"NOTNLM\">\n");
+            for (String keyword : keywords.split(", ")) {
+                builder.append("<Keyword MajorTopicYN=\"N\">").append(xml(keyword)).append("</Keyword>\n");
+            }
+            builder.append("</KeywordList>\n");
+        });
+        builder.append("</MedlineCitation>\n");
+        entry.getField(StandardField.DOI).ifPresent(doi -> builder
+                .append("<PubmedData><ArticleIdList><ArticleId IdType=\"doi\">").append(xml(doi)).append("</ArticleId></ArticleIdList></PubmedData>\n"));
+        builder.append("</PubmedArticle>\n");
+    }
+
+    private static void appendMods(StringBuilder builder, BibEntry entry) {
+        builder.append("<mods>\n<titleInfo>");
+        appendField(builder, "<title>", entry, StandardField.TITLE, "</title>");
+        builder.append("</titleInfo>\n");
+        entry.getField(StandardField.AUTHOR).map(AuthorList::parse).ifPresent(authors -> authors.getAuthors().forEach(author -> builder
+                .append("<name type=\"personal\"><namePart type=\"family\">").append(xml(author.getFamilyName().orElse("")))
+                .append("</namePart><namePart type=\"given\">").append(xml(author.getGivenName().orElse("")))
+                .append("</namePart><role><roleTerm authority=\"marcrelator\" type=\"text\">author</roleTerm></role></name>\n")));
+        builder.append("<originInfo>");
+        appendField(builder, "<dateIssued>", entry, StandardField.YEAR, "</dateIssued>");
+        appendField(builder, "<publisher>", entry, StandardField.PUBLISHER, "</publisher>");
+        builder.append("</originInfo>\n");
+        entry.getField(StandardField.JOURNAL).or(() -> entry.getField(StandardField.BOOKTITLE)).ifPresent(container -> builder
+                .append("<relatedItem type=\"host\"><titleInfo><title>").append(xml(container)).append("</title></titleInfo></relatedItem>\n"));
+        entry.getField(StandardField.KEYWORDS).ifPresent(keywords -> {
+            for (String keyword : keywords.split(", ")) {
+                builder.append("<subject><topic>").append(xml(keyword)).append("</topic></subject>\n");
+            }
+        });
+        appendField(builder, "<abstract>", entry, StandardField.ABSTRACT, "</abstract>");
+        appendField(builder, "<identifier type=\"doi\">", entry, StandardField.DOI, "</identifier>");
+        builder.append("</mods>\n");
+    }
+
+    private static List<String> getAuthors(BibEntry entry) {
+        return entry.getField(StandardField.AUTHOR).map(authors -> List.of(authors.split(" and "))).orElse(List.of());
+    }
+
+    private static void appendField(StringBuilder builder, String tag, BibEntry entry, StandardField field) {
+        entry.getField(field).ifPresent(value -> builder.append(tag).append(value).append('\n'));
+    }
+
+    private static void appendField(StringBuilder builder, String startTag, BibEntry entry, StandardField field, String endTag) {
+        entry.getField(field).ifPresent(value -> builder.append(startTag).append(xml(value)).append(endTag).append('\n'));
+    }
+
+    private static String xml(String value) {
+        return value.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;");
+    }
+}
@@ -0,0 +1,69 @@
+package org.jabref.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jabref.logic.search.PostgreServer;
+import org.jabref.logic.search.indexing.BibFieldsIndexer;
+import org.jabref.logic.util.BackgroundTask;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntryPreferences;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Builds the SQL index of the fields of a generated library, as done when a library is opened
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class IndexingBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int numberOfEntries;
+
+    private PostgreServer postgreServer;
+    private BibDatabaseContext databaseContext;
+    private BibEntryPreferences bibEntryPreferences;
+    private BibFieldsIndexer indexer;
+
+    @Setup(Level.Trial)
+    public void init() {
+        databaseContext = new BibDatabaseContext(BenchmarkLibrary.generate(numberOfEntries));
+        bibEntryPreferences = mock(BibEntryPreferences.class);
+        when(bibEntryPreferences.getKeywordSeparator()).thenReturn(',');
+        postgreServer = new PostgreServer();
+    }
+
+    @Setup(Level.Invocation)
+    public void createIndexer() {
+        indexer = new BibFieldsIndexer(bibEntryPreferences, databaseContext, postgreServer.getConnection());
+    }
+
+    @TearDown(Level.Invocation)
+    public void closeIndexer() {
+        indexer.closeAndWait();
+    }
+
+    @TearDown(Level.Trial)
+    public void shutdown() {
+        postgreServer.shutdown();
+    }
+
+    @Benchmark
+    public BibFieldsIndexer indexBibFields() {
+        indexer.updateOnStart(mock(BackgroundTask.class));
+        return indexer;
+    }
+}
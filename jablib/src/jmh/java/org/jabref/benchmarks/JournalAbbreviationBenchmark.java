@@ -0,0 +1,130 @@
+package org.jabref.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.jabref.logic.journals.Abbreviation;
+import org.jabref.logic.journals.JournalAbbreviationRepository;
+import org.jabref.logic.journals.ltwa.LtwaRepository;
+
+import org.apache.commons.io.FileUtils;
+import org.h2.mvstore.MVMap;
+import org.h2.mvstore.MVStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Looks up misspelled journal names in a generated journal list, as done when abbreviating or checking the journals of
+ * a library whose journal names contain typos. Exact lookups fail, thus each lookup is a fuzzy lookup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JournalAbbreviationBenchmark {
+
+    private static final int NUMBER_OF_LOOKUPS = 100_000;
+    private static final List<String> PREFIXES = List.of("Journal of", "Transactions on", "Annals of", "International Journal of", "Advances in");
+
+    @Param({"10000", "50000"})
+    private int numberOfJournals;
+
+    private Path directory;
+    private JournalAbbreviationRepository repository;
+    private List<String> misspelledNames;
+
+    @Setup(Level.Trial)
+    public void init() throws IOException {
+        Random random = new Random(42);
+        Set<String> names = new LinkedHashSet<>();
+        while (names.size() < numberOfJournals) {
+            names.add(PREFIXES.get(random.nextInt(PREFIXES.size())) + " " + capitalizedWord(random) + " " + capitalizedWord(random) + " " + capitalizedWord(random));
+        }
+
+        directory = Files.createTempDirectory("jabref-benchmark");
+        Path journalList = directory.resolve("journal-list.mv");
+        try (MVStore store = new MVStore.Builder().fileName(journalList.toString()).open()) {
+            MVMap<String, Abbreviation> fullToAbbreviation = store.openMap(JournalAbbreviationRepository.FULL_TO_ABBREVIATION_MAP_NAME);
+            for (String name : names) {
+                fullToAbbreviation.put(name, new Abbreviation(name, abbreviate(name)));
+            }
+            JournalAbbreviationRepository.addAbbreviatedForms(
+                    fullToAbbreviation,
+                    store.openMap(JournalAbbreviationRepository.ABBREVIATION_TO_FULL_MAP_NAME),
+                    store.openMap(JournalAbbreviationRepository.DOTLESS_TO_FULL_MAP_NAME),
+                    store.openMap(JournalAbbreviationRepository.SHORTEST_UNIQUE_TO_FULL_MAP_NAME));
+        }
+        repository = new JournalAbbreviationRepository(journalList, new LtwaRepository());
+
+        List<String> nameList = new ArrayList<>(names);
+        misspelledNames = new ArrayList<>(NUMBER_OF_LOOKUPS);
+        for (int i = 0; i < NUMBER_OF_LOOKUPS; i++) {
+            misspelledNames.add(misspell(random, nameList.get(random.nextInt(nameList.size()))));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void close() throws IOException {
+        repository.close();
+        FileUtils.deleteDirectory(directory.toFile());
+    }
+
+    @Benchmark
+    public int lookUpMisspelledNames() {
+        int found = 0;
+        for (String name : misspelledNames) {
+            if (repository.get(name).isPresent()) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    private static String capitalizedWord(Random random) {
+        String word = BenchmarkLibrary.WORDS.get(random.nextInt(BenchmarkLibrary.WORDS.size()));
+        return word.substring(0, 1).toUpperCase(Locale.ROOT) + word.substring(1);
+    }
+
+    private static String abbreviate(String name) {
+        StringBuilder abbreviation = new StringBuilder();
+        for (String word : name.split(" ")) {
+            if (!abbreviation.isEmpty()) {
+                abbreviation.append(' ');
+            }
+            abbreviation.append(word.length() > 4 ? word.substring(0, 4) + "." : word);
+        }
+        return abbreviation.toString();
+    }
+
+    /**
+     * Replaces or removes one or two characters
+     */
+    private static String misspell(Random random, String name) {
+        StringBuilder misspelled = new StringBuilder(name);
+        int typos = 1 + random.nextInt(2);
+        for (int i = 0; i < typos; i++) {
+            int position = random.nextInt(misspelled.length());
+            if (random.nextBoolean()) {
+                misspelled.setCharAt(position, (char) ('a' + random.nextInt(26)));
+            } else {
+                misspelled.deleteCharAt(position);
+            }
+        }
+        return misspelled.toString();
+    }
+}
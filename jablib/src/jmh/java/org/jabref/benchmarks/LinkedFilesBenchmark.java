@@ -0,0 +1,146 @@
+package org.jabref.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.jabref.logic.FilePreferences;
+import org.jabref.logic.search.indexing.DefaultLinkedFilesIndexer;
+import org.jabref.logic.search.retrieval.LinkedFilesSearcher;
+import org.jabref.logic.util.BackgroundTask;
+import org.jabref.logic.util.StandardFileType;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.LinkedFile;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.search.SearchFlags;
+import org.jabref.model.search.query.SearchQuery;
+import org.jabref.model.search.query.SearchResults;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Indexes and searches the content of generated PDFs linked to the entries, as done by the fulltext search
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class LinkedFilesBenchmark {
+
+    private static final int PAGES_PER_FILE = 5;
+    private static final int LINES_PER_PAGE = 30;
+
+    @Param({"100", "1000"})
+    private int numberOfFiles;
+
+    private Path directory;
+    private List<BibEntry> entries;
+    private FilePreferences filePreferences;
+    private BibDatabaseContext searchedContext;
+    private DefaultLinkedFilesIndexer searchedIndexer;
+    private LinkedFilesSearcher searcher;
+    private DefaultLinkedFilesIndexer indexer;
+    private int numberOfIndexes;
+
+    @Setup(Level.Trial)
+    public void init() throws IOException {
+        directory = Files.createTempDirectory("jabref-benchmark");
+        // The entries of the generated library provide realistic text for the pages
+        List<BibEntry> library = BenchmarkLibrary.generate(numberOfFiles * PAGES_PER_FILE * LINES_PER_PAGE).getEntries();
+        entries = new ArrayList<>(numberOfFiles);
+        for (int file = 0; file < numberOfFiles; file++) {
+            Path pdf = directory.resolve("file" + file + ".pdf");
+            try (PDDocument document = new PDDocument()) {
+                for (int page = 0; page < PAGES_PER_FILE; page++) {
+                    PDPage pdPage = new PDPage();
+                    document.addPage(pdPage);
+                    try (PDPageContentStream contentStream = new PDPageContentStream(document, pdPage)) {
+                        contentStream.beginText();
+                        contentStream.setFont(new PDType1Font(Standard14Fonts.FontName.HELVETICA), 8);
+                        contentStream.setLeading(10);
+                        contentStream.newLineAtOffset(25, 750);
+                        for (int line = 0; line < LINES_PER_PAGE; line++) {
+                            BibEntry source = library.get((file * PAGES_PER_FILE + page) * LINES_PER_PAGE + line);
+                            // The standard fonts do not support all characters of the generated names
+                            contentStream.showText(source.getField(StandardField.TITLE).orElse("").replaceAll("[^\\x20-\\x7E]", ""));
+                            contentStream.newLine();
+                        }
+                        contentStream.endText();
+                    }
+                }
+                document.save(pdf.toFile());
+            }
+            entries.add(new BibEntry().withCitationKey("file" + file)
+                                      .withFiles(List.of(new LinkedFile("", pdf.toAbsolutePath().toString(), StandardFileType.PDF.getName()))));
+        }
+
+        filePreferences = mock(FilePreferences.class);
+        when(filePreferences.shouldFulltextIndexLinkedFiles()).thenReturn(true);
+        when(filePreferences.getFulltextIndexParallelism()).thenReturn(Math.max(1, Runtime.getRuntime().availableProcessors() - 1));
+
+        searchedContext = createContext();
+        searchedIndexer = new DefaultLinkedFilesIndexer(searchedContext, filePreferences);
+        searchedIndexer.addToIndex(entries, mock(BackgroundTask.class));
+        searcher = new LinkedFilesSearcher(searchedContext, searchedIndexer, filePreferences);
+    }
+
+    private BibDatabaseContext createContext() throws IOException {
+        BibDatabaseContext context = mock(BibDatabaseContext.class);
+        when(context.getDatabasePath()).thenReturn(Optional.of(directory.resolve("library.bib")));
+        when(context.getFileDirectories(Mockito.any())).thenReturn(List.of(directory));
+        when(context.getFulltextIndexPath()).thenReturn(Files.createDirectories(directory.resolve("index" + numberOfIndexes++)));
+        when(context.getEntries()).thenReturn(entries);
+        return context;
+    }
+
+    @Setup(Level.Invocation)
+    public void createIndexer() throws IOException {
+        indexer = new DefaultLinkedFilesIndexer(createContext(), filePreferences);
+    }
+
+    @TearDown(Level.Invocation)
+    public void closeIndexer() {
+        indexer.closeAndWait();
+    }
+
+    @TearDown(Level.Trial)
+    public void close() throws IOException {
+        searchedIndexer.closeAndWait();
+        FileUtils.deleteDirectory(directory.toFile());
+    }
+
+    @Benchmark
+    public DefaultLinkedFilesIndexer indexLinkedFiles() {
+        indexer.addToIndex(entries, mock(BackgroundTask.class));
+        return indexer;
+    }
+
+    @Benchmark
+    public SearchResults searchLinkedFiles() {
+        return searcher.search(new SearchQuery("neural network", EnumSet.of(SearchFlags.FULLTEXT)));
+    }
+}
@@ -0,0 +1,56 @@
+package org.jabref.benchmarks;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.logic.importer.fileformat.BibtexParser;
+import org.jabref.model.database.BibDatabase;
+
+import org.mockito.Answers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Writes a generated library as BibTeX. Entries of a "parsed" library are unchanged since they were read, thus their
+ * original serialization is written. Entries of a "generated" library are serialized field by field.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SaveBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int numberOfEntries;
+
+    @Param({"generated", "parsed"})
+    private String library;
+
+    private BibDatabase database;
+
+    @Setup(Level.Trial)
+    public void init() throws IOException {
+        database = BenchmarkLibrary.generate(numberOfEntries);
+        if ("parsed".equals(library)) {
+            ImportFormatPreferences importFormatPreferences = mock(ImportFormatPreferences.class, Answers.RETURNS_DEEP_STUBS);
+            when(importFormatPreferences.bibEntryPreferences().getKeywordSeparator()).thenReturn(',');
+            database = new BibtexParser(importFormatPreferences).parse(new StringReader(BenchmarkLibrary.toBibtex(database))).getDatabase();
+        }
+    }
+
+    @Benchmark
+    public String write() throws IOException {
+        return BenchmarkLibrary.toBibtex(database);
+    }
+}
@@ -0,0 +1,96 @@
+package org.jabref.benchmarks;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.jabref.logic.search.PostgreServer;
+import org.jabref.logic.search.indexing.BibFieldsIndexer;
+import org.jabref.logic.search.query.SearchQueryConversion;
+import org.jabref.logic.search.retrieval.BibFieldsSearcher;
+import org.jabref.logic.util.BackgroundTask;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntryPreferences;
+import org.jabref.model.search.SearchFlags;
+import org.jabref.model.search.query.SearchQuery;
+import org.jabref.model.search.query.SearchResults;
+import org.jabref.model.search.query.SqlQueryNode;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Searches the fields of a generated library using the SQL index, as done by the search bar and by search groups
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SearchBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int numberOfEntries;
+
+    @Param({"neural", "author=Smith", "title=network AND year=2020", "keywords=learning OR journal=Quantum", "title=~\"deep.*model\""})
+    private String query;
+
+    private PostgreServer postgreServer;
+    private BibDatabaseContext databaseContext;
+    private BibFieldsIndexer indexer;
+    private BibFieldsSearcher searcher;
+    private SearchQuery searchQuery;
+    private List<SearchQuery> groupQueries;
+
+    @Setup(Level.Trial)
+    public void init() {
+        databaseContext = new BibDatabaseContext(BenchmarkLibrary.generate(numberOfEntries));
+
+        BibEntryPreferences bibEntryPreferences = mock(BibEntryPreferences.class);
+        when(bibEntryPreferences.getKeywordSeparator()).thenReturn(',');
+        postgreServer = new PostgreServer();
+        indexer = new BibFieldsIndexer(bibEntryPreferences, databaseContext, postgreServer.getConnection());
+        indexer.updateOnStart(mock(BackgroundTask.class));
+        searcher = new BibFieldsSearcher(postgreServer.getConnection(), indexer.getTable());
+
+        searchQuery = new SearchQuery(query, EnumSet.noneOf(SearchFlags.class));
+        groupQueries = BenchmarkLibrary.WORDS.subList(0, 10).stream()
+                                             .map(word -> new SearchQuery("keywords=" + word, EnumSet.noneOf(SearchFlags.class)))
+                                             .toList();
+    }
+
+    @TearDown(Level.Trial)
+    public void close() {
+        indexer.closeAndWait();
+        postgreServer.shutdown();
+    }
+
+    @Benchmark
+    public SearchResults searchBibFields() {
+        return searcher.search(searchQuery);
+    }
+
+    @Benchmark
+    public SqlQueryNode convertQueryToSql() {
+        return SearchQueryConversion.searchToSql(indexer.getTable(), searchQuery);
+    }
+
+    /**
+     * Matches all entries against ten search groups, as done when a library is opened
+     */
+    @Benchmark
+    public Map<SearchQuery, Set<String>> matchSearchGroups() {
+        return searcher.getMatchedEntryIds(databaseContext.getEntries(), groupQueries);
+    }
+}
@@ -11,6 +11,7 @@ import java.util.stream.Collectors;
 
 import org.jabref.logic.journals.Abbreviation;
 import org.jabref.logic.journals.JournalAbbreviationLoader;
+import org.jabref.logic.journals.JournalAbbreviationRepository;
 
 import org.h2.mvstore.MVMap;
 import org.h2.mvstore.MVStore;
@@ -46,7 +47,7 @@ public class JournalListMvGenerator {
                      fileName(journalListMvFile.toString()).
                      compressHigh().
                      open()) {
-            MVMap<String, Abbreviation> fullToAbbreviation = store.openMap("FullToAbbreviation");
+            MVMap<String, Abbreviation> fullToAbbreviation = store.openMap(JournalAbbreviationRepository.FULL_TO_ABBREVIATION_MAP_NAME);
             stream.forEach(Unchecked.consumer(path -> {
                 String fileName = path.getFileName().toString();
                 System.out.print("Checking ");
@@ -70,6 +71,14 @@ public class JournalListMvGenerator {
                     fullToAbbreviation.putAll(abbreviationMap);
                 }
             }));
+
+            // Enables the lookup of abbreviated names without loading all abbreviations
+            System.out.println("Writing maps of abbreviated forms...");
+            JournalAbbreviationRepository.addAbbreviatedForms(
+                    fullToAbbreviation,
+                    store.openMap(JournalAbbreviationRepository.ABBREVIATION_TO_FULL_MAP_NAME),
+                    store.openMap(JournalAbbreviationRepository.DOTLESS_TO_FULL_MAP_NAME),
+                    store.openMap(JournalAbbreviationRepository.SHORTEST_UNIQUE_TO_FULL_MAP_NAME));
         }
     }
 }
@@ -4,8 +4,10 @@ import java.nio.file.Path;
 import java.util.Optional;
 
 import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.IntegerProperty;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.property.SimpleIntegerProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.beans.property.StringProperty;
@@ -26,6 +28,7 @@ public class FilePreferences {
     private final StringProperty fileDirectoryPattern = new SimpleStringProperty();
     private final BooleanProperty downloadLinkedFiles = new SimpleBooleanProperty();
     private final BooleanProperty fulltextIndexLinkedFiles = new SimpleBooleanProperty();
+    private final IntegerProperty fulltextIndexParallelism = new SimpleIntegerProperty();
     private final ObjectProperty<Path> workingDirectory = new SimpleObjectProperty<>();
     private final BooleanProperty createBackup = new SimpleBooleanProperty();
     private final ObjectProperty<Path> backupDirectory = new SimpleObjectProperty<>();
@@ -43,6 +46,7 @@ public class FilePreferences {
                            String fileDirectoryPattern,
                            boolean downloadLinkedFiles,
                            boolean fulltextIndexLinkedFiles,
+                           int fulltextIndexParallelism,
                            Path workingDirectory,
                            boolean createBackup,
                            Path backupDirectory,
@@ -59,6 +63,7 @@ public class FilePreferences {
         this.fileDirectoryPattern.setValue(fileDirectoryPattern);
         this.downloadLinkedFiles.setValue(downloadLinkedFiles);
         this.fulltextIndexLinkedFiles.setValue(fulltextIndexLinkedFiles);
+        this.fulltextIndexParallelism.setValue(fulltextIndexParallelism);
         this.workingDirectory.setValue(workingDirectory);
         this.createBackup.setValue(createBackup);
         this.backupDirectory.setValue(backupDirectory);
@@ -154,6 +159,21 @@ public class FilePreferences {
         this.fulltextIndexLinkedFiles.set(shouldFulltextIndexLinkedFiles);
     }
 
+    /**
+     * @return the number of linked files whose content is extracted concurrently while building the fulltext index
+     */
+    public int getFulltextIndexParallelism() {
+        return fulltextIndexParallelism.get();
+    }
+
+    public IntegerProperty fulltextIndexParallelismProperty() {
+        return fulltextIndexParallelism;
+    }
+
+    public void setFulltextIndexParallelism(int fulltextIndexParallelism) {
+        this.fulltextIndexParallelism.set(fulltextIndexParallelism);
+    }
+
     public Path getWorkingDirectory() {
         return workingDirectory.get();
     }
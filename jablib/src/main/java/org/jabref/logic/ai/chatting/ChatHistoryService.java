@@ -16,6 +16,7 @@ import org.jabref.logic.citationkeypattern.CitationKeyPatternPreferences;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.event.FieldsChangedEvent;
 import org.jabref.model.entry.field.InternalField;
 import org.jabref.model.groups.AbstractGroup;
 import org.jabref.model.groups.GroupTreeNode;
@@ -250,5 +251,10 @@ public class ChatHistoryService implements AutoCloseable {
 
             transferEntryHistory(bibDatabaseContext, e.getBibEntry(), e.getOldValue(), e.getNewValue());
         }
+
+        @Subscribe
+        void listen(FieldsChangedEvent e) {
+            e.getChange(InternalField.KEY_FIELD).ifPresent(change -> transferEntryHistory(bibDatabaseContext, e.getBibEntry(), change.getOldValue(), change.getNewValue()));
+        }
     }
 }
@@ -0,0 +1,414 @@
+package org.jabref.logic.ai.ingestion;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import jakarta.annotation.Nullable;
+import org.h2.mvstore.DataUtils;
+import org.h2.mvstore.MVMap;
+import org.h2.mvstore.MVStore;
+import org.h2.mvstore.WriteBuffer;
+import org.h2.mvstore.type.BasicDataType;
+
+/**
+ * Approximate nearest neighbour index for the embeddings of {@link MVStoreEmbeddingStore}.
+ * It implements <a href="https://arxiv.org/abs/1603.09320">Hierarchical Navigable Small World graphs</a> (HNSW).
+ * <p>
+ * The graph is persisted in the same {@link MVStore} as the embeddings themselves. Vectors are stored normalized as packed float arrays,
+ * thus the cosine similarity of two vectors is their dot product.
+ * <p>
+ * Removed embeddings are only marked as deleted, because they are still needed to navigate the graph.
+ * {@link #needsRebuild(int)} reports when too many nodes are deleted.
+ */
+class HnswVectorIndex {
+    // Parameter names follow the paper: M, M_max0, efConstruction and ef
+    private static final int MAX_NEIGHBORS = 16;
+    private static final int MAX_NEIGHBORS_BOTTOM_LAYER = 2 * MAX_NEIGHBORS;
+    private static final int EF_CONSTRUCTION = 100;
+    private static final int EF_SEARCH = 64;
+    private static final double LEVEL_MULTIPLIER = 1 / Math.log(MAX_NEIGHBORS);
+
+    private static final String NODES_MAP_NAME = "hnswNodes";
+    private static final String NODE_IDS_MAP_NAME = "hnswNodeIds";
+    private static final String STATE_MAP_NAME = "hnswState";
+
+    private static final String ENTRY_POINT_KEY = "entryPoint";
+    private static final String MAX_LEVEL_KEY = "maxLevel";
+    private static final String NEXT_NODE_KEY = "nextNode";
+    private static final String DELETED_NODES_KEY = "deletedNodes";
+    private static final String FORMAT_VERSION_KEY = "formatVersion";
+
+    private static final int[] NO_NEIGHBORS = new int[0];
+
+    /**
+     * @param neighbors the neighbors of the node for each layer the node is part of
+     */
+    private record Node(String embeddingId, float[] vector, int[][] neighbors, boolean deleted) { }
+
+    private record Candidate(int node, double similarity) { }
+
+    record ScoredEmbedding(String embeddingId, double cosineSimilarity) { }
+
+    private final MVMap<Integer, Node> nodes;
+    private final MVMap<String, Integer> nodeIds;
+    private final MVMap<String, Integer> state;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Random random;
+
+    HnswVectorIndex(MVStore mvStore) {
+        this(mvStore, new Random());
+    }
+
+    /**
+     * @param random determines the layers of the inserted nodes
+     */
+    HnswVectorIndex(MVStore mvStore, Random random) {
+        this.nodes = mvStore.openMap(NODES_MAP_NAME, new MVMap.Builder<Integer, Node>().valueType(NodeDataType.INSTANCE));
+        this.nodeIds = mvStore.openMap(NODE_IDS_MAP_NAME);
+        this.state = mvStore.openMap(STATE_MAP_NAME);
+        this.random = random;
+    }
+
+    /**
+     * @param numberOfEmbeddings the number of embeddings in the store
+     * @return true if the index does not cover exactly the embeddings of the store (e.g., it was created by an older version of JabRef),
+     *         if it was stored in another format or if more than half of the nodes are deleted
+     */
+    boolean needsRebuild(int numberOfEmbeddings) {
+        return nodeIds.size() != numberOfEmbeddings
+                || (!nodeIds.isEmpty() && state.getOrDefault(FORMAT_VERSION_KEY, 0) != NodeDataType.FORMAT_VERSION)
+                || state.getOrDefault(DELETED_NODES_KEY, 0) > nodeIds.size();
+    }
+
+    void add(String embeddingId, float[] vector) {
+        lock.writeLock().lock();
+        try {
+            markDeleted(embeddingId);
+            insert(embeddingId, normalize(vector));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(String embeddingId) {
+        lock.writeLock().lock();
+        try {
+            markDeleted(embeddingId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void clear() {
+        lock.writeLock().lock();
+        try {
+            nodes.clear();
+            nodeIds.clear();
+            state.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Finds the (approximately) most similar embeddings.
+     *
+     * @param allowedIds if not null, only these embeddings are returned
+     * @return at most <code>maxResults</code> embeddings, most similar first
+     */
+    List<ScoredEmbedding> search(float[] queryVector, int maxResults, @Nullable Set<String> allowedIds) {
+        lock.readLock().lock();
+        try {
+            Integer entryPoint = state.get(ENTRY_POINT_KEY);
+            if (entryPoint == null || maxResults <= 0) {
+                return List.of();
+            }
+            float[] query = normalize(queryVector);
+
+            int current = entryPoint;
+            for (int layer = state.get(MAX_LEVEL_KEY); layer > 0; layer--) {
+                current = findClosest(query, current, layer);
+            }
+
+            int ef = Math.max(EF_SEARCH, maxResults);
+            if (allowedIds != null && !allowedIds.isEmpty()) {
+                // Results are filtered afterwards, thus the candidate list has to be larger the fewer embeddings are allowed
+                ef = (int) Math.min(nodes.size(), (long) ef * Math.max(1, nodeIds.size() / allowedIds.size()));
+            }
+
+            List<ScoredEmbedding> result = new ArrayList<>(maxResults);
+            for (Candidate candidate : searchLayer(query, current, ef, 0)) {
+                Node node = nodes.get(candidate.node());
+                if (!node.deleted() && (allowedIds == null || allowedIds.contains(node.embeddingId()))) {
+                    result.add(new ScoredEmbedding(node.embeddingId(), candidate.similarity()));
+                    if (result.size() == maxResults) {
+                        break;
+                    }
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void markDeleted(String embeddingId) {
+        Integer nodeId = nodeIds.remove(embeddingId);
+        if (nodeId == null) {
+            return;
+        }
+        Node node = nodes.get(nodeId);
+        nodes.put(nodeId, new Node(node.embeddingId(), node.vector(), node.neighbors(), true));
+        state.put(DELETED_NODES_KEY, state.getOrDefault(DELETED_NODES_KEY, 0) + 1);
+    }
+
+    private void insert(String embeddingId, float[] vector) {
+        int level = randomLevel();
+        int nodeId = state.getOrDefault(NEXT_NODE_KEY, 0);
+        state.put(NEXT_NODE_KEY, nodeId + 1);
+
+        int[][] neighbors = new int[level + 1][];
+        Arrays.fill(neighbors, NO_NEIGHBORS);
+
+        Integer entryPoint = state.get(ENTRY_POINT_KEY);
+        if (entryPoint == null) {
+            nodes.put(nodeId, new Node(embeddingId, vector, neighbors, false));
+            nodeIds.put(embeddingId, nodeId);
+            state.put(ENTRY_POINT_KEY, nodeId);
+            state.put(MAX_LEVEL_KEY, level);
+            state.put(FORMAT_VERSION_KEY, NodeDataType.FORMAT_VERSION);
+            return;
+        }
+
+        int maxLevel = state.get(MAX_LEVEL_KEY);
+        int current = entryPoint;
+        for (int layer = maxLevel; layer > level; layer--) {
+            current = findClosest(vector, current, layer);
+        }
+        int topLayer = Math.min(level, maxLevel);
+        for (int layer = topLayer; layer >= 0; layer--) {
+            List<Candidate> candidates = searchLayer(vector, current, EF_CONSTRUCTION, layer);
+            neighbors[layer] = candidates.stream().limit(maxNeighbors(layer)).mapToInt(Candidate::node).toArray();
+            current = candidates.getFirst().node();
+        }
+
+        nodes.put(nodeId, new Node(embeddingId, vector, neighbors, false));
+        nodeIds.put(embeddingId, nodeId);
+
+        for (int layer = topLayer; layer >= 0; layer--) {
+            for (int neighbor : neighbors[layer]) {
+                connect(neighbor, nodeId, layer);
+            }
+        }
+
+        if (level > maxLevel) {
+            state.put(ENTRY_POINT_KEY, nodeId);
+            state.put(MAX_LEVEL_KEY, level);
+        }
+    }
+
+    /**
+     * Adds the new node to the neighbors of an existing node. If the existing node has too many neighbors afterwards, the least similar are dropped.
+     */
+    private void connect(int nodeId, int newNeighbor, int layer) {
+        Node node = nodes.get(nodeId);
+        int[] existing = node.neighbors()[layer];
+        int[] extended = Arrays.copyOf(existing, existing.length + 1);
+        extended[existing.length] = newNeighbor;
+        if (extended.length > maxNeighbors(layer)) {
+            extended = Arrays.stream(extended)
+                             .boxed()
+                             .sorted(Comparator.comparingDouble((Integer other) -> similarity(node.vector(), other)).reversed())
+                             .limit(maxNeighbors(layer))
+                             .mapToInt(Integer::intValue)
+                             .toArray();
+        }
+        // Objects returned by the MVMap must not be modified, thus the arrays are copied
+        int[][] neighbors = node.neighbors().clone();
+        neighbors[layer] = extended;
+        nodes.put(nodeId, new Node(node.embeddingId(), node.vector(), neighbors, node.deleted()));
+    }
+
+    /**
+     * Greedy search for the node most similar to the query in the given layer
+     */
+    private int findClosest(float[] query, int start, int layer) {
+        int current = start;
+        double best = similarity(query, current);
+        boolean improved = true;
+        while (improved) {
+            improved = false;
+            for (int neighbor : neighbors(current, layer)) {
+                double similarity = similarity(query, neighbor);
+                if (similarity > best) {
+                    best = similarity;
+                    current = neighbor;
+                    improved = true;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Beam search in the given layer
+     *
+     * @return the <code>ef</code> most similar nodes found, most similar first
+     */
+    private List<Candidate> searchLayer(float[] query, int entryPoint, int ef, int layer) {
+        Comparator<Candidate> bySimilarity = Comparator.comparingDouble(Candidate::similarity);
+        PriorityQueue<Candidate> candidates = new PriorityQueue<>(bySimilarity.reversed());
+        PriorityQueue<Candidate> results = new PriorityQueue<>(bySimilarity);
+        Set<Integer> visited = new HashSet<>();
+
+        Candidate start = new Candidate(entryPoint, similarity(query, entryPoint));
+        visited.add(entryPoint);
+        candidates.add(start);
+        results.add(start);
+
+        while (!candidates.isEmpty()) {
+            Candidate current = candidates.poll();
+            if (results.size() >= ef && current.similarity() < results.peek().similarity()) {
+                break;
+            }
+            for (int neighbor : neighbors(current.node(), layer)) {
+                if (!visited.add(neighbor)) {
+                    continue;
+                }
+                double similarity = similarity(query, neighbor);
+                if (results.size() < ef || similarity > results.peek().similarity()) {
+                    Candidate candidate = new Candidate(neighbor, similarity);
+                    candidates.add(candidate);
+                    results.add(candidate);
+                    if (results.size() > ef) {
+                        results.poll();
+                    }
+                }
+            }
+        }
+
+        List<Candidate> sorted = new ArrayList<>(results);
+        sorted.sort(bySimilarity.reversed());
+        return sorted;
+    }
+
+    private int[] neighbors(int nodeId, int layer) {
+        int[][] neighbors = nodes.get(nodeId).neighbors();
+        return layer < neighbors.length ? neighbors[layer] : NO_NEIGHBORS;
+    }
+
+    private double similarity(float[] query, int nodeId) {
+        return dotProduct(query, nodes.get(nodeId).vector());
+    }
+
+    private static int maxNeighbors(int layer) {
+        return layer == 0 ? MAX_NEIGHBORS_BOTTOM_LAYER : MAX_NEIGHBORS;
+    }
+
+    private int randomLevel() {
+        // 1 - nextDouble() is in (0, 1], thus the logarithm is finite
+        return (int) Math.floor(-Math.log(1 - random.nextDouble()) * LEVEL_MULTIPLIER);
+    }
+
+    private static double dotProduct(float[] a, float[] b) {
+        double result = 0;
+        // Vectors of different length occur only if the embedding model was changed - these are not similar anyway
+        int length = Math.min(a.length, b.length);
+        for (int i = 0; i < length; i++) {
+            result += a[i] * b[i];
+        }
+        return result;
+    }
+
+    private static float[] normalize(float[] vector) {
+        double norm = Math.sqrt(dotProduct(vector, vector));
+        float[] normalized = new float[vector.length];
+        if (norm == 0) {
+            return normalized;
+        }
+        for (int i = 0; i < vector.length; i++) {
+            normalized[i] = (float) (vector[i] / norm);
+        }
+        return normalized;
+    }
+
+    /**
+     * Stores the nodes in an explicit binary format. The format starts with a version number, so that it can be changed without
+     * reading old data wrongly: Nodes of an unknown version cannot be read, and {@link #needsRebuild(int)} reports an index stored in an
+     * older version.
+     * <p>
+     * Format (version 1): version (byte), deleted flag (byte), embedding id (UTF-8, length as var int), vector (length as var int, floats),
+     * neighbors (number of layers as var int, then for each layer its length as var int and the node ids).
+     */
+    private static final class NodeDataType extends BasicDataType<Node> {
+        static final NodeDataType INSTANCE = new NodeDataType();
+        static final int FORMAT_VERSION = 1;
+
+        @Override
+        public int getMemory(Node node) {
+            int memory = 64 + 2 * node.embeddingId().length() + Float.BYTES * node.vector().length;
+            for (int[] layer : node.neighbors()) {
+                memory += 16 + Integer.BYTES * layer.length;
+            }
+            return memory;
+        }
+
+        @Override
+        public void write(WriteBuffer buffer, Node node) {
+            byte[] embeddingId = node.embeddingId().getBytes(StandardCharsets.UTF_8);
+            buffer.put((byte) FORMAT_VERSION)
+                  .put((byte) (node.deleted() ? 1 : 0))
+                  .putVarInt(embeddingId.length)
+                  .put(embeddingId)
+                  .putVarInt(node.vector().length);
+            for (float value : node.vector()) {
+                buffer.putFloat(value);
+            }
+            buffer.putVarInt(node.neighbors().length);
+            for (int[] layer : node.neighbors()) {
+                buffer.putVarInt(layer.length);
+                for (int neighbor : layer) {
+                    buffer.putInt(neighbor);
+                }
+            }
+        }
+
+        @Override
+        public Node read(ByteBuffer buffer) {
+            int version = buffer.get();
+            if (version != FORMAT_VERSION) {
+                throw new IllegalStateException("Unsupported format version " + version + " of the vector index");
+            }
+            boolean deleted = buffer.get() != 0;
+            byte[] embeddingId = new byte[DataUtils.readVarInt(buffer)];
+            buffer.get(embeddingId);
+            float[] vector = new float[DataUtils.readVarInt(buffer)];
+            for (int i = 0; i < vector.length; i++) {
+                vector[i] = buffer.getFloat();
+            }
+            int[][] neighbors = new int[DataUtils.readVarInt(buffer)][];
+            for (int layer = 0; layer < neighbors.length; layer++) {
+                neighbors[layer] = new int[DataUtils.readVarInt(buffer)];
+                for (int i = 0; i < neighbors[layer].length; i++) {
+                    neighbors[layer][i] = buffer.getInt();
+                }
+            }
+            return new Node(new String(embeddingId, StandardCharsets.UTF_8), vector, neighbors, deleted);
+        }
+
+        @Override
+        public Node[] createStorage(int size) {
+            return new Node[size];
+        }
+    }
+}
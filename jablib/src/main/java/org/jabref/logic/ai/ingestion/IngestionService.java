@@ -17,6 +17,7 @@ import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.database.event.EntriesAddedEvent;
 import org.jabref.model.entry.LinkedFile;
 import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.event.FieldsChangedEvent;
 import org.jabref.model.entry.field.StandardField;
 
 import com.google.common.eventbus.Subscribe;
@@ -94,6 +95,13 @@ public class IngestionService {
                 e.getBibEntry().getFiles().forEach(linkedFile -> ingest(linkedFile, bibDatabaseContext));
             }
         }
+
+        @Subscribe
+        public void listen(FieldsChangedEvent e) {
+            if (e.getChange(StandardField.FILE).isPresent() && aiPreferences.getAutoGenerateEmbeddings()) {
+                e.getBibEntry().getFiles().forEach(linkedFile -> ingest(linkedFile, bibDatabaseContext));
+            }
+        }
     }
 
     /**
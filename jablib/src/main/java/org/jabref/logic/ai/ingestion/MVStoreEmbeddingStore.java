@@ -5,12 +5,17 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.PriorityQueue;
+import java.util.Set;
 import java.util.UUID;
-import java.util.function.Predicate;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
@@ -31,7 +36,10 @@ import dev.langchain4j.store.embedding.filter.Filter;
 import dev.langchain4j.store.embedding.filter.comparison.IsEqualTo;
 import dev.langchain4j.store.embedding.filter.comparison.IsIn;
 import jakarta.annotation.Nullable;
+import org.h2.mvstore.MVMap;
 import org.h2.mvstore.MVStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import static java.util.Comparator.comparingDouble;
 import static org.jabref.logic.ai.ingestion.FileEmbeddingsManager.LINK_METADATA_KEY;
@@ -42,19 +50,106 @@ import static org.jabref.logic.ai.ingestion.FileEmbeddingsManager.LINK_METADATA_
  * Every embedding has 3 fields: float array (the embedding itself), file where it was generated from, and the embedded
  * string (the content).
  * <p>
+ * The ids of the embeddings are additionally indexed by their file, so that searches restricted to some files do not need to scan all embeddings.
+ * Optionally, an approximate nearest neighbour index ({@link HnswVectorIndex}) is maintained, which is used for searches over many embeddings.
  */
 public class MVStoreEmbeddingStore extends MVStoreBase implements EmbeddingStore<TextSegment> {
+    private static final Logger LOGGER = LoggerFactory.getLogger(MVStoreEmbeddingStore.class);
+
     // `file` field is nullable, because {@link Optional} can't be serialized.
     private record EmbeddingRecord(@Nullable String file, String content, float[] embeddingVector) implements Serializable { }
 
     private static final String EMBEDDINGS_MAP_NAME = "embeddings";
+    private static final String FILE_INDEX_MAP_NAME = "embeddingsByFile";
+
+    // Keys of the file index are the file and the embedding id separated by this character
+    private static final char FILE_INDEX_SEPARATOR = '\u0000';
+
+    /**
+     * Searches over fewer embeddings are always exact.
+     */
+    private static final int APPROXIMATE_SEARCH_THRESHOLD = 10_000;
 
-    private final Map<String, EmbeddingRecord> embeddingsMap;
+    private final MVMap<String, EmbeddingRecord> embeddingsMap;
+    private final MVMap<String, Boolean> fileIndex;
+    private final @Nullable HnswVectorIndex vectorIndex;
+    private final @Nullable ExecutorService vectorIndexRebuild;
+    private volatile boolean vectorIndexReady;
 
     public MVStoreEmbeddingStore(Path path, NotificationService dialogService) {
+        this(path, dialogService, false);
+    }
+
+    /**
+     * @param approximateSearch whether to maintain an approximate nearest neighbour index for searches over more than {@link #APPROXIMATE_SEARCH_THRESHOLD} embeddings
+     */
+    public MVStoreEmbeddingStore(Path path, NotificationService dialogService, boolean approximateSearch) {
         super(path, dialogService);
 
         this.embeddingsMap = this.mvStore.openMap(EMBEDDINGS_MAP_NAME);
+        this.fileIndex = this.mvStore.openMap(FILE_INDEX_MAP_NAME);
+        if (fileIndex.isEmpty() && !embeddingsMap.isEmpty()) {
+            // Store created by an older version of JabRef
+            embeddingsMap.forEach((id, eRecord) -> indexFile(id, eRecord.file));
+        }
+
+        if (approximateSearch) {
+            this.vectorIndex = new HnswVectorIndex(mvStore);
+        } else {
+            this.vectorIndex = null;
+        }
+        if (vectorIndex != null && vectorIndex.needsRebuild(embeddingsMap.size())) {
+            // Until the index is rebuilt, exact search is used
+            this.vectorIndexRebuild = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "Vector index rebuild - " + path.getFileName());
+                thread.setDaemon(true);
+                return thread;
+            });
+            vectorIndexRebuild.execute(this::rebuildVectorIndex);
+            vectorIndexRebuild.shutdown();
+        } else {
+            this.vectorIndexRebuild = null;
+            vectorIndexReady = vectorIndex != null;
+        }
+    }
+
+    /**
+     * Runs in the background. It stops if the thread is interrupted by {@link #close()}.
+     */
+    private void rebuildVectorIndex() {
+        LOGGER.debug("Rebuilding vector index for {} embeddings", embeddingsMap.size());
+        long start = System.currentTimeMillis();
+        vectorIndex.clear();
+        Iterator<Map.Entry<String, EmbeddingRecord>> embeddings = embeddingsMap.entrySet().iterator();
+        while (embeddings.hasNext()) {
+            if (Thread.currentThread().isInterrupted()) {
+                LOGGER.debug("Rebuilding vector index cancelled");
+                return;
+            }
+            Map.Entry<String, EmbeddingRecord> embedding = embeddings.next();
+            vectorIndex.add(embedding.getKey(), embedding.getValue().embeddingVector);
+        }
+        vectorIndexReady = true;
+        LOGGER.debug("Rebuilt vector index in {} ms", System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Cancels a running rebuild of the vector index and waits for it to stop before closing the store.
+     * An incomplete index is rebuilt when the store is opened the next time.
+     */
+    @Override
+    public void close() {
+        if (vectorIndexRebuild != null) {
+            vectorIndexRebuild.shutdownNow();
+            try {
+                if (!vectorIndexRebuild.awaitTermination(1, TimeUnit.MINUTES)) {
+                    LOGGER.warn("Rebuilding vector index did not stop");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        super.close();
     }
 
     @Override
@@ -77,6 +172,9 @@ public class MVStoreEmbeddingStore extends MVStoreBase implements EmbeddingStore
         // It does not make much sense to store single embedding vector, but this is a requirement from langchain4j's
         // {@link EmbeddingStore}.
         embeddingsMap.put(id, new EmbeddingRecord(null, "", embedding.vector()));
+        if (vectorIndex != null) {
+            vectorIndex.add(id, embedding.vector());
+        }
     }
 
     @Override
@@ -84,6 +182,10 @@ public class MVStoreEmbeddingStore extends MVStoreBase implements EmbeddingStore
         String id = String.valueOf(UUID.randomUUID());
         String linkedFile = textSegment.metadata().getString(LINK_METADATA_KEY);
         embeddingsMap.put(id, new EmbeddingRecord(linkedFile, textSegment.text(), embedding.vector()));
+        indexFile(id, linkedFile);
+        if (vectorIndex != null) {
+            vectorIndex.add(id, embedding.vector());
+        }
         return id;
     }
 
@@ -94,7 +196,13 @@ public class MVStoreEmbeddingStore extends MVStoreBase implements EmbeddingStore
 
     @Override
     public void remove(String id) {
-        embeddingsMap.remove(id);
+        EmbeddingRecord eRecord = embeddingsMap.remove(id);
+        if (eRecord != null && eRecord.file != null) {
+            fileIndex.remove(fileIndexKey(eRecord.file, id));
+        }
+        if (vectorIndex != null) {
+            vectorIndex.remove(id);
+        }
     }
 
     @Override
@@ -106,6 +214,10 @@ public class MVStoreEmbeddingStore extends MVStoreBase implements EmbeddingStore
     @Override
     public void removeAll() {
         embeddingsMap.clear();
+        fileIndex.clear();
+        if (vectorIndex != null) {
+            vectorIndex.clear();
+        }
     }
 
     /**
@@ -120,27 +232,38 @@ public class MVStoreEmbeddingStore extends MVStoreBase implements EmbeddingStore
      */
     @Override
     public EmbeddingSearchResult<TextSegment> search(EmbeddingSearchRequest request) {
+        boolean useVectorIndex = vectorIndex != null && vectorIndexReady;
+        if (useVectorIndex && request.filter() == null && embeddingsMap.size() > APPROXIMATE_SEARCH_THRESHOLD) {
+            return searchApproximate(request, null);
+        }
+        Set<String> candidateIds = applyFilter(request.filter()).collect(Collectors.toSet());
+        if (useVectorIndex && candidateIds.size() > APPROXIMATE_SEARCH_THRESHOLD) {
+            return searchApproximate(request, candidateIds);
+        }
+        return searchExact(request, candidateIds);
+    }
+
+    /**
+     * Computes the similarity of the query to all candidate embeddings
+     */
+    private EmbeddingSearchResult<TextSegment> searchExact(EmbeddingSearchRequest request, Collection<String> candidateIds) {
         // Source: {@link InMemoryEmbeddingStore}.
 
         Comparator<EmbeddingMatch<TextSegment>> comparator = comparingDouble(EmbeddingMatch::score);
         PriorityQueue<EmbeddingMatch<TextSegment>> matches = new PriorityQueue<>(comparator);
 
-        applyFilter(request.filter()).forEach(id -> {
+        candidateIds.forEach(id -> {
             EmbeddingRecord eRecord = embeddingsMap.get(id);
+            if (eRecord == null) {
+                // removed concurrently
+                return;
+            }
 
             double cosineSimilarity = CosineSimilarity.between(Embedding.from(eRecord.embeddingVector), request.queryEmbedding());
             double score = RelevanceScore.fromCosineSimilarity(cosineSimilarity);
 
             if (score >= request.minScore()) {
-                matches.add(
-                        new EmbeddingMatch<>(
-                                score,
-                                id,
-                                Embedding.from(eRecord.embeddingVector),
-                                new TextSegment(
-                                        eRecord.content,
-                                        new Metadata(
-                                                eRecord.file == null ? Map.of() : Map.of(LINK_METADATA_KEY, eRecord.file)))));
+                matches.add(toMatch(score, id, eRecord));
 
                 if (matches.size() > request.maxResults()) {
                     matches.poll();
@@ -154,9 +277,37 @@ public class MVStoreEmbeddingStore extends MVStoreBase implements EmbeddingStore
         return new EmbeddingSearchResult<>(result);
     }
 
+    private EmbeddingSearchResult<TextSegment> searchApproximate(EmbeddingSearchRequest request, @Nullable Set<String> allowedIds) {
+        List<EmbeddingMatch<TextSegment>> result = new ArrayList<>();
+        for (HnswVectorIndex.ScoredEmbedding scoredEmbedding : vectorIndex.search(request.queryEmbedding().vector(), request.maxResults(), allowedIds)) {
+            double score = RelevanceScore.fromCosineSimilarity(scoredEmbedding.cosineSimilarity());
+            EmbeddingRecord eRecord = embeddingsMap.get(scoredEmbedding.embeddingId());
+            // Results are sorted by score, thus all following ones are below the minimum, too
+            if (score < request.minScore()) {
+                break;
+            }
+            if (eRecord != null) {
+                result.add(toMatch(score, scoredEmbedding.embeddingId(), eRecord));
+            }
+        }
+        return new EmbeddingSearchResult<>(result);
+    }
+
+    private static EmbeddingMatch<TextSegment> toMatch(double score, String id, EmbeddingRecord eRecord) {
+        return new EmbeddingMatch<>(
+                score,
+                id,
+                Embedding.from(eRecord.embeddingVector),
+                new TextSegment(
+                        eRecord.content,
+                        new Metadata(
+                                eRecord.file == null ? Map.of() : Map.of(LINK_METADATA_KEY, eRecord.file))));
+    }
+
     @Override
     public void removeAll(Collection ids) {
-        embeddingsMap.entrySet().removeIf(entry -> ids.contains(entry.getKey()));
+        List<String> idsToRemove = embeddingsMap.keySet().stream().filter(ids::contains).toList();
+        idsToRemove.forEach(this::remove);
     }
 
     private Stream<String> applyFilter(@Nullable Filter filter) {
@@ -164,17 +315,43 @@ public class MVStoreEmbeddingStore extends MVStoreBase implements EmbeddingStore
             case null -> embeddingsMap.keySet().stream();
 
             case IsIn isInFilter when Objects.equals(isInFilter.key(), LINK_METADATA_KEY) ->
-                    filterEntries(entry -> isInFilter.comparisonValues().contains(entry.getValue().file));
+                    isInFilter.comparisonValues().stream().flatMap(this::idsOfFile).distinct();
 
             case IsEqualTo isEqualToFilter when Objects.equals(isEqualToFilter.key(), LINK_METADATA_KEY) ->
-                    filterEntries(entry -> isEqualToFilter.comparisonValue().equals(entry.getValue().file));
+                    idsOfFile(isEqualToFilter.comparisonValue());
 
             default -> throw new IllegalArgumentException("Wrong filter passed to MVStoreEmbeddingStore");
         };
     }
 
-    private Stream<String> filterEntries(Predicate<Map.Entry<String, EmbeddingRecord>> predicate) {
-        return embeddingsMap.entrySet().stream().filter(predicate).map(Map.Entry::getKey);
+    /**
+     * Looks up the embeddings of the given file in the file index. The keys of a file are adjacent in the sorted {@link MVMap}.
+     */
+    private Stream<String> idsOfFile(Object file) {
+        if (!(file instanceof String fileName)) {
+            return Stream.empty();
+        }
+        String prefix = fileName + FILE_INDEX_SEPARATOR;
+        List<String> ids = new ArrayList<>();
+        Iterator<String> keys = fileIndex.keyIterator(prefix);
+        while (keys.hasNext()) {
+            String key = keys.next();
+            if (!key.startsWith(prefix)) {
+                break;
+            }
+            ids.add(key.substring(prefix.length()));
+        }
+        return ids.stream();
+    }
+
+    private void indexFile(String id, @Nullable String file) {
+        if (file != null) {
+            fileIndex.put(fileIndexKey(file, id), Boolean.TRUE);
+        }
+    }
+
+    private static String fileIndexKey(String file, String id) {
+        return file + FILE_INDEX_SEPARATOR + id;
     }
 
     @Override
@@ -1,16 +1,22 @@
 package org.jabref.logic.bibtex.comparator;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.Set;
+import java.util.stream.IntStream;
 
 import org.jabref.logic.database.DuplicateCheck;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.database.BibDatabaseMode;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.StandardField;
 
 import org.slf4j.Logger;
@@ -82,37 +88,32 @@ public class BibDatabaseDiff {
         // Loop through the entries of the original database, looking for exact matches in the new one.
         // We must finish scanning for exact matches before looking for near matches, to avoid an exact
         // match being "stolen" from another entry.
-        mainLoop:
+        // Exactly matching entries have equal comparison keys, thus they are looked up instead of compared with each new entry.
+        Map<Map<Field, String>, Queue<Integer>> unmatchedEntriesByKey = new HashMap<>();
+        for (int i = 0; i < newEntries.size(); i++) {
+            unmatchedEntriesByKey.computeIfAbsent(DuplicateCheck.getStrictComparisonKey(newEntries.get(i)), _ -> new ArrayDeque<>()).add(i);
+        }
         for (BibEntry originalEntry : originalEntries) {
-            for (int i = 0; i < newEntries.size(); i++) {
-                if (!matchedEntries.contains(i)) {
-                    double score = DuplicateCheck.compareEntriesStrictly(originalEntry, newEntries.get(i));
-                    if (score > 1) {
-                        matchedEntries.add(i);
-                        continue mainLoop;
-                    }
-                }
+            Queue<Integer> exactMatches = unmatchedEntriesByKey.get(DuplicateCheck.getStrictComparisonKey(originalEntry));
+            if ((exactMatches != null) && !exactMatches.isEmpty()) {
+                matchedEntries.add(exactMatches.poll());
+            } else {
+                // No? Add this entry to the list of non-matched entries.
+                notMatched.add(originalEntry);
             }
-
-            // No? Add this entry to the list of non-matched entries.
-            notMatched.add(originalEntry);
         }
+        List<Integer> unmatchedAfterExactMatching = IntStream.range(0, newEntries.size())
+                                                             .filter(i -> !matchedEntries.contains(i))
+                                                             .boxed()
+                                                             .toList();
 
         // Now we've found all exact matches, look through the remaining entries, looking for close matches.
         DuplicateCheck duplicateCheck = new DuplicateCheck(new BibEntryTypesManager());
         for (BibEntry originalEntry : notMatched) {
-            // These two variables will keep track of which entry most closely matches the one we're looking at.
-            double bestMatch = 0;
-            int bestMatchIndex = 0;
-            for (int i = 0; i < newEntries.size(); i++) {
-                if (!matchedEntries.contains(i)) {
-                    double score = DuplicateCheck.compareEntriesStrictly(originalEntry, newEntries.get(i));
-                    if (score > bestMatch) {
-                        bestMatch = score;
-                        bestMatchIndex = i;
-                    }
-                }
-            }
+            // Keeps track of which entry most closely matches the one we're looking at.
+            Optional<NearMatch> nearMatch = findNearMatch(originalEntry, newEntries, unmatchedAfterExactMatching, matchedEntries);
+            double bestMatch = nearMatch.map(NearMatch::score).orElse(0.0);
+            int bestMatchIndex = nearMatch.map(NearMatch::index).orElse(0);
             BibEntry bestEntry = newEntries.get(bestMatchIndex);
             if (bestMatch > MATCH_THRESHOLD
                     || hasEqualCitationKey(originalEntry, bestEntry)
@@ -134,6 +135,21 @@ public class BibDatabaseDiff {
         return differences;
     }
 
+    /**
+     * Returns the unmatched entry with the highest score. If several entries have the highest score, the first one is returned.
+     * The comparisons are independent of each other, thus they are done in parallel.
+     */
+    private static Optional<NearMatch> findNearMatch(BibEntry originalEntry, List<BibEntry> newEntries, List<Integer> candidates, Set<Integer> matchedEntries) {
+        return candidates.parallelStream()
+                         .filter(i -> !matchedEntries.contains(i))
+                         .map(i -> new NearMatch(i, DuplicateCheck.compareEntriesStrictly(originalEntry, newEntries.get(i))))
+                         .filter(match -> match.score() > 0)
+                         .reduce((one, two) -> (one.score() > two.score()) || ((one.score() == two.score()) && (one.index() < two.index())) ? one : two);
+    }
+
+    private record NearMatch(int index, double score) {
+    }
+
     private static boolean hasEqualCitationKey(BibEntry oneEntry, BibEntry twoEntry) {
         return oneEntry.hasCitationKey() && twoEntry.hasCitationKey() && oneEntry.getCitationKey().equals(twoEntry.getCitationKey());
     }
@@ -0,0 +1,68 @@
+package org.jabref.logic.citationstyle;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded pool of {@link CSLAdapter}s keyed by style and output format.
+ * <p>
+ * An adapter is used by one thread at a time: it is checked out, used, and returned. Concurrent requests for the same
+ * style get different adapters. Creating the CSL engine of an adapter is expensive, thus returned adapters are kept
+ * for reuse. If more than the maximum number of adapters are idle, the ones of the least recently used style and
+ * format are dropped.
+ */
+class CSLAdapterPool {
+
+    private record Key(String style, CitationStyleOutputFormat outputFormat) {
+    }
+
+    private final int maxIdleAdapters;
+
+    // Access order, thus the first key is the least recently used one
+    private final Map<Key, Deque<CSLAdapter>> idleAdapters = new LinkedHashMap<>(16, 0.75f, true);
+    private int numberOfIdleAdapters;
+
+    CSLAdapterPool(int maxIdleAdapters) {
+        this.maxIdleAdapters = maxIdleAdapters;
+    }
+
+    /**
+     * Returns an idle adapter which was used for the given style and output format before, or a new one.
+     * The caller has exclusive access to the adapter until it is returned by {@link #checkIn}.
+     */
+    synchronized CSLAdapter checkOut(String style, CitationStyleOutputFormat outputFormat) {
+        Key key = new Key(style, outputFormat);
+        Deque<CSLAdapter> adapters = idleAdapters.get(key);
+        if (adapters == null) {
+            return new CSLAdapter();
+        }
+        CSLAdapter adapter = adapters.pop();
+        if (adapters.isEmpty()) {
+            idleAdapters.remove(key);
+        }
+        numberOfIdleAdapters--;
+        return adapter;
+    }
+
+    synchronized void checkIn(String style, CitationStyleOutputFormat outputFormat, CSLAdapter adapter) {
+        idleAdapters.computeIfAbsent(new Key(style, outputFormat), _ -> new ArrayDeque<>()).push(adapter);
+        numberOfIdleAdapters++;
+
+        while (numberOfIdleAdapters > maxIdleAdapters) {
+            Iterator<Deque<CSLAdapter>> leastRecentlyUsed = idleAdapters.values().iterator();
+            Deque<CSLAdapter> adapters = leastRecentlyUsed.next();
+            adapters.removeLast();
+            if (adapters.isEmpty()) {
+                leastRecentlyUsed.remove();
+            }
+            numberOfIdleAdapters--;
+        }
+    }
+
+    synchronized int getNumberOfIdleAdapters() {
+        return numberOfIdleAdapters;
+    }
+}
@@ -10,6 +10,7 @@ import org.jabref.model.database.BibDatabaseMode;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryTypesManager;
 
+import com.google.common.collect.Lists;
 import org.jbibtex.TokenMgrException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -17,11 +18,23 @@ import org.slf4j.LoggerFactory;
 /**
  * Facade to unify the access to the citation style engine. Use these methods if you need rendered BibTeX item(s) in a
  * given journal style. This class uses {@link CSLAdapter} to create output.
+ * <p>
+ * The adapters are taken from a {@link CSLAdapterPool}, thus calls with different styles do not evict each other's
+ * engine and concurrent calls do not wait for each other.
  */
 public class CitationStyleGenerator {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(CitationStyleGenerator.class);
-    private static final CSLAdapter CSL_ADAPTER = new CSLAdapter();
+    // Each idle adapter keeps a CSL engine with its parsed style in memory. The parallel batches need at most one adapter per processor.
+    private static final CSLAdapterPool CSL_ADAPTER_POOL = new CSLAdapterPool(Math.clamp(Runtime.getRuntime().availableProcessors(), 2, 8));
+
+    // Smaller batches are not worth to be rendered by another engine
+    private static final int MIN_BATCH_SIZE = 50;
+
+    @FunctionalInterface
+    private interface CSLAdapterCall<T> {
+        T apply(CSLAdapter adapter) throws IOException;
+    }
 
     private CitationStyleGenerator() {
     }
@@ -33,7 +46,7 @@ public class CitationStyleGenerator {
      */
     public static String generateCitation(List<BibEntry> bibEntries, String style, CitationStyleOutputFormat outputFormat, BibDatabaseContext databaseContext, BibEntryTypesManager entryTypesManager) {
         try {
-            return CSL_ADAPTER.makeCitation(bibEntries, style, outputFormat, databaseContext, entryTypesManager).getText();
+            return withAdapter(style, outputFormat, adapter -> adapter.makeCitation(bibEntries, style, outputFormat, databaseContext, entryTypesManager).getText());
         } catch (IOException e) {
             LOGGER.error("Could not generate BibEntry citation", e);
             return Localization.lang("Cannot generate citation based on selected citation style.");
@@ -58,7 +71,7 @@ public class CitationStyleGenerator {
      */
     public static List<String> generateBibliography(List<BibEntry> bibEntries, String style, CitationStyleOutputFormat outputFormat, BibDatabaseContext databaseContext, BibEntryTypesManager entryTypesManager) {
         try {
-            return CSL_ADAPTER.makeBibliography(bibEntries, style, outputFormat, databaseContext, entryTypesManager);
+            return withAdapter(style, outputFormat, adapter -> adapter.makeBibliography(bibEntries, style, outputFormat, databaseContext, entryTypesManager));
         } catch (IllegalArgumentException e) {
             LOGGER.error("Could not generate BibEntry bibliography. The CSL engine could not create a bibliography output for your item.", e);
             return List.of(Localization.lang("Cannot generate bibliography based on selected citation style."));
@@ -75,4 +88,43 @@ public class CitationStyleGenerator {
                     e.getLocalizedMessage());
         }
     }
+
+    /**
+     * Generates the bibliography entry of each of the given entries on its own. The result is the same as calling
+     * {@link #generateBibliography(List, String, CitationStyleOutputFormat, BibDatabaseContext, BibEntryTypesManager)}
+     * for each entry. Large lists are split into batches, which are rendered in parallel by different engines.
+     *
+     * @return one bibliography entry per entry, in the order of the entries
+     */
+    public static List<String> generateBibliographyEntries(List<BibEntry> bibEntries, String style, CitationStyleOutputFormat outputFormat, BibDatabaseContext databaseContext, BibEntryTypesManager entryTypesManager) {
+        int batchSize = Math.max(MIN_BATCH_SIZE, Math.ceilDiv(bibEntries.size(), Runtime.getRuntime().availableProcessors()));
+        return Lists.partition(bibEntries, batchSize)
+                    .parallelStream()
+                    .map(batch -> generateBibliographyEntriesOfBatch(batch, style, outputFormat, databaseContext, entryTypesManager))
+                    .flatMap(List::stream)
+                    .toList();
+    }
+
+    private static List<String> generateBibliographyEntriesOfBatch(List<BibEntry> batch, String style, CitationStyleOutputFormat outputFormat, BibDatabaseContext databaseContext, BibEntryTypesManager entryTypesManager) {
+        try {
+            return withAdapter(style, outputFormat, adapter -> adapter.makeBibliographyEntries(batch, style, outputFormat, databaseContext, entryTypesManager));
+        } catch (IOException | RuntimeException e) {
+            LOGGER.debug("Could not generate bibliography of batch, generating the entries one by one", e);
+            // Only the entries causing the error get an error message
+            return batch.stream()
+                        .map(entry -> generateBibliography(List.of(entry), style, outputFormat, databaseContext, entryTypesManager).getFirst())
+                        .toList();
+        }
+    }
+
+    /**
+     * Runs the call with an adapter of the pool. The adapter is only returned to the pool if the call succeeded, as the
+     * CSL engine might be left in an inconsistent state by an error.
+     */
+    private static <T> T withAdapter(String style, CitationStyleOutputFormat outputFormat, CSLAdapterCall<T> call) throws IOException {
+        CSLAdapter adapter = CSL_ADAPTER_POOL.checkOut(style, outputFormat);
+        T result = call.apply(adapter);
+        CSL_ADAPTER_POOL.checkIn(style, outputFormat, adapter);
+        return result;
+    }
 }
@@ -49,7 +49,8 @@ public class Crawler {
                 preferences.getImporterPreferences());
         this.studyFetcher = new StudyFetcher(
                 studyCatalogToFetcherConverter.getActiveFetchers(),
-                studyRepository.getSearchQueryStrings());
+                studyRepository.getSearchQueryStrings(),
+                studyRepository);
     }
 
     /**
@@ -64,10 +65,15 @@ public class Crawler {
      *     <li>Finally, the changes are merged into the work branch</li>
      * </ol>
      *
+     * If the crawl is interrupted, nothing is persisted. The next crawl reuses the results fetched so far.
+     *
      * @throws IOException Thrown if a problem occurred during the persistence of the result.
      */
     public void performCrawl() throws IOException, GitAPIException, SaveException {
         List<QueryResult> results = studyFetcher.crawl();
+        if (Thread.currentThread().isInterrupted()) {
+            return;
+        }
         studyRepository.persist(results);
     }
 }
@@ -1,80 +1,203 @@
 package org.jabref.logic.crawler;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
 
+import org.jabref.logic.importer.FetcherClientException;
 import org.jabref.logic.importer.FetcherException;
 import org.jabref.logic.importer.PagedSearchBasedFetcher;
 import org.jabref.logic.importer.SearchBasedFetcher;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.http.SimpleHttpResponse;
 import org.jabref.model.study.FetchResult;
 import org.jabref.model.study.QueryResult;
 
+import com.google.common.util.concurrent.RateLimiter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * Delegates the search of the provided set of targeted E-Libraries with the provided queries to the E-Library specific fetchers,
  * and aggregates the results returned by the fetchers by query and E-Library.
+ * <p>
+ * Each query is sent to each fetcher in its own virtual thread, and the pages of a paged fetcher are requested
+ * concurrently. The requests to a fetcher are limited by a token bucket ({@link RateLimiter}) per fetcher. Failed requests
+ * are retried with exponential backoff. The results of a fetcher for a query are checkpointed in the
+ * {@link StudyRepository}, thus a crawl which was interrupted before its results were persisted does not fetch them again.
  */
 class StudyFetcher {
     private static final Logger LOGGER = LoggerFactory.getLogger(StudyFetcher.class);
     private static final int MAX_AMOUNT_OF_RESULTS_PER_FETCHER = 100;
 
+    // Most catalogs do not document their limits, thus we stay on the safe side
+    private static final double REQUESTS_PER_SECOND_PER_FETCHER = 1.0;
+    private static final int MAX_ATTEMPTS = 3;
+    private static final Duration INITIAL_BACKOFF = Duration.ofSeconds(2);
+    private static final Duration RATE_LIMITER_POLL_INTERVAL = Duration.ofMillis(100);
+    private static final int TOO_MANY_REQUESTS = 429;
+
     private final List<SearchBasedFetcher> activeFetchers;
     private final List<String> searchQueries;
+    private final StudyRepository studyRepository;
+    private final Duration initialBackoff;
+    private final Map<String, RateLimiter> rateLimiters = new HashMap<>();
+
+    StudyFetcher(List<SearchBasedFetcher> activeFetchers, List<String> searchQueries, StudyRepository studyRepository) throws IllegalArgumentException {
+        this(activeFetchers, searchQueries, studyRepository, () -> RateLimiter.create(REQUESTS_PER_SECOND_PER_FETCHER), INITIAL_BACKOFF);
+    }
 
-    StudyFetcher(List<SearchBasedFetcher> activeFetchers, List<String> searchQueries) throws IllegalArgumentException {
+    /**
+     * @param rateLimiterFactory creates the rate limiter of each fetcher
+     */
+    StudyFetcher(List<SearchBasedFetcher> activeFetchers, List<String> searchQueries, StudyRepository studyRepository, Supplier<RateLimiter> rateLimiterFactory, Duration initialBackoff) {
         this.searchQueries = searchQueries;
         this.activeFetchers = activeFetchers;
+        this.studyRepository = studyRepository;
+        this.initialBackoff = initialBackoff;
+        activeFetchers.forEach(fetcher -> rateLimiters.computeIfAbsent(fetcher.getName(), _ -> rateLimiterFactory.get()));
     }
 
     /**
      * Each Map Entry contains the results for one search term for all libraries.
      * Each entry of the internal map contains the results for a given library.
      * If any library API is not available, its corresponding entry is missing from the internal map.
+     * <p>
+     * If the calling thread is interrupted, the crawl is cancelled and the results are incomplete. The interrupted
+     * status of the thread is kept, thus the caller can detect this.
      */
     public List<QueryResult> crawl() {
-        return searchQueries.parallelStream()
-                            .map(this::getQueryResult)
-                            .collect(Collectors.toList());
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<List<Future<Optional<FetchResult>>>> fetchResults = searchQueries.stream()
+                    .map(searchQuery -> activeFetchers.stream()
+                                                      .map(fetcher -> executor.submit(() -> getFetchResult(searchQuery, fetcher, executor)))
+                                                      .toList())
+                    .toList();
+            try {
+                return getQueryResults(fetchResults);
+            } catch (InterruptedException e) {
+                LOGGER.info("Crawl was interrupted");
+                executor.shutdownNow();
+                Thread.currentThread().interrupt();
+                return List.of();
+            }
+        }
     }
 
-    private QueryResult getQueryResult(String searchQuery) {
-        return new QueryResult(searchQuery, performSearchOnQuery(searchQuery));
+    private List<QueryResult> getQueryResults(List<List<Future<Optional<FetchResult>>>> fetchResults) throws InterruptedException {
+        List<QueryResult> queryResults = new ArrayList<>(searchQueries.size());
+        for (int i = 0; i < searchQueries.size(); i++) {
+            List<FetchResult> resultsOfQuery = new ArrayList<>();
+            for (Future<Optional<FetchResult>> fetchResult : fetchResults.get(i)) {
+                try {
+                    fetchResult.get().ifPresent(resultsOfQuery::add);
+                } catch (ExecutionException e) {
+                    throw new IllegalStateException("Crawl failed", e.getCause());
+                }
+            }
+            queryResults.add(new QueryResult(searchQueries.get(i), resultsOfQuery));
+        }
+        return queryResults;
     }
 
     /**
-     * Queries all catalogs on the given searchQuery.
+     * Returns the results of the given fetcher for the given query. The results of a previous crawl are reused if they
+     * were not persisted.
      *
-     * @param searchQuery The query the search is performed for.
-     * @return Mapping of each fetcher by name and all their retrieved publications as a BibDatabase
+     * @return nothing if the fetcher failed or was interrupted
      */
-    private List<FetchResult> performSearchOnQuery(String searchQuery) {
-        return activeFetchers.parallelStream()
-                             .map(fetcher -> performSearchOnQueryForFetcher(searchQuery, fetcher))
-                             .filter(Objects::nonNull)
-                             .collect(Collectors.toList());
-    }
+    private Optional<FetchResult> getFetchResult(String searchQuery, SearchBasedFetcher fetcher, ExecutorService executor) {
+        Optional<BibDatabase> checkpointedResult = studyRepository.getCheckpointedFetchResult(searchQuery, fetcher.getName());
+        if (checkpointedResult.isPresent()) {
+            LOGGER.debug("Reusing the results of {} for query {} of a previous crawl", fetcher.getName(), searchQuery);
+            return Optional.of(new FetchResult(fetcher.getName(), checkpointedResult.get()));
+        }
 
-    private FetchResult performSearchOnQueryForFetcher(String searchQuery, SearchBasedFetcher fetcher) {
         try {
-            List<BibEntry> fetchResult = new ArrayList<>();
-            if (fetcher instanceof PagedSearchBasedFetcher basedFetcher) {
-                int pages = (int) Math.ceil(((double) MAX_AMOUNT_OF_RESULTS_PER_FETCHER) / basedFetcher.getPageSize());
+            List<BibEntry> entries = new ArrayList<>();
+            if (fetcher instanceof PagedSearchBasedFetcher pagedFetcher) {
+                int pages = (int) Math.ceil(((double) MAX_AMOUNT_OF_RESULTS_PER_FETCHER) / pagedFetcher.getPageSize());
+                List<Future<List<BibEntry>>> fetchedPages = new ArrayList<>(pages);
                 for (int page = 0; page < pages; page++) {
-                    fetchResult.addAll(basedFetcher.performSearchPaged(searchQuery, page).getContent());
+                    int pageNumber = page;
+                    fetchedPages.add(executor.submit(() -> fetchWithRetry(fetcher, () -> new ArrayList<>(pagedFetcher.performSearchPaged(searchQuery, pageNumber).getContent()))));
+                }
+                for (Future<List<BibEntry>> fetchedPage : fetchedPages) {
+                    entries.addAll(getPage(fetchedPage, fetchedPages));
                 }
             } else {
-                fetchResult = fetcher.performSearch(searchQuery);
+                entries = fetchWithRetry(fetcher, () -> fetcher.performSearch(searchQuery));
             }
-            return new FetchResult(fetcher.getName(), new BibDatabase(fetchResult));
+            FetchResult fetchResult = new FetchResult(fetcher.getName(), new BibDatabase(entries));
+            studyRepository.checkpointFetchResult(searchQuery, fetchResult);
+            return Optional.of(fetchResult);
         } catch (FetcherException e) {
             LOGGER.warn("%s API request failed".formatted(fetcher.getName()), e);
-            return null;
+            return Optional.empty();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
         }
     }
+
+    private static List<BibEntry> getPage(Future<List<BibEntry>> fetchedPage, List<Future<List<BibEntry>>> allPages) throws FetcherException, InterruptedException {
+        try {
+            return fetchedPage.get();
+        } catch (ExecutionException e) {
+            allPages.forEach(page -> page.cancel(true));
+            if (e.getCause() instanceof FetcherException fetcherException) {
+                throw fetcherException;
+            }
+            throw new FetcherException("Could not fetch page", e.getCause());
+        } catch (InterruptedException e) {
+            allPages.forEach(page -> page.cancel(true));
+            throw e;
+        }
+    }
+
+    private List<BibEntry> fetchWithRetry(SearchBasedFetcher fetcher, Request request) throws FetcherException, InterruptedException {
+        RateLimiter rateLimiter = rateLimiters.get(fetcher.getName());
+        Duration backoff = initialBackoff;
+        for (int attempt = 1; ; attempt++) {
+            // RateLimiter#acquire cannot be interrupted, thus we wait in small steps. RateLimiter#tryAcquire returns
+            // immediately if the next permit is further away than the timeout, thus we sleep between the attempts.
+            while (!rateLimiter.tryAcquire(RATE_LIMITER_POLL_INTERVAL)) {
+                Thread.sleep(RATE_LIMITER_POLL_INTERVAL);
+            }
+            try {
+                return request.perform();
+            } catch (FetcherException e) {
+                if ((attempt >= MAX_ATTEMPTS) || !isRetryable(e)) {
+                    throw e;
+                }
+                LOGGER.debug("Request to {} failed (attempt {} of {}). Retrying in {}", fetcher.getName(), attempt, MAX_ATTEMPTS, backoff, e);
+                Thread.sleep(backoff);
+                backoff = backoff.multipliedBy(2);
+            }
+        }
+    }
+
+    /**
+     * Client errors, e.g., an invalid query, do not go away by retrying. The exception is a rejection due to too many requests.
+     */
+    private static boolean isRetryable(FetcherException e) {
+        if (e instanceof FetcherClientException) {
+            return e.getHttpResponse().map(SimpleHttpResponse::statusCode).orElse(0) == TOO_MANY_REQUESTS;
+        }
+        return true;
+    }
+
+    @FunctionalInterface
+    private interface Request {
+        List<BibEntry> perform() throws FetcherException;
+    }
 }
@@ -5,9 +5,12 @@ import java.nio.charset.StandardCharsets;
 import java.nio.charset.UnsupportedCharsetException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.Optional;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
@@ -37,6 +40,7 @@ import org.jabref.model.study.StudyDatabase;
 import org.jabref.model.study.StudyQuery;
 import org.jabref.model.util.FileUpdateMonitor;
 
+import org.apache.commons.io.FileUtils;
 import org.eclipse.jgit.api.errors.GitAPIException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -62,8 +66,14 @@ public class StudyRepository {
     private static final String WORK_BRANCH = "work";
     private static final String SEARCH_BRANCH = "search";
 
+    // Stored in the git directory, thus the checkpoints are neither committed nor affected by a checkout
+    private static final String CHECKPOINT_DIRECTORY_NAME = "jabref-crawl-checkpoint";
+    // Older results would be outdated
+    private static final Duration MAX_CHECKPOINT_AGE = Duration.ofDays(7);
+
     private final Path repositoryPath;
     private final Path studyDefinitionFile;
+    private final Path checkpointDirectory;
     private final SlrGitHandler gitHandler;
     private final Study study;
     private final CliPreferences preferences;
@@ -90,6 +100,9 @@ public class StudyRepository {
         this.preferences = preferences;
         this.fileUpdateMonitor = fileUpdateMonitor;
         this.studyDefinitionFile = Path.of(repositoryPath.toString(), STUDY_DEFINITION_FILE_NAME);
+        this.checkpointDirectory = gitHandler.getGitDirectory()
+                                             .orElse(repositoryPath.resolve(".git"))
+                                             .resolve(CHECKPOINT_DIRECTORY_NAME);
         this.bibEntryTypesManager = bibEntryTypesManager;
 
         if (Files.notExists(repositoryPath)) {
@@ -106,6 +119,7 @@ public class StudyRepository {
             throw new IOException("The study definition file does not exist in the given repository.");
         }
         study = parseStudyFile();
+        discardOutdatedCheckpoints();
         try {
             final String updateRepositoryStructureMessage = "Update repository structure";
 
@@ -167,6 +181,81 @@ public class StudyRepository {
         return new BibDatabaseContext();
     }
 
+    /**
+     * Returns the entries the given fetcher found for the given query during a crawl whose results were not persisted,
+     * e.g., because JabRef was closed during the crawl.
+     */
+    public Optional<BibDatabase> getCheckpointedFetchResult(String query, String fetcherName) {
+        Path checkpointFile = getPathToCheckpointFile(query, fetcherName);
+        if (Files.notExists(checkpointFile)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(OpenDatabase.loadDatabase(checkpointFile,
+                    preferences.getImportFormatPreferences(),
+                    fileUpdateMonitor).getDatabase());
+        } catch (IOException e) {
+            LOGGER.warn("Could not read checkpoint {}", checkpointFile, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Stores the entries a fetcher found for a query until the results of the crawl are persisted.
+     * May be called concurrently for different queries and fetchers.
+     */
+    public void checkpointFetchResult(String query, FetchResult fetchResult) {
+        Path checkpointFile = getPathToCheckpointFile(query, fetchResult.getFetcherName());
+        try {
+            Files.createDirectories(checkpointFile.getParent());
+            writeCheckpointStudyDefinition();
+            writeResultToFile(checkpointFile, new BibDatabaseContext(fetchResult.getFetchResult()));
+        } catch (IOException | SaveException e) {
+            LOGGER.warn("Could not write checkpoint {}", checkpointFile, e);
+        }
+    }
+
+    /**
+     * Stores the study definition the checkpoints were fetched for. The modification time of the file is the time of
+     * the first checkpoint.
+     */
+    private synchronized void writeCheckpointStudyDefinition() throws IOException {
+        Path checkpointStudyDefinitionFile = checkpointDirectory.resolve(STUDY_DEFINITION_FILE_NAME);
+        if (Files.notExists(checkpointStudyDefinitionFile)) {
+            new StudyYamlParser().writeStudyYamlFile(study, checkpointStudyDefinitionFile);
+        }
+    }
+
+    /**
+     * Removes the checkpoints if they were fetched for a different study definition or are too old to be reused
+     */
+    private void discardOutdatedCheckpoints() {
+        if (Files.notExists(checkpointDirectory)) {
+            return;
+        }
+        Path checkpointStudyDefinitionFile = checkpointDirectory.resolve(STUDY_DEFINITION_FILE_NAME);
+        try {
+            boolean outdated = Files.notExists(checkpointStudyDefinitionFile)
+                    || Files.getLastModifiedTime(checkpointStudyDefinitionFile).toInstant().isBefore(Instant.now().minus(MAX_CHECKPOINT_AGE))
+                    || !new StudyYamlParser().parseStudyYamlFile(checkpointStudyDefinitionFile).equals(study);
+            if (outdated) {
+                LOGGER.info("Discarding the checkpoints of a previous crawl, because they are outdated");
+                clearCheckpoints();
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Could not read the study definition of the checkpoints, discarding them", e);
+            clearCheckpoints();
+        }
+    }
+
+    private void clearCheckpoints() {
+        try {
+            FileUtils.deleteDirectory(checkpointDirectory.toFile());
+        } catch (IOException e) {
+            LOGGER.warn("Could not delete the checkpoints of the crawl", e);
+        }
+    }
+
     /**
      * The study definition file contains all the definitions of a study. This method extracts this study from the yaml study definition file
      *
@@ -223,6 +312,7 @@ public class StudyRepository {
 
         gitHandler.checkoutBranch(SEARCH_BRANCH);
         persistResults(crawlResults);
+        clearCheckpoints();
         try {
             // First commit changes to search branch and update remote
             String commitMessage = "Conducted search: " + LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
@@ -449,6 +539,10 @@ public class StudyRepository {
         return repositoryPath.resolve(trimNameAndAddID(query)).resolve(FileNameCleaner.cleanFileName(fetcherName) + ".bib");
     }
 
+    private Path getPathToCheckpointFile(String query, String fetcherName) {
+        return checkpointDirectory.resolve(computeIDForQuery(query)).resolve(FileNameCleaner.cleanFileName(fetcherName) + ".bib");
+    }
+
     private Path getPathToQueryResultFile(String query) {
         return repositoryPath.resolve(trimNameAndAddID(query)).resolve("result.bib");
     }
@@ -253,6 +253,19 @@ public class DuplicateCheck {
         return (double) score / allFields.size();
     }
 
+    /**
+     * Returns a key of the fields of the entry. The keys of two entries are equal if and only if
+     * {@link #compareEntriesStrictly(BibEntry, BibEntry)} considers the entries to be equal (score &gt; 1). Thus, equal
+     * entries can be found by hashing instead of comparing each pair of entries.
+     */
+    public static Map<Field, String> getStrictComparisonKey(BibEntry entry) {
+        Map<Field, String> key = new HashMap<>();
+        for (Field field : entry.getFields()) {
+            entry.getField(field).ifPresent(value -> key.put(field, StringUtil.unifyLineBreaks(value, OS.NEWLINE)));
+        }
+        return key;
+    }
+
     private static boolean isSingleFieldEqual(BibEntry one, BibEntry two, Field field) {
         final Optional<String> stringOne = one.getField(field);
         final Optional<String> stringTwo = two.getField(field);
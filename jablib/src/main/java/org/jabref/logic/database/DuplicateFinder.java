@@ -0,0 +1,222 @@
+package org.jabref.logic.database;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.AuthorList;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.FieldProperty;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.identifier.ISBN;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Finds all duplicates within a list of entries.
+ * <p>
+ * Comparing all pairs of entries with {@link DuplicateCheck#isDuplicate(BibEntry, BibEntry, BibDatabaseMode)} is quadratic.
+ * Therefore, the entries are first grouped into blocks by cheap keys: identifiers (DOI, eprint, ISBN, ...), first author and year,
+ * and the <a href="https://en.wikipedia.org/wiki/MinHash">MinHash</a> signature of the title. Only entries sharing at least
+ * one block are compared. The comparisons run in parallel.
+ */
+public class DuplicateFinder {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DuplicateFinder.class);
+
+    // Blocks which are not based on an identifier and are larger than this are skipped, because their keys are not selective
+    private static final int MAX_BLOCK_SIZE = 1000;
+
+    private static final int TITLE_SHINGLE_LENGTH = 4;
+    // The signature is split into bands. Titles are candidates if all rows of at least one band are equal.
+    private static final int MIN_HASH_BANDS = 10;
+    private static final int MIN_HASH_ROWS = 2;
+    private static final int[] MIN_HASH_SEEDS = new Random(42).ints(MIN_HASH_BANDS * MIN_HASH_ROWS).toArray();
+
+    private final DuplicateCheck duplicateCheck;
+
+    public DuplicateFinder(DuplicateCheck duplicateCheck) {
+        this.duplicateCheck = duplicateCheck;
+    }
+
+    /**
+     * @return the groups of entries which are duplicates of each other, each containing at least two entries.
+     * The groups and the entries in them are in the order of the given entries.
+     */
+    public List<List<BibEntry>> findDuplicates(List<BibEntry> entries, BibDatabaseMode bibDatabaseMode) {
+        Set<Long> candidatePairs = getCandidatePairs(entries);
+        LOGGER.debug("Comparing {} candidate pairs of {} entries", candidatePairs.size(), entries.size());
+
+        List<Long> duplicatePairs = candidatePairs.parallelStream()
+                                                  .filter(pair -> duplicateCheck.isDuplicate(entries.get(first(pair)), entries.get(second(pair)), bibDatabaseMode))
+                                                  .toList();
+
+        int[] parents = new int[entries.size()];
+        for (int i = 0; i < parents.length; i++) {
+            parents[i] = i;
+        }
+        for (long pair : duplicatePairs) {
+            union(parents, first(pair), second(pair));
+        }
+
+        Map<Integer, List<BibEntry>> groups = new LinkedHashMap<>();
+        for (int i = 0; i < entries.size(); i++) {
+            groups.computeIfAbsent(find(parents, i), _ -> new ArrayList<>()).add(entries.get(i));
+        }
+        return groups.values().stream()
+                     .filter(group -> group.size() > 1)
+                     .toList();
+    }
+
+    /**
+     * @return the pairs of indices of entries sharing a block, encoded by {@link #pair(int, int)}
+     */
+    private static Set<Long> getCandidatePairs(List<BibEntry> entries) {
+        Map<String, List<Integer>> blocks = new HashMap<>();
+        for (int i = 0; i < entries.size(); i++) {
+            for (String key : getBlockingKeys(entries.get(i))) {
+                blocks.computeIfAbsent(key, _ -> new ArrayList<>()).add(i);
+            }
+        }
+
+        Set<Long> candidatePairs = new HashSet<>();
+        for (Map.Entry<String, List<Integer>> block : blocks.entrySet()) {
+            List<Integer> members = block.getValue();
+            if (members.size() > MAX_BLOCK_SIZE && !block.getKey().startsWith("id:")) {
+                LOGGER.debug("Skipping block {} with {} entries", block.getKey(), members.size());
+                continue;
+            }
+            for (int i = 0; i < members.size(); i++) {
+                for (int j = i + 1; j < members.size(); j++) {
+                    candidatePairs.add(pair(members.get(i), members.get(j)));
+                }
+            }
+        }
+        return candidatePairs;
+    }
+
+    static Set<String> getBlockingKeys(BibEntry entry) {
+        Set<String> keys = new LinkedHashSet<>();
+
+        // DuplicateCheck#haveSameIdentifier requires equal content, thus these blocks do not miss any duplicate found by identifiers
+        for (Field field : entry.getFields()) {
+            if (field.getProperties().contains(FieldProperty.IDENTIFIER)) {
+                entry.getField(field).ifPresent(value -> keys.add("id:" + field.getName() + ":" + value.trim().toLowerCase(Locale.ROOT)));
+            }
+        }
+        entry.getField(StandardField.ISBN)
+             .map(ISBN::new)
+             .ifPresent(isbn -> keys.add("id:isbn:" + isbn.asString().toLowerCase(Locale.ROOT)));
+
+        entry.getFieldOrAliasLatexFree(StandardField.AUTHOR)
+             .map(AuthorList::parse)
+             .filter(authors -> !authors.isEmpty())
+             .flatMap(authors -> authors.getAuthor(0).getFamilyName())
+             .ifPresent(familyName -> entry.getFieldOrAlias(StandardField.YEAR).ifPresent(year ->
+                     keys.add("author-year:" + normalize(familyName) + ":" + year.trim())));
+
+        entry.getFieldLatexFree(StandardField.TITLE)
+             .map(DuplicateFinder::normalize)
+             .filter(title -> !title.isEmpty())
+             .ifPresent(title -> keys.addAll(getTitleKeys(title)));
+
+        return keys;
+    }
+
+    /**
+     * Computes the MinHash signature of the shingles of the title and returns one key for each band of the signature.
+     * Titles with a high Jaccard similarity of their shingles very likely share at least one key.
+     */
+    private static List<String> getTitleKeys(String title) {
+        Collection<String> shingles = new HashSet<>();
+        if (title.length() <= TITLE_SHINGLE_LENGTH) {
+            shingles.add(title);
+        } else {
+            for (int i = 0; i + TITLE_SHINGLE_LENGTH <= title.length(); i++) {
+                shingles.add(title.substring(i, i + TITLE_SHINGLE_LENGTH));
+            }
+        }
+
+        int[] signature = new int[MIN_HASH_SEEDS.length];
+        for (int i = 0; i < signature.length; i++) {
+            int minHash = Integer.MAX_VALUE;
+            for (String shingle : shingles) {
+                minHash = Math.min(minHash, mix(shingle.hashCode() ^ MIN_HASH_SEEDS[i]));
+            }
+            signature[i] = minHash;
+        }
+
+        List<String> keys = new ArrayList<>(MIN_HASH_BANDS);
+        for (int band = 0; band < MIN_HASH_BANDS; band++) {
+            StringBuilder key = new StringBuilder("title:").append(band);
+            for (int row = 0; row < MIN_HASH_ROWS; row++) {
+                key.append(':').append(signature[band * MIN_HASH_ROWS + row]);
+            }
+            keys.add(key.toString());
+        }
+        return keys;
+    }
+
+    /**
+     * Lower case letters and digits only, other characters (including white space) are dropped
+     */
+    private static String normalize(String value) {
+        StringBuilder normalized = new StringBuilder(value.length());
+        value.toLowerCase(Locale.ROOT).codePoints()
+             .filter(Character::isLetterOrDigit)
+             .forEach(normalized::appendCodePoint);
+        return normalized.toString();
+    }
+
+    /**
+     * Finalization step of MurmurHash3, so that the seeded hash codes behave like independent hash functions
+     */
+    private static int mix(int hash) {
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        hash *= 0xc2b2ae35;
+        hash ^= hash >>> 16;
+        return hash;
+    }
+
+    private static long pair(int first, int second) {
+        return ((long) first << 32) | second;
+    }
+
+    private static int first(long pair) {
+        return (int) (pair >>> 32);
+    }
+
+    private static int second(long pair) {
+        return (int) pair;
+    }
+
+    private static int find(int[] parents, int element) {
+        while (parents[element] != element) {
+            // Path halving
+            parents[element] = parents[parents[element]];
+            element = parents[element];
+        }
+        return element;
+    }
+
+    private static void union(int[] parents, int one, int two) {
+        int rootOne = find(parents, one);
+        int rootTwo = find(parents, two);
+        if (rootOne != rootTwo) {
+            parents[Math.max(rootOne, rootTwo)] = Math.min(rootOne, rootTwo);
+        }
+    }
+}
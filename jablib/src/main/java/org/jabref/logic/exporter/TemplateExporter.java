@@ -7,29 +7,36 @@ import java.io.InputStreamReader;
 import java.io.Reader;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.ArrayList;
+import java.nio.file.attribute.FileTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
 
 import org.jabref.logic.journals.JournalAbbreviationLoader;
 import org.jabref.logic.journals.JournalAbbreviationRepository;
 import org.jabref.logic.layout.Layout;
 import org.jabref.logic.layout.LayoutFormatterPreferences;
 import org.jabref.logic.layout.LayoutHelper;
+import org.jabref.logic.layout.format.NameFormatter;
 import org.jabref.logic.layout.format.Number;
 import org.jabref.logic.os.OS;
 import org.jabref.logic.util.FileType;
 import org.jabref.logic.util.StandardFileType;
+import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.types.EntryType;
 import org.jabref.model.metadata.SaveOrder;
 import org.jabref.model.metadata.SelfContainedSaveOrder;
 
+import com.google.common.collect.Lists;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -45,6 +52,10 @@ public class TemplateExporter extends Exporter {
     private static final String BEGIN_INFIX = ".begin";
     private static final String END_INFIX = ".end";
 
+    private static final int ENTRIES_PER_CHUNK = 250;
+    private static final int CHUNKS_PER_WINDOW = 2 * Runtime.getRuntime().availableProcessors();
+    private static final int MIN_ENTRIES_FOR_PARALLEL_RENDERING = 4 * ENTRIES_PER_CHUNK;
+
     private static final Logger LOGGER = LoggerFactory.getLogger(TemplateExporter.class);
 
     private final String lfFileName;
@@ -54,6 +65,47 @@ public class TemplateExporter extends Exporter {
     private boolean customExport;
     private BlankLineBehaviour blankLineBehaviour;
 
+    // Layouts of the last export, reused by the next export with the same settings
+    private volatile CompiledLayouts compiledLayouts;
+
+    /**
+     * Everything the compiled layouts depend on
+     *
+     * @param layoutFilesModified the modification time of each layout file of this export format found on disk
+     *                            (main, begin, end, and type-specific ones), keyed by file name. Adding or removing a
+     *                            layout file changes the key, too.
+     */
+    private record LayoutCacheKey(List<Path> fileDirForDatabase,
+                                  JournalAbbreviationRepository abbreviationRepository,
+                                  Map<String, String> nameFormatters,
+                                  Map<String, String> customNameFormatters,
+                                  String mainFileDirectory,
+                                  Map<String, FileTime> layoutFilesModified) {
+    }
+
+    /**
+     * The layouts of this export format. A compiled layout keeps its formatters and can render entries concurrently.
+     */
+    private final class CompiledLayouts {
+        private final LayoutCacheKey key;
+        private final Layout beginLayout;
+        private final Layout defaultLayout;
+        private final Layout endLayout;
+        // Type-specific layouts are read on first use, most export formats do not have one for most types
+        private final Map<EntryType, Optional<Layout>> entryLayouts = new ConcurrentHashMap<>();
+
+        private CompiledLayouts(LayoutCacheKey key) throws IOException {
+            this.key = key;
+            this.beginLayout = readOptionalLayout(lfFileName + BEGIN_INFIX + LAYOUT_EXTENSION, key).orElse(null);
+            this.defaultLayout = readLayout(lfFileName + LAYOUT_EXTENSION, key);
+            this.endLayout = readOptionalLayout(lfFileName + END_INFIX + LAYOUT_EXTENSION, key).orElse(null);
+        }
+
+        private Optional<Layout> getEntryLayout(EntryType type) {
+            return entryLayouts.computeIfAbsent(type, _ -> readOptionalLayout(lfFileName + '.' + type.getName() + LAYOUT_EXTENSION, key));
+        }
+    }
+
     /**
      * Initialize another export format based on templates stored in dir with layoutFile lfFilename.
      *
@@ -153,6 +205,14 @@ public class TemplateExporter extends Exporter {
         this.customExport = custom;
     }
 
+    private String getLayoutDirectory() {
+        // If this is a custom export, just use the given filename:
+        if (customExport) {
+            return "";
+        }
+        return LAYOUT_PREFIX + (directory == null ? "" : directory + '/');
+    }
+
     /**
      * This method should return a reader from which the given layout file can be read.
      * <p>
@@ -163,19 +223,11 @@ public class TemplateExporter extends Exporter {
      * @throws IOException if the reader could not be created (e.g., file is not found)
      */
     private Reader getReader(String filename) throws IOException {
-        // If this is a custom export, just use the given filename:
-        String dir;
-        if (customExport) {
-            dir = "";
-        } else {
-            dir = LAYOUT_PREFIX + (directory == null ? "" : directory + '/');
-        }
-
         // Attempt to get a Reader for the file path given, either by
         // loading it as a resource (from within JAR), or as a normal file. If
         // unsuccessful (e.g. file not found), an IOException is thrown.
 
-        String name = dir + filename;
+        String name = getLayoutDirectory() + filename;
 
         Path path = Path.of(name);
         if (Files.exists(path)) {
@@ -192,7 +244,9 @@ public class TemplateExporter extends Exporter {
 
     @Override
     public void export(BibDatabaseContext databaseContext, Path file, List<BibEntry> entries) throws IOException {
-        export(databaseContext, file, entries, List.of(), JournalAbbreviationLoader.loadBuiltInRepository());
+        try (JournalAbbreviationRepository abbreviationRepository = JournalAbbreviationLoader.loadBuiltInRepository()) {
+            export(databaseContext, file, entries, List.of(), abbreviationRepository);
+        }
     }
 
     @Override
@@ -211,26 +265,15 @@ public class TemplateExporter extends Exporter {
         }
 
         try (AtomicFileWriter ps = new AtomicFileWriter(file, encodingToUse)) {
-            Layout beginLayout = null;
-
             // Check if this export filter has bundled name formatters:
             // Add these to the preferences, so all layouts have access to the custom name formatters:
-            readFormatterFile();
+            Map<String, String> customNameFormatters = readFormatterFile();
 
-            List<String> missingFormatters = new ArrayList<>(1);
+            CompiledLayouts layouts = getCompiledLayouts(fileDirForDatabase, abbreviationRepository, customNameFormatters);
 
-            // Print header
-            try (Reader reader = getReader(lfFileName + BEGIN_INFIX + LAYOUT_EXTENSION)) {
-                LayoutHelper layoutHelper = new LayoutHelper(reader, fileDirForDatabase, layoutPreferences, abbreviationRepository);
-                beginLayout = layoutHelper.getLayoutFromText();
-            } catch (IOException ex) {
-                // If an exception was cast, export filter doesn't have a begin
-                // file.
-            }
             // Write the header
-            if (beginLayout != null) {
-                ps.write(beginLayout.doLayout(databaseContext, encodingToUse));
-                missingFormatters.addAll(beginLayout.getMissingFormatters());
+            if (layouts.beginLayout != null) {
+                ps.write(layouts.beginLayout.doLayout(databaseContext, encodingToUse));
             }
 
             /*
@@ -239,90 +282,149 @@ public class TemplateExporter extends Exporter {
              */
             List<BibEntry> sorted = BibDatabaseWriter.getSortedEntries(entries, saveOrder);
 
-            // Load default layout
-            Layout defLayout;
-            LayoutHelper layoutHelper;
-            try (Reader reader = getReader(lfFileName + LAYOUT_EXTENSION)) {
-                layoutHelper = new LayoutHelper(reader, fileDirForDatabase, layoutPreferences, abbreviationRepository);
-                defLayout = layoutHelper.getLayoutFromText();
-            }
-            if (defLayout != null) {
-                missingFormatters.addAll(defLayout.getMissingFormatters());
-                if (!missingFormatters.isEmpty()) {
-                    LOGGER.warn("Missing formatters found: {}", missingFormatters);
-                }
-            }
-            Map<EntryType, Layout> layouts = new HashMap<>();
-            Layout layout;
-
-            Number.serialExportNumber = 0;
+            // Type-specific layouts are loaded before rendering, thus all layouts are known and no file is read concurrently
+            Map<EntryType, Layout> entryLayouts = new HashMap<>();
             for (BibEntry entry : sorted) {
-                Number.serialExportNumber++; // Increment entry counter.
-                // Get the layout
-                EntryType type = entry.getType();
-                if (layouts.containsKey(type)) {
-                    layout = layouts.get(type);
-                } else {
-                    try (Reader reader = getReader(lfFileName + '.' + type.getName() + LAYOUT_EXTENSION)) {
-                        // We try to get a type-specific layout for this entry.
-                        layoutHelper = new LayoutHelper(reader, fileDirForDatabase, layoutPreferences, abbreviationRepository);
-                        layout = layoutHelper.getLayoutFromText();
-                        layouts.put(type, layout);
-                        if (layout != null) {
-                            missingFormatters.addAll(layout.getMissingFormatters());
-                        }
-                    } catch (IOException ex) {
-                        // The exception indicates that no type-specific layout
-                        // exists, so we
-                        // go with the default one.
-                        layout = defLayout;
+                entryLayouts.computeIfAbsent(entry.getType(), type -> layouts.getEntryLayout(type).orElse(layouts.defaultLayout));
+            }
+            List<Layout> usedLayouts = entryLayouts.values().stream().filter(Objects::nonNull).distinct().toList();
+
+            BibDatabase database = databaseContext.getDatabase();
+            boolean renderInParallel = (sorted.size() >= MIN_ENTRIES_FOR_PARALLEL_RENDERING)
+                    && usedLayouts.stream().noneMatch(Layout::dependsOnEntryOrder);
+            if (renderInParallel) {
+                // Each window of chunks is rendered in parallel, then the chunks are written in export order
+                for (List<List<BibEntry>> window : Lists.partition(Lists.partition(sorted, ENTRIES_PER_CHUNK), CHUNKS_PER_WINDOW)) {
+                    List<String> renderedChunks = window.parallelStream()
+                                                        .map(chunk -> renderEntries(chunk, entryLayouts, database))
+                                                        .toList();
+                    for (String renderedChunk : renderedChunks) {
+                        ps.write(renderedChunk);
                     }
                 }
-
-                // Write the entry
-                if (layout != null) {
-                    if (blankLineBehaviour == BlankLineBehaviour.DELETE_BLANKS) {
-                        String[] lines = layout.doLayout(entry, databaseContext.getDatabase()).split(BLANK_LINE_PATTERN);
-                        for (String line : lines) {
-                            if (!line.isBlank() && !line.isEmpty()) {
-                                ps.write(line + OS.NEWLINE);
-                            }
-                        }
-                    } else {
-                        ps.write(layout.doLayout(entry, databaseContext.getDatabase()));
+            } else {
+                Number.serialExportNumber = 0;
+                for (BibEntry entry : sorted) {
+                    Number.serialExportNumber++; // Increment entry counter.
+                    Layout layout = entryLayouts.get(entry.getType());
+                    if (layout != null) {
+                        ps.write(renderEntry(entry, layout, database));
                     }
                 }
             }
 
-            // Print footer
-            Layout endLayout = null;
-            try (Reader reader = getReader(lfFileName + END_INFIX + LAYOUT_EXTENSION)) {
-                layoutHelper = new LayoutHelper(reader, fileDirForDatabase, layoutPreferences, abbreviationRepository);
-                endLayout = layoutHelper.getLayoutFromText();
-            } catch (IOException ex) {
-                // If an exception was thrown, export filter doesn't have an end
-                // file.
-            }
-
             // Write footer
-            if (endLayout != null) {
-                ps.write(endLayout.doLayout(databaseContext, encodingToUse));
-                missingFormatters.addAll(endLayout.getMissingFormatters());
+            if (layouts.endLayout != null) {
+                ps.write(layouts.endLayout.doLayout(databaseContext, encodingToUse));
             }
 
             layoutPreferences.clearCustomExportNameFormatters();
 
+            List<String> missingFormatters = Stream.concat(Stream.of(layouts.beginLayout, layouts.endLayout), usedLayouts.stream())
+                                                   .filter(Objects::nonNull)
+                                                   .flatMap(layout -> layout.getMissingFormatters().stream())
+                                                   .toList();
             if (!missingFormatters.isEmpty() && LOGGER.isWarnEnabled()) {
                 LOGGER.warn("Formatters {} not found", String.join(", ", missingFormatters));
             }
         }
     }
 
+    private String renderEntries(List<BibEntry> entries, Map<EntryType, Layout> entryLayouts, BibDatabase database) {
+        StringBuilder builder = new StringBuilder();
+        for (BibEntry entry : entries) {
+            Layout layout = entryLayouts.get(entry.getType());
+            if (layout != null) {
+                builder.append(renderEntry(entry, layout, database));
+            }
+        }
+        return builder.toString();
+    }
+
+    private String renderEntry(BibEntry entry, Layout layout, BibDatabase database) {
+        String rendered = layout.doLayout(entry, database);
+        if (blankLineBehaviour != BlankLineBehaviour.DELETE_BLANKS) {
+            return rendered;
+        }
+        StringBuilder builder = new StringBuilder(rendered.length());
+        for (String line : rendered.split(BLANK_LINE_PATTERN)) {
+            if (!line.isBlank()) {
+                builder.append(line).append(OS.NEWLINE);
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Returns the layouts compiled by a previous export if they were compiled for the same settings and no layout file
+     * was modified, added or removed since. Otherwise, the layouts are compiled again.
+     */
+    private CompiledLayouts getCompiledLayouts(List<Path> fileDirForDatabase,
+                                               JournalAbbreviationRepository abbreviationRepository,
+                                               Map<String, String> customNameFormatters) throws IOException {
+        LayoutCacheKey key = new LayoutCacheKey(
+                List.copyOf(Objects.requireNonNullElse(fileDirForDatabase, List.of())),
+                abbreviationRepository,
+                NameFormatter.getNameFormatters(layoutPreferences.getNameFormatterPreferences()),
+                customNameFormatters,
+                layoutPreferences.getMainFileDirectory(),
+                getLayoutFilesModified());
+
+        CompiledLayouts layouts = compiledLayouts;
+        if ((layouts == null) || !layouts.key.equals(key)) {
+            layouts = new CompiledLayouts(key);
+            compiledLayouts = layouts;
+        }
+        return layouts;
+    }
+
+    /**
+     * Returns the modification times of the layout files of this export format. Layouts read from the classpath cannot
+     * change, thus only the files next to a main layout file on disk are considered.
+     */
+    private Map<String, FileTime> getLayoutFilesModified() throws IOException {
+        Path mainLayoutFile = Path.of(getLayoutDirectory() + lfFileName + LAYOUT_EXTENSION).toAbsolutePath();
+        if (!Files.exists(mainLayoutFile)) {
+            return Map.of();
+        }
+
+        String mainLayoutFileName = mainLayoutFile.getFileName().toString();
+        String layoutFilePrefix = mainLayoutFileName.substring(0, mainLayoutFileName.length() - LAYOUT_EXTENSION.length()) + '.';
+        Map<String, FileTime> layoutFilesModified = new HashMap<>();
+        try (DirectoryStream<Path> layoutFiles = Files.newDirectoryStream(mainLayoutFile.getParent(), path -> {
+            String fileName = path.getFileName().toString();
+            return fileName.startsWith(layoutFilePrefix) && fileName.endsWith(LAYOUT_EXTENSION);
+        })) {
+            for (Path layoutFile : layoutFiles) {
+                layoutFilesModified.put(layoutFile.getFileName().toString(), Files.getLastModifiedTime(layoutFile));
+            }
+        }
+        return layoutFilesModified;
+    }
+
+    private Layout readLayout(String filename, LayoutCacheKey key) throws IOException {
+        try (Reader reader = getReader(filename)) {
+            return new LayoutHelper(reader, key.fileDirForDatabase(), layoutPreferences, key.abbreviationRepository()).getLayoutFromText();
+        }
+    }
+
+    private Optional<Layout> readOptionalLayout(String filename, LayoutCacheKey key) {
+        try {
+            return Optional.ofNullable(readLayout(filename, key));
+        } catch (IOException ex) {
+            // The exception indicates that the export filter does not have this layout file
+            return Optional.empty();
+        }
+    }
+
     /**
      * See if there is a name formatter file bundled with this export format.
      * If so, read all the name formatters so they can be used by the filter layouts.
+     *
+     * @return the name formatters read
      */
-    private void readFormatterFile() {
+    private Map<String, String> readFormatterFile() {
+        Map<String, String> nameFormatters = new HashMap<>();
         Path formatterFile = Path.of(lfFileName + FORMATTERS_EXTENSION);
         if (Files.exists(formatterFile)) {
             try (Reader in = Files.newBufferedReader(formatterFile, StandardCharsets.UTF_8)) {
@@ -345,6 +447,7 @@ public class TemplateExporter extends Exporter {
                         String formatterName = line.substring(0, index);
                         String contents = line.substring(index + 1);
                         layoutPreferences.putCustomExportNameFormatter(formatterName, contents);
+                        nameFormatters.put(formatterName, contents);
                     }
                 }
             } catch (IOException ex) {
@@ -352,6 +455,7 @@ public class TemplateExporter extends Exporter {
                 LOGGER.warn("Problem opening formatter file.", ex);
             }
         }
+        return nameFormatters;
     }
 
     public String getLayoutFileName() {
@@ -13,6 +13,7 @@ import org.eclipse.jgit.api.Status;
 import org.eclipse.jgit.api.errors.GitAPIException;
 import org.eclipse.jgit.lib.Ref;
 import org.eclipse.jgit.merge.MergeStrategy;
+import org.eclipse.jgit.storage.file.FileRepositoryBuilder;
 import org.eclipse.jgit.transport.CredentialsProvider;
 import org.eclipse.jgit.transport.UsernamePasswordCredentialsProvider;
 import org.slf4j.Logger;
@@ -202,4 +203,17 @@ public class GitHandler {
             return git.getRepository().getBranch();
         }
     }
+
+    /**
+     * Returns the directory git stores the repository data in. In a worktree, this is not the .git folder of the
+     * repository path, as the .git file there points to the actual git directory.
+     */
+    public Optional<Path> getGitDirectory() {
+        try {
+            return Optional.of(new FileRepositoryBuilder().setWorkTree(repositoryPathAsFile).setup().getGitDir().toPath());
+        } catch (IOException | IllegalArgumentException e) {
+            LOGGER.warn("Could not determine the git directory of {}", repositoryPath, e);
+            return Optional.empty();
+        }
+    }
 }
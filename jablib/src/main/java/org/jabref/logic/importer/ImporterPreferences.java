@@ -29,6 +29,7 @@ public class ImporterPreferences {
     private final BooleanProperty persistCustomKeys;
     private final ObservableList<String> catalogs;
     private final ObjectProperty<PlainCitationParserChoice> defaultPlainCitationParser;
+    private final BooleanProperty cacheWebResponses;
 
     public ImporterPreferences(boolean importerEnabled,
                                boolean generateNewKeyOnImport,
@@ -39,7 +40,8 @@ public class ImporterPreferences {
                                Map<String, String> defaultApiKeys,
                                boolean persistCustomKeys,
                                List<String> catalogs,
-                               PlainCitationParserChoice defaultPlainCitationParser
+                               PlainCitationParserChoice defaultPlainCitationParser,
+                               boolean cacheWebResponses
     ) {
         this.importerEnabled = new SimpleBooleanProperty(importerEnabled);
         this.generateNewKeyOnImport = new SimpleBooleanProperty(generateNewKeyOnImport);
@@ -51,6 +53,7 @@ public class ImporterPreferences {
         this.persistCustomKeys = new SimpleBooleanProperty(persistCustomKeys);
         this.catalogs = FXCollections.observableArrayList(catalogs);
         this.defaultPlainCitationParser = new SimpleObjectProperty<>(defaultPlainCitationParser);
+        this.cacheWebResponses = new SimpleBooleanProperty(cacheWebResponses);
     }
 
     public boolean areImporterEnabled() {
@@ -159,4 +162,19 @@ public class ImporterPreferences {
     public void setDefaultPlainCitationParser(PlainCitationParserChoice defaultPlainCitationParser) {
         this.defaultPlainCitationParser.set(defaultPlainCitationParser);
     }
+
+    /**
+     * @return whether responses of web requests are stored in the user cache directory and reused (see {@link org.jabref.logic.net.HttpResponseCache})
+     */
+    public boolean shouldCacheWebResponses() {
+        return cacheWebResponses.get();
+    }
+
+    public BooleanProperty cacheWebResponsesProperty() {
+        return cacheWebResponses;
+    }
+
+    public void setCacheWebResponses(boolean cacheWebResponses) {
+        this.cacheWebResponses.set(cacheWebResponses);
+    }
 }
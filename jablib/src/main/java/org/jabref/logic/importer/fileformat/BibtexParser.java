@@ -3,16 +3,14 @@ package org.jabref.logic.importer.fileformat;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.PushbackReader;
 import java.io.Reader;
 import java.io.StringWriter;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Base64;
 import java.util.Collection;
-import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -94,10 +92,13 @@ public class BibtexParser implements Parser {
     private static final String BIB_DESK_ROOT_GROUP_NAME = "BibDeskGroups";
     private static final DocumentBuilderFactory DOCUMENT_BUILDER_FACTORY = DocumentBuilderFactory.newInstance();
     private static final int INDEX_RELATIVE_PATH_IN_PLIST = 4;
-    private final Deque<Character> pureTextFromFile = new LinkedList<>();
+    private static final int BUFFER_SIZE = 64 * 1024;
+    // The text read since the text was dumped the last time
+    private final StringBuilder pureTextFromFile = new StringBuilder();
     private final ImportFormatPreferences importFormatPreferences;
-    private PushbackReader pushbackReader;
+    private PushbackInput pushbackInput;
     private BibDatabase database;
+    private final List<BibEntry> parsedEntries = new ArrayList<>();
     private Set<BibEntryType> entryTypes;
     private boolean eof;
     private int line = 1;
@@ -107,6 +108,58 @@ public class BibtexParser implements Parser {
 
     private GroupTreeNode bibDeskGroupTreeNode;
 
+    /**
+     * Buffered input allowing to push back characters, like {@link java.io.PushbackReader}. The parser reads the input
+     * character by character, thus, unlike {@link java.io.PushbackReader}, reading is not synchronized and a large buffer
+     * is filled at once.
+     */
+    private static final class PushbackInput {
+        private final Reader reader;
+        private final char[] buffer = new char[BUFFER_SIZE];
+        private int position;
+        private int length;
+        // Characters pushed back, the last one is read next
+        private final char[] pushedBack = new char[LOOKAHEAD];
+        private int numberOfPushedBack;
+
+        private PushbackInput(Reader reader) {
+            this.reader = reader;
+        }
+
+        private int read() throws IOException {
+            if (numberOfPushedBack > 0) {
+                return pushedBack[--numberOfPushedBack];
+            }
+            if (position == length) {
+                length = Math.max(reader.read(buffer, 0, buffer.length), 0);
+                position = 0;
+                if (length == 0) {
+                    return -1;
+                }
+            }
+            return buffer[position++];
+        }
+
+        private void unread(int character) throws IOException {
+            if (numberOfPushedBack == pushedBack.length) {
+                throw new IOException("Pushback buffer overflow");
+            }
+            pushedBack[numberOfPushedBack++] = (char) character;
+        }
+
+        /**
+         * Pushes back the characters, thus the first one is read next
+         */
+        private void unread(char[] characters) throws IOException {
+            if (characters.length > (pushedBack.length - numberOfPushedBack)) {
+                throw new IOException("Pushback buffer overflow");
+            }
+            for (int i = characters.length - 1; i >= 0; i--) {
+                pushedBack[numberOfPushedBack++] = characters[i];
+            }
+        }
+    }
+
     public BibtexParser(ImportFormatPreferences importFormatPreferences, FileUpdateMonitor fileMonitor) {
         this.importFormatPreferences = Objects.requireNonNull(importFormatPreferences);
         this.metaDataParser = new MetaDataParser(fileMonitor);
@@ -162,7 +215,7 @@ public class BibtexParser implements Parser {
      */
     public ParserResult parse(Reader in) throws IOException {
         Objects.requireNonNull(in);
-        pushbackReader = new PushbackReader(in, BibtexParser.LOOKAHEAD);
+        pushbackInput = new PushbackInput(in);
 
         String newLineSeparator = determineNewLineSeparator();
 
@@ -182,7 +235,7 @@ public class BibtexParser implements Parser {
         int i = 0;
         int currentChar;
         do {
-            currentChar = pushbackReader.read();
+            currentChar = pushbackInput.read();
             stringWriter.append((char) currentChar);
             i++;
         } while ((i < BibtexParser.LOOKAHEAD) && (currentChar != '\r') && (currentChar != '\n'));
@@ -193,7 +246,7 @@ public class BibtexParser implements Parser {
         }
 
         // unread all sneaked characters
-        pushbackReader.unread(stringWriter.toString().toCharArray());
+        pushbackInput.unread(stringWriter.toString().toCharArray());
 
         return newLineSeparator;
     }
@@ -202,6 +255,7 @@ public class BibtexParser implements Parser {
         database = new BibDatabase();
         database.setNewLineSeparator(newLineSeparator);
         entryTypes = new HashSet<>(); // To store custom entry types parsed.
+        parsedEntries.clear();
         parserResult = new ParserResult(database, new MetaData(), entryTypes);
     }
 
@@ -259,6 +313,10 @@ public class BibtexParser implements Parser {
             skipWhitespace();
         }
 
+        // All entries are added at once, which is faster than adding them one by one
+        database.insertEntries(parsedEntries);
+        parsedEntries.clear();
+
         addBibDeskGroupEntriesToJabRefGroups();
 
         try {
@@ -331,7 +389,7 @@ public class BibtexParser implements Parser {
             String parsedSerialization = commentsAndEntryTypeDefinition + dumpTextReadSoFarToString();
             entry.setParsedSerialization(parsedSerialization);
 
-            database.insertEntry(entry);
+            parsedEntries.add(entry);
         } catch (IOException ex) {
             // This makes the parser more robust:
             // If an exception is thrown when parsing an entry, drop the entry and try to resume parsing.
@@ -509,12 +567,9 @@ public class BibtexParser implements Parser {
     }
 
     private String getPureTextFromFile() {
-        StringBuilder entry = new StringBuilder();
-        while (!pureTextFromFile.isEmpty()) {
-            entry.append(pureTextFromFile.pollFirst());
-        }
-
-        return entry.toString();
+        String text = pureTextFromFile.toString();
+        pureTextFromFile.setLength(0);
+        return text;
     }
 
     /**
@@ -523,8 +578,11 @@ public class BibtexParser implements Parser {
      * @return a String without eof characters
      */
     private String purgeEOFCharacters(String input) {
+        if (input.indexOf(65535) == -1) {
+            return input;
+        }
         StringBuilder remainingText = new StringBuilder();
-        for (Character character : input.toCharArray()) {
+        for (char character : input.toCharArray()) {
             if (!isEOFCharacter(character)) {
                 remainingText.append(character);
             }
@@ -626,10 +684,10 @@ public class BibtexParser implements Parser {
     }
 
     private int read() throws IOException {
-        int character = pushbackReader.read();
+        int character = pushbackInput.read();
 
         if (!isEOFCharacter(character)) {
-            pureTextFromFile.offerLast((char) character);
+            pureTextFromFile.append((char) character);
         }
         if (character == '\n') {
             line++;
@@ -641,9 +699,10 @@ public class BibtexParser implements Parser {
         if (character == '\n') {
             line--;
         }
-        pushbackReader.unread(character);
-        if (pureTextFromFile.getLast() == character) {
-            pureTextFromFile.pollLast();
+        pushbackInput.unread(character);
+        int lastIndex = pureTextFromFile.length() - 1;
+        if ((lastIndex >= 0) && (pureTextFromFile.charAt(lastIndex) == character)) {
+            pureTextFromFile.setLength(lastIndex);
         }
     }
 
@@ -2,8 +2,9 @@ package org.jabref.logic.integrity;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 import javafx.collections.ObservableList;
 
@@ -13,24 +14,28 @@ import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.entry.identifier.DOI;
 
-import com.google.common.collect.BiMap;
-import com.google.common.collect.HashBiMap;
-
 public class DoiDuplicationChecker implements DatabaseChecker {
 
     @Override
     public List<IntegrityMessage> check(BibDatabase database) {
         ObservableList<BibEntry> bibEntries = database.getEntries();
-        BiMap<DOI, List<BibEntry>> duplicateMap = HashBiMap.create(bibEntries.size());
+        Map<DOI, List<BibEntry>> duplicateMap = LinkedHashMap.newLinkedHashMap(bibEntries.size());
         for (BibEntry bibEntry : bibEntries) {
             bibEntry.getDOI().ifPresent(doi ->
                     duplicateMap.computeIfAbsent(doi, absentDoi -> new ArrayList<>()).add(bibEntry));
         }
 
-        return duplicateMap.inverse().keySet().stream()
-                           .filter(list -> list.size() > 1)
+        return createMessages(duplicateMap.values());
+    }
+
+    /**
+     * @param entriesByDoi the entries grouped by their DOI
+     */
+    static List<IntegrityMessage> createMessages(Collection<? extends Collection<BibEntry>> entriesByDoi) {
+        return entriesByDoi.stream()
+                           .filter(entries -> entries.size() > 1)
                            .flatMap(Collection::stream)
                            .map(item -> new IntegrityMessage(Localization.lang("Same DOI used in multiple entries"), item, StandardField.DOI))
-                           .collect(Collectors.toList());
+                           .toList();
     }
 }
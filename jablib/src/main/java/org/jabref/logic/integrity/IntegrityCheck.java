@@ -3,20 +3,55 @@ package org.jabref.logic.integrity;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.jabref.logic.FilePreferences;
 import org.jabref.logic.citationkeypattern.CitationKeyPatternPreferences;
 import org.jabref.logic.journals.JournalAbbreviationRepository;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.database.event.EntriesAddedEvent;
+import org.jabref.model.database.event.EntriesRemovedEvent;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.event.FieldsChangedEvent;
+import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.StandardField;
-
-public class IntegrityCheck {
+import org.jabref.model.entry.identifier.DOI;
+
+import com.google.common.eventbus.Subscribe;
+
+/**
+ * Runs all checkers on the entries of a library.
+ * <p>
+ * Entries are checked in parallel. The messages of checkers which only depend on the entry itself are cached, keyed by the
+ * content of the entry. Thus, checking the library again only checks the entries which changed in the meantime.
+ * <p>
+ * A check which is kept for checking the same library again should call {@link #listenForChanges()}: Then, the duplicate DOI
+ * check is based on an index from DOI to entries, which is kept up to date by listening to changes of the library.
+ * Call {@link #close()} to stop listening.
+ */
+public class IntegrityCheck implements AutoCloseable {
+
+    private record CachedMessages(int contentHash, List<IntegrityMessage> messages) {
+    }
 
     private final BibDatabaseContext bibDatabaseContext;
-    private final FieldCheckers fieldCheckers;
-    private final List<EntryChecker> entryCheckers;
+
+    // The results of these checkers depend on the entry only
+    private final List<EntryChecker> entryCheckers = new ArrayList<>();
+
+    // The results of these checkers depend on other entries or on the file system, thus they are not cached
+    private final List<EntryChecker> contextDependentEntryCheckers = new ArrayList<>();
+
+    // Keyed by the id of the entry
+    private final Map<String, CachedMessages> cachedMessages = new ConcurrentHashMap<>();
+
+    private final Map<DOI, Set<BibEntry>> entriesByDoi = new ConcurrentHashMap<>();
+    private volatile boolean doiIndexBuilt;
+    private volatile boolean listening;
 
     public IntegrityCheck(BibDatabaseContext bibDatabaseContext,
                           FilePreferences filePreferences,
@@ -25,23 +60,32 @@ public class IntegrityCheck {
                           boolean allowIntegerEdition) {
         this.bibDatabaseContext = bibDatabaseContext;
 
-        fieldCheckers = new FieldCheckers(bibDatabaseContext,
+        FieldCheckers fieldCheckers = new FieldCheckers(bibDatabaseContext,
                 filePreferences,
                 journalAbbreviationRepository,
                 allowIntegerEdition);
+        for (FieldChecker fieldChecker : fieldCheckers.getAll()) {
+            if (fieldChecker.field == StandardField.FILE) {
+                contextDependentEntryCheckers.add(fieldChecker);
+            } else {
+                entryCheckers.add(fieldChecker);
+            }
+        }
 
-        entryCheckers = new ArrayList<>(List.of(
+        entryCheckers.addAll(List.of(
                 new CitationKeyChecker(),
                 new TypeChecker(),
                 new BibStringChecker(),
                 new HTMLCharacterChecker(),
-                new EntryLinkChecker(bibDatabaseContext.getDatabase()),
-                new CitationKeyDeviationChecker(bibDatabaseContext, citationKeyPatternPreferences),
-                new CitationKeyDuplicationChecker(bibDatabaseContext.getDatabase()),
                 new AmpersandChecker(),
                 new LatexIntegrityChecker(),
                 new JournalInAbbreviationListChecker(StandardField.JOURNAL, journalAbbreviationRepository)));
 
+        contextDependentEntryCheckers.addAll(List.of(
+                new EntryLinkChecker(bibDatabaseContext.getDatabase()),
+                new CitationKeyDeviationChecker(bibDatabaseContext, citationKeyPatternPreferences),
+                new CitationKeyDuplicationChecker(bibDatabaseContext.getDatabase())));
+
         if (bibDatabaseContext.isBiblatexMode()) {
             entryCheckers.add(new UTF8Checker(bibDatabaseContext.getMetaData().getEncoding().orElse(StandardCharsets.UTF_8)));
         } else {
@@ -54,37 +98,145 @@ public class IntegrityCheck {
         }
     }
 
+    /**
+     * Listens to changes of the library, so that the duplicate DOI check does not need to look at all entries again.
+     * Call {@link #close()} to stop listening.
+     *
+     * @return this check
+     */
+    public IntegrityCheck listenForChanges() {
+        if (!listening) {
+            bibDatabaseContext.getDatabase().registerListener(this);
+            listening = true;
+        }
+        return this;
+    }
+
     List<IntegrityMessage> check() {
         List<IntegrityMessage> result = new ArrayList<>();
 
         BibDatabase database = bibDatabaseContext.getDatabase();
 
-        for (BibEntry entry : database.getEntries()) {
-            result.addAll(checkEntry(entry));
-        }
+        result.addAll(checkEntries(database.getEntries()));
         result.addAll(checkDatabase(database));
 
         return result;
     }
 
+    /**
+     * Checks the given entries in parallel using the common fork/join pool.
+     *
+     * @return the messages of all entries, in the order of the entries
+     */
+    public List<IntegrityMessage> checkEntries(List<BibEntry> entries) {
+        return new ArrayList<>(entries).parallelStream()
+                                       .map(this::checkEntry)
+                                       .flatMap(List::stream)
+                                       .toList();
+    }
+
     public List<IntegrityMessage> checkEntry(BibEntry entry) {
         List<IntegrityMessage> result = new ArrayList<>();
         if (entry == null) {
             return result;
         }
 
-        for (FieldChecker fieldChecker : fieldCheckers.getAll()) {
-            result.addAll(fieldChecker.check(entry));
-        }
+        result.addAll(getCachedMessages(entry));
 
-        for (EntryChecker entryChecker : entryCheckers) {
+        for (EntryChecker entryChecker : contextDependentEntryCheckers) {
             result.addAll(entryChecker.check(entry));
         }
 
         return result;
     }
 
+    private List<IntegrityMessage> getCachedMessages(BibEntry entry) {
+        int contentHash = entry.hashCode();
+        CachedMessages cached = cachedMessages.get(entry.getId());
+        if (cached != null && cached.contentHash() == contentHash) {
+            return cached.messages();
+        }
+
+        List<IntegrityMessage> messages = new ArrayList<>();
+        for (EntryChecker entryChecker : entryCheckers) {
+            messages.addAll(entryChecker.check(entry));
+        }
+        cachedMessages.put(entry.getId(), new CachedMessages(contentHash, List.copyOf(messages)));
+        return messages;
+    }
+
     public List<IntegrityMessage> checkDatabase(BibDatabase database) {
-        return new DoiDuplicationChecker().check(database);
+        if (!listening || (database != bibDatabaseContext.getDatabase())) {
+            return new DoiDuplicationChecker().check(database);
+        }
+        if (!doiIndexBuilt) {
+            synchronized (entriesByDoi) {
+                if (!doiIndexBuilt) {
+                    database.getEntries().forEach(this::addToDoiIndex);
+                    doiIndexBuilt = true;
+                }
+            }
+        }
+        return DoiDuplicationChecker.createMessages(entriesByDoi.values());
+    }
+
+    private void addToDoiIndex(BibEntry entry) {
+        entry.getDOI().ifPresent(doi -> entriesByDoi.computeIfAbsent(doi, _ -> ConcurrentHashMap.newKeySet()).add(entry));
+    }
+
+    private void removeFromDoiIndex(BibEntry entry, DOI doi) {
+        entriesByDoi.computeIfPresent(doi, (_, entries) -> {
+            entries.remove(entry);
+            return entries.isEmpty() ? null : entries;
+        });
+    }
+
+    @Subscribe
+    public void listen(FieldChangedEvent event) {
+        entryChanged(event.getBibEntry(), event.getField(), event.getOldValue());
+    }
+
+    @Subscribe
+    public void listen(FieldsChangedEvent event) {
+        cachedMessages.remove(event.getBibEntry().getId());
+        event.getChange(StandardField.DOI).ifPresent(change -> entryChanged(event.getBibEntry(), StandardField.DOI, change.getOldValue()));
+    }
+
+    private void entryChanged(BibEntry entry, Field field, String oldValue) {
+        cachedMessages.remove(entry.getId());
+        if (doiIndexBuilt && (field == StandardField.DOI)) {
+            if (oldValue != null) {
+                DOI.parse(oldValue).ifPresent(doi -> removeFromDoiIndex(entry, doi));
+            }
+            addToDoiIndex(entry);
+        }
+    }
+
+    @Subscribe
+    public void listen(EntriesAddedEvent event) {
+        if (doiIndexBuilt) {
+            event.getBibEntries().forEach(this::addToDoiIndex);
+        }
+    }
+
+    @Subscribe
+    public void listen(EntriesRemovedEvent event) {
+        for (BibEntry entry : event.getBibEntries()) {
+            cachedMessages.remove(entry.getId());
+            if (doiIndexBuilt) {
+                entry.getDOI().ifPresent(doi -> removeFromDoiIndex(entry, doi));
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        if (listening) {
+            bibDatabaseContext.getDatabase().unregisterListener(this);
+            listening = false;
+            // Without listening, the index would become outdated
+            doiIndexBuilt = false;
+            entriesByDoi.clear();
+        }
     }
 }
@@ -8,9 +8,12 @@ import java.nio.file.Path;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.jabref.logic.journals.ltwa.LtwaRepository;
 
+import org.apache.commons.io.FileUtils;
+import org.h2.mvstore.MVStore;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -27,6 +30,12 @@ public class JournalAbbreviationLoader {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(JournalAbbreviationLoader.class);
 
+    // The copy of the built-in journal list is shared by all loaded repositories. A replaced repository might still be
+    // referenced, thus the copy is closed and deleted only when the last repository using it is closed.
+    private static MVStore builtInJournalList;
+    private static Path builtInJournalListDirectory;
+    private static int builtInJournalListUsers;
+
     public static Collection<Abbreviation> readAbbreviationsFromCsvFile(Path file) throws IOException {
         LOGGER.debug("Reading journal list from file {}", file);
         AbbreviationParser parser = new AbbreviationParser();
@@ -34,21 +43,26 @@ public class JournalAbbreviationLoader {
         return parser.getAbbreviations();
     }
 
+    /**
+     * Loads the built-in journal list and the external lists of the preferences. The returned repository has to be
+     * closed when it is no longer used, e.g., when it is replaced.
+     */
     public static JournalAbbreviationRepository loadRepository(JournalAbbreviationPreferences journalAbbreviationPreferences) {
         JournalAbbreviationRepository repository;
 
         // Initialize with built-in list
-        try (InputStream resourceAsStream = JournalAbbreviationRepository.class.getResourceAsStream("/journals/journal-list.mv")) {
-            if (resourceAsStream == null) {
+        try {
+            Optional<MVStore> journalList = acquireBuiltInJournalList();
+            if (journalList.isEmpty()) {
                 LOGGER.warn("There is no journal-list.mv. We use a default journal list");
                 repository = new JournalAbbreviationRepository();
             } else {
-                Path tempDir = Files.createTempDirectory("jabref-journal");
-                Path tempJournalList = tempDir.resolve("journal-list.mv");
-                Files.copy(resourceAsStream, tempJournalList);
-                repository = new JournalAbbreviationRepository(tempJournalList, loadLtwaRepository());
-                tempDir.toFile().deleteOnExit();
-                tempJournalList.toFile().deleteOnExit();
+                try {
+                    repository = new JournalAbbreviationRepository(journalList.get(), JournalAbbreviationLoader::releaseBuiltInJournalList, loadLtwaRepository());
+                } catch (IOException | RuntimeException e) {
+                    releaseBuiltInJournalList(journalList.get());
+                    throw e;
+                }
             }
         } catch (IOException e) {
             LOGGER.error("Error while loading journal abbreviation repository", e);
@@ -73,6 +87,45 @@ public class JournalAbbreviationLoader {
         return repository;
     }
 
+    /**
+     * Opens the copy of the built-in journal list, copying it first if no repository uses it
+     *
+     * @return the opened journal list or nothing if there is no built-in journal list
+     */
+    private static synchronized Optional<MVStore> acquireBuiltInJournalList() throws IOException {
+        if (builtInJournalList == null) {
+            try (InputStream resourceAsStream = JournalAbbreviationRepository.class.getResourceAsStream("/journals/journal-list.mv")) {
+                if (resourceAsStream == null) {
+                    return Optional.empty();
+                }
+                Path tempDir = Files.createTempDirectory("jabref-journal");
+                Path tempJournalList = tempDir.resolve("journal-list.mv");
+                // In case the JVM exits without closing the repositories
+                tempDir.toFile().deleteOnExit();
+                tempJournalList.toFile().deleteOnExit();
+                Files.copy(resourceAsStream, tempJournalList);
+                builtInJournalList = new MVStore.Builder().readOnly().fileName(tempJournalList.toString()).open();
+                builtInJournalListDirectory = tempDir;
+            }
+        }
+        builtInJournalListUsers++;
+        return Optional.of(builtInJournalList);
+    }
+
+    private static synchronized void releaseBuiltInJournalList(MVStore journalList) {
+        if ((journalList != builtInJournalList) || (--builtInJournalListUsers > 0)) {
+            return;
+        }
+        builtInJournalList.close();
+        builtInJournalList = null;
+        try {
+            FileUtils.deleteDirectory(builtInJournalListDirectory.toFile());
+        } catch (IOException e) {
+            LOGGER.warn("Could not delete the copy of the journal list in {}", builtInJournalListDirectory, e);
+        }
+        builtInJournalListDirectory = null;
+    }
+
     private static LtwaRepository loadLtwaRepository() throws IOException {
         try (InputStream resourceAsStream = JournalAbbreviationRepository.class.getResourceAsStream("/journals/ltwa-list.mv")) {
             if (resourceAsStream == null) {
@@ -80,12 +133,14 @@ public class JournalAbbreviationLoader {
                 throw new IOException("LTWA repository not found");
             } else {
                 Path tempDir = Files.createTempDirectory("jabref-ltwa");
-                Path tempLtwaList = tempDir.resolve("ltwa-list.mv");
-                Files.copy(resourceAsStream, tempLtwaList);
-                LtwaRepository ltwaRepository = new LtwaRepository(tempLtwaList);
-                tempDir.toFile().deleteOnExit();
-                tempLtwaList.toFile().deleteOnExit();
-                return ltwaRepository;
+                try {
+                    Path tempLtwaList = tempDir.resolve("ltwa-list.mv");
+                    Files.copy(resourceAsStream, tempLtwaList);
+                    // The LTWA list is read completely, thus the copy is not needed afterwards
+                    return new LtwaRepository(tempLtwaList);
+                } finally {
+                    FileUtils.deleteDirectory(tempDir.toFile());
+                }
             }
         }
     }
@@ -1,61 +1,103 @@
 package org.jabref.logic.journals;
 
 import java.nio.file.Path;
+import java.util.AbstractCollection;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import org.jabref.logic.journals.ltwa.LtwaRepository;
+import org.jabref.logic.util.strings.FuzzyStringIndex;
 import org.jabref.logic.util.strings.StringSimilarity;
 
-import org.h2.mvstore.MVMap;
+import com.google.common.base.Suppliers;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.Iterators;
 import org.h2.mvstore.MVStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * A repository for all journal abbreviations, including add and find methods.
+ * <p>
+ * The built-in abbreviations are not loaded into memory, but looked up in the MV file, which contains a map from the
+ * full name to the abbreviation and maps from each abbreviated form to the full name. The results of recent lookups
+ * are cached. The MV file is kept open until the repository is closed.
  */
-public class JournalAbbreviationRepository {
+public class JournalAbbreviationRepository implements AutoCloseable {
+    public static final String FULL_TO_ABBREVIATION_MAP_NAME = "FullToAbbreviation";
+    public static final String ABBREVIATION_TO_FULL_MAP_NAME = "AbbreviationToFull";
+    public static final String DOTLESS_TO_FULL_MAP_NAME = "DotlessToFull";
+    public static final String SHORTEST_UNIQUE_TO_FULL_MAP_NAME = "ShortestUniqueToFull";
+
     static final Pattern QUESTION_MARK = Pattern.compile("\\?");
 
-    private final Map<String, Abbreviation> fullToAbbreviationObject = new HashMap<>();
-    private final Map<String, Abbreviation> abbreviationToAbbreviationObject = new HashMap<>();
-    private final Map<String, Abbreviation> dotlessToAbbreviationObject = new HashMap<>();
-    private final Map<String, Abbreviation> shortestUniqueToAbbreviationObject = new HashMap<>();
+    private static final Logger LOGGER = LoggerFactory.getLogger(JournalAbbreviationRepository.class);
+    private static final int LOOKUP_CACHE_SIZE = 1000;
+
+    // The name of an abbreviation stored in the MV file is transient, thus the key has to be used as name
+    private final Map<String, Abbreviation> fullToAbbreviationObject;
+    private final Map<String, String> abbreviationToFull;
+    private final Map<String, String> dotlessToFull;
+    private final Map<String, String> shortestUniqueToFull;
+    private final Cache<String, Optional<Abbreviation>> lookupCache = CacheBuilder.newBuilder()
+                                                                               .maximumSize(LOOKUP_CACHE_SIZE)
+                                                                               .build();
     private final TreeSet<Abbreviation> customAbbreviations = new TreeSet<>();
     private final StringSimilarity similarity = new StringSimilarity();
+    // Built on the first fuzzy lookup, because it needs all names
+    private final Supplier<FuzzyStringIndex> fuzzyIndex = Suppliers.memoize(() -> new FuzzyStringIndex(getFullNames()));
     private final LtwaRepository ltwaRepository;
+    // Null for the demonstration data
+    private final MVStore store;
+    private final Consumer<MVStore> releaseStore;
+    private final AtomicBoolean closed = new AtomicBoolean();
 
     /**
-     * Initializes the internal data based on the abbreviations found in the given MV file
+     * Initializes the repository based on the abbreviations found in the given MV file. The file is kept open for lookups
+     * until the repository is closed.
      *
      * @param journalList The path to the MV file containing the journal abbreviations.
      * @param ltwaRepository The LTWA repository to use for abbreviations.
      */
     public JournalAbbreviationRepository(Path journalList, LtwaRepository ltwaRepository) {
-        MVMap<String, Abbreviation> mvFullToAbbreviationObject;
-        try (MVStore store = new MVStore.Builder().readOnly().fileName(journalList.toAbsolutePath().toString()).open()) {
-            mvFullToAbbreviationObject = store.openMap("FullToAbbreviation");
-            mvFullToAbbreviationObject.forEach((name, abbreviation) -> {
-                String abbrevationString = abbreviation.getAbbreviation();
-                String shortestUniqueAbbreviation = abbreviation.getShortestUniqueAbbreviation();
-                Abbreviation newAbbreviation = new Abbreviation(
-                        name,
-                        abbrevationString,
-                        shortestUniqueAbbreviation
-                );
-                fullToAbbreviationObject.put(name, newAbbreviation);
-                abbreviationToAbbreviationObject.put(abbrevationString, newAbbreviation);
-                dotlessToAbbreviationObject.put(newAbbreviation.getDotlessAbbreviation(), newAbbreviation);
-                shortestUniqueToAbbreviationObject.put(shortestUniqueAbbreviation, newAbbreviation);
-            });
+        this(new MVStore.Builder().readOnly().fileName(journalList.toAbsolutePath().toString()).open(), MVStore::close, ltwaRepository);
+    }
+
+    /**
+     * Initializes the repository based on the abbreviations found in the given opened MV file
+     *
+     * @param releaseStore called with the store when the repository is closed
+     */
+    JournalAbbreviationRepository(MVStore store, Consumer<MVStore> releaseStore, LtwaRepository ltwaRepository) {
+        this.store = store;
+        this.releaseStore = releaseStore;
+        fullToAbbreviationObject = store.openMap(FULL_TO_ABBREVIATION_MAP_NAME);
+        if (store.hasMap(ABBREVIATION_TO_FULL_MAP_NAME)) {
+            abbreviationToFull = store.openMap(ABBREVIATION_TO_FULL_MAP_NAME);
+            dotlessToFull = store.openMap(DOTLESS_TO_FULL_MAP_NAME);
+            shortestUniqueToFull = store.openMap(SHORTEST_UNIQUE_TO_FULL_MAP_NAME);
+        } else {
+            // MV files generated before the maps of abbreviated forms were introduced
+            LOGGER.debug("{} contains no maps of abbreviated forms. Building them in memory.", store.getFileStore().getFileName());
+            abbreviationToFull = new HashMap<>();
+            dotlessToFull = new HashMap<>();
+            shortestUniqueToFull = new HashMap<>();
+            addAbbreviatedForms(fullToAbbreviationObject, abbreviationToFull, dotlessToFull, shortestUniqueToFull);
         }
         this.ltwaRepository = ltwaRepository;
     }
@@ -64,18 +106,42 @@ public class JournalAbbreviationRepository {
      * Initializes the repository with demonstration data. Used if no abbreviation file is found.
      */
     public JournalAbbreviationRepository() {
-        Abbreviation newAbbreviation = new Abbreviation(
-                "Demonstration",
-                "Demo",
-                "Dem"
-        );
-        fullToAbbreviationObject.put("Demonstration", newAbbreviation);
-        abbreviationToAbbreviationObject.put("Demo", newAbbreviation);
-        dotlessToAbbreviationObject.put("Demo", newAbbreviation);
-        shortestUniqueToAbbreviationObject.put("Dem", newAbbreviation);
+        store = null;
+        releaseStore = _ -> {
+        };
+        fullToAbbreviationObject = Map.of("Demonstration", new Abbreviation("Demonstration", "Demo", "Dem"));
+        abbreviationToFull = new HashMap<>();
+        dotlessToFull = new HashMap<>();
+        shortestUniqueToFull = new HashMap<>();
+        addAbbreviatedForms(fullToAbbreviationObject, abbreviationToFull, dotlessToFull, shortestUniqueToFull);
         ltwaRepository = new LtwaRepository();
     }
 
+    /**
+     * Maps each abbreviated form of the given abbreviations to the full name. If several journals share an abbreviated
+     * form, the journal coming last in the iteration order of the given map wins.
+     */
+    public static void addAbbreviatedForms(Map<String, Abbreviation> fullToAbbreviation,
+                                           Map<String, String> abbreviationToFull,
+                                           Map<String, String> dotlessToFull,
+                                           Map<String, String> shortestUniqueToFull) {
+        fullToAbbreviation.forEach((name, storedAbbreviation) -> {
+            Abbreviation abbreviation = toAbbreviation(name, storedAbbreviation);
+            abbreviationToFull.put(abbreviation.getAbbreviation(), name);
+            dotlessToFull.put(abbreviation.getDotlessAbbreviation(), name);
+            shortestUniqueToFull.put(abbreviation.getShortestUniqueAbbreviation(), name);
+        });
+    }
+
+    private static Abbreviation toAbbreviation(String name, Abbreviation storedAbbreviation) {
+        return new Abbreviation(name, storedAbbreviation.getAbbreviation(), storedAbbreviation.getShortestUniqueAbbreviation());
+    }
+
+    private Optional<Abbreviation> getByFullName(String name) {
+        return Optional.ofNullable(fullToAbbreviationObject.get(name))
+                       .map(storedAbbreviation -> toAbbreviation(name, storedAbbreviation));
+    }
+
     private static boolean isMatched(String name, Abbreviation abbreviation) {
         return name.equalsIgnoreCase(abbreviation.getName())
                 || name.equalsIgnoreCase(abbreviation.getAbbreviation())
@@ -125,9 +191,9 @@ public class JournalAbbreviationRepository {
         }
         String journal = journalName.trim().replaceAll(Matcher.quoteReplacement("\\&"), "&");
         return customAbbreviations.stream().anyMatch(abbreviation -> isMatchedAbbreviated(journal, abbreviation))
-                || abbreviationToAbbreviationObject.containsKey(journal)
-                || dotlessToAbbreviationObject.containsKey(journal)
-                || shortestUniqueToAbbreviationObject.containsKey(journal);
+                || abbreviationToFull.containsKey(journal)
+                || dotlessToFull.containsKey(journal)
+                || shortestUniqueToFull.containsKey(journal);
     }
 
     /**
@@ -140,6 +206,17 @@ public class JournalAbbreviationRepository {
         // Clean up input: trim and unescape ampersand
         String journal = input.trim().replaceAll(Matcher.quoteReplacement("\\&"), "&");
 
+        Optional<Abbreviation> cachedAbbreviation = lookupCache.getIfPresent(journal);
+        if (cachedAbbreviation != null) {
+            return cachedAbbreviation;
+        }
+
+        Optional<Abbreviation> abbreviation = lookUp(journal);
+        lookupCache.put(journal, abbreviation);
+        return abbreviation;
+    }
+
+    private Optional<Abbreviation> lookUp(String journal) {
         Optional<Abbreviation> customAbbreviation = customAbbreviations.stream()
                                                                        .filter(abbreviation -> isMatched(journal, abbreviation))
                                                                        .findFirst();
@@ -147,10 +224,10 @@ public class JournalAbbreviationRepository {
             return customAbbreviation;
         }
 
-        Optional<Abbreviation> abbreviation = Optional.ofNullable(fullToAbbreviationObject.get(journal))
-                .or(() -> Optional.ofNullable(abbreviationToAbbreviationObject.get(journal)))
-                .or(() -> Optional.ofNullable(dotlessToAbbreviationObject.get(journal)))
-                .or(() -> Optional.ofNullable(shortestUniqueToAbbreviationObject.get(journal)));
+        Optional<Abbreviation> abbreviation = getByFullName(journal)
+                .or(() -> Optional.ofNullable(abbreviationToFull.get(journal)).flatMap(this::getByFullName))
+                .or(() -> Optional.ofNullable(dotlessToFull.get(journal)).flatMap(this::getByFullName))
+                .or(() -> Optional.ofNullable(shortestUniqueToFull.get(journal)).flatMap(this::getByFullName));
 
         if (abbreviation.isEmpty()) {
             abbreviation = findAbbreviationFuzzyMatched(journal);
@@ -160,20 +237,28 @@ public class JournalAbbreviationRepository {
     }
 
     private Optional<Abbreviation> findAbbreviationFuzzyMatched(String input) {
-        Optional<Abbreviation> customMatch = findBestFuzzyMatched(customAbbreviations, input);
+        List<Abbreviation> customCandidates = customAbbreviations.stream()
+                                                                 .filter(abbreviation -> similarity.isSimilar(input, abbreviation.getName()))
+                                                                 .toList();
+        Optional<Abbreviation> customMatch = findBestFuzzyMatched(customCandidates, input);
         if (customMatch.isPresent()) {
             return customMatch;
         }
 
-        return findBestFuzzyMatched(fullToAbbreviationObject.values(), input);
+        List<Abbreviation> candidates = fuzzyIndex.get().findWithin(input, StringSimilarity.METRIC_THRESHOLD).stream()
+                                                  .flatMap(match -> getByFullName(match.value()).stream())
+                                                  .toList();
+        return findBestFuzzyMatched(candidates, input);
     }
 
-    private Optional<Abbreviation> findBestFuzzyMatched(Collection<Abbreviation> abbreviations, String input) {
+    /**
+     * @param similarAbbreviations abbreviations whose name is similar to the input
+     */
+    private Optional<Abbreviation> findBestFuzzyMatched(List<Abbreviation> similarAbbreviations, String input) {
         // threshold for edit distance similarity comparison
         final double SIMILARITY_THRESHOLD = 1.0;
 
-        List<Abbreviation> candidates = abbreviations.stream()
-                .filter(abbreviation -> similarity.isSimilar(input, abbreviation.getName()))
+        List<Abbreviation> candidates = similarAbbreviations.stream()
                 .sorted(Comparator.comparingDouble(abbreviation -> similarity.editDistanceIgnoreCase(input, abbreviation.getName())))
                 .toList();
 
@@ -201,10 +286,12 @@ public class JournalAbbreviationRepository {
         // The set automatically "removes" duplicates
         // What is a duplicate? An abbreviation is NOT the same if any field is NOT equal (e.g., if the shortest unique differs, the abbreviation is NOT the same)
         customAbbreviations.add(abbreviation);
+        lookupCache.invalidateAll();
     }
 
     public Collection<Abbreviation> getCustomAbbreviations() {
-        return customAbbreviations;
+        // Modifications have to go through addCustomAbbreviation to keep the lookup cache consistent
+        return Collections.unmodifiableSortedSet(customAbbreviations);
     }
 
     public void addCustomAbbreviations(Collection<Abbreviation> abbreviationsToAdd) {
@@ -228,10 +315,34 @@ public class JournalAbbreviationRepository {
     }
 
     public Set<String> getFullNames() {
-        return fullToAbbreviationObject.keySet();
+        return Collections.unmodifiableSet(fullToAbbreviationObject.keySet());
     }
 
+    /**
+     * Returns a view on the built-in abbreviations. The abbreviations are read while iterating.
+     */
     public Collection<Abbreviation> getAllLoaded() {
-        return fullToAbbreviationObject.values();
+        return new AbstractCollection<>() {
+            @Override
+            public Iterator<Abbreviation> iterator() {
+                return Iterators.transform(fullToAbbreviationObject.entrySet().iterator(),
+                        entry -> toAbbreviation(entry.getKey(), entry.getValue()));
+            }
+
+            @Override
+            public int size() {
+                return fullToAbbreviationObject.size();
+            }
+        };
+    }
+
+    /**
+     * Releases the MV file. Closing the repository again has no effect.
+     */
+    @Override
+    public void close() {
+        if (closed.compareAndSet(false, true) && (store != null)) {
+            releaseStore.accept(store);
+        }
     }
 }
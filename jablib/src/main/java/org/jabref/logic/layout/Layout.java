@@ -138,6 +138,14 @@ public class Layout {
         return sb.toString();
     }
 
+    /**
+     * Returns whether the entries have to be rendered one after the other in export order. Otherwise, the entries may be
+     * rendered concurrently.
+     */
+    public boolean dependsOnEntryOrder() {
+        return layoutEntries.stream().anyMatch(LayoutEntry::dependsOnEntryOrder);
+    }
+
     public List<String> getMissingFormatters() {
         return new ArrayList<>(missingFormatters);
     }
@@ -8,6 +8,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.regex.Pattern;
 
 import org.jabref.logic.formatter.bibtexfields.HtmlToLatexFormatter;
 import org.jabref.logic.formatter.bibtexfields.UnicodeToLatexFormatter;
@@ -87,6 +88,7 @@ import org.jabref.logic.openoffice.style.OOPreFormatter;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.FieldFactory;
 import org.jabref.model.entry.field.InternalField;
 import org.jabref.model.entry.field.UnknownField;
@@ -98,6 +100,16 @@ import org.slf4j.LoggerFactory;
 class LayoutEntry {
     private static final Logger LOGGER = LoggerFactory.getLogger(LayoutEntry.class);
 
+    private static final Pattern AND_CONDITION = Pattern.compile(".*(;|(\\&+)).*");
+    private static final Pattern AND_SEPARATOR = Pattern.compile("\\s*(;|(\\&+))\\s*");
+    private static final Pattern OR_SEPARATOR = Pattern.compile("\\s*(\\|+)\\s*");
+
+    /**
+     * Part of the condition of a field block, e.g. {@code !author} in {@code \begin{title&&!author}}
+     */
+    private record FieldCondition(Field field, boolean negated) {
+    }
+
     private List<LayoutFormatter> option;
     // Formatter to be run after other formatters:
     private LayoutFormatter postFormatter;
@@ -107,6 +119,11 @@ class LayoutEntry {
     private final int type;
     private final List<String> invalidFormatter = new ArrayList<>();
 
+    // Resolved once, thus rendering an entry does not parse field names or split conditions again
+    private final Field referencedField;
+    private final List<FieldCondition> fieldConditions;
+    private final boolean allConditionsRequired;
+
     private final List<Path> fileDirForDatabase;
     private final LayoutFormatterPreferences preferences;
     private final JournalAbbreviationRepository abbreviationRepository;
@@ -131,6 +148,16 @@ class LayoutEntry {
                 // IS_FIELD_START and IS_FIELD_END
             }
         }
+
+        if (type == LayoutHelper.IS_SIMPLE_COMMAND) {
+            referencedField = FieldFactory.parseField(text);
+        } else if ((type == LayoutHelper.IS_OPTION_FIELD) && text.startsWith("\\")) {
+            referencedField = FieldFactory.parseField(text.substring(1));
+        } else {
+            referencedField = null;
+        }
+        fieldConditions = List.of();
+        allConditionsRequired = false;
     }
 
     public LayoutEntry(List<StringInt> parsedEntries,
@@ -152,6 +179,20 @@ class LayoutEntry {
 
         type = layoutType;
         text = blockEnd;
+        if (type == LayoutHelper.IS_GROUP_START) {
+            referencedField = FieldFactory.parseField(text);
+            fieldConditions = List.of();
+            allConditionsRequired = false;
+        } else {
+            referencedField = null;
+            // split the strings along &, && or ; for AND formatter, otherwise along |, || for OR formatter
+            allConditionsRequired = AND_CONDITION.matcher(text).matches();
+            fieldConditions = Arrays.stream((allConditionsRequired ? AND_SEPARATOR : OR_SEPARATOR).split(text))
+                                    .map(part -> part.startsWith("!")
+                                                 ? new FieldCondition(FieldFactory.parseField(part.substring(1).trim()), true)
+                                                 : new FieldCondition(FieldFactory.parseField(part), false))
+                                    .toList();
+        }
         List<StringInt> blockEntries = null;
         for (StringInt parsedEntry : parsedEntries.subList(1, parsedEntries.size() - 1)) {
             switch (parsedEntry.i) {
@@ -204,7 +245,7 @@ class LayoutEntry {
             case LayoutHelper.IS_LAYOUT_TEXT:
                 return text;
             case LayoutHelper.IS_SIMPLE_COMMAND:
-                String value = bibEntry.getResolvedFieldOrAlias(FieldFactory.parseField(text), database).orElse("");
+                String value = bibEntry.getResolvedFieldOrAlias(referencedField, database).orElse("");
 
                 // If a post formatter has been set, call it:
                 if (postFormatter != null) {
@@ -228,8 +269,8 @@ class LayoutEntry {
 
     private String resolveFieldEntry(BibEntry bidEntry, BibDatabase database) {
         // resolve field (recognized by leading backslash) or text
-        if (text.startsWith("\\")) {
-            return bidEntry.getResolvedFieldOrAlias(FieldFactory.parseField(text.substring(1)), database)
+        if (referencedField != null) {
+            return bidEntry.getResolvedFieldOrAlias(referencedField, database)
                            .orElse("");
         }
         if (database == null) {
@@ -268,26 +309,14 @@ class LayoutEntry {
         Optional<String> field;
         boolean negated = false;
         if (type == LayoutHelper.IS_GROUP_START) {
-            field = bibtex.getResolvedFieldOrAlias(FieldFactory.parseField(text), database);
-        } else if (text.matches(".*(;|(\\&+)).*")) {
-            // split the strings along &, && or ; for AND formatter
-            String[] parts = text.split("\\s*(;|(\\&+))\\s*");
-            field = Optional.empty();
-            for (String part : parts) {
-                negated = part.startsWith("!");
-                field = bibtex.getResolvedFieldOrAlias(FieldFactory.parseField(negated ? part.substring(1).trim() : part), database);
-                if (field.isPresent() == negated) {
-                    break;
-                }
-            }
+            field = bibtex.getResolvedFieldOrAlias(referencedField, database);
         } else {
-            // split the strings along |, ||  for OR formatter
-            String[] parts = text.split("\\s*(\\|+)\\s*");
             field = Optional.empty();
-            for (String part : parts) {
-                negated = part.startsWith("!");
-                field = bibtex.getResolvedFieldOrAlias(FieldFactory.parseField(negated ? part.substring(1).trim() : part), database);
-                if (field.isPresent() ^ negated) {
+            for (FieldCondition condition : fieldConditions) {
+                negated = condition.negated();
+                field = bibtex.getResolvedFieldOrAlias(condition.field(), database);
+                // AND stops at the first unfulfilled condition, OR at the first fulfilled one
+                if (allConditionsRequired ? (field.isPresent() == negated) : (field.isPresent() ^ negated)) {
                     break;
                 }
             }
@@ -538,6 +567,21 @@ class LayoutEntry {
         return results;
     }
 
+    /**
+     * Returns whether the output for an entry depends on the entries rendered before, i.e., whether the entries have to be
+     * rendered one after the other in export order. This is the case for group blocks, which are output only if the group
+     * changes, and for the {@link Number} formatter.
+     */
+    public boolean dependsOnEntryOrder() {
+        if (type == LayoutHelper.IS_GROUP_START) {
+            return true;
+        }
+        if ((option != null) && option.stream().anyMatch(Number.class::isInstance)) {
+            return true;
+        }
+        return (layoutEntries != null) && layoutEntries.stream().anyMatch(LayoutEntry::dependsOnEntryOrder);
+    }
+
     public List<String> getInvalidFormatters() {
         return invalidFormatter;
     }
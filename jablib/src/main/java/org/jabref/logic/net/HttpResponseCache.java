@@ -0,0 +1,310 @@
+package org.jabref.logic.net;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Persistent cache of HTTP responses, used by {@link URLDownload#asString()} if enabled by {@link URLDownload#configureResponseCache(boolean)}.
+ * The applications enable it if {@link org.jabref.logic.importer.ImporterPreferences#shouldCacheWebResponses()} is set.
+ * <p>
+ * A response is reused without a request as long as it is fresh according to its {@code Cache-Control: max-age} or
+ * {@code Expires} header. A stale response having an {@code ETag} or {@code Last-Modified} header is revalidated by a
+ * conditional request, thus the body is transferred again only if it changed. Responses with
+ * {@code Cache-Control: no-store} are not stored. If the stored bodies exceed the maximum size, the least recently used
+ * responses are removed.
+ */
+public class HttpResponseCache {
+
+    public record Statistics(long hits, long revalidations, long misses) {
+    }
+
+    /**
+     * @param fresh whether the response can be used without asking the server
+     */
+    record CachedResponse(byte[] body, Optional<String> eTag, Optional<String> lastModified, boolean fresh) {
+    }
+
+    public static final long DEFAULT_MAX_SIZE_IN_BYTES = 50L * 1024 * 1024;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(HttpResponseCache.class);
+
+    private static final String BODY_EXTENSION = ".body";
+    private static final String HEADERS_EXTENSION = ".headers";
+    private static final String ETAG = "ETag";
+    private static final String LAST_MODIFIED = "Last-Modified";
+    private static final String EXPIRES = "Expires";
+    private static final Pattern MAX_AGE = Pattern.compile("max-age=\"?(\\d+)\"?");
+
+    private final Path directory;
+    private final long maxSizeInBytes;
+    private final Clock clock;
+
+    // Access order, thus the first key is the least recently used one. The values are the sizes of the bodies.
+    private final Map<String, Long> bodySizes = new LinkedHashMap<>(16, 0.75f, true);
+    private long size;
+
+    private long hits;
+    private long revalidations;
+    private long misses;
+
+    /**
+     * @param directory      the directory to store the responses in. Responses stored by a previous session are reused.
+     * @param maxSizeInBytes the maximum size of all stored bodies
+     */
+    public HttpResponseCache(Path directory, long maxSizeInBytes) throws IOException {
+        this(directory, maxSizeInBytes, Clock.systemUTC());
+    }
+
+    HttpResponseCache(Path directory, long maxSizeInBytes, Clock clock) throws IOException {
+        this.directory = directory;
+        this.maxSizeInBytes = maxSizeInBytes;
+        this.clock = clock;
+
+        Files.createDirectories(directory);
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(file -> file.getFileName().toString().endsWith(BODY_EXTENSION))
+                 .sorted(Comparator.comparing(HttpResponseCache::getLastModifiedTime))
+                 .forEach(file -> {
+                     String fileName = file.getFileName().toString();
+                     String key = fileName.substring(0, fileName.length() - BODY_EXTENSION.length());
+                     try {
+                         long bodySize = Files.size(file);
+                         bodySizes.put(key, bodySize);
+                         size += bodySize;
+                     } catch (IOException e) {
+                         LOGGER.debug("Could not read size of cached response {}", file, e);
+                     }
+                 });
+        }
+        evict();
+    }
+
+    /**
+     * Returns the key of a GET request. Requests with different headers, e.g., {@code Accept}, may get different
+     * responses, thus the headers are part of the key.
+     */
+    static String getKey(URL url, Map<String, String> requestHeaders) {
+        StringBuilder request = new StringBuilder(url.toString());
+        new TreeMap<>(requestHeaders).forEach((name, value) -> request.append('\n').append(name).append(": ").append(value));
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(request.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform supports SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    synchronized Optional<CachedResponse> get(String key) {
+        if (!bodySizes.containsKey(key)) {
+            return Optional.empty();
+        }
+        try {
+            Properties headers = readHeaders(key);
+            byte[] body = Files.readAllBytes(getBodyFile(key));
+            Instant expires = Instant.ofEpochMilli(Long.parseLong(headers.getProperty(EXPIRES, "0")));
+            boolean fresh = clock.instant().isBefore(expires);
+            if (fresh) {
+                hits++;
+            }
+            return Optional.of(new CachedResponse(body,
+                    Optional.ofNullable(headers.getProperty(ETAG)),
+                    Optional.ofNullable(headers.getProperty(LAST_MODIFIED)),
+                    fresh));
+        } catch (IOException | NumberFormatException e) {
+            LOGGER.debug("Could not read cached response {}", key, e);
+            remove(key);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Stores the response of a request which was answered with a body. The response is not stored if it cannot be reused.
+     *
+     * @param responseHeaders the headers of the response as returned by {@link java.net.URLConnection#getHeaderFields()}
+     */
+    synchronized void store(String key, Map<String, List<String>> responseHeaders, byte[] body) {
+        misses++;
+        Optional<Instant> expires = getExpiry(responseHeaders);
+        Optional<String> eTag = getHeader(responseHeaders, ETAG);
+        Optional<String> lastModified = getHeader(responseHeaders, LAST_MODIFIED);
+        if (expires.isEmpty() || (!expires.get().isAfter(clock.instant()) && eTag.isEmpty() && lastModified.isEmpty())) {
+            remove(key);
+            return;
+        }
+        if (body.length > maxSizeInBytes) {
+            remove(key);
+            return;
+        }
+
+        Properties headers = new Properties();
+        headers.setProperty(EXPIRES, String.valueOf(expires.get().toEpochMilli()));
+        eTag.ifPresent(value -> headers.setProperty(ETAG, value));
+        lastModified.ifPresent(value -> headers.setProperty(LAST_MODIFIED, value));
+        try {
+            Files.write(getBodyFile(key), body);
+            writeHeaders(key, headers);
+        } catch (IOException e) {
+            LOGGER.warn("Could not store response {}", key, e);
+            remove(key);
+            return;
+        }
+
+        Long previousSize = bodySizes.put(key, (long) body.length);
+        size += body.length - (previousSize == null ? 0 : previousSize);
+        evict();
+    }
+
+    /**
+     * Updates the freshness of a stored response after the server confirmed that it did not change
+     *
+     * @param responseHeaders the headers of the "304 Not Modified" response
+     */
+    synchronized void revalidated(String key, Map<String, List<String>> responseHeaders) {
+        revalidations++;
+        if (!bodySizes.containsKey(key)) {
+            return;
+        }
+        try {
+            Properties headers = readHeaders(key);
+            getExpiry(responseHeaders).ifPresent(expires -> headers.setProperty(EXPIRES, String.valueOf(expires.toEpochMilli())));
+            getHeader(responseHeaders, ETAG).ifPresent(value -> headers.setProperty(ETAG, value));
+            writeHeaders(key, headers);
+        } catch (IOException e) {
+            LOGGER.debug("Could not update cached response {}", key, e);
+            remove(key);
+        }
+    }
+
+    public synchronized Statistics getStatistics() {
+        return new Statistics(hits, revalidations, misses);
+    }
+
+    public synchronized long getSize() {
+        return size;
+    }
+
+    /**
+     * Returns until when the response may be used without asking the server, or nothing if it must not be stored
+     */
+    private Optional<Instant> getExpiry(Map<String, List<String>> responseHeaders) {
+        Instant now = clock.instant();
+        String cacheControl = getHeader(responseHeaders, "Cache-Control").orElse("").toLowerCase(Locale.ROOT);
+        if (cacheControl.contains("no-store")) {
+            return Optional.empty();
+        }
+        if (cacheControl.contains("no-cache")) {
+            return Optional.of(now);
+        }
+        Matcher maxAge = MAX_AGE.matcher(cacheControl);
+        if (maxAge.find()) {
+            try {
+                return Optional.of(now.plusSeconds(Long.parseLong(maxAge.group(1))));
+            } catch (NumberFormatException e) {
+                return Optional.of(now);
+            }
+        }
+        return Optional.of(getHeader(responseHeaders, EXPIRES).flatMap(HttpResponseCache::parseDate).orElse(now));
+    }
+
+    private static Optional<Instant> parseDate(String date) {
+        try {
+            return Optional.of(ZonedDateTime.parse(date, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant());
+        } catch (DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static Optional<String> getHeader(Map<String, List<String>> headers, String name) {
+        // The status line is stored with the key null
+        return headers.entrySet().stream()
+                      .filter(header -> name.equalsIgnoreCase(header.getKey()))
+                      .flatMap(header -> header.getValue().stream())
+                      .findFirst();
+    }
+
+    private void evict() {
+        Iterator<Map.Entry<String, Long>> leastRecentlyUsed = bodySizes.entrySet().iterator();
+        while ((size > maxSizeInBytes) && leastRecentlyUsed.hasNext()) {
+            Map.Entry<String, Long> entry = leastRecentlyUsed.next();
+            leastRecentlyUsed.remove();
+            size -= entry.getValue();
+            deleteFiles(entry.getKey());
+        }
+    }
+
+    private void remove(String key) {
+        Long bodySize = bodySizes.remove(key);
+        if (bodySize != null) {
+            size -= bodySize;
+        }
+        deleteFiles(key);
+    }
+
+    private void deleteFiles(String key) {
+        try {
+            Files.deleteIfExists(getBodyFile(key));
+            Files.deleteIfExists(getHeadersFile(key));
+        } catch (IOException e) {
+            LOGGER.debug("Could not delete cached response {}", key, e);
+        }
+    }
+
+    private Properties readHeaders(String key) throws IOException {
+        Properties headers = new Properties();
+        try (InputStream input = Files.newInputStream(getHeadersFile(key))) {
+            headers.load(input);
+        }
+        return headers;
+    }
+
+    private void writeHeaders(String key, Properties headers) throws IOException {
+        try (OutputStream output = Files.newOutputStream(getHeadersFile(key))) {
+            headers.store(output, null);
+        }
+    }
+
+    private Path getBodyFile(String key) {
+        return directory.resolve(key + BODY_EXTENSION);
+    }
+
+    private Path getHeadersFile(String key) {
+        return directory.resolve(key + HEADERS_EXTENSION);
+    }
+
+    private static long getLastModifiedTime(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package org.jabref.logic.net;
 
 import java.io.BufferedInputStream;
 import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
@@ -29,16 +30,21 @@ import java.security.SecureRandom;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
 
 import javax.net.ssl.HttpsURLConnection;
 import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSocketFactory;
 
 import org.jabref.logic.importer.FetcherClientException;
 import org.jabref.logic.importer.FetcherException;
 import org.jabref.logic.importer.FetcherServerException;
+import org.jabref.logic.util.Directories;
 import org.jabref.logic.util.URLUtil;
 import org.jabref.logic.util.io.FileUtil;
 import org.jabref.model.http.SimpleHttpResponse;
@@ -62,7 +68,11 @@ import org.slf4j.LoggerFactory;
  * </code>
  * <br/><br/>
  * Almost each call to a public method creates a new HTTP connection (except for {@link #asString(Charset, URLConnection) asString},
- * which uses an already opened connection). Nothing is cached.
+ * which uses an already opened connection). All downloads share one SSL socket factory, thus idle connections are kept alive
+ * and reused, and TLS sessions are resumed. The number of concurrent downloads from one host is limited.
+ * <p>
+ * If a {@link HttpResponseCache} is set by {@link #configureResponseCache(boolean)} or {@link #setResponseCache(HttpResponseCache)}, {@link #asString()} reuses
+ * cached responses of GET requests.
  */
 public class URLDownload {
 
@@ -70,12 +80,18 @@ public class URLDownload {
     private static final Logger LOGGER = LoggerFactory.getLogger(URLDownload.class);
     private static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(30);
     private static final int MAX_RETRIES = 3;
+    private static final int MAX_CONCURRENT_DOWNLOADS_PER_HOST = 6;
+
+    // One factory for all connections: connections are reused only by requests having the same socket factory
+    private static final SSLSocketFactory SSL_SOCKET_FACTORY = createSslSocketFactory();
+    private static final Map<String, Semaphore> DOWNLOADS_PER_HOST = new ConcurrentHashMap<>();
+
+    private static volatile HttpResponseCache responseCache;
 
     private final URL source;
     private final Map<String, String> parameters = new HashMap<>();
     private String postData = "";
     private Duration connectTimeout = DEFAULT_CONNECT_TIMEOUT;
-    private SSLContext sslContext;
 
     static {
         Unirest.config()
@@ -98,17 +114,51 @@ public class URLDownload {
     public URLDownload(URL source) {
         this.source = source;
         this.addHeader("User-Agent", URLDownload.USER_AGENT);
+    }
 
+    private static SSLSocketFactory createSslSocketFactory() {
         try {
-            sslContext = SSLContext.getInstance("TLSv1.2");
+            SSLContext sslContext = SSLContext.getInstance("TLSv1.2");
             sslContext.init(null, null, new SecureRandom());
             // Note: SSL certificates are installed at {@link TrustStoreManager#configureTrustStore(Path)}
+            return sslContext.getSocketFactory();
         } catch (NoSuchAlgorithmException | KeyManagementException e) {
             LOGGER.error("Could not initialize SSL context", e);
-            sslContext = null;
+            return null;
+        }
+    }
+
+    /**
+     * Sets the cache used by all downloads, {@code null} disables caching
+     */
+    public static synchronized void setResponseCache(HttpResponseCache cache) {
+        responseCache = cache;
+    }
+
+    /**
+     * Enables the cache in the user cache directory (see {@link Directories#getHttpResponseCacheDirectory()}) or disables caching.
+     * Enabling an already enabled cache keeps the current one.
+     */
+    public static synchronized void configureResponseCache(boolean enabled) {
+        if (!enabled) {
+            responseCache = null;
+            return;
+        }
+        if (responseCache != null) {
+            return;
+        }
+        Path directory = Directories.getHttpResponseCacheDirectory();
+        try {
+            responseCache = new HttpResponseCache(directory, HttpResponseCache.DEFAULT_MAX_SIZE_IN_BYTES);
+        } catch (IOException e) {
+            LOGGER.warn("Could not create the response cache in {}. Responses will not be cached.", directory, e);
         }
     }
 
+    public static Optional<HttpResponseCache> getResponseCache() {
+        return Optional.ofNullable(responseCache);
+    }
+
     public URL getSource() {
         return source;
     }
@@ -121,9 +171,10 @@ public class URLDownload {
         try {
             String urlToCheck = source.toString();
             String locationHeader;
+            HttpResponse<String> response;
             do {
                 retries++;
-                HttpResponse<String> response = Unirest.head(urlToCheck).asString();
+                response = Unirest.head(urlToCheck).asString();
                 // Check if we have redirects, e.g. arxiv will give otherwise content type html for the original url
                 // We need to do it "manually", because ".followRedirects(true)" only works for GET not for HEAD
                 locationHeader = response.getHeaders().getFirst("location");
@@ -132,7 +183,11 @@ public class URLDownload {
                 }
                 // while loop, because there could be multiple redirects
             } while (!StringUtil.isNullOrEmpty(locationHeader) && retries <= MAX_RETRIES);
-            contentType = Unirest.head(urlToCheck).asString().getHeaders().getFirst("Content-Type");
+            if (!StringUtil.isNullOrEmpty(locationHeader)) {
+                // Too many redirects, the last response does not describe the resource
+                response = Unirest.head(urlToCheck).asString();
+            }
+            contentType = response.getHeaders().getFirst("Content-Type");
             if ((contentType != null) && !contentType.isEmpty()) {
                 return Optional.of(contentType);
             }
@@ -200,7 +255,7 @@ public class URLDownload {
      * @return the downloaded string
      */
     public String asString() throws FetcherException {
-        return asString(StandardCharsets.UTF_8, this.openConnection());
+        return asString(StandardCharsets.UTF_8);
     }
 
     /**
@@ -210,7 +265,72 @@ public class URLDownload {
      * @return the downloaded string
      */
     public String asString(Charset encoding) throws FetcherException {
-        return asString(encoding, this.openConnection());
+        HttpResponseCache cache = responseCache;
+        return withHostPermit(() -> {
+            if ((cache == null) || !postData.isEmpty() || !isHttp()) {
+                return asString(encoding, this.openConnection());
+            }
+            return asString(encoding, cache);
+        });
+    }
+
+    /**
+     * Downloads the web resource to a String, reusing the cached response if it is fresh or did not change
+     */
+    private String asString(Charset encoding, HttpResponseCache cache) throws FetcherException {
+        String key = HttpResponseCache.getKey(source, parameters);
+        Optional<HttpResponseCache.CachedResponse> cachedResponse = cache.get(key);
+        if (cachedResponse.isPresent() && cachedResponse.get().fresh()) {
+            return asString(encoding, cachedResponse.get().body());
+        }
+
+        URLConnection connection;
+        cachedResponse.flatMap(HttpResponseCache.CachedResponse::eTag).ifPresent(eTag -> addHeader("If-None-Match", eTag));
+        cachedResponse.flatMap(HttpResponseCache.CachedResponse::lastModified).ifPresent(lastModified -> addHeader("If-Modified-Since", lastModified));
+        try {
+            connection = this.openConnection();
+        } finally {
+            parameters.remove("If-None-Match");
+            parameters.remove("If-Modified-Since");
+        }
+
+        int status = getResponseCode(connection);
+        if (cachedResponse.isPresent() && (status == HttpURLConnection.HTTP_NOT_MODIFIED)) {
+            cache.revalidated(key, connection.getHeaderFields());
+            return asString(encoding, cachedResponse.get().body());
+        }
+
+        byte[] body;
+        try (InputStream input = connection.getInputStream()) {
+            body = input.readAllBytes();
+        } catch (IOException e) {
+            throw new FetcherException("Error downloading", e);
+        }
+        if (status == HttpURLConnection.HTTP_OK) {
+            cache.store(key, connection.getHeaderFields(), body);
+        }
+        return asString(encoding, body);
+    }
+
+    private static String asString(Charset encoding, byte[] body) throws FetcherException {
+        try (InputStream input = new ByteArrayInputStream(body);
+             Writer output = new StringWriter()) {
+            copy(input, output, encoding);
+            return output.toString();
+        } catch (IOException e) {
+            throw new FetcherException("Error downloading", e);
+        }
+    }
+
+    private static int getResponseCode(URLConnection connection) throws FetcherException {
+        if (!(connection instanceof HttpURLConnection httpConnection)) {
+            return HttpURLConnection.HTTP_OK;
+        }
+        try {
+            return httpConnection.getResponseCode();
+        } catch (IOException e) {
+            throw new FetcherException("Error getting response code", e);
+        }
     }
 
     /**
@@ -262,12 +382,15 @@ public class URLDownload {
      * @param destination the destination file path.
      */
     public void toFile(Path destination) throws FetcherException {
-        try (InputStream input = new BufferedInputStream(this.openConnection().getInputStream())) {
-            Files.copy(input, destination, StandardCopyOption.REPLACE_EXISTING);
-        } catch (IOException e) {
-            LOGGER.warn("Could not copy input", e);
-            throw new FetcherException("Could not copy input", e);
-        }
+        withHostPermit(() -> {
+            try (InputStream input = new BufferedInputStream(this.openConnection().getInputStream())) {
+                Files.copy(input, destination, StandardCopyOption.REPLACE_EXISTING);
+            } catch (IOException e) {
+                LOGGER.warn("Could not copy input", e);
+                throw new FetcherException("Could not copy input", e);
+            }
+            return null;
+        });
     }
 
     /**
@@ -330,6 +453,38 @@ public class URLDownload {
         return "URLDownload{" + "source=" + this.source + '}';
     }
 
+    @FunctionalInterface
+    private interface Download<T> {
+        T download() throws FetcherException;
+    }
+
+    /**
+     * Runs the download when less than {@link #MAX_CONCURRENT_DOWNLOADS_PER_HOST} downloads from the host of the source are
+     * running. Must not be nested, because a download waiting for a second permit may block the others.
+     */
+    private <T> T withHostPermit(Download<T> download) throws FetcherException {
+        if (!isHttp()) {
+            return download.download();
+        }
+        Semaphore permits = DOWNLOADS_PER_HOST.computeIfAbsent(source.getHost().toLowerCase(Locale.ROOT),
+                _ -> new Semaphore(MAX_CONCURRENT_DOWNLOADS_PER_HOST, true));
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FetcherException("Interrupted while waiting for a connection to " + source.getHost(), e);
+        }
+        try {
+            return download.download();
+        } finally {
+            permits.release();
+        }
+    }
+
+    private boolean isHttp() {
+        return "http".equalsIgnoreCase(source.getProtocol()) || "https".equalsIgnoreCase(source.getProtocol());
+    }
+
     private static void copy(InputStream in, Writer out, Charset encoding) throws IOException {
         Reader r = new InputStreamReader(in, encoding);
         try (BufferedReader read = new BufferedReader(r)) {
@@ -400,8 +555,8 @@ public class URLDownload {
             httpConnection.setInstanceFollowRedirects(true);
         }
 
-        if ((sslContext != null) && (connection instanceof HttpsURLConnection httpsConnection)) {
-            httpsConnection.setSSLSocketFactory(sslContext.getSocketFactory());
+        if ((SSL_SOCKET_FACTORY != null) && (connection instanceof HttpsURLConnection httpsConnection)) {
+            httpsConnection.setSSLSocketFactory(SSL_SOCKET_FACTORY);
         }
 
         connection.setConnectTimeout((int) connectTimeout.toMillis());
@@ -2,7 +2,10 @@ package org.jabref.logic.search;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
@@ -17,18 +20,23 @@ import org.jabref.logic.search.indexing.ReadOnlyLinkedFilesIndexer;
 import org.jabref.logic.search.retrieval.BibFieldsSearcher;
 import org.jabref.logic.search.retrieval.LinkedFilesSearcher;
 import org.jabref.logic.util.BackgroundTask;
+import org.jabref.logic.util.DelayTaskThrottler;
 import org.jabref.logic.util.HeadlessExecutorService;
 import org.jabref.logic.util.TaskExecutor;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.event.FieldsChangedEvent;
 import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.groups.GroupTreeNode;
+import org.jabref.model.groups.SearchGroup;
 import org.jabref.model.search.SearchFlags;
 import org.jabref.model.search.event.IndexAddedOrUpdatedEvent;
 import org.jabref.model.search.event.IndexClosedEvent;
 import org.jabref.model.search.event.IndexRemovedEvent;
 import org.jabref.model.search.event.IndexStartedEvent;
 import org.jabref.model.search.query.SearchQuery;
+import org.jabref.model.search.query.SearchResult;
 import org.jabref.model.search.query.SearchResults;
 
 import org.slf4j.Logger;
@@ -37,6 +45,11 @@ import org.slf4j.LoggerFactory;
 public class IndexManager {
     private static final Logger LOGGER = LoggerFactory.getLogger(IndexManager.class);
 
+    /**
+     * Field changes arriving within this time span (in milliseconds) are coalesced into one re-evaluation of the search groups
+     */
+    private static final int SEARCH_GROUPS_UPDATE_DELAY = 100;
+
     private final TaskExecutor taskExecutor;
     private final BibDatabaseContext databaseContext;
     private final BooleanProperty shouldIndexLinkedFiles;
@@ -45,6 +58,11 @@ public class IndexManager {
     private final LuceneIndexer linkedFilesIndexer;
     private final BibFieldsSearcher bibFieldsSearcher;
     private final LinkedFilesSearcher linkedFilesSearcher;
+    // The throttler is not thread-safe: Tasks are only scheduled while holding the lock on updatedEntries
+    private final DelayTaskThrottler updatedEntriesThrottler;
+    // Entries updated since the last re-evaluation of the search groups, keyed by their id
+    private final Map<String, BibEntry> updatedEntries = new LinkedHashMap<>();
+    private boolean closed;
 
     public IndexManager(BibDatabaseContext databaseContext, TaskExecutor executor, CliPreferences preferences, PostgreServer postgreServer) {
         this.taskExecutor = executor;
@@ -66,6 +84,7 @@ public class IndexManager {
 
         this.bibFieldsSearcher = new BibFieldsSearcher(postgreServer.getConnection(), bibFieldsIndexer.getTable());
         this.linkedFilesSearcher = new LinkedFilesSearcher(databaseContext, linkedFilesIndexer, preferences.getFilePreferences());
+        this.updatedEntriesThrottler = executor.createThrottler(SEARCH_GROUPS_UPDATE_DELAY);
         updateOnStart();
     }
 
@@ -110,6 +129,7 @@ public class IndexManager {
             @Override
             public Object call() {
                 bibFieldsIndexer.addToIndex(entries, this);
+                updateSearchGroups(entries);
                 return null;
             }
         }.onFinished(() -> this.databaseContext.getDatabase().postEvent(new IndexAddedOrUpdatedEvent(entries)))
@@ -147,6 +167,30 @@ public class IndexManager {
         }
     }
 
+    /**
+     * Updates the index after several fields of an entry were changed at once
+     */
+    public void updateEntry(FieldsChangedEvent event) {
+        new BackgroundTask<>() {
+            @Override
+            public Object call() {
+                event.getChanges().forEach(change -> bibFieldsIndexer.updateEntry(event.getBibEntry(), change.getField()));
+                return null;
+            }
+        }.onFinished(() -> scheduleUpdatedEntry(event.getBibEntry()))
+         .executeWith(taskExecutor);
+
+        if (shouldIndexLinkedFiles.get()) {
+            event.getChange(StandardField.FILE).ifPresent(change -> new BackgroundTask<>() {
+                @Override
+                public Object call() {
+                    linkedFilesIndexer.updateEntry(event.getBibEntry(), change.getOldValue(), change.getNewValue(), this);
+                    return null;
+                }
+            }.executeWith(taskExecutor));
+        }
+    }
+
     public void updateEntry(FieldChangedEvent event) {
         new BackgroundTask<>() {
             @Override
@@ -154,7 +198,7 @@ public class IndexManager {
                 bibFieldsIndexer.updateEntry(event.getBibEntry(), event.getField());
                 return null;
             }
-        }.onFinished(() -> this.databaseContext.getDatabase().postEvent(new IndexAddedOrUpdatedEvent(List.of(event.getBibEntry()))))
+        }.onFinished(() -> scheduleUpdatedEntry(event.getBibEntry()))
          .executeWith(taskExecutor);
 
         if (shouldIndexLinkedFiles.get() && event.getField().equals(StandardField.FILE)) {
@@ -168,6 +212,68 @@ public class IndexManager {
         }
     }
 
+    /**
+     * Collects the updated entry. After {@link #SEARCH_GROUPS_UPDATE_DELAY} ms without further updates, the search groups are re-evaluated for all collected entries at once
+     * and a single {@link IndexAddedOrUpdatedEvent} is posted.
+     */
+    private void scheduleUpdatedEntry(BibEntry entry) {
+        // Called on the FX thread as well as on background threads
+        synchronized (updatedEntries) {
+            if (closed) {
+                return;
+            }
+            updatedEntries.put(entry.getId(), entry);
+            updatedEntriesThrottler.schedule(this::flushUpdatedEntries);
+        }
+    }
+
+    /**
+     * Stops the re-evaluation of the search groups. The lock is not held while waiting for a running re-evaluation,
+     * because it acquires the lock itself.
+     */
+    private void shutdownUpdatedEntriesThrottler() {
+        synchronized (updatedEntries) {
+            closed = true;
+            updatedEntries.clear();
+        }
+        updatedEntriesThrottler.shutdown();
+    }
+
+    private void flushUpdatedEntries() {
+        List<BibEntry> entries;
+        synchronized (updatedEntries) {
+            entries = new ArrayList<>(updatedEntries.values());
+            updatedEntries.clear();
+        }
+        if (entries.isEmpty()) {
+            return;
+        }
+        updateSearchGroups(entries);
+        databaseContext.getDatabase().postEvent(new IndexAddedOrUpdatedEvent(entries));
+    }
+
+    /**
+     * Re-evaluates all search groups of the library for the given entries using one query.
+     */
+    private void updateSearchGroups(List<BibEntry> entries) {
+        List<SearchGroup> searchGroups = databaseContext.getMetaData().getGroups().stream()
+                                                        .flatMap(GroupTreeNode::iterateOverTree)
+                                                        .map(GroupTreeNode::getGroup)
+                                                        .filter(SearchGroup.class::isInstance)
+                                                        .map(SearchGroup.class::cast)
+                                                        .toList();
+        if (searchGroups.isEmpty()) {
+            return;
+        }
+        Map<SearchQuery, Set<String>> matches = bibFieldsSearcher.getMatchedEntryIds(entries, searchGroups.stream().map(SearchGroup::getSearchQuery).toList());
+        for (SearchGroup searchGroup : searchGroups) {
+            Set<String> matchedIds = matches.getOrDefault(searchGroup.getSearchQuery(), Set.of());
+            for (BibEntry entry : entries) {
+                searchGroup.updateMatches(entry, matchedIds.contains(entry.getId()));
+            }
+        }
+    }
+
     public void rebuildFullTextIndex() {
         if (shouldIndexLinkedFiles.get()) {
             new BackgroundTask<>() {
@@ -181,6 +287,7 @@ public class IndexManager {
     }
 
     public void close() {
+        shutdownUpdatedEntriesThrottler();
         bibFieldsIndexer.close();
         shouldIndexLinkedFiles.removeListener(preferencesListener);
         linkedFilesIndexer.close();
@@ -188,6 +295,7 @@ public class IndexManager {
     }
 
     public void closeAndWait() {
+        shutdownUpdatedEntriesThrottler();
         bibFieldsIndexer.closeAndWait();
         shouldIndexLinkedFiles.removeListener(preferencesListener);
         linkedFilesIndexer.closeAndWait();
@@ -216,6 +324,20 @@ public class IndexManager {
         return searchResults;
     }
 
+    /**
+     * Variant of {@link #search(SearchQuery)} for the given entries only. The bib fields of all entries are searched in one
+     * database round trip. The results of other entries are not specified.
+     */
+    public SearchResults search(SearchQuery query, List<BibEntry> entries) {
+        SearchResults searchResults = new SearchResults();
+        if (query.getSearchFlags().contains(SearchFlags.FULLTEXT)) {
+            searchResults.mergeSearchResults(linkedFilesSearcher.search(query));
+        }
+        Set<String> matchedIds = bibFieldsSearcher.getMatchedEntryIds(entries, List.of(query)).getOrDefault(query, Set.of());
+        matchedIds.forEach(entryId -> searchResults.addSearchResult(entryId, new SearchResult()));
+        return searchResults;
+    }
+
     /**
      * @implNote No need to check for full-text searches as this method only used by the search groups
      */
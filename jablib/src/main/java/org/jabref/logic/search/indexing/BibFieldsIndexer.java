@@ -1,10 +1,14 @@
 package org.jabref.logic.search.indexing;
 
+import java.io.IOException;
+import java.io.StringReader;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -25,6 +29,8 @@ import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.search.PostgreConstants;
 
 import io.github.thibaultmeyer.cuid.CUID;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -41,6 +47,16 @@ public class BibFieldsIndexer {
     private static final Pattern GROUPS_SEPARATOR_REGEX = Pattern.compile("\s*,\s*");
     private static final Set<Field> DATE_FIELDS = Set.of(StandardField.DATE, StandardField.YEAR, StandardField.MONTH, StandardField.DAY);
 
+    /**
+     * Starting from this number of entries, {@link #addToIndex(Collection, BackgroundTask)} streams the rows to Postgres using <code>COPY</code> instead of per-entry inserts.
+     */
+    private static final int BULK_LOAD_THRESHOLD = 100;
+
+    /**
+     * Number of entries sent to Postgres in one <code>COPY</code> (or batch) round trip. Progress is reported once per chunk.
+     */
+    private static final int BULK_LOAD_CHUNK_SIZE = 1000;
+
     private final BibDatabaseContext databaseContext;
     private final Connection connection;
     private final String libraryName;
@@ -66,7 +82,9 @@ public class BibFieldsIndexer {
     }
 
     /**
-     * Creates a table for the library in the database, and sets up indexes on the columns.
+     * Creates the tables for the library in the database.
+     * The indexes on the columns are created by {@link #createIndexes()} after the initial load in {@link #updateOnStart(BackgroundTask)},
+     * because maintaining the btree and trigram indexes row by row is much slower than building them once over the loaded data.
      */
     private void setup() {
         try {
@@ -104,6 +122,12 @@ public class BibFieldsIndexer {
         } catch (SQLException e) {
             LOGGER.error("Could not create tables for library: {}", libraryName, e);
         }
+    }
+
+    /**
+     * Sets up the indexes on the columns. The statements are idempotent, thus calling this method multiple times is safe.
+     */
+    private void createIndexes() {
         try {
             // region btree index on id column
             connection.createStatement().executeUpdate("""
@@ -154,6 +178,10 @@ public class BibFieldsIndexer {
                     FIELD_VALUE_LITERAL, FIELD_VALUE_TRANSFORMED));
             // endregion
 
+            // Refresh the planner statistics, so that the freshly created indexes are used right away
+            connection.createStatement().executeUpdate("ANALYZE %s".formatted(schemaMainTableReference));
+            connection.createStatement().executeUpdate("ANALYZE %s".formatted(schemaSplitValuesTableReference));
+
             LOGGER.debug("Created indexes for library: {}", libraryName);
         } catch (SQLException e) {
             LOGGER.error("Could not create indexes for library: {}", libraryName, e);
@@ -161,7 +189,12 @@ public class BibFieldsIndexer {
     }
 
     public void updateOnStart(BackgroundTask<?> task) {
-        addToIndex(databaseContext.getDatabase().getEntries(), task);
+        try {
+            addToIndex(databaseContext.getDatabase().getEntries(), task);
+        } finally {
+            // Also create the indexes if the loading was cancelled - entries added later on rely on them
+            createIndexes();
+        }
     }
 
     public void addToIndex(Collection<BibEntry> entries, BackgroundTask<?> task) {
@@ -169,88 +202,142 @@ public class BibFieldsIndexer {
             task.showToUser(true);
             task.setTitle(Localization.lang("Indexing bib fields for %0", libraryName));
         }
-        int i = 1;
         long startTime = System.currentTimeMillis();
         LOGGER.debug("Adding {} entries to index", entries.size());
+        if (entries.size() >= BULK_LOAD_THRESHOLD) {
+            bulkAddToIndex(entries, task);
+        } else {
+            int i = 1;
+            for (BibEntry entry : entries) {
+                if (task.isCancelled()) {
+                    LOGGER.debug("Indexing canceled");
+                    return;
+                }
+                addToIndex(entry);
+                task.updateProgress(i, entries.size());
+                task.updateMessage(Localization.lang("%0 of %1 entries added to the index.", i, entries.size()));
+                i++;
+            }
+        }
+        LOGGER.debug("Added {} entries to index in {} ms", entries.size(), System.currentTimeMillis() - startTime);
+    }
+
+    /**
+     * Adds many entries at once. The entries are processed in chunks of {@link #BULK_LOAD_CHUNK_SIZE}.
+     * Each chunk is streamed into the main table and the split values table using <code>COPY ... FROM STDIN</code>.
+     * In case the connection does not support <code>COPY</code>, a multi-entry batch insert is used.
+     */
+    private void bulkAddToIndex(Collection<BibEntry> entries, BackgroundTask<?> task) {
+        Optional<CopyManager> copyManager = getCopyManager();
+        List<BibEntry> chunk = new ArrayList<>(Math.min(entries.size(), BULK_LOAD_CHUNK_SIZE));
+        int processed = 0;
         for (BibEntry entry : entries) {
             if (task.isCancelled()) {
                 LOGGER.debug("Indexing canceled");
                 return;
             }
-            addToIndex(entry);
-            task.updateProgress(i, entries.size());
-            task.updateMessage(Localization.lang("%0 of %1 entries added to the index.", i, entries.size()));
-            i++;
+            chunk.add(entry);
+            if (chunk.size() == BULK_LOAD_CHUNK_SIZE) {
+                bulkAddChunk(chunk, copyManager);
+                processed += chunk.size();
+                chunk.clear();
+                task.updateProgress(processed, entries.size());
+                task.updateMessage(Localization.lang("%0 of %1 entries added to the index.", processed, entries.size()));
+            }
+        }
+        if (!chunk.isEmpty()) {
+            bulkAddChunk(chunk, copyManager);
+            processed += chunk.size();
+            task.updateProgress(processed, entries.size());
+            task.updateMessage(Localization.lang("%0 of %1 entries added to the index.", processed, entries.size()));
         }
-        LOGGER.debug("Added {} entries to index in {} ms", entries.size(), System.currentTimeMillis() - startTime);
     }
 
-    private void addToIndex(BibEntry bibEntry) {
-        String insertFieldQuery = """
-                INSERT INTO %s ("%s", "%s", "%s", "%s")
-                VALUES (?, ?, ?, ?)
+    private Optional<CopyManager> getCopyManager() {
+        try {
+            return Optional.of(connection.unwrap(PGConnection.class).getCopyAPI());
+        } catch (SQLException e) {
+            LOGGER.debug("COPY is not supported by the connection, falling back to batch inserts", e);
+            return Optional.empty();
+        }
+    }
+
+    private void bulkAddChunk(List<BibEntry> chunk, Optional<CopyManager> copyManager) {
+        if (copyManager.isPresent()) {
+            StringBuilder mainRows = new StringBuilder();
+            StringBuilder splitRows = new StringBuilder();
+            IndexRowSink mainSink = (entryId, field, value, normalized) -> appendCopyRow(mainRows, entryId, field, value, normalized);
+            IndexRowSink splitSink = (entryId, field, value, normalized) -> appendCopyRow(splitRows, entryId, field, value, normalized);
+            for (BibEntry entry : chunk) {
+                addRows(entry, mainSink, splitSink);
+            }
+            try {
+                copyManager.get().copyIn(getCopyStatement(schemaMainTableReference), new StringReader(mainRows.toString()));
+                copyManager.get().copyIn(getCopyStatement(schemaSplitValuesTableReference), new StringReader(splitRows.toString()));
+                return;
+            } catch (SQLException | IOException e) {
+                LOGGER.warn("Could not copy {} entries to the index, falling back to batch inserts.", chunk.size(), e);
+                // The COPY of a chunk is atomic, but the main table could already contain the rows of this chunk
+                removeChunkFromIndex(chunk);
+            }
+        }
+
+        try (PreparedStatement preparedStatement = connection.prepareStatement(getInsertStatement(schemaMainTableReference));
+             PreparedStatement preparedStatementSplitValues = connection.prepareStatement(getInsertStatement(schemaSplitValuesTableReference))) {
+            for (BibEntry entry : chunk) {
+                addRows(entry, toSink(preparedStatement), toSink(preparedStatementSplitValues));
+            }
+            preparedStatement.executeBatch();
+            preparedStatementSplitValues.executeBatch();
+        } catch (SQLException e) {
+            LOGGER.error("Could not add {} entries to the index.", chunk.size(), e);
+        }
+    }
+
+    private void removeChunkFromIndex(List<BibEntry> chunk) {
+        String deleteQuery = """
+                DELETE FROM %s
+                WHERE "%s" = ANY (?)
+                """;
+        try (PreparedStatement deleteMain = connection.prepareStatement(deleteQuery.formatted(schemaMainTableReference, ENTRY_ID));
+             PreparedStatement deleteSplitValues = connection.prepareStatement(deleteQuery.formatted(schemaSplitValuesTableReference, ENTRY_ID))) {
+            Object[] entryIds = chunk.stream().map(BibEntry::getId).toArray();
+            deleteMain.setArray(1, connection.createArrayOf("text", entryIds));
+            deleteMain.executeUpdate();
+            deleteSplitValues.setArray(1, connection.createArrayOf("text", entryIds));
+            deleteSplitValues.executeUpdate();
+        } catch (SQLException e) {
+            LOGGER.error("Could not remove partially copied entries from the index", e);
+        }
+    }
+
+    private static String getCopyStatement(String tableReference) {
+        return """
+                COPY %s ("%s", "%s", "%s", "%s") FROM STDIN
                 """.formatted(
-                schemaMainTableReference,
+                tableReference,
                 ENTRY_ID,
                 FIELD_NAME,
                 FIELD_VALUE_LITERAL,
                 FIELD_VALUE_TRANSFORMED);
+    }
 
-        String insertIntoSplitTable = """
+    private static String getInsertStatement(String tableReference) {
+        return """
                 INSERT INTO %s ("%s", "%s", "%s", "%s")
                 VALUES (?, ?, ?, ?)
                 """.formatted(
-                schemaSplitValuesTableReference,
+                tableReference,
                 ENTRY_ID,
                 FIELD_NAME,
                 FIELD_VALUE_LITERAL,
                 FIELD_VALUE_TRANSFORMED);
+    }
 
-        try (PreparedStatement preparedStatement = connection.prepareStatement(insertFieldQuery);
-             PreparedStatement preparedStatementSplitValues = connection.prepareStatement(insertIntoSplitTable)) {
-            String entryId = bibEntry.getId();
-            for (Map.Entry<Field, String> fieldPair : bibEntry.getFieldMap().entrySet()) {
-                Field field = fieldPair.getKey();
-                String value = fieldPair.getValue();
-
-                // If a field exists, there also exists a resolved field latex free.
-                // We add a `.orElse("")` only because there could be some flaw in the future in the code - and we want to have search working even if the flaws are present.
-                // To uncover these flaws, we add the "assert" statement.
-                // One potential future flaw is that the bibEntry is modified concurrently and the field being deleted.
-                // Skip indexing of date-related fields separately to ensure proper handling later in the process.
-                if (!DATE_FIELDS.contains(field)) {
-                    Optional<String> resolvedFieldLatexFree = bibEntry.getResolvedFieldOrAliasLatexFree(field, this.databaseContext.getDatabase());
-                    assert resolvedFieldLatexFree.isPresent();
-                    addBatch(preparedStatement, entryId, field, value, resolvedFieldLatexFree.orElse(""));
-                }
-                // region Handling of known multi-value fields
-                // split and convert to Unicode
-                if (field.getProperties().contains(FieldProperty.PERSON_NAMES)) {
-                    addAuthors(value, preparedStatementSplitValues, entryId, field);
-                } else if (field == StandardField.KEYWORDS) {
-                    addKeywords(value, preparedStatementSplitValues, entryId, field, keywordSeparator);
-                } else if (field == StandardField.GROUPS) {
-                    addGroups(value, preparedStatementSplitValues, entryId, field);
-                } else if (field.getProperties().contains(FieldProperty.MULTIPLE_ENTRY_LINK)) {
-                    addEntryLinks(bibEntry, field, preparedStatementSplitValues, entryId);
-                } else if (field == StandardField.FILE) {
-                    // No handling of File, because due to relative paths, we think, there won't be any exact match operation
-                    // We could add the filename itself (with and without extension). However, the user can also use regular expressions to achieve the same.
-                    // The use case to search for file names seems pretty seldom, therefore we omit it.
-                } else {
-                    // No other multi-value fields are known
-                    // No action needed -> main table has the value
-                }
-                // endregion
-            }
-            // ensure all date-related fields are indexed.
-            for (Field dateField : DATE_FIELDS) {
-                Optional<String> resolvedDateValue = bibEntry.getResolvedFieldOrAlias(dateField, this.databaseContext.getDatabase());
-                resolvedDateValue.ifPresent(dateValue -> addBatch(preparedStatement, entryId, dateField, dateValue));
-            }
-            // add entry type
-            addBatch(preparedStatement, entryId, TYPE_HEADER, bibEntry.getType().getName());
-
+    private void addToIndex(BibEntry bibEntry) {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(getInsertStatement(schemaMainTableReference));
+             PreparedStatement preparedStatementSplitValues = connection.prepareStatement(getInsertStatement(schemaSplitValuesTableReference))) {
+            addRows(bibEntry, toSink(preparedStatement), toSink(preparedStatementSplitValues));
             preparedStatement.executeBatch();
             preparedStatementSplitValues.executeBatch();
         } catch (SQLException e) {
@@ -258,6 +345,54 @@ public class BibFieldsIndexer {
         }
     }
 
+    /**
+     * Generates all rows of the given entry for the main table and the split values table
+     */
+    private void addRows(BibEntry bibEntry, IndexRowSink mainTableSink, IndexRowSink splitValuesSink) {
+        String entryId = bibEntry.getId();
+        for (Map.Entry<Field, String> fieldPair : bibEntry.getFieldMap().entrySet()) {
+            Field field = fieldPair.getKey();
+            String value = fieldPair.getValue();
+
+            // If a field exists, there also exists a resolved field latex free.
+            // We add a `.orElse("")` only because there could be some flaw in the future in the code - and we want to have search working even if the flaws are present.
+            // To uncover these flaws, we add the "assert" statement.
+            // One potential future flaw is that the bibEntry is modified concurrently and the field being deleted.
+            // Skip indexing of date-related fields separately to ensure proper handling later in the process.
+            if (!DATE_FIELDS.contains(field)) {
+                Optional<String> resolvedFieldLatexFree = bibEntry.getResolvedFieldOrAliasLatexFree(field, this.databaseContext.getDatabase());
+                assert resolvedFieldLatexFree.isPresent();
+                mainTableSink.add(entryId, field, value, resolvedFieldLatexFree.orElse(""));
+            }
+            // region Handling of known multi-value fields
+            // split and convert to Unicode
+            if (field.getProperties().contains(FieldProperty.PERSON_NAMES)) {
+                addAuthors(value, splitValuesSink, entryId, field);
+            } else if (field == StandardField.KEYWORDS) {
+                addKeywords(value, splitValuesSink, entryId, field, keywordSeparator);
+            } else if (field == StandardField.GROUPS) {
+                addGroups(value, splitValuesSink, entryId, field);
+            } else if (field.getProperties().contains(FieldProperty.MULTIPLE_ENTRY_LINK)) {
+                addEntryLinks(bibEntry, field, splitValuesSink, entryId);
+            } else if (field == StandardField.FILE) {
+                // No handling of File, because due to relative paths, we think, there won't be any exact match operation
+                // We could add the filename itself (with and without extension). However, the user can also use regular expressions to achieve the same.
+                // The use case to search for file names seems pretty seldom, therefore we omit it.
+            } else {
+                // No other multi-value fields are known
+                // No action needed -> main table has the value
+            }
+            // endregion
+        }
+        // ensure all date-related fields are indexed.
+        for (Field dateField : DATE_FIELDS) {
+            Optional<String> resolvedDateValue = bibEntry.getResolvedFieldOrAlias(dateField, this.databaseContext.getDatabase());
+            resolvedDateValue.ifPresent(dateValue -> mainTableSink.add(entryId, dateField, dateValue));
+        }
+        // add entry type
+        mainTableSink.add(entryId, TYPE_HEADER, bibEntry.getType().getName());
+    }
+
     public void removeFromIndex(Collection<BibEntry> entries, BackgroundTask<?> task) {
         if (entries.size() > 1) {
             task.showToUser(true);
@@ -300,16 +435,6 @@ public class BibFieldsIndexer {
     }
 
     private void insertField(BibEntry entry, Field field) {
-        String insertFieldQuery = """
-                INSERT INTO %s ("%s", "%s", "%s", "%s")
-                VALUES (?, ?, ?, ?)
-                """.formatted(
-                schemaMainTableReference,
-                ENTRY_ID,
-                FIELD_NAME,
-                FIELD_VALUE_LITERAL,
-                FIELD_VALUE_TRANSFORMED);
-
         // Inserts or updates date-related fields (e.g., date, year, month, day) into the index.
         // If a conflict occurs (e.g., the same ENTRY_ID and FIELD_NAME already exist),
         // the existing values are overwritten with the new ones to ensure the latest data is stored.
@@ -340,7 +465,7 @@ public class BibFieldsIndexer {
                 LOGGER.error("Could not add an entry to the index.", e);
             }
         } else {
-            try (PreparedStatement preparedStatement = connection.prepareStatement(insertFieldQuery)) {
+            try (PreparedStatement preparedStatement = connection.prepareStatement(getInsertStatement(schemaMainTableReference))) {
                 String value = entry.getField(field).orElse("");
 
                 Optional<String> resolvedFieldLatexFree = entry.getResolvedFieldOrAliasLatexFree(field, this.databaseContext.getDatabase());
@@ -352,27 +477,18 @@ public class BibFieldsIndexer {
             }
         }
 
-        String insertIntoSplitTable = """
-                INSERT INTO %s ("%s", "%s", "%s", "%s")
-                VALUES (?, ?, ?, ?)
-                """.formatted(
-                schemaSplitValuesTableReference,
-                ENTRY_ID,
-                FIELD_NAME,
-                FIELD_VALUE_LITERAL,
-                FIELD_VALUE_TRANSFORMED);
-
-        try (PreparedStatement preparedStatement = connection.prepareStatement(insertIntoSplitTable)) {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(getInsertStatement(schemaSplitValuesTableReference))) {
             String value = entry.getField(field).orElse("");
 
+            IndexRowSink splitValuesSink = toSink(preparedStatement);
             if (field.getProperties().contains(FieldProperty.PERSON_NAMES)) {
-                addAuthors(value, preparedStatement, entryId, field);
+                addAuthors(value, splitValuesSink, entryId, field);
             } else if (field == StandardField.KEYWORDS) {
-                addKeywords(value, preparedStatement, entryId, field, keywordSeparator);
+                addKeywords(value, splitValuesSink, entryId, field, keywordSeparator);
             } else if (field == StandardField.GROUPS) {
-                addGroups(value, preparedStatement, entryId, field);
+                addGroups(value, splitValuesSink, entryId, field);
             } else if (field.getProperties().contains(FieldProperty.MULTIPLE_ENTRY_LINK)) {
-                addEntryLinks(entry, field, preparedStatement, entryId);
+                addEntryLinks(entry, field, splitValuesSink, entryId);
             } else if (field == StandardField.FILE) {
                 // No handling of File, because due to relative paths, we think, there won't be any exact match operation
             }
@@ -425,37 +541,41 @@ public class BibFieldsIndexer {
         return mainTable;
     }
 
-    private void addEntryLinks(BibEntry bibEntry, Field field, PreparedStatement preparedStatementSplitValues, String entryId) {
+    private void addEntryLinks(BibEntry bibEntry, Field field, IndexRowSink splitValuesSink, String entryId) {
         bibEntry.getEntryLinkList(field, databaseContext.getDatabase()).stream()
             .distinct()
-            .forEach(link -> addBatch(preparedStatementSplitValues, entryId, field, link.getKey()));
+            .forEach(link -> splitValuesSink.add(entryId, field, link.getKey()));
     }
 
-    private static void addGroups(String value, PreparedStatement preparedStatementSplitValues, String entryId, Field field) {
+    private static void addGroups(String value, IndexRowSink splitValuesSink, String entryId, Field field) {
         // We could use KeywordList, but we are afraid that group names could have ">" in their name, and then they would not be handled correctly
         Arrays.stream(GROUPS_SEPARATOR_REGEX.split(value))
               .distinct()
-              .forEach(group -> addBatch(preparedStatementSplitValues, entryId, field, group));
+              .forEach(group -> splitValuesSink.add(entryId, field, group));
     }
 
-    private static void addKeywords(String keywordsString, PreparedStatement preparedStatementSplitValues, String entryId, Field field, Character keywordSeparator) {
+    private static void addKeywords(String keywordsString, IndexRowSink splitValuesSink, String entryId, Field field, Character keywordSeparator) {
         KeywordList keywordList = KeywordList.parse(keywordsString, keywordSeparator);
         keywordList.stream().flatMap(keyword -> keyword.flatten().stream()).forEach(keyword -> {
             String value = keyword.toString();
-            addBatch(preparedStatementSplitValues, entryId, field, value);
+            splitValuesSink.add(entryId, field, value);
         });
     }
 
-    private static void addAuthors(String value, PreparedStatement preparedStatementSplitValues, String entryId, Field field) {
+    private static void addAuthors(String value, IndexRowSink splitValuesSink, String entryId, Field field) {
         AuthorList.parse(value).getAuthors().forEach(author -> {
             // Author object does not support literal values
             // We use the method giving us the most complete information for the literal value;
             String literal = author.getGivenFamily(false);
             String transformed = author.latexFree().getGivenFamily(false);
-            addBatch(preparedStatementSplitValues, entryId, field, literal, transformed);
+            splitValuesSink.add(entryId, field, literal, transformed);
         });
     }
 
+    private static IndexRowSink toSink(PreparedStatement preparedStatement) {
+        return (entryId, field, value, normalized) -> addBatch(preparedStatement, entryId, field, value, normalized);
+    }
+
     private static void addBatch(PreparedStatement preparedStatement, String entryId, Field field, String value) {
         addBatch(preparedStatement, entryId, field, value, LATEX_TO_UNICODE_FORMATTER.format(value));
     }
@@ -474,4 +594,47 @@ public class BibFieldsIndexer {
             LOGGER.error("Could not add field {} having value {} of entry {} to the index.", field.getName(), value, entryId, e);
         }
     }
+
+    /**
+     * Appends one row in the text format of <code>COPY</code>: columns are separated by tabs, rows are terminated by a newline.
+     */
+    private static void appendCopyRow(StringBuilder rows, String entryId, Field field, String value, String normalized) {
+        appendCopyValue(rows, entryId).append('\t');
+        appendCopyValue(rows, field.getName()).append('\t');
+        appendCopyValue(rows, value).append('\t');
+        appendCopyValue(rows, normalized).append('\n');
+    }
+
+    /**
+     * Escapes a value for the text format of <code>COPY</code>.
+     * See <a href="https://www.postgresql.org/docs/current/sql-copy.html#id-1.9.3.55.9.2">PostgreSQL documentation</a>.
+     */
+    static StringBuilder appendCopyValue(StringBuilder rows, String value) {
+        if (value == null) {
+            return rows.append("\\N");
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\' -> rows.append("\\\\");
+                case '\n' -> rows.append("\\n");
+                case '\r' -> rows.append("\\r");
+                case '\t' -> rows.append("\\t");
+                default -> rows.append(c);
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Receives the rows generated for an entry. Rows are either added to a JDBC batch or to a <code>COPY</code> buffer.
+     */
+    @FunctionalInterface
+    private interface IndexRowSink {
+        void add(String entryId, Field field, String value, String normalized);
+
+        default void add(String entryId, Field field, String value) {
+            add(entryId, field, value, LATEX_TO_UNICODE_FORMATTER.format(value));
+        }
+    }
 }
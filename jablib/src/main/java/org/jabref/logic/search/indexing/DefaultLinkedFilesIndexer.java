@@ -3,15 +3,26 @@ package org.jabref.logic.search.indexing;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayDeque;
 import java.util.Collection;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
 import java.util.stream.Collectors;
 
 import javafx.util.Pair;
@@ -50,18 +61,41 @@ public class DefaultLinkedFilesIndexer implements LuceneIndexer {
     private static final DocumentReader DOCUMENT_READER = new DocumentReader();
     private static int NUMBER_OF_UNSAVED_LIBRARIES = 1;
 
+    /**
+     * Maximum time to extract the content of a single file. Pathological PDFs exceeding this time are skipped.
+     */
+    private static final Duration FILE_EXTRACTION_TIMEOUT = Duration.ofSeconds(120);
+
+    /**
+     * The index is committed after this number of indexed files, so that a crash does not lose the work done so far.
+     */
+    private static final int COMMIT_INTERVAL = 100;
+    private static final long NOT_STARTED = Long.MIN_VALUE;
+
     private final BibDatabaseContext databaseContext;
     private final FilePreferences filePreferences;
     private final String libraryName;
     private final Directory indexDirectory;
     private final IndexWriter indexWriter;
     private final SearcherManager searcherManager;
+    private final BiFunction<String, Path, List<Document>> pdfReader;
+    private final Duration extractionTimeout;
     private Path indexDirectoryPath;
     private Map<String, Long> indexedFiles;
 
     public DefaultLinkedFilesIndexer(BibDatabaseContext databaseContext, FilePreferences filePreferences) throws IOException {
+        this(databaseContext, filePreferences, DOCUMENT_READER::readPdfContents, FILE_EXTRACTION_TIMEOUT);
+    }
+
+    /**
+     * @param pdfReader         reads the pages of a PDF file
+     * @param extractionTimeout the maximum time to extract the content of a single file
+     */
+    DefaultLinkedFilesIndexer(BibDatabaseContext databaseContext, FilePreferences filePreferences, BiFunction<String, Path, List<Document>> pdfReader, Duration extractionTimeout) throws IOException {
         this.databaseContext = databaseContext;
         this.filePreferences = filePreferences;
+        this.pdfReader = pdfReader;
+        this.extractionTimeout = extractionTimeout;
         this.libraryName = databaseContext.getDatabasePath().map(path -> path.getFileName().toString()).orElseGet(() -> "untitled");
         this.indexedFiles = new ConcurrentHashMap<>();
 
@@ -123,45 +157,140 @@ public class DefaultLinkedFilesIndexer implements LuceneIndexer {
         addToIndex(filesToAdd, task);
     }
 
+    /**
+     * Extracts and indexes the given files in a pipeline: a bounded number of workers (see {@link FilePreferences#getFulltextIndexParallelism()}) read the PDFs
+     * and feed the pages to the thread-safe {@link IndexWriter}. New files are only handed to the workers when a previous file is done (backpressure).
+     * The number of workers is limited to the number of available processors.
+     * <p>
+     * Each file is extracted on a fresh thread. PDFBox does not react to interrupts, thus a worker which exceeds the timeout is abandoned
+     * (it is a daemon thread) and the next file gets a new thread instead of waiting for the hanging one.
+     */
     private void addToIndex(Map<String, Pair<Long, Path>> linkedFiles, BackgroundTask<?> task) {
-        for (String fileLink : linkedFiles.keySet()) {
+        linkedFiles.keySet().removeIf(fileLink -> {
             if (indexedFiles.containsKey(fileLink)) {
                 LOGGER.debug("File {} is already indexed.", fileLink);
-                linkedFiles.remove(fileLink);
+                return true;
             }
-        }
+            return false;
+        });
         if (linkedFiles.isEmpty()) {
             return;
         }
 
-        LOGGER.debug("Adding {} files to index", linkedFiles.size());
+        int parallelism = Math.clamp(filePreferences.getFulltextIndexParallelism(), 1, Runtime.getRuntime().availableProcessors());
+        LOGGER.debug("Adding {} files to index using {} workers", linkedFiles.size(), parallelism);
+        ExecutorService extractionExecutor = Executors.newThreadPerTaskExecutor(Thread.ofPlatform()
+                                                                                      .name("Fulltext indexer - " + libraryName + " - ", 1)
+                                                                                      .daemon()
+                                                                                      .factory());
+        Deque<PendingFile> pendingFiles = new ArrayDeque<>(parallelism);
         int i = 1;
-        for (Map.Entry<String, Pair<Long, Path>> entry : linkedFiles.entrySet()) {
-            if (task.isCancelled()) {
-                LOGGER.debug("Adding files to index canceled");
-                return;
+        try {
+            for (Map.Entry<String, Pair<Long, Path>> entry : linkedFiles.entrySet()) {
+                if (task.isCancelled()) {
+                    LOGGER.debug("Adding files to index canceled");
+                    pendingFiles.forEach(pendingFile -> pendingFile.future().cancel(true));
+                    return;
+                }
+                if (pendingFiles.size() >= parallelism) {
+                    finishIndexing(pendingFiles.poll(), linkedFiles.size(), i++, task);
+                }
+                String fileLink = entry.getKey();
+                long modifiedTime = entry.getValue().getKey();
+                Path resolvedPath = entry.getValue().getValue();
+                AtomicLong extractionStart = new AtomicLong(NOT_STARTED);
+                Future<?> future = extractionExecutor.submit(() -> {
+                    extractionStart.set(System.nanoTime());
+                    return extractAndIndex(fileLink, resolvedPath);
+                });
+                pendingFiles.add(new PendingFile(fileLink, modifiedTime, resolvedPath, future, extractionStart));
+            }
+            while (!pendingFiles.isEmpty()) {
+                finishIndexing(pendingFiles.poll(), linkedFiles.size(), i++, task);
             }
-            addToIndex(entry.getKey(), entry.getValue().getKey(), entry.getValue().getValue());
-            task.setTitle(Localization.lang("Indexing files for %1 | %2 of %0 file(s) indexed.", linkedFiles.size(), libraryName, i));
-            task.updateProgress(i, linkedFiles.size());
-            task.updateMessage(Localization.lang("Indexing %0", FileUtil.shortenFileName(entry.getValue().getValue().getFileName().toString(), 68)));
-            task.showToUser(true);
-            i++;
+        } finally {
+            extractionExecutor.shutdownNow();
+            commit();
         }
         LOGGER.debug("Added {} files to index", linkedFiles.size());
     }
 
-    private void addToIndex(String fileLink, long modifiedTime, Path resolvedPath) {
+    /**
+     * Waits for the extraction of the given file (at most until its timeout is exceeded) and reports the progress.
+     */
+    private void finishIndexing(PendingFile pendingFile, int numberOfFiles, int i, BackgroundTask<?> task) {
+        try {
+            awaitExtraction(pendingFile);
+            indexedFiles.put(pendingFile.fileLink(), pendingFile.modifiedTime());
+        } catch (TimeoutException e) {
+            LOGGER.warn("Extracting the content of {} took longer than {}. The file will not be indexed.", pendingFile.fileLink(), extractionTimeout);
+            pendingFile.future().cancel(true);
+        } catch (ExecutionException | CancellationException e) {
+            LOGGER.warn("Could not add the document {} to the index.", pendingFile.fileLink(), e);
+        } catch (InterruptedException e) {
+            LOGGER.debug("Interrupted while waiting for {}", pendingFile.fileLink(), e);
+            pendingFile.future().cancel(true);
+            Thread.currentThread().interrupt();
+        }
+
+        task.setTitle(Localization.lang("Indexing files for %1 | %2 of %0 file(s) indexed.", numberOfFiles, libraryName, i));
+        task.updateProgress(i, numberOfFiles);
+        task.updateMessage(Localization.lang("Indexing %0", FileUtil.shortenFileName(pendingFile.resolvedPath().getFileName().toString(), 68)));
+        task.showToUser(true);
+        if (i % COMMIT_INTERVAL == 0) {
+            commit();
+        }
+    }
+
+    /**
+     * The timeout counts from the start of the extraction, not from the submission of the file. Thus, a file waiting for its thread is not given up on.
+     */
+    private void awaitExtraction(PendingFile pendingFile) throws InterruptedException, ExecutionException, TimeoutException {
+        long start = pendingFile.extractionStart().get();
+        if (start == NOT_STARTED) {
+            try {
+                pendingFile.future().get(extractionTimeout.toNanos(), TimeUnit.NANOSECONDS);
+                return;
+            } catch (TimeoutException e) {
+                start = pendingFile.extractionStart().get();
+                if (start == NOT_STARTED) {
+                    throw e;
+                }
+            }
+        }
+        pendingFile.future().get(Math.max(0, start + extractionTimeout.toNanos() - System.nanoTime()), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Runs on an extraction worker.
+     *
+     * @implNote {@link IndexWriter#updateDocuments} replaces all pages of the file. Thus, a late result of a timed-out extraction does not lead to duplicate pages.
+     */
+    private Void extractAndIndex(String fileLink, Path resolvedPath) throws IOException {
         LOGGER.debug("Adding file {} to the index.", fileLink);
-        List<Document> pages = DOCUMENT_READER.readPdfContents(fileLink, resolvedPath);
+        List<Document> pages = pdfReader.apply(fileLink, resolvedPath);
+        if (Thread.currentThread().isInterrupted()) {
+            LOGGER.debug("Extraction of {} was cancelled", fileLink);
+            return null;
+        }
+        indexWriter.updateDocuments(new Term(LinkedFilesConstants.PATH.toString(), fileLink), pages);
+        return null;
+    }
+
+    private void commit() {
         try {
-            indexWriter.addDocuments(pages);
-            indexedFiles.put(fileLink, modifiedTime);
+            indexWriter.commit();
         } catch (IOException e) {
-            LOGGER.warn("Could not add the document {} to the index.", fileLink, e);
+            LOGGER.warn("Could not commit the linked files index.", e);
         }
     }
 
+    /**
+     * @param extractionStart the {@link System#nanoTime()} when the worker started the extraction, {@link #NOT_STARTED} before
+     */
+    private record PendingFile(String fileLink, long modifiedTime, Path resolvedPath, Future<?> future, AtomicLong extractionStart) {
+    }
+
     @Override
     public void removeFromIndex(Collection<BibEntry> entries, BackgroundTask<?> task) {
         Map<String, Pair<Long, Path>> linkedFiles = getLinkedFilesFromEntries(entries);
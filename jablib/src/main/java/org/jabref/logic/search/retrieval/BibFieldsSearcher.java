@@ -1,9 +1,17 @@
 package org.jabref.logic.search.retrieval;
 
+import java.sql.Array;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.jabref.logic.search.query.SearchQueryConversion;
 import org.jabref.model.entry.BibEntry;
@@ -33,6 +41,68 @@ public class BibFieldsSearcher {
         return search(newSearchQuery).isMatched(entry);
     }
 
+    /**
+     * Determines which of the given entries are matched by each of the given queries.
+     * In contrast to {@link #isMatched(BibEntry, SearchQuery)}, all queries are evaluated for all entries using a single SQL statement.
+     *
+     * @return a map from each (valid) query to the ids of the entries matched by it
+     */
+    public Map<SearchQuery, Set<String>> getMatchedEntryIds(Collection<BibEntry> entries, Collection<SearchQuery> searchQueries) {
+        Map<SearchQuery, Set<String>> matches = new HashMap<>();
+        List<SearchQuery> validQueries = new ArrayList<>();
+        for (SearchQuery searchQuery : searchQueries) {
+            if (searchQuery.isValid() && !matches.containsKey(searchQuery)) {
+                matches.put(searchQuery, new HashSet<>());
+                validQueries.add(searchQuery);
+            }
+        }
+        if (entries.isEmpty() || validQueries.isEmpty()) {
+            return matches;
+        }
+
+        // Each query is wrapped as sub-select, restricted to the given entries, and tagged with its index
+        StringBuilder sql = new StringBuilder();
+        List<String> params = new ArrayList<>();
+        for (int i = 0; i < validQueries.size(); i++) {
+            SqlQueryNode sqlQueryNode = SearchQueryConversion.searchToSql(tableName, validQueries.get(i));
+            if (i > 0) {
+                sql.append("\nUNION ALL\n");
+            }
+            sql.append("""
+                    SELECT %d, query%d.%s
+                    FROM (
+                    %s
+                    ) AS query%d
+                    WHERE query%d.%s = ANY (?)""".formatted(i, i, ENTRY_ID, sqlQueryNode.cte(), i, i, ENTRY_ID));
+            params.addAll(sqlQueryNode.params());
+            // placeholder for the array of entry ids
+            params.add(null);
+        }
+
+        try (PreparedStatement preparedStatement = connection.prepareStatement(sql.toString())) {
+            Array entryIds = connection.createArrayOf("text", entries.stream().map(BibEntry::getId).toArray());
+            try {
+                for (int i = 0; i < params.size(); i++) {
+                    if (params.get(i) == null) {
+                        preparedStatement.setArray(i + 1, entryIds);
+                    } else {
+                        preparedStatement.setString(i + 1, params.get(i));
+                    }
+                }
+                LOGGER.debug("Executing batched match query for {} entries and {} queries", entries.size(), validQueries.size());
+                ResultSet resultSet = preparedStatement.executeQuery();
+                while (resultSet.next()) {
+                    matches.get(validQueries.get(resultSet.getInt(1))).add(resultSet.getString(2));
+                }
+            } finally {
+                entryIds.free();
+            }
+        } catch (SQLException e) {
+            LOGGER.error("Error during batched bib fields match execution", e);
+        }
+        return matches;
+    }
+
     private static SearchQuery createBooleanQueryForEntry(BibEntry entry, SearchQuery oldSearchQuery) {
         String newSearchExpression = "( " + ENTRY_ID + "= " + entry.getId() + ") AND (" + oldSearchQuery.getSearchExpression() + " )";
         return new SearchQuery(newSearchExpression, oldSearchQuery.getSearchFlags());
@@ -37,6 +37,11 @@ public abstract class DBMSProcessor {
 
     public static final String PROCESSOR_ID = UUID.randomUUID().toString();
 
+    /**
+     * Versions of shared entries start with 1, thus this version marks a removed entry in change notifications
+     */
+    public static final int REMOVED_ENTRY_VERSION = 0;
+
     protected static final Logger LOGGER = LoggerFactory.getLogger(DBMSProcessor.class);
 
     protected final Connection connection;
@@ -691,4 +696,12 @@ public abstract class DBMSProcessor {
     public void notifyClients() {
         // nothing to do
     }
+
+    /**
+     * Notifies all clients ({@link DBMSSynchronizer}) which are connected to the same DBMS about changed entries.
+     *
+     * @param changedEntries the shared IDs of the changed entries mapped to their new version. Removed entries are mapped
+     *                       to {@link #REMOVED_ENTRY_VERSION}.
+     */
+    public abstract void notifyClients(Map<Integer, Integer> changedEntries);
 }
@@ -3,11 +3,14 @@ package org.jabref.logic.shared;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.ToIntFunction;
 import java.util.stream.Collectors;
 
 import org.jabref.logic.bibtex.FieldPreferences;
@@ -27,7 +30,10 @@ import org.jabref.model.database.event.EntriesRemovedEvent;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.event.EntriesEvent;
 import org.jabref.model.entry.event.EntriesEventSource;
+import org.jabref.model.entry.event.EntryChangedEvent;
 import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.event.FieldsChangedEvent;
+import org.jabref.model.entry.field.Field;
 import org.jabref.model.metadata.MetaData;
 import org.jabref.model.metadata.event.MetaDataChangedEvent;
 import org.jabref.model.util.FileUpdateMonitor;
@@ -84,6 +90,7 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
             pullWithLastEntry();
             synchronizeLocalDatabase();
             dbmsProcessor.insertEntries(event.getBibEntries());
+            notifyClients(event.getBibEntries(), bibEntry -> bibEntry.getSharedBibEntryData().getVersion());
             // Reset last changed entry because it just has already been synchronized -> Why necessary?
             lastEntryChanged = Optional.empty();
         }
@@ -94,6 +101,18 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
      */
     @Subscribe
     public void listen(FieldChangedEvent event) {
+        synchronizeChangedEntry(event);
+    }
+
+    /**
+     * Listening method. Updates an existing shared {@link BibEntry} after several fields were changed at once.
+     */
+    @Subscribe
+    public void listen(FieldsChangedEvent event) {
+        synchronizeChangedEntry(event);
+    }
+
+    private void synchronizeChangedEntry(EntryChangedEvent event) {
         BibEntry bibEntry = event.getBibEntry();
         // While synchronizing the local database (see synchronizeLocalDatabase() below), some EntriesEvents may be posted.
         // In this case DBSynchronizer should not try to update the bibEntry entry again (but it would not harm).
@@ -102,6 +121,7 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
             pullWithLastEntry();
             synchronizeSharedEntry(bibEntry);
             synchronizeLocalDatabase(); // Pull changes for the case that there were some
+            notifyClients(List.of(bibEntry), entry -> entry.getSharedBibEntryData().getVersion());
         } else {
             // Set new BibEntry that has been changed last
             lastEntryChanged = Optional.of(bibEntry);
@@ -119,6 +139,7 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
             synchronizeLocalMetaData();
             pullWithLastEntry();
             dbmsProcessor.removeEntries(event.getBibEntries());
+            notifyClients(event.getBibEntries(), _ -> DBMSProcessor.REMOVED_ENTRY_VERSION);
             synchronizeLocalDatabase();
         }
     }
@@ -180,46 +201,110 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
 
         // remove old entries locally
         removeNotSharedEntries(localEntries, idVersionMap.keySet());
-        List<Integer> entriesToInsertIntoLocalDatabase = new ArrayList<>();
-        // compare versions and update local entry if needed
-        for (Map.Entry<Integer, Integer> idVersionEntry : idVersionMap.entrySet()) {
-            boolean remoteEntryMatchingOneLocalEntryFound = false;
-            for (BibEntry localEntry : localEntries) {
-                if (idVersionEntry.getKey().equals(localEntry.getSharedBibEntryData().getSharedID())) {
-                    remoteEntryMatchingOneLocalEntryFound = true;
-                    if (idVersionEntry.getValue() > localEntry.getSharedBibEntryData().getVersion()) {
-                        Optional<BibEntry> sharedEntry = dbmsProcessor.getSharedEntry(idVersionEntry.getKey());
-                        if (sharedEntry.isPresent()) {
-                            // update fields
-                            localEntry.setType(sharedEntry.get().getType(), EntriesEventSource.SHARED);
-                            localEntry.getSharedBibEntryData()
-                                      .setVersion(sharedEntry.get().getSharedBibEntryData().getVersion());
-                            sharedEntry.get().getFieldMap().forEach(
-                                    // copy remote values to local entry
-                                    (field, value) -> localEntry.setField(field, value, EntriesEventSource.SHARED)
-                            );
-
-                            // locally remove not existing fields
-                            localEntry.getFields().stream()
-                                      .filter(field -> !sharedEntry.get().hasField(field))
-                                      .forEach(
-                                              field -> localEntry.clearField(field, EntriesEventSource.SHARED)
-                                      );
-                        }
-                    }
+
+        Map<Integer, BibEntry> localEntriesBySharedID = getLocalEntriesBySharedID(localEntries);
+
+        // The version of each local entry is the last version seen of it. Only entries with a newer shared version are pulled.
+        List<Integer> entriesToPull = new ArrayList<>();
+        idVersionMap.forEach((sharedID, version) -> {
+            BibEntry localEntry = localEntriesBySharedID.get(sharedID);
+            if (localEntry == null || version > localEntry.getSharedBibEntryData().getVersion()) {
+                entriesToPull.add(sharedID);
+            }
+        });
+        pullSharedEntries(entriesToPull, localEntriesBySharedID);
+    }
+
+    /**
+     * Synchronizes the given entries of the local database with the shared one. In contrast to {@link #synchronizeLocalDatabase()},
+     * only these entries are queried.
+     *
+     * @param changedEntries the shared IDs of the changed entries mapped to their new version, see {@link DBMSProcessor#notifyClients(Map)}
+     */
+    public void pullChanges(Map<Integer, Integer> changedEntries) {
+        if (!checkCurrentConnection()) {
+            return;
+        }
+        pullWithLastEntry();
+
+        Map<Integer, BibEntry> localEntriesBySharedID = getLocalEntriesBySharedID(bibDatabase.getEntries());
+        List<BibEntry> entriesToRemove = new ArrayList<>();
+        List<Integer> entriesToPull = new ArrayList<>();
+        changedEntries.forEach((sharedID, version) -> {
+            BibEntry localEntry = localEntriesBySharedID.get(sharedID);
+            if (version == DBMSProcessor.REMOVED_ENTRY_VERSION) {
+                if (localEntry != null) {
+                    entriesToRemove.add(localEntry);
+                    localEntriesBySharedID.remove(sharedID);
                 }
+            } else if (localEntry == null || version > localEntry.getSharedBibEntryData().getVersion()) {
+                entriesToPull.add(sharedID);
             }
-            if (!remoteEntryMatchingOneLocalEntryFound) {
-                entriesToInsertIntoLocalDatabase.add(idVersionEntry.getKey());
+        });
+
+        if (!entriesToRemove.isEmpty()) {
+            eventBus.post(new SharedEntriesNotPresentEvent(entriesToRemove));
+            bibDatabase.removeEntries(entriesToRemove, EntriesEventSource.SHARED);
+        }
+        pullSharedEntries(entriesToPull, localEntriesBySharedID);
+    }
+
+    private static Map<Integer, BibEntry> getLocalEntriesBySharedID(List<BibEntry> localEntries) {
+        Map<Integer, BibEntry> localEntriesBySharedID = HashMap.newHashMap(localEntries.size());
+        for (BibEntry localEntry : localEntries) {
+            localEntriesBySharedID.put(localEntry.getSharedBibEntryData().getSharedID(), localEntry);
+        }
+        return localEntriesBySharedID;
+    }
+
+    /**
+     * Fetches the given shared entries in batches. Entries present locally are updated, the others are inserted.
+     */
+    private void pullSharedEntries(List<Integer> sharedIDs, Map<Integer, BibEntry> localEntriesBySharedID) {
+        if (sharedIDs.isEmpty()) {
+            // An empty list would query all shared entries
+            return;
+        }
+
+        List<BibEntry> entriesToInsertIntoLocalDatabase = new ArrayList<>();
+        for (BibEntry sharedEntry : dbmsProcessor.partitionAndGetSharedEntries(sharedIDs)) {
+            BibEntry localEntry = localEntriesBySharedID.get(sharedEntry.getSharedBibEntryData().getSharedID());
+            if (localEntry == null) {
+                entriesToInsertIntoLocalDatabase.add(sharedEntry);
+            } else {
+                updateLocalEntry(localEntry, sharedEntry);
             }
         }
 
         if (!entriesToInsertIntoLocalDatabase.isEmpty()) {
             // in case entries should be added into the local database, insert them
-            bibDatabase.insertEntries(dbmsProcessor.partitionAndGetSharedEntries(entriesToInsertIntoLocalDatabase), EntriesEventSource.SHARED);
+            bibDatabase.insertEntries(entriesToInsertIntoLocalDatabase, EntriesEventSource.SHARED);
         }
     }
 
+    /**
+     * Applies the state of the shared entry to the local one. The differences are determined first, so that only fields
+     * which really changed are touched. All field changes are applied at once, thus listeners are notified by a single event.
+     */
+    private void updateLocalEntry(BibEntry localEntry, BibEntry sharedEntry) {
+        Map<Field, String> sharedFields = sharedEntry.getFieldMap();
+        Map<Field, String> changedFields = new HashMap<>();
+        // copy remote values to local entry
+        sharedFields.forEach((field, value) -> {
+            if (!localEntry.getField(field).map(value::equals).orElse(false)) {
+                changedFields.put(field, value);
+            }
+        });
+        // locally remove not existing fields (an empty value clears the field)
+        localEntry.getFields().stream()
+                  .filter(field -> !sharedFields.containsKey(field))
+                  .forEach(field -> changedFields.put(field, ""));
+
+        localEntry.setType(sharedEntry.getType(), EntriesEventSource.SHARED);
+        localEntry.getSharedBibEntryData().setVersion(sharedEntry.getSharedBibEntryData().getVersion());
+        localEntry.setField(changedFields, EntriesEventSource.SHARED);
+    }
+
     /**
      * Removes all local entries which are not present on shared database.
      *
@@ -400,8 +485,22 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
         }
     }
 
+    /**
+     * Tells the other clients which entries changed, so that they do not need to pull the complete library.
+     */
+    private void notifyClients(List<BibEntry> bibEntries, ToIntFunction<BibEntry> versionOfEntry) {
+        Map<Integer, Integer> changedEntries = new LinkedHashMap<>();
+        for (BibEntry bibEntry : bibEntries) {
+            int sharedID = bibEntry.getSharedBibEntryData().getSharedID();
+            if (sharedID != -1) {
+                changedEntries.put(sharedID, versionOfEntry.applyAsInt(bibEntry));
+            }
+        }
+        dbmsProcessor.notifyClients(changedEntries);
+    }
+
     private boolean isPresentLocalBibEntry(BibEntry bibEntry) {
-        return bibDatabase.getEntries().contains(bibEntry);
+        return bibDatabase.getEntryById(bibEntry.getId()) == bibEntry;
     }
 
     @Override
@@ -172,4 +172,19 @@ public class PostgreSQLProcessor extends DBMSProcessor {
             LOGGER.error("SQL Error during client notification", e);
         }
     }
+
+    @Override
+    public void notifyClients(Map<Integer, Integer> changedEntries) {
+        if (changedEntries.isEmpty()) {
+            return;
+        }
+        // The payloads consist of the processor ID and numbers only, thus they do not need to be escaped
+        try (Statement statement = connection.createStatement()) {
+            for (String payload : PostgresSQLNotificationListener.createPayloads(PROCESSOR_ID, changedEntries)) {
+                statement.execute("NOTIFY jabrefLiveUpdate, '" + payload + "';");
+            }
+        } catch (SQLException e) {
+            LOGGER.error("SQL Error during client notification", e);
+        }
+    }
 }
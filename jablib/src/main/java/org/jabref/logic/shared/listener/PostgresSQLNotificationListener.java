@@ -1,6 +1,10 @@
 package org.jabref.logic.shared.listener;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 import org.jabref.logic.shared.DBMSProcessor;
 import org.jabref.logic.shared.DBMSSynchronizer;
@@ -12,11 +16,24 @@ import org.slf4j.LoggerFactory;
 
 /**
  * A listener for PostgreSQL database notifications.
+ * <p>
+ * The payload of a notification is the ID of the sending processor, optionally followed by the changed entries:
+ * <code>processorId;sharedId:version,sharedId:version,...</code>. Without changed entries, the complete library is pulled.
  */
 public class PostgresSQLNotificationListener implements Runnable {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(PostgresSQLNotificationListener.class);
 
+    // PostgreSQL rejects payloads of 8000 bytes or longer
+    private static final int MAX_PAYLOAD_LENGTH = 7900;
+
+    // Upper bound of the time the listener needs to notice that it was stopped
+    private static final int NOTIFICATION_TIMEOUT_MILLIS = 1000;
+
+    private static final char PROCESSOR_ID_SEPARATOR = ';';
+    private static final char ENTRY_SEPARATOR = ',';
+    private static final char VERSION_SEPARATOR = ':';
+
     private final DBMSSynchronizer dbmsSynchronizer;
     private final PGConnection pgConnection;
     private volatile boolean stop;
@@ -30,27 +47,89 @@ public class PostgresSQLNotificationListener implements Runnable {
     public void run() {
         stop = false;
         try {
-            // noinspection InfiniteLoopStatement
             while (!stop) {
-                PGNotification[] notifications = pgConnection.getNotifications();
+                // Blocks until a notification arrives or the timeout elapses
+                PGNotification[] notifications = pgConnection.getNotifications(NOTIFICATION_TIMEOUT_MILLIS);
 
                 if (notifications != null) {
-                    for (PGNotification notification : notifications) {
-                        if (!DBMSProcessor.PROCESSOR_ID.equals(notification.getName())) {
-                            dbmsSynchronizer.pullChanges();
-                        }
-                    }
+                    handleNotifications(notifications);
                 }
+            }
+        } catch (SQLException exception) {
+            if (!stop) {
+                LOGGER.error("Error while listening for updates to PostgresSQL", exception);
+            }
+        }
+    }
 
-                // Wait a while before checking again for new notifications
-                Thread.sleep(500);
+    private void handleNotifications(PGNotification[] notifications) {
+        Map<Integer, Integer> changedEntries = new LinkedHashMap<>();
+        for (PGNotification notification : notifications) {
+            String payload = notification.getParameter();
+            if (getProcessorId(payload).equals(DBMSProcessor.PROCESSOR_ID)) {
+                continue;
+            }
+            Map<Integer, Integer> notifiedEntries = parseChangedEntries(payload);
+            if (notifiedEntries.isEmpty()) {
+                // The notification does not tell what changed (e.g., the meta data), thus everything is pulled
+                dbmsSynchronizer.pullChanges();
+                return;
             }
-        } catch (SQLException | InterruptedException exception) {
-            LOGGER.error("Error while listening for updates to PostgresSQL", exception);
+            notifiedEntries.forEach((sharedID, version) -> changedEntries.merge(sharedID, version,
+                    (oldVersion, newVersion) -> newVersion == DBMSProcessor.REMOVED_ENTRY_VERSION ? newVersion : Math.max(oldVersion, newVersion)));
+        }
+        if (!changedEntries.isEmpty()) {
+            dbmsSynchronizer.pullChanges(changedEntries);
         }
     }
 
     public void stop() {
         stop = true;
     }
+
+    /**
+     * Creates the payloads announcing the given changed entries. Multiple payloads are created if the changes do not
+     * fit into a single notification.
+     */
+    public static List<String> createPayloads(String processorId, Map<Integer, Integer> changedEntries) {
+        List<String> payloads = new ArrayList<>();
+        StringBuilder payload = new StringBuilder(processorId);
+        for (Map.Entry<Integer, Integer> changedEntry : changedEntries.entrySet()) {
+            String entry = changedEntry.getKey() + String.valueOf(VERSION_SEPARATOR) + changedEntry.getValue();
+            if (payload.length() + entry.length() + 1 > MAX_PAYLOAD_LENGTH) {
+                payloads.add(payload.toString());
+                payload = new StringBuilder(processorId);
+            }
+            payload.append(payload.length() == processorId.length() ? PROCESSOR_ID_SEPARATOR : ENTRY_SEPARATOR)
+                   .append(entry);
+        }
+        payloads.add(payload.toString());
+        return payloads;
+    }
+
+    static String getProcessorId(String payload) {
+        int separator = payload.indexOf(PROCESSOR_ID_SEPARATOR);
+        return separator < 0 ? payload : payload.substring(0, separator);
+    }
+
+    /**
+     * @return the shared IDs of the changed entries mapped to their version, empty if the payload does not list them
+     */
+    static Map<Integer, Integer> parseChangedEntries(String payload) {
+        int separator = payload.indexOf(PROCESSOR_ID_SEPARATOR);
+        if (separator < 0) {
+            return Map.of();
+        }
+        Map<Integer, Integer> changedEntries = new LinkedHashMap<>();
+        try {
+            for (String entry : payload.substring(separator + 1).split(String.valueOf(ENTRY_SEPARATOR))) {
+                int versionSeparator = entry.indexOf(VERSION_SEPARATOR);
+                changedEntries.put(Integer.parseInt(entry.substring(0, versionSeparator)), Integer.parseInt(entry.substring(versionSeparator + 1)));
+            }
+        } catch (NumberFormatException | IndexOutOfBoundsException e) {
+            LOGGER.warn("Could not parse notification payload {}", payload, e);
+            return Map.of();
+        }
+        return changedEntries;
+    }
 }
@@ -1,20 +1,13 @@
 package org.jabref.logic.util.io;
 
 import java.io.IOException;
-import java.io.UncheckedIOException;
-import java.nio.file.FileVisitOption;
-import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.attribute.BasicFileAttributes;
-import java.util.Collection;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.SortedSet;
 import java.util.TreeSet;
-import java.util.function.BiPredicate;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.jabref.logic.citationkeypattern.CitationKeyGenerator;
@@ -36,29 +29,44 @@ class CitationKeyBasedFileFinder implements FileFinder {
 
     @Override
     public List<Path> findAssociatedFiles(BibEntry entry, List<Path> directories, List<String> extensions) throws IOException {
-        Objects.requireNonNull(directories);
         Objects.requireNonNull(entry);
+        return findAssociatedFiles(List.of(entry), directories, extensions).getFirst();
+    }
 
-        Optional<String> citeKeyOptional = entry.getCitationKey();
-        if (StringUtil.isBlank(citeKeyOptional)) {
-            LOGGER.debug("No citation key found in entry {}", entry);
-            return List.of();
-        }
-        String citeKey = citeKeyOptional.get();
-
-        Function<Path, Boolean> filteringFunction;
+    /**
+     * Looks up the files of all entries in the {@link DirectoryIndex} of each directory, thus each directory is listed at
+     * most once.
+     */
+    @Override
+    public List<List<Path>> findAssociatedFiles(List<BibEntry> entries, List<Path> directories, List<String> extensions) throws IOException {
+        Objects.requireNonNull(directories);
+        Objects.requireNonNull(extensions, "Extensions must not be null!");
 
-        if (exactKeyOnly) {
-            // LOGGER.debug("Found exact match for key {} in file {}", citeKey, file);
-            filteringFunction = (Path p) -> FileUtil.getBaseName(p.getFileName().toString()).equals(citeKey);
-        } else {
-            // LOGGER.debug("Found non-exact match for key {} in file {}", citeKey, file);
-            filteringFunction = (Path p) -> matches(p.getFileName().toString(), citeKey);
+        List<DirectoryIndex> indexes = DirectoryIndex.of(directories);
+        List<List<Path>> result = new ArrayList<>(entries.size());
+        for (BibEntry entry : entries) {
+            Optional<String> citeKeyOptional = entry.getCitationKey();
+            if (StringUtil.isBlank(citeKeyOptional)) {
+                LOGGER.debug("No citation key found in entry {}", entry);
+                result.add(List.of());
+                continue;
+            }
+            String citeKey = citeKeyOptional.get();
+
+            SortedSet<Path> files = new TreeSet<>();
+            for (DirectoryIndex index : indexes) {
+                if (exactKeyOnly) {
+                    files.addAll(index.getFilesWithBaseName(citeKey));
+                } else {
+                    Stream.concat(index.getFilesStartingWith(citeKey).stream(), index.getFilesStartingWith(FileNameCleaner.cleanFileName(citeKey)).stream())
+                          .filter(file -> matches(file.getFileName().toString(), citeKey))
+                          .forEach(files::add);
+                }
+            }
+            files.removeIf(file -> !extensions.contains(FileUtil.getFileExtension(file).orElse("")));
+            result.add(List.copyOf(files));
         }
-
-        SortedSet<Path> result = findFilesByExtension(directories, extensions, filteringFunction);
-
-        return result.stream().toList();
+        return result;
     }
 
     private boolean matches(String filename, String citeKey) {
@@ -71,26 +79,4 @@ class CitationKeyBasedFileFinder implements FileFinder {
         }
         return false;
     }
-
-    /**
-     * Returns a list of all files in the given directories which have one of the given extension.
-     */
-    private SortedSet<Path> findFilesByExtension(List<Path> directories, Collection<String> extensions, Function<Path, Boolean> filteringFunction) throws IOException {
-        Objects.requireNonNull(extensions, "Extensions must not be null!");
-
-        BiPredicate<Path, BasicFileAttributes> isFileWithCorrectExtension = (path, attributes) -> !Files.isDirectory(path)
-                && extensions.contains(FileUtil.getFileExtension(path).orElse("")) && filteringFunction.apply(path);
-
-        SortedSet<Path> result = new TreeSet<>();
-        for (Path directory : directories) {
-            if (Files.exists(directory)) {
-                try (Stream<Path> pathStream = Files.find(directory, Integer.MAX_VALUE, isFileWithCorrectExtension, FileVisitOption.FOLLOW_LINKS)) {
-                    result.addAll(pathStream.collect(Collectors.toSet()));
-                } catch (UncheckedIOException e) {
-                    throw new IOException("Problem in finding files", e);
-                }
-            }
-        }
-        return result;
-    }
 }
@@ -19,6 +19,9 @@ import org.jabref.model.entry.BibEntry;
  * Search class for files. <br>
  * <br>
  * This class provides some functionality to search in a {@link BibDatabase} for files. <br>
+ * <br>
+ * The linked files are resolved once on creation, thus an instance can be reused for many lookups as long as the links
+ * of the entries do not change. <br>
  */
 public class DatabaseFileLookup {
 
@@ -56,7 +59,7 @@ public class DatabaseFileLookup {
      * entry in the database, otherwise <code>false</code>.
      */
     public boolean lookupDatabase(Path pathname) {
-        return fileCache.contains(pathname);
+        return fileCache.contains(normalize(pathname));
     }
 
     private List<Path> parseFileField(BibEntry entry) {
@@ -67,9 +70,17 @@ public class DatabaseFileLookup {
                     .map(file -> file.findIn(possibleFilePaths))
                     .filter(Optional::isPresent)
                     .map(Optional::get)
+                    .map(DatabaseFileLookup::normalize)
                     .collect(Collectors.toList());
     }
 
+    /**
+     * The same file can be reached by different paths, e.g., "papers/../paper.pdf" and "paper.pdf"
+     */
+    private static Path normalize(Path path) {
+        return path.toAbsolutePath().normalize();
+    }
+
     /**
      * @return "" if the path does not exist
      */
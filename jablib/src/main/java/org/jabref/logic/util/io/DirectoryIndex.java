@@ -0,0 +1,292 @@
+package org.jabref.logic.util.io;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BooleanSupplier;
+import java.util.function.Predicate;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Snapshot of the names of all files below a directory, used by the {@link FileFinder}s to look up the files of many
+ * entries without walking the directory tree for each entry.
+ * <p>
+ * The directory tree is listed once, the directories of one level in parallel. Indexes are shared by all finders via
+ * {@link #of(Path)}, which brings a previously built index up to date: Adding, removing or renaming a file changes the
+ * modification time of its directory, thus only directories with a changed modification time are listed again.
+ * <p>
+ * An index can leave out subtrees, e.g., ignored ones such as {@code .git} or {@code node_modules}. Such an index is
+ * kept separately for each directory filter.
+ */
+public final class DirectoryIndex {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DirectoryIndex.class);
+
+    private static final Cache<IndexKey, DirectoryIndex> INDEXES = CacheBuilder.newBuilder()
+                                                                               .maximumSize(10)
+                                                                               .expireAfterAccess(Duration.ofMinutes(10))
+                                                                               .build();
+
+    private static final Predicate<Path> ALL_DIRECTORIES = _ -> true;
+
+    // Some file systems store modification times with a coarse resolution (e.g., two seconds for FAT). A directory
+    // modified shortly before it was listed might be modified again without a visible change of its modification time.
+    private static final Duration MODIFICATION_TIME_RESOLUTION = Duration.ofSeconds(2);
+
+    private final Path root;
+    private final Map<Path, Listing> listings;
+    private final NavigableMap<String, List<Path>> filesByName = new TreeMap<>();
+    private final Map<String, List<Path>> filesByBaseName = new HashMap<>();
+
+    private DirectoryIndex(Path root, Map<Path, Listing> listings) {
+        this.root = root;
+        this.listings = listings;
+        for (Listing listing : listings.values()) {
+            for (Path file : listing.files()) {
+                String fileName = file.getFileName().toString();
+                filesByName.computeIfAbsent(fileName, _ -> new ArrayList<>()).add(file);
+                filesByBaseName.computeIfAbsent(FileUtil.getBaseName(fileName), _ -> new ArrayList<>()).add(file);
+            }
+        }
+    }
+
+    /**
+     * Returns an up-to-date index of the given directory. A non-existing directory results in an empty index.
+     */
+    public static DirectoryIndex of(Path directory) throws IOException {
+        return of(directory, ALL_DIRECTORIES, () -> false);
+    }
+
+    /**
+     * Returns an up-to-date index of the given directory, which leaves out the subdirectories not accepted by the given
+     * filter and everything below them. A non-existing directory results in an empty index.
+     * <p>
+     * The listings of unchanged directories are reused, thus a previous index is only reused for the same filter
+     * instance. The filter is applied when a directory is listed.
+     *
+     * @param directoryFilter decides whether a subdirectory is indexed
+     * @param isCancelled     checked while indexing. If it returns true, the indexing is stopped.
+     * @throws CancellationException if the indexing was cancelled. The previous index is kept in this case.
+     */
+    public static DirectoryIndex of(Path directory, Predicate<Path> directoryFilter, BooleanSupplier isCancelled) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return new DirectoryIndex(directory, Map.of());
+        }
+        try {
+            return INDEXES.asMap().compute(new IndexKey(directory, directoryFilter), (_, previous) -> {
+                try {
+                    return build(directory, previous == null ? Map.of() : previous.listings, directoryFilter, isCancelled);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Returns up-to-date indexes of the given directories. Non-existing directories result in empty indexes.
+     */
+    public static List<DirectoryIndex> of(List<Path> directories) throws IOException {
+        List<DirectoryIndex> indexes = new ArrayList<>(directories.size());
+        for (Path directory : directories) {
+            indexes.add(of(directory));
+        }
+        return indexes;
+    }
+
+    public Path getRoot() {
+        return root;
+    }
+
+    /**
+     * @return true if the given directory is the root of this index or one of its subdirectories
+     */
+    public boolean contains(Path directory) {
+        return listings.containsKey(directory);
+    }
+
+    /**
+     * Returns all files whose name starts with the given prefix (case-sensitive)
+     */
+    public List<Path> getFilesStartingWith(String prefix) {
+        return filesByName.subMap(prefix, true, prefix + Character.MAX_VALUE, false)
+                          .values().stream()
+                          .flatMap(List::stream)
+                          .toList();
+    }
+
+    /**
+     * Returns all files whose name without extension equals the given name
+     */
+    public List<Path> getFilesWithBaseName(String baseName) {
+        return filesByBaseName.getOrDefault(baseName, List.of());
+    }
+
+    /**
+     * Returns the files directly contained in the given directory
+     */
+    public List<Path> getFiles(Path directory) {
+        return Optional.ofNullable(listings.get(directory)).map(Listing::files).orElse(List.of());
+    }
+
+    /**
+     * Returns the direct subdirectories of the given directory
+     */
+    public List<Path> getSubdirectories(Path directory) {
+        return Optional.ofNullable(listings.get(directory)).map(Listing::subdirectories).orElse(List.of());
+    }
+
+    /**
+     * Returns the direct and indirect subdirectories of the given directory, each directory followed by its subdirectories
+     */
+    public List<Path> getAllSubdirectories(Path directory) {
+        List<Path> result = new ArrayList<>();
+        addAllSubdirectories(directory, result);
+        return result;
+    }
+
+    private void addAllSubdirectories(Path directory, List<Path> result) {
+        for (Path subdirectory : getSubdirectories(directory)) {
+            result.add(subdirectory);
+            addAllSubdirectories(subdirectory, result);
+        }
+    }
+
+    /**
+     * Lists the directory tree below the given root level by level. The listing of a directory is taken from the given
+     * previous listings if the directory was not modified since then.
+     */
+    private static DirectoryIndex build(Path root, Map<Path, Listing> previousListings, Predicate<Path> directoryFilter, BooleanSupplier isCancelled) throws IOException {
+        Map<Path, Listing> listings = new ConcurrentHashMap<>();
+        // Symbolic links are followed, thus we need to guard against loops
+        Set<Object> visitedDirectories = ConcurrentHashMap.newKeySet();
+        int reused = 0;
+
+        List<Path> level = List.of(root);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            while (!level.isEmpty()) {
+                List<Future<Optional<Listing>>> futures = new ArrayList<>(level.size());
+                for (Path directory : level) {
+                    futures.add(executor.submit(() -> list(directory, previousListings.get(directory), visitedDirectories, directoryFilter, isCancelled)));
+                }
+
+                List<Path> nextLevel = new ArrayList<>();
+                for (int i = 0; i < level.size(); i++) {
+                    Optional<Listing> listing = getListing(futures.get(i));
+                    if (listing.isPresent()) {
+                        listings.put(level.get(i), listing.get());
+                        nextLevel.addAll(listing.get().subdirectories());
+                        if (listing.get() == previousListings.get(level.get(i))) {
+                            reused++;
+                        }
+                    }
+                }
+                if (isCancelled.getAsBoolean()) {
+                    throw new CancellationException("Indexing of " + root + " was cancelled");
+                }
+                level = nextLevel;
+            }
+        }
+
+        LOGGER.debug("Indexed {} directories below {} ({} unchanged)", listings.size(), root, reused);
+        return new DirectoryIndex(root, Map.copyOf(listings));
+    }
+
+    private static Optional<Listing> getListing(Future<Optional<Listing>> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Indexing of directory was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IOException("Problem in indexing directory", e.getCause());
+        }
+    }
+
+    /**
+     * @return the listing of the given directory or nothing if the directory cannot be read, was already visited, or the
+     *         indexing was cancelled
+     */
+    private static Optional<Listing> list(Path directory, Listing previousListing, Set<Object> visitedDirectories, Predicate<Path> directoryFilter, BooleanSupplier isCancelled) {
+        if (isCancelled.getAsBoolean()) {
+            return Optional.empty();
+        }
+        Instant listedAt = Instant.now();
+        try {
+            BasicFileAttributes directoryAttributes = Files.readAttributes(directory, BasicFileAttributes.class);
+            Object directoryKey = directoryAttributes.fileKey() != null ? directoryAttributes.fileKey() : directory.toRealPath();
+            if (!visitedDirectories.add(directoryKey)) {
+                LOGGER.debug("Skipping {}, because it was already indexed", directory);
+                return Optional.empty();
+            }
+
+            FileTime lastModified = directoryAttributes.lastModifiedTime();
+            if ((previousListing != null) && !previousListing.mightBeOutdated() && previousListing.lastModified().equals(lastModified)) {
+                return Optional.of(previousListing);
+            }
+
+            List<Path> files = new ArrayList<>();
+            List<Path> subdirectories = new ArrayList<>();
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+                for (Path path : stream) {
+                    BasicFileAttributes attributes;
+                    try {
+                        attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                    } catch (IOException e) {
+                        // E.g., a broken symbolic link
+                        LOGGER.debug("Could not read attributes of {}", path, e);
+                        continue;
+                    }
+                    if (attributes.isDirectory()) {
+                        if (directoryFilter.test(path)) {
+                            subdirectories.add(path);
+                        }
+                    } else if (attributes.isRegularFile()) {
+                        files.add(path);
+                    }
+                }
+            }
+            boolean mightBeOutdated = !lastModified.toInstant().isBefore(listedAt.minus(MODIFICATION_TIME_RESOLUTION));
+            return Optional.of(new Listing(lastModified, mightBeOutdated, List.copyOf(files), List.copyOf(subdirectories)));
+        } catch (IOException e) {
+            LOGGER.debug("Could not index directory {}", directory, e);
+            return Optional.empty();
+        }
+    }
+
+    private record IndexKey(Path root, Predicate<Path> directoryFilter) {
+    }
+
+    /**
+     * @param mightBeOutdated true if the directory was modified so shortly before listing it that a later modification
+     *                        might not change its modification time
+     */
+    private record Listing(FileTime lastModified, boolean mightBeOutdated, List<Path> files, List<Path> subdirectories) {
+    }
+}
@@ -2,6 +2,7 @@ package org.jabref.logic.util.io;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 
 import org.jabref.model.entry.BibEntry;
@@ -16,4 +17,20 @@ public interface FileFinder {
      * @param extensions  The extensions that are acceptable.
      */
     List<Path> findAssociatedFiles(BibEntry entry, List<Path> directories, List<String> extensions) throws IOException;
+
+    /**
+     * Finds the associated files of many entries at once. Implementations should look up all entries in one pass over
+     * the directories instead of searching the directories for each entry.
+     *
+     * @return the found files of each of the given entries, at the index of the entry. Entries are compared by their
+     * content, thus equal entries would share a key in a map.
+     * @see #findAssociatedFiles(BibEntry, List, List)
+     */
+    default List<List<Path>> findAssociatedFiles(List<BibEntry> entries, List<Path> directories, List<String> extensions) throws IOException {
+        List<List<Path>> result = new ArrayList<>(entries.size());
+        for (BibEntry entry : entries) {
+            result.add(findAssociatedFiles(entry, directories, extensions));
+        }
+        return result;
+    }
 }
@@ -9,6 +9,7 @@ import java.nio.file.Path;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
 import java.util.regex.Matcher;
@@ -87,8 +88,22 @@ class RegExpBasedFileFinder implements FileFinder {
      */
     @Override
     public List<Path> findAssociatedFiles(BibEntry entry, List<Path> directories, List<String> extensions) throws IOException {
+        return findAssociatedFiles(List.of(entry), directories, extensions).getFirst();
+    }
+
+    /**
+     * Resolves the directory parts of the expression against the {@link DirectoryIndex} of each directory, thus each
+     * directory is listed at most once. Directories outside the given ones (e.g., reached by "..") are read from the file system.
+     */
+    @Override
+    public List<List<Path>> findAssociatedFiles(List<BibEntry> entries, List<Path> directories, List<String> extensions) throws IOException {
         String extensionRegExp = '(' + String.join("|", extensions) + ')';
-        return findFile(entry, directories, extensionRegExp);
+        List<DirectoryIndex> indexes = DirectoryIndex.of(directories);
+        List<List<Path>> result = new ArrayList<>(entries.size());
+        for (BibEntry entry : entries) {
+            result.add(findFile(entry, directories, extensionRegExp, indexes));
+        }
+        return result;
     }
 
     /**
@@ -121,10 +136,10 @@ class RegExpBasedFileFinder implements FileFinder {
      * @return Will return the first file found to match the given criteria or
      * null if none was found.
      */
-    private List<Path> findFile(BibEntry entry, List<Path> dirs, String extensionRegExp) throws IOException {
+    private List<Path> findFile(BibEntry entry, List<Path> dirs, String extensionRegExp, List<DirectoryIndex> indexes) throws IOException {
         List<Path> res = new ArrayList<>();
         for (Path directory : dirs) {
-            res.addAll(findFile(entry, directory, regExp, extensionRegExp));
+            res.addAll(findFile(entry, directory, regExp, extensionRegExp, indexes));
         }
         return res;
     }
@@ -133,7 +148,7 @@ class RegExpBasedFileFinder implements FileFinder {
      * The actual work-horse. Will find absolute filepaths starting from the
      * given directory using the given regular expression string for search.
      */
-    private List<Path> findFile(final BibEntry entry, final Path directory, final String file, final String extensionRegExp) throws IOException {
+    private List<Path> findFile(final BibEntry entry, final Path directory, final String file, final String extensionRegExp, final List<DirectoryIndex> indexes) throws IOException {
         List<Path> resultFiles = new ArrayList<>();
 
         String fileName = file;
@@ -174,12 +189,19 @@ class RegExpBasedFileFinder implements FileFinder {
                 continue;
             }
             if ("*".equals(dirToProcess)) { // Do for all direct subdirs
-                File[] subDirs = actualDirectory.toFile().listFiles();
-                if (subDirs != null) {
-                    String restOfFileString = StringUtil.join(fileParts, "/", index + 1, fileParts.length);
-                    for (File subDir : subDirs) {
-                        if (subDir.isDirectory()) {
-                            resultFiles.addAll(findFile(entry, subDir.toPath(), restOfFileString, extensionRegExp));
+                String restOfFileString = StringUtil.join(fileParts, "/", index + 1, fileParts.length);
+                Optional<DirectoryIndex> directoryIndex = findIndex(indexes, actualDirectory);
+                if (directoryIndex.isPresent()) {
+                    for (Path subDir : directoryIndex.get().getSubdirectories(actualDirectory)) {
+                        resultFiles.addAll(findFile(entry, subDir, restOfFileString, extensionRegExp, indexes));
+                    }
+                } else {
+                    File[] subDirs = actualDirectory.toFile().listFiles();
+                    if (subDirs != null) {
+                        for (File subDir : subDirs) {
+                            if (subDir.isDirectory()) {
+                                resultFiles.addAll(findFile(entry, subDir.toPath(), restOfFileString, extensionRegExp, indexes));
+                            }
                         }
                     }
                 }
@@ -188,11 +210,19 @@ class RegExpBasedFileFinder implements FileFinder {
             if ("**".equals(dirToProcess)) {
                 String restOfFileString = StringUtil.join(fileParts, "/", index + 1, fileParts.length);
 
+                Optional<DirectoryIndex> directoryIndex = findIndex(indexes, actualDirectory);
+                if (directoryIndex.isPresent()) {
+                    for (Path path : directoryIndex.get().getAllSubdirectories(actualDirectory)) {
+                        resultFiles.addAll(findFile(entry, path, restOfFileString, extensionRegExp, indexes));
+                    }
+                    continue;
+                }
+
                 final Path rootDirectory = actualDirectory;
                 try (Stream<Path> pathStream = Files.walk(actualDirectory)) {
                     // We only want to transverse directory (and not the current one; this is already done below)
                     for (Path path : pathStream.filter(element -> isSubDirectory(rootDirectory, element)).collect(Collectors.toList())) {
-                        resultFiles.addAll(findFile(entry, path, restOfFileString, extensionRegExp));
+                        resultFiles.addAll(findFile(entry, path, restOfFileString, extensionRegExp, indexes));
                     }
                 } catch (UncheckedIOException ioe) {
                     throw ioe.getCause();
@@ -202,6 +232,13 @@ class RegExpBasedFileFinder implements FileFinder {
 
         // Last step: check if the given file can be found in this directory
         Pattern toMatch = createFileNamePattern(fileParts, extensionRegExp, entry);
+        Optional<DirectoryIndex> directoryIndex = findIndex(indexes, actualDirectory);
+        if (directoryIndex.isPresent()) {
+            directoryIndex.get().getFiles(actualDirectory).stream()
+                          .filter(path -> toMatch.matcher(path.getFileName().toString()).matches())
+                          .forEach(resultFiles::add);
+            return resultFiles;
+        }
         BiPredicate<Path, BasicFileAttributes> matcher = (path, attributes) -> toMatch.matcher(path.getFileName().toString()).matches();
         try (Stream<Path> pathStream = Files.find(actualDirectory, 1, matcher, FileVisitOption.FOLLOW_LINKS)) {
             resultFiles.addAll(pathStream.collect(Collectors.toList()));
@@ -212,6 +249,10 @@ class RegExpBasedFileFinder implements FileFinder {
         return resultFiles;
     }
 
+    private static Optional<DirectoryIndex> findIndex(List<DirectoryIndex> indexes, Path directory) {
+        return indexes.stream().filter(index -> index.contains(directory)).findFirst();
+    }
+
     private boolean isSubDirectory(Path rootDirectory, Path path) {
         return !rootDirectory.equals(path) && Files.isDirectory(path);
     }
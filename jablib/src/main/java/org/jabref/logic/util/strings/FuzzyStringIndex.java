@@ -0,0 +1,132 @@
+package org.jabref.logic.util.strings;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Index for finding all strings within a given case-insensitive Levenshtein distance of a query, without computing the
+ * distance to each string.
+ * <p>
+ * The strings are stored in a <a href="https://en.wikipedia.org/wiki/BK-tree">BK-tree</a>. As the Levenshtein distance
+ * is a metric, the triangle inequality rules out all subtrees whose edge distance differs from the distance of the query
+ * to their parent by more than the maximum distance. The distances are the same as the ones of
+ * {@link StringSimilarity#editDistanceIgnoreCase(String, String)}.
+ */
+public class FuzzyStringIndex {
+
+    private Node root;
+
+    public FuzzyStringIndex(Collection<String> values) {
+        values.forEach(this::add);
+    }
+
+    private void add(String value) {
+        String key = normalize(value);
+        if (root == null) {
+            root = new Node(key);
+            root.values.add(value);
+            return;
+        }
+
+        Node node = root;
+        while (true) {
+            int distance = distance(key, node.key);
+            if (distance == 0) {
+                node.values.add(value);
+                return;
+            }
+            Node child = node.children.get(distance);
+            if (child == null) {
+                Node newNode = new Node(key);
+                newNode.values.add(value);
+                node.children.put(distance, newNode);
+                return;
+            }
+            node = child;
+        }
+    }
+
+    /**
+     * Returns all indexed strings whose case-insensitive Levenshtein distance to the query is at most the given distance
+     */
+    public List<Match> findWithin(String query, int maxDistance) {
+        List<Match> matches = new ArrayList<>();
+        if (root == null) {
+            return matches;
+        }
+
+        String key = normalize(query);
+        Deque<Node> nodesToVisit = new ArrayDeque<>();
+        nodesToVisit.push(root);
+        while (!nodesToVisit.isEmpty()) {
+            Node node = nodesToVisit.pop();
+            int distance = distance(key, node.key);
+            if (distance <= maxDistance) {
+                for (String value : node.values) {
+                    matches.add(new Match(value, distance));
+                }
+            }
+            for (Map.Entry<Integer, Node> child : node.children.entrySet()) {
+                if (Math.abs(child.getKey() - distance) <= maxDistance) {
+                    nodesToVisit.push(child.getValue());
+                }
+            }
+        }
+        return matches;
+    }
+
+    private static String normalize(String value) {
+        // Same normalization as StringSimilarity#editDistanceIgnoreCase
+        return value.toLowerCase(Locale.ENGLISH);
+    }
+
+    /**
+     * Levenshtein distance with unit costs, computed using two rows
+     */
+    static int distance(String a, String b) {
+        if (a.equals(b)) {
+            return 0;
+        }
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            char charOfA = a.charAt(i - 1);
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = (charOfA == b.charAt(j - 1)) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()];
+    }
+
+    /**
+     * @param value    the indexed string
+     * @param distance the case-insensitive Levenshtein distance of the indexed string to the query
+     */
+    public record Match(String value, int distance) {
+    }
+
+    private static class Node {
+        private final String key;
+        // Strings which are equal ignoring case share a node
+        private final List<String> values = new ArrayList<>(1);
+        private final Map<Integer, Node> children = new HashMap<>();
+
+        Node(String key) {
+            this.key = key;
+        }
+    }
+}
@@ -7,7 +7,6 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -33,9 +32,11 @@ import org.jabref.model.entry.ParsedEntryLink;
 import org.jabref.model.entry.event.EntriesEventSource;
 import org.jabref.model.entry.event.EntryChangedEvent;
 import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.event.FieldsChangedEvent;
 import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.FieldFactory;
 import org.jabref.model.entry.field.FieldProperty;
+import org.jabref.model.entry.field.InternalField;
 import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.strings.StringUtil;
 
@@ -59,7 +60,10 @@ public class BibDatabase {
     private final ObservableList<BibEntry> entries = FXCollections.synchronizedObservableList(FXCollections.observableArrayList(BibEntry::getObservables));
 
     // BibEntryId to BibEntry
-    private final Map<String, BibEntry> entriesId = new HashMap<>();
+    private final Map<String, BibEntry> entriesId = new ConcurrentHashMap<>();
+
+    // Citation key to the entries having that key, in the order of the database. Kept up to date by listening to key changes.
+    private final Map<String, List<BibEntry>> entriesByCitationKey = new ConcurrentHashMap<>();
     private Map<String, BibtexString> bibtexStrings = new ConcurrentHashMap<>();
 
     // Not included in equals, because it is not relevant for the content of the database
@@ -143,8 +147,9 @@ public class BibDatabase {
     /**
      * Returns the entry with the given citation key.
      */
-    public synchronized Optional<BibEntry> getEntryByCitationKey(String key) {
-        return entries.stream().filter(entry -> Objects.equals(entry.getCitationKey().orElse(null), key)).findFirst();
+    public Optional<BibEntry> getEntryByCitationKey(String key) {
+        List<BibEntry> entriesWithKey = getEntriesByCitationKey(key);
+        return entriesWithKey.isEmpty() ? Optional.empty() : Optional.of(entriesWithKey.getFirst());
     }
 
     /**
@@ -153,17 +158,11 @@ public class BibDatabase {
      *
      * @return list of entries that contains the given key
      */
-    public synchronized List<BibEntry> getEntriesByCitationKey(String key) {
-        List<BibEntry> result = new ArrayList<>();
-
-        for (BibEntry entry : entries) {
-            entry.getCitationKey().ifPresent(entryKey -> {
-                if (key.equals(entryKey)) {
-                    result.add(entry);
-                }
-            });
+    public List<BibEntry> getEntriesByCitationKey(String key) {
+        if (key == null) {
+            return List.of();
         }
-        return result;
+        return entriesByCitationKey.getOrDefault(key, List.of());
     }
 
     public synchronized void insertEntry(BibEntry entry) {
@@ -201,6 +200,7 @@ public class BibDatabase {
         entries.addAll(newEntries);
         newEntries.forEach(entry -> {
                     entriesId.put(entry.getId(), entry);
+                    entry.getCitationKey().ifPresent(key -> addToCitationKeyIndex(key, entry));
                     indexEntry(entry);
                 }
         );
@@ -250,6 +250,7 @@ public class BibDatabase {
 
         toBeDeleted.forEach(entry -> {
             entriesId.remove(entry.getId());
+            entry.getCitationKey().ifPresent(key -> removeFromCitationKeyIndex(key, entry));
             removeEntryFromIndex(entry);
         });
 
@@ -257,6 +258,26 @@ public class BibDatabase {
         eventBus.post(new EntriesRemovedEvent(toBeDeleted, eventSource));
     }
 
+    private void addToCitationKeyIndex(String key, BibEntry entry) {
+        entriesByCitationKey.merge(key, List.of(entry), (entriesWithKey, _) -> {
+            List<BibEntry> merged = new ArrayList<>(entriesWithKey.size() + 1);
+            merged.addAll(entriesWithKey);
+            merged.add(entry);
+            // Entries are in the order of their IDs, see indexOf
+            merged.sort(Comparator.comparing(BibEntry::getId));
+            return List.copyOf(merged);
+        });
+    }
+
+    private void removeFromCitationKeyIndex(String key, BibEntry entry) {
+        entriesByCitationKey.computeIfPresent(key, (_, entriesWithKey) -> {
+            List<BibEntry> remaining = entriesWithKey.stream()
+                                                     .filter(entryWithKey -> !entryWithKey.getId().equals(entry.getId()))
+                                                     .toList();
+            return remaining.isEmpty() ? null : remaining;
+        });
+    }
+
     private void forEachCitationKey(BibEntry entry, Consumer<String> keyConsumer) {
         for (Field field : entry.getFields()) {
             if (field.getProperties().contains(FieldProperty.SINGLE_ENTRY_LINK) || field.getProperties().contains(FieldProperty.MULTIPLE_ENTRY_LINK)) {
@@ -625,9 +646,35 @@ public class BibDatabase {
 
     @Subscribe
     private void relayEntryChangeEvent(FieldChangedEvent event) {
+        if (event.getField() == InternalField.KEY_FIELD) {
+            updateCitationKeyIndex(event);
+        }
         eventBus.post(event);
     }
 
+    @Subscribe
+    private void relayEntryChangeEvent(FieldsChangedEvent event) {
+        event.getChange(InternalField.KEY_FIELD).ifPresent(change -> updateCitationKeyIndex(event.getBibEntry(), change.getOldValue(), change.getNewValue()));
+        eventBus.post(event);
+    }
+
+    private void updateCitationKeyIndex(FieldChangedEvent event) {
+        updateCitationKeyIndex(event.getBibEntry(), event.getOldValue(), event.getNewValue());
+    }
+
+    private void updateCitationKeyIndex(BibEntry entry, String oldValue, String newValue) {
+        // Removed entries are not unregistered as listener, thus they might still send events
+        if (entriesId.get(entry.getId()) != entry) {
+            return;
+        }
+        if (!StringUtil.isBlank(oldValue)) {
+            removeFromCitationKeyIndex(oldValue, entry);
+        }
+        if (!StringUtil.isBlank(newValue)) {
+            addToCitationKeyIndex(newValue, entry);
+        }
+    }
+
     public Optional<BibEntry> getReferencedEntry(BibEntry entry) {
         return entry.getField(StandardField.CROSSREF).flatMap(this::getEntryByCitationKey);
     }
@@ -662,10 +709,7 @@ public class BibDatabase {
      * Returns the number of occurrences of the given citation key in this database.
      */
     public long getNumberOfCitationKeyOccurrences(String key) {
-        return entries.stream()
-                      .flatMap(entry -> entry.getCitationKey().stream())
-                      .filter(key::equals)
-                      .count();
+        return getEntriesByCitationKey(key).size();
     }
 
     /**
@@ -9,6 +9,7 @@ import java.util.Set;
 import org.jabref.model.database.event.EntriesRemovedEvent;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.event.FieldsChangedEvent;
 import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.FieldProperty;
 import org.jabref.model.entry.field.InternalField;
@@ -33,6 +34,11 @@ public class KeyChangeListener {
         }
     }
 
+    @Subscribe
+    public void listen(FieldsChangedEvent event) {
+        event.getChange(InternalField.KEY_FIELD).ifPresent(change -> updateEntryLinks(change.getNewValue(), change.getOldValue()));
+    }
+
     @Subscribe
     public void listen(EntriesRemovedEvent event) {
         List<BibEntry> entries = event.getBibEntries();
@@ -34,6 +34,7 @@ import org.jabref.model.database.BibDatabase;
 import org.jabref.model.entry.event.EntriesEventSource;
 import org.jabref.model.entry.event.FieldAddedOrRemovedEvent;
 import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.event.FieldsChangedEvent;
 import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.InternalField;
 import org.jabref.model.entry.field.OrFields;
@@ -101,26 +102,33 @@ public class BibEntry implements Cloneable {
     private static final Logger LOGGER = LoggerFactory.getLogger(BibEntry.class);
     private final SharedBibEntryData sharedBibEntryData;
 
+    // Large libraries hold hundreds of thousands of entries. Thus, the caches, the event bus, and the type property are
+    // created on first use only. Most entries never need all of them.
+    // Entries are read by several threads (e.g., search and the integrity check), thus the caches are created using
+    // double-checked locking on the entry and are thread-safe themselves.
+
     /**
      * Map to store the words in every field
      */
-    private final Map<Field, Set<String>> fieldsAsWords = new HashMap<>();
+    private volatile Map<Field, Set<String>> fieldsAsWords;
 
     /**
      * Cache that stores latex free versions of fields.
      */
-    private final Map<Field, String> latexFreeFields = new ConcurrentHashMap<>();
+    private volatile Map<Field, String> latexFreeFields;
 
     /**
-     * Cache that stores the field as keyword lists (format &lt;Field, Separator, Keyword list>)
+     * Cache that stores the field as keyword lists (format &lt;Field, Separator, Keyword list>). Accesses are synchronized on the map.
      */
-    private final MultiKeyMap<StandardField, Character, KeywordList> fieldsAsKeywords = new MultiKeyMap<>(StandardField.class);
+    private volatile MultiKeyMap<StandardField, Character, KeywordList> fieldsAsKeywords;
 
-    private final EventBus eventBus = new EventBus();
+    private volatile EventBus eventBus;
 
     private String id;
 
-    private final ObjectProperty<EntryType> type = new SimpleObjectProperty<>(DEFAULT_TYPE);
+    private EntryType type = DEFAULT_TYPE;
+
+    private ObjectProperty<EntryType> typeProperty;
 
     private ObservableMap<Field, String> fields = FXCollections.observableMap(new ConcurrentHashMap<>());
 
@@ -331,7 +339,7 @@ public class BibEntry implements Cloneable {
 
     private Optional<String> genericGetResolvedFieldOrAlias(Field field, @Nullable BibDatabase database, BiFunction<BibEntry, Field, Optional<String>> getFieldOrAlias) {
         if ((InternalField.TYPE_HEADER == field) || (InternalField.OBSOLETE_TYPE_HEADER == field)) {
-            return Optional.of(type.get().getDisplayName());
+            return Optional.of(type.getDisplayName());
         }
 
         if (InternalField.KEY_FIELD == field) {
@@ -344,8 +352,8 @@ public class BibEntry implements Cloneable {
         if (result.isEmpty() && (database != null)) {
             Optional<BibEntry> referred = database.getReferencedEntry(this);
             if (referred.isPresent()) {
-                EntryType sourceEntry = referred.get().type.get();
-                EntryType targetEntry = type.get();
+                EntryType sourceEntry = referred.get().type;
+                EntryType targetEntry = type;
                 Optional<Field> sourceField = getSourceField(field, targetEntry, sourceEntry);
 
                 if (sourceField.isPresent()) {
@@ -381,7 +389,7 @@ public class BibEntry implements Cloneable {
 
         String oldId = this.id;
 
-        eventBus.post(new FieldChangedEvent(this, InternalField.INTERNAL_ID_FIELD, id, oldId));
+        postEvent(new FieldChangedEvent(this, InternalField.INTERNAL_ID_FIELD, id, oldId));
         this.id = id;
         changed = true;
     }
@@ -422,11 +430,17 @@ public class BibEntry implements Cloneable {
      * Returns this entry's type.
      */
     public EntryType getType() {
-        return type.getValue();
+        return type;
     }
 
-    public ObjectProperty<EntryType> typeProperty() {
-        return type;
+    /**
+     * The property is for observing the type only. Use {@link #setType(EntryType)} to change the type.
+     */
+    public synchronized ObjectProperty<EntryType> typeProperty() {
+        if (typeProperty == null) {
+            typeProperty = new SimpleObjectProperty<>(type);
+        }
+        return typeProperty;
     }
 
     /**
@@ -443,16 +457,21 @@ public class BibEntry implements Cloneable {
     public Optional<FieldChange> setType(EntryType newType, EntriesEventSource eventSource) {
         Objects.requireNonNull(newType);
 
-        EntryType oldType = type.get();
+        EntryType oldType = type;
         if (newType.equals(oldType)) {
             return Optional.empty();
         }
 
         changed = true;
-        this.type.setValue(newType);
+        this.type = newType;
+        synchronized (this) {
+            if (typeProperty != null) {
+                typeProperty.setValue(newType);
+            }
+        }
 
         FieldChange change = new FieldChange(this, InternalField.TYPE_HEADER, oldType.getName(), newType.getName());
-        eventBus.post(new FieldChangedEvent(change, eventSource));
+        postEvent(new FieldChangedEvent(change, eventSource));
         return Optional.of(change);
     }
 
@@ -482,15 +501,19 @@ public class BibEntry implements Cloneable {
             // the key field should not be converted
             return getCitationKey();
         } else if (InternalField.TYPE_HEADER == field) {
-            return Optional.of(type.get().getDisplayName());
-        } else if (latexFreeFields.containsKey(field)) {
-            return Optional.ofNullable(latexFreeFields.get(field));
+            return Optional.of(type.getDisplayName());
+        }
+
+        Map<Field, String> latexFreeCache = latexFreeFields;
+        String cachedValue = latexFreeCache == null ? null : latexFreeCache.get(field);
+        if (cachedValue != null) {
+            return Optional.of(cachedValue);
         } else {
             Optional<String> fieldValue = getField(field);
             if (fieldValue.isPresent()) {
                 // TODO: Do we need FieldFactory.isLaTeXField(field) here to filter?
                 String latexFreeValue = LatexToUnicodeAdapter.format(fieldValue.get()).intern();
-                latexFreeFields.put(field, latexFreeValue);
+                getLatexFreeFields().put(field, latexFreeValue);
                 return Optional.of(latexFreeValue);
             } else {
                 return Optional.empty();
@@ -611,6 +634,43 @@ public class BibEntry implements Cloneable {
         fields.forEach(this::setField);
     }
 
+    /**
+     * Sets and clears a number of fields simultaneously, and notifies listeners about all changes with a single {@link FieldsChangedEvent}.
+     * An empty value clears the field.
+     *
+     * @param fieldsToSet the fields to set, each mapped to its new value
+     * @param eventSource Source the event is sent from
+     * @return the changes applied, empty if all fields already had the given values
+     */
+    public List<FieldChange> setField(Map<Field, String> fieldsToSet, EntriesEventSource eventSource) {
+        Objects.requireNonNull(fieldsToSet, "fields must not be null");
+        Objects.requireNonNull(eventSource, "field eventSource must not be null");
+
+        List<FieldChange> changes = new ArrayList<>();
+        fieldsToSet.forEach((field, value) -> {
+            Objects.requireNonNull(value, "field value for field " + field.getName() + " must not be null");
+            String oldValue = getField(field).orElse(null);
+            String newValue = value.isEmpty() ? null : value;
+            if (Objects.equals(oldValue, newValue)) {
+                return;
+            }
+
+            invalidateFieldCache(field);
+            if (newValue == null) {
+                fields.remove(field);
+            } else {
+                fields.put(field, newValue.intern());
+            }
+            changes.add(new FieldChange(this, field, oldValue, newValue));
+        });
+
+        if (!changes.isEmpty()) {
+            changed = true;
+            postEvent(new FieldsChangedEvent(this, changes, eventSource));
+        }
+        return changes;
+    }
+
     /**
      * Set a field, and notify listeners about the change.
      *
@@ -640,9 +700,9 @@ public class BibEntry implements Cloneable {
 
         FieldChange change = new FieldChange(this, field, oldValue, value);
         if (isNewField) {
-            eventBus.post(new FieldAddedOrRemovedEvent(change, eventSource));
+            postEvent(new FieldAddedOrRemovedEvent(change, eventSource));
         } else {
-            eventBus.post(new FieldChangedEvent(change, eventSource));
+            postEvent(new FieldChangedEvent(change, eventSource));
         }
         return Optional.of(change);
     }
@@ -685,7 +745,7 @@ public class BibEntry implements Cloneable {
         fields.remove(field);
 
         FieldChange change = new FieldChange(this, field, oldValue.get(), null);
-        eventBus.post(new FieldAddedOrRemovedEvent(change, eventSource));
+        postEvent(new FieldAddedOrRemovedEvent(change, eventSource));
         return Optional.of(change);
     }
 
@@ -710,7 +770,7 @@ public class BibEntry implements Cloneable {
      */
     @Override
     public Object clone() {
-        BibEntry clone = new BibEntry(type.getValue());
+        BibEntry clone = new BibEntry(type);
         clone.fields = FXCollections.observableMap(new ConcurrentHashMap<>(fields));
         clone.commentsBeforeEntry = commentsBeforeEntry;
         clone.parsedSerialization = parsedSerialization;
@@ -937,7 +997,7 @@ public class BibEntry implements Cloneable {
             return false;
         }
         BibEntry entry = (BibEntry) o;
-        return Objects.equals(type.getValue(), entry.type.getValue())
+        return Objects.equals(type, entry.type)
                 && Objects.equals(fields, entry.fields)
                 && Objects.equals(commentsBeforeEntry, entry.commentsBeforeEntry);
     }
@@ -955,22 +1015,46 @@ public class BibEntry implements Cloneable {
      */
     @Override
     public int hashCode() {
-        return Objects.hash(type.getValue(), fields, commentsBeforeEntry);
+        return Objects.hash(type, fields, commentsBeforeEntry);
     }
 
     public void registerListener(Object object) {
-        this.eventBus.register(object);
+        EventBus bus = eventBus;
+        if (bus == null) {
+            synchronized (this) {
+                if (eventBus == null) {
+                    eventBus = new EventBus();
+                }
+                bus = eventBus;
+            }
+        }
+        bus.register(object);
     }
 
     public void unregisterListener(Object object) {
+        EventBus bus = eventBus;
+        if (bus == null) {
+            LOGGER.debug("Problem unregistering: no listener registered at all");
+            return;
+        }
         try {
-            this.eventBus.unregister(object);
+            bus.unregister(object);
         } catch (IllegalArgumentException e) {
             // occurs if the event source has not been registered, should not prevent shutdown
             LOGGER.debug("Problem unregistering", e);
         }
     }
 
+    /**
+     * Without registered listeners, there is no one to notify
+     */
+    private void postEvent(Object event) {
+        EventBus bus = eventBus;
+        if (bus != null) {
+            bus.post(event);
+        }
+    }
+
     public BibEntry withField(Field field, String value) {
         setField(field, value);
         this.setChanged(false);
@@ -1021,7 +1105,8 @@ public class BibEntry implements Cloneable {
     }
 
     public Set<String> getFieldAsWords(Field field) {
-        Set<String> storedList = fieldsAsWords.get(field);
+        Map<Field, Set<String>> wordsCache = fieldsAsWords;
+        Set<String> storedList = wordsCache == null ? null : wordsCache.get(field);
         if (storedList != null) {
             return storedList;
         } else {
@@ -1030,15 +1115,19 @@ public class BibEntry implements Cloneable {
                 return Set.of();
             } else {
                 HashSet<String> words = new HashSet<>(StringUtil.getStringAsWords(fieldValue));
-                fieldsAsWords.put(field, words);
+                getFieldsAsWords().put(field, words);
                 return words;
             }
         }
     }
 
     public KeywordList getFieldAsKeywords(Field field, Character keywordSeparator) {
-        if (field instanceof StandardField standardField) {
-            Optional<KeywordList> storedList = fieldsAsKeywords.get(standardField, keywordSeparator);
+        MultiKeyMap<StandardField, Character, KeywordList> keywordsCache = fieldsAsKeywords;
+        if ((keywordsCache != null) && (field instanceof StandardField standardField)) {
+            Optional<KeywordList> storedList;
+            synchronized (keywordsCache) {
+                storedList = keywordsCache.get(standardField, keywordSeparator);
+            }
             if (storedList.isPresent()) {
                 return storedList.get();
             }
@@ -1049,21 +1138,73 @@ public class BibEntry implements Cloneable {
                 .orElse(new KeywordList());
 
         if (field instanceof StandardField standardField) {
-            fieldsAsKeywords.put(standardField, keywordSeparator, keywords);
+            keywordsCache = getFieldsAsKeywords();
+            synchronized (keywordsCache) {
+                keywordsCache.put(standardField, keywordSeparator, keywords);
+            }
         }
         return keywords;
     }
 
+    private Map<Field, String> getLatexFreeFields() {
+        Map<Field, String> cache = latexFreeFields;
+        if (cache == null) {
+            synchronized (this) {
+                if (latexFreeFields == null) {
+                    latexFreeFields = new ConcurrentHashMap<>();
+                }
+                cache = latexFreeFields;
+            }
+        }
+        return cache;
+    }
+
+    private Map<Field, Set<String>> getFieldsAsWords() {
+        Map<Field, Set<String>> cache = fieldsAsWords;
+        if (cache == null) {
+            synchronized (this) {
+                if (fieldsAsWords == null) {
+                    fieldsAsWords = new ConcurrentHashMap<>();
+                }
+                cache = fieldsAsWords;
+            }
+        }
+        return cache;
+    }
+
+    private MultiKeyMap<StandardField, Character, KeywordList> getFieldsAsKeywords() {
+        MultiKeyMap<StandardField, Character, KeywordList> cache = fieldsAsKeywords;
+        if (cache == null) {
+            synchronized (this) {
+                if (fieldsAsKeywords == null) {
+                    // The underlying EnumMap allocates a slot for each standard field
+                    fieldsAsKeywords = new MultiKeyMap<>(StandardField.class);
+                }
+                cache = fieldsAsKeywords;
+            }
+        }
+        return cache;
+    }
+
     public Optional<FieldChange> clearCiteKey() {
         return clearField(InternalField.KEY_FIELD);
     }
 
     private void invalidateFieldCache(Field field) {
-        latexFreeFields.remove(field);
-        fieldsAsWords.remove(field);
+        Map<Field, String> latexFreeCache = latexFreeFields;
+        if (latexFreeCache != null) {
+            latexFreeCache.remove(field);
+        }
+        Map<Field, Set<String>> wordsCache = fieldsAsWords;
+        if (wordsCache != null) {
+            wordsCache.remove(field);
+        }
 
-        if (field instanceof StandardField standardField) {
-            fieldsAsKeywords.remove(standardField);
+        MultiKeyMap<StandardField, Character, KeywordList> keywordsCache = fieldsAsKeywords;
+        if ((keywordsCache != null) && (field instanceof StandardField standardField)) {
+            synchronized (keywordsCache) {
+                keywordsCache.remove(standardField);
+            }
         }
     }
 
@@ -1162,7 +1303,7 @@ public class BibEntry implements Cloneable {
 
     public OptionalBinding<String> getFieldBinding(Field field) {
         if ((field == InternalField.TYPE_HEADER) || (field == InternalField.OBSOLETE_TYPE_HEADER)) {
-            return EasyBind.wrapNullable(type).mapOpt(EntryType::getDisplayName);
+            return EasyBind.wrapNullable(typeProperty()).mapOpt(EntryType::getDisplayName);
         }
         return EasyBind.valueAt(fields, field);
     }
@@ -1179,7 +1320,7 @@ public class BibEntry implements Cloneable {
      * Returns a list of observables that represent the data of the entry.
      */
     public Observable[] getObservables() {
-        return new Observable[] {fields, type};
+        return new Observable[] {fields, typeProperty()};
     }
 
     /**
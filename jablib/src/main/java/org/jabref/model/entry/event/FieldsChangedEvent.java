@@ -0,0 +1,35 @@
+package org.jabref.model.entry.event;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.jabref.model.FieldChange;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.Field;
+
+/**
+ * <code>FieldsChangedEvent</code> is fired once when several fields of a <code>BibEntry</code> have been modified, removed or added at once
+ * (see {@link BibEntry#setField(java.util.Map, EntriesEventSource)}). No {@link FieldChangedEvent}s are fired for these changes.
+ */
+public class FieldsChangedEvent extends EntryChangedEvent {
+
+    private final List<FieldChange> changes;
+
+    /**
+     * @param bibEntry Affected BibEntry object
+     * @param changes  the changes of the fields, at most one per field
+     * @param location Location affected by this event
+     */
+    public FieldsChangedEvent(BibEntry bibEntry, List<FieldChange> changes, EntriesEventSource location) {
+        super(bibEntry, location);
+        this.changes = List.copyOf(changes);
+    }
+
+    public List<FieldChange> getChanges() {
+        return changes;
+    }
+
+    public Optional<FieldChange> getChange(Field field) {
+        return changes.stream().filter(change -> change.getField().equals(field)).findFirst();
+    }
+}
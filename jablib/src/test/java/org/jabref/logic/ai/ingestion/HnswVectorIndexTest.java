@@ -0,0 +1,137 @@
+package org.jabref.logic.ai.ingestion;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.h2.mvstore.MVStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HnswVectorIndexTest {
+    private static final int DIMENSION = 16;
+    private static final int NUMBER_OF_VECTORS = 2000;
+
+    private final Random random = new Random(42);
+    private final List<float[]> vectors = new ArrayList<>();
+    private MVStore mvStore;
+    private HnswVectorIndex index;
+
+    @BeforeEach
+    void setUp() {
+        mvStore = MVStore.open(null);
+        index = new HnswVectorIndex(mvStore, new Random(42));
+        for (int i = 0; i < NUMBER_OF_VECTORS; i++) {
+            float[] vector = randomVector();
+            vectors.add(vector);
+            index.add("id" + i, vector);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        mvStore.close();
+    }
+
+    @Test
+    void searchHasHighRecallComparedToExactSearch() {
+        int found = 0;
+        int queries = 50;
+        for (int i = 0; i < queries; i++) {
+            float[] query = randomVector();
+            Set<String> expected = exactSearch(query, 10);
+            found += (int) index.search(query, 10, null).stream().map(HnswVectorIndex.ScoredEmbedding::embeddingId).filter(expected::contains).count();
+        }
+        assertTrue(found >= 0.9 * queries * 10, "recall was " + found / (queries * 10.0));
+    }
+
+    @Test
+    void searchFindsIdenticalVector() {
+        assertEquals("id17", index.search(vectors.get(17), 1, null).getFirst().embeddingId());
+    }
+
+    @Test
+    void searchDoesNotReturnRemovedEmbeddings() {
+        index.remove("id17");
+
+        assertFalse(index.search(vectors.get(17), 10, null).stream().anyMatch(result -> "id17".equals(result.embeddingId())));
+    }
+
+    @Test
+    void searchOnlyReturnsAllowedEmbeddings() {
+        Set<String> allowedIds = Set.of("id1", "id2", "id3", "id4", "id5", "id6", "id7", "id8", "id9", "id10");
+
+        Set<String> result = index.search(randomVector(), 5, allowedIds).stream().map(HnswVectorIndex.ScoredEmbedding::embeddingId).collect(Collectors.toSet());
+
+        assertTrue(allowedIds.containsAll(result));
+    }
+
+    @Test
+    void needsRebuildIfNumberOfEmbeddingsDiffers() {
+        assertFalse(index.needsRebuild(NUMBER_OF_VECTORS));
+        assertTrue(index.needsRebuild(NUMBER_OF_VECTORS + 1));
+    }
+
+    @Test
+    void indexIsReadFromFile(@TempDir Path directory) {
+        Path file = directory.resolve("index.mv");
+        try (MVStore fileStore = MVStore.open(file.toString())) {
+            HnswVectorIndex fileIndex = new HnswVectorIndex(fileStore, new Random(42));
+            for (int i = 0; i < 100; i++) {
+                fileIndex.add("id" + i, vectors.get(i));
+            }
+            fileIndex.remove("id5");
+        }
+
+        try (MVStore fileStore = MVStore.open(file.toString())) {
+            HnswVectorIndex fileIndex = new HnswVectorIndex(fileStore, new Random(42));
+
+            assertFalse(fileIndex.needsRebuild(99));
+            assertEquals("id17", fileIndex.search(vectors.get(17), 1, null).getFirst().embeddingId());
+            assertFalse(fileIndex.search(vectors.get(5), 10, null).stream().anyMatch(result -> "id5".equals(result.embeddingId())));
+        }
+    }
+
+    private Set<String> exactSearch(float[] query, int maxResults) {
+        List<Integer> indices = new ArrayList<>();
+        for (int i = 0; i < vectors.size(); i++) {
+            indices.add(i);
+        }
+        return indices.stream()
+                      .sorted(Comparator.comparingDouble((Integer i) -> cosineSimilarity(query, vectors.get(i))).reversed())
+                      .limit(maxResults)
+                      .map(i -> "id" + i)
+                      .collect(Collectors.toCollection(HashSet::new));
+    }
+
+    private static double cosineSimilarity(float[] a, float[] b) {
+        double dot = 0;
+        double normA = 0;
+        double normB = 0;
+        for (int i = 0; i < a.length; i++) {
+            dot += a[i] * b[i];
+            normA += a[i] * a[i];
+            normB += b[i] * b[i];
+        }
+        return dot / Math.sqrt(normA * normB);
+    }
+
+    private float[] randomVector() {
+        float[] vector = new float[DIMENSION];
+        for (int i = 0; i < DIMENSION; i++) {
+            vector[i] = (float) random.nextGaussian();
+        }
+        return vector;
+    }
+}
@@ -1,5 +1,6 @@
 package org.jabref.logic.bibtex.comparator;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -134,6 +135,23 @@ class BibDatabaseDiffTest {
         assertEquals(entryTwo, diff.getEntryDifferences().getFirst().newEntry(), "there is another value as newEntry");
     }
 
+    @Test
+    void compareOfManyEntriesWithOneChangedEntryReportsOnlyChangedEntry() {
+        List<BibEntry> originalEntries = new ArrayList<>();
+        List<BibEntry> newEntries = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            originalEntries.add(new BibEntry().withField(StandardField.TITLE, "title " + i).withField(StandardField.YEAR, "2000"));
+            newEntries.add(new BibEntry().withField(StandardField.TITLE, "title " + i).withField(StandardField.YEAR, "2000"));
+        }
+        newEntries.get(42).setField(StandardField.YEAR, "2001");
+
+        BibDatabaseDiff diff = BibDatabaseDiff.compare(
+                new BibDatabaseContext(new BibDatabase(originalEntries)),
+                new BibDatabaseContext(new BibDatabase(newEntries)));
+
+        assertEquals(List.of(new BibEntryDiff(originalEntries.get(42), newEntries.get(42))), diff.getEntryDifferences());
+    }
+
     private BibDatabaseDiff compareEntries(BibEntry entryOne, BibEntry entryTwo) {
         BibDatabaseContext databaseOne = new BibDatabaseContext(new BibDatabase(List.of(entryOne)));
         BibDatabaseContext databaseTwo = new BibDatabaseContext(new BibDatabase(List.of(entryTwo)));
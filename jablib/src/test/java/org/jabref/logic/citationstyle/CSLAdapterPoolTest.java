@@ -0,0 +1,50 @@
+package org.jabref.logic.citationstyle;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class CSLAdapterPoolTest {
+
+    private final CSLAdapterPool pool = new CSLAdapterPool(2);
+
+    @Test
+    void returnedAdapterIsReusedForSameStyleAndFormat() {
+        CSLAdapter adapter = pool.checkOut("style", CitationStyleOutputFormat.HTML);
+        pool.checkIn("style", CitationStyleOutputFormat.HTML, adapter);
+
+        assertSame(adapter, pool.checkOut("style", CitationStyleOutputFormat.HTML));
+    }
+
+    @Test
+    void returnedAdapterIsNotUsedForOtherFormat() {
+        CSLAdapter adapter = pool.checkOut("style", CitationStyleOutputFormat.HTML);
+        pool.checkIn("style", CitationStyleOutputFormat.HTML, adapter);
+
+        assertNotSame(adapter, pool.checkOut("style", CitationStyleOutputFormat.TEXT));
+    }
+
+    @Test
+    void concurrentCheckOutsGetDifferentAdapters() {
+        CSLAdapter first = pool.checkOut("style", CitationStyleOutputFormat.HTML);
+        CSLAdapter second = pool.checkOut("style", CitationStyleOutputFormat.HTML);
+
+        assertNotSame(first, second);
+    }
+
+    @Test
+    void leastRecentlyUsedStyleIsEvicted() {
+        CSLAdapter first = pool.checkOut("first", CitationStyleOutputFormat.HTML);
+        CSLAdapter second = pool.checkOut("second", CitationStyleOutputFormat.HTML);
+        CSLAdapter third = pool.checkOut("third", CitationStyleOutputFormat.HTML);
+        pool.checkIn("first", CitationStyleOutputFormat.HTML, first);
+        pool.checkIn("second", CitationStyleOutputFormat.HTML, second);
+        pool.checkIn("third", CitationStyleOutputFormat.HTML, third);
+
+        assertEquals(2, pool.getNumberOfIdleAdapters());
+        assertNotSame(first, pool.checkOut("first", CitationStyleOutputFormat.HTML));
+        assertSame(third, pool.checkOut("third", CitationStyleOutputFormat.HTML));
+    }
+}
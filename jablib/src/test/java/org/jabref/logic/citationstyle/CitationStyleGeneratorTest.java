@@ -208,6 +208,22 @@ class CitationStyleGeneratorTest {
         assertEquals(expectedCitation, actualCitation);
     }
 
+    @Test
+    void bibliographyEntriesAreSameAsSingleBibliographies() {
+        BibEntry otherEntry = new BibEntry(StandardEntryType.Book)
+                .withCitationKey("jone2021")
+                .withField(StandardField.EDITOR, "Jones, John")
+                .withField(StandardField.TITLE, "A book")
+                .withField(StandardField.YEAR, "2021");
+        BibDatabaseContext bibDatabaseContext = new BibDatabaseContext(new BibDatabase(List.of(testEntry, otherEntry)));
+
+        List<String> expected = List.of(
+                CitationStyleGenerator.generateBibliography(List.of(testEntry), DEFAULT_STYLE, TEXT_OUTPUT_FORMAT, bibDatabaseContext, ENTRY_TYPES_MANAGER).getFirst(),
+                CitationStyleGenerator.generateBibliography(List.of(otherEntry), DEFAULT_STYLE, TEXT_OUTPUT_FORMAT, bibDatabaseContext, ENTRY_TYPES_MANAGER).getFirst());
+
+        assertEquals(expected, CitationStyleGenerator.generateBibliographyEntries(List.of(testEntry, otherEntry), DEFAULT_STYLE, TEXT_OUTPUT_FORMAT, bibDatabaseContext, ENTRY_TYPES_MANAGER));
+    }
+
     @Test
     void handleCrossRefFields() {
         BibEntry firstEntry = new BibEntry(StandardEntryType.InCollection)
@@ -0,0 +1,120 @@
+package org.jabref.logic.crawler;
+
+import java.net.MalformedURLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jabref.logic.importer.FetcherClientException;
+import org.jabref.logic.importer.FetcherException;
+import org.jabref.logic.importer.SearchBasedFetcher;
+import org.jabref.logic.util.URLUtil;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.http.SimpleHttpResponse;
+import org.jabref.model.study.FetchResult;
+import org.jabref.model.study.QueryResult;
+
+import com.google.common.util.concurrent.RateLimiter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class StudyFetcherTest {
+
+    private final BibEntry entry = new BibEntry().withField(StandardField.TITLE, "Quantum");
+
+    private SearchBasedFetcher fetcher;
+    private StudyRepository studyRepository;
+
+    @BeforeEach
+    void setUp() {
+        fetcher = mock(SearchBasedFetcher.class);
+        when(fetcher.getName()).thenReturn("Fetcher");
+        studyRepository = mock(StudyRepository.class);
+        when(studyRepository.getCheckpointedFetchResult(anyString(), anyString())).thenReturn(Optional.empty());
+    }
+
+    private List<QueryResult> crawl() {
+        return new StudyFetcher(List.of(fetcher), List.of("Quantum"), studyRepository, () -> RateLimiter.create(1000), Duration.ZERO).crawl();
+    }
+
+    private List<BibEntry> getEntries(List<QueryResult> results) {
+        return results.getFirst().getResultsPerFetcher().stream()
+                      .flatMap(fetchResult -> fetchResult.getFetchResult().getEntries().stream())
+                      .toList();
+    }
+
+    @Test
+    void failedRequestIsRetried() throws FetcherException {
+        when(fetcher.performSearch("Quantum"))
+                .thenThrow(new FetcherException("Service unavailable"))
+                .thenReturn(List.of(entry));
+
+        List<QueryResult> results = crawl();
+
+        assertEquals(List.of(entry), getEntries(results));
+        verify(fetcher, times(2)).performSearch("Quantum");
+    }
+
+    @Test
+    void waitingForRateLimiterDoesNotSpin() throws FetcherException {
+        when(fetcher.performSearch("Quantum")).thenReturn(List.of(entry));
+        // Like RateLimiter#tryAcquire, returns immediately if the next permit is further away than the timeout
+        RateLimiter rateLimiter = mock(RateLimiter.class);
+        AtomicInteger attempts = new AtomicInteger();
+        long permitAvailable = System.nanoTime() + Duration.ofSeconds(1).toNanos();
+        when(rateLimiter.tryAcquire(any(Duration.class))).thenAnswer(_ -> {
+            attempts.incrementAndGet();
+            return System.nanoTime() >= permitAvailable;
+        });
+
+        List<QueryResult> results = new StudyFetcher(List.of(fetcher), List.of("Quantum"), studyRepository, () -> rateLimiter, Duration.ZERO).crawl();
+
+        assertEquals(List.of(entry), getEntries(results));
+        // One attempt per poll interval of 100 ms
+        assertTrue(attempts.get() <= 20, "Attempts: " + attempts.get());
+    }
+
+    @Test
+    void invalidRequestIsNotRetried() throws FetcherException, MalformedURLException {
+        when(fetcher.performSearch("Quantum"))
+                .thenThrow(new FetcherClientException(URLUtil.create("https://example.org"), new SimpleHttpResponse(400, "Bad Request", "")));
+
+        List<QueryResult> results = crawl();
+
+        assertEquals(List.of(), results.getFirst().getResultsPerFetcher());
+        verify(fetcher, times(1)).performSearch("Quantum");
+        verify(studyRepository, never()).checkpointFetchResult(anyString(), any());
+    }
+
+    @Test
+    void fetchResultIsCheckpointed() throws FetcherException {
+        when(fetcher.performSearch("Quantum")).thenReturn(List.of(entry));
+
+        crawl();
+
+        verify(studyRepository).checkpointFetchResult(anyString(), any(FetchResult.class));
+    }
+
+    @Test
+    void checkpointedResultIsNotFetchedAgain() throws FetcherException {
+        when(studyRepository.getCheckpointedFetchResult("Quantum", "Fetcher")).thenReturn(Optional.of(new BibDatabase(List.of(entry))));
+
+        List<QueryResult> results = crawl();
+
+        assertEquals(List.of(entry), getEntries(results));
+        verify(fetcher, never()).performSearch(anyString());
+    }
+}
@@ -5,9 +5,13 @@ import java.net.URISyntaxException;
 import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 
 import javafx.collections.FXCollections;
 
@@ -30,6 +34,7 @@ import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.entry.types.StandardEntryType;
 import org.jabref.model.study.FetchResult;
 import org.jabref.model.study.QueryResult;
+import org.jabref.model.study.Study;
 import org.jabref.model.util.DummyFileUpdateMonitor;
 
 import org.eclipse.jgit.api.errors.GitAPIException;
@@ -133,6 +138,54 @@ class StudyRepositoryTest {
         assertEquals(getArXivQuantumMockResults(), result);
     }
 
+    @Test
+    void checkpointedFetchResultIsAvailableUntilResultsArePersisted() throws GitAPIException, SaveException, IOException, URISyntaxException {
+        studyRepository.checkpointFetchResult("Quantum", new FetchResult("ArXiv", new BibDatabase(getArXivQuantumMockResults())));
+
+        assertEquals(getArXivQuantumMockResults(), studyRepository.getCheckpointedFetchResult("Quantum", "ArXiv").orElseThrow().getEntries());
+        assertEquals(Optional.empty(), studyRepository.getCheckpointedFetchResult("Quantum", "Springer"));
+
+        studyRepository.persist(getMockResults());
+
+        assertEquals(Optional.empty(), studyRepository.getCheckpointedFetchResult("Quantum", "ArXiv"));
+    }
+
+    @Test
+    void checkpointIsStoredInGitDirectory() throws IOException, URISyntaxException {
+        Path gitDirectory = tempRepositoryDirectory.resolve("worktrees").resolve("study");
+        when(gitHandler.getGitDirectory()).thenReturn(Optional.of(gitDirectory));
+        getTestStudyRepository();
+
+        studyRepository.checkpointFetchResult("Quantum", new FetchResult("ArXiv", new BibDatabase(getArXivQuantumMockResults())));
+
+        assertTrue(Files.isDirectory(gitDirectory.resolve("jabref-crawl-checkpoint")));
+        assertEquals(getArXivQuantumMockResults(), studyRepository.getCheckpointedFetchResult("Quantum", "ArXiv").orElseThrow().getEntries());
+    }
+
+    @Test
+    void oldCheckpointIsDiscarded() throws IOException, URISyntaxException {
+        studyRepository.checkpointFetchResult("Quantum", new FetchResult("ArXiv", new BibDatabase(getArXivQuantumMockResults())));
+        Path checkpointStudyDefinition = tempRepositoryDirectory.resolve(".git").resolve("jabref-crawl-checkpoint").resolve(StudyRepository.STUDY_DEFINITION_FILE_NAME);
+        Files.setLastModifiedTime(checkpointStudyDefinition, FileTime.from(Instant.now().minus(Duration.ofDays(8))));
+
+        getTestStudyRepository();
+
+        assertEquals(Optional.empty(), studyRepository.getCheckpointedFetchResult("Quantum", "ArXiv"));
+    }
+
+    @Test
+    void checkpointOfChangedStudyIsDiscarded() throws IOException, URISyntaxException {
+        studyRepository.checkpointFetchResult("Quantum", new FetchResult("ArXiv", new BibDatabase(getArXivQuantumMockResults())));
+        Path studyDefinition = tempRepositoryDirectory.resolve(StudyRepository.STUDY_DEFINITION_FILE_NAME);
+        Study study = new StudyYamlParser().parseStudyYamlFile(studyDefinition);
+        study.setTitle(study.getTitle() + " (revised)");
+        new StudyYamlParser().writeStudyYamlFile(study, studyDefinition);
+
+        getTestStudyRepository();
+
+        assertEquals(Optional.empty(), studyRepository.getCheckpointedFetchResult("Quantum", "ArXiv"));
+    }
+
     @Test
     void fetcherResultsPersistedCorrectly() throws GitAPIException, SaveException, IOException, URISyntaxException {
         List<QueryResult> mockResults = getMockResults();
@@ -0,0 +1,93 @@
+package org.jabref.logic.database;
+
+import java.util.List;
+import java.util.Set;
+
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DuplicateFinderTest {
+
+    private final DuplicateFinder duplicateFinder = new DuplicateFinder(new DuplicateCheck(new BibEntryTypesManager()));
+
+    private static BibEntry getArticle() {
+        return new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.AUTHOR, "Single Author")
+                .withField(StandardField.TITLE, "A serious paper about something")
+                .withField(StandardField.JOURNAL, "Journal of Serious Things")
+                .withField(StandardField.YEAR, "2017");
+    }
+
+    private static BibEntry getUnrelatedArticle() {
+        return new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.AUTHOR, "Completely Different")
+                .withField(StandardField.TITLE, "Holy Moly Uffdada und Trallalla")
+                .withField(StandardField.YEAR, "1992");
+    }
+
+    @Test
+    void findsDuplicatesWithSameContent() {
+        BibEntry one = getArticle();
+        BibEntry two = getArticle();
+        BibEntry unrelated = getUnrelatedArticle();
+
+        assertEquals(List.of(List.of(one, two)), duplicateFinder.findDuplicates(List.of(one, unrelated, two), BibDatabaseMode.BIBTEX));
+    }
+
+    @Test
+    void findsDuplicatesWithSameDoiOnly() {
+        BibEntry one = getArticle().withField(StandardField.DOI, "10.1000/182");
+        BibEntry two = getUnrelatedArticle().withField(StandardField.DOI, "10.1000/182");
+
+        assertEquals(List.of(List.of(one, two)), duplicateFinder.findDuplicates(List.of(one, two), BibDatabaseMode.BIBTEX));
+    }
+
+    @Test
+    void findsDuplicatesWithSlightlyDifferentTitleAndNoYear() {
+        BibEntry one = getArticle();
+        one.clearField(StandardField.YEAR);
+        BibEntry two = getArticle().withField(StandardField.TITLE, "A serious paper about somethin");
+        two.clearField(StandardField.YEAR);
+
+        assertEquals(List.of(List.of(one, two)), duplicateFinder.findDuplicates(List.of(one, two), BibDatabaseMode.BIBTEX));
+    }
+
+    @Test
+    void duplicatesAreClusteredTransitively() {
+        BibEntry one = getArticle().withField(StandardField.DOI, "10.1000/182");
+        BibEntry two = getUnrelatedArticle().withField(StandardField.DOI, "10.1000/182");
+        BibEntry three = getUnrelatedArticle();
+        BibEntry other = new BibEntry(StandardEntryType.Book)
+                .withField(StandardField.AUTHOR, "Another Person")
+                .withField(StandardField.TITLE, "Nothing in common")
+                .withField(StandardField.YEAR, "2001");
+
+        assertEquals(List.of(List.of(one, two, three)), duplicateFinder.findDuplicates(List.of(one, two, other, three), BibDatabaseMode.BIBTEX));
+    }
+
+    @Test
+    void noDuplicatesInUnrelatedEntries() {
+        assertEquals(List.of(), duplicateFinder.findDuplicates(List.of(getArticle(), getUnrelatedArticle()), BibDatabaseMode.BIBTEX));
+    }
+
+    @Test
+    void blockingKeysContainIdentifierAndAuthorYear() {
+        BibEntry entry = getArticle().withField(StandardField.DOI, "10.1000/ABC");
+
+        assertTrue(DuplicateFinder.getBlockingKeys(entry).contains("id:doi:10.1000/abc"));
+        assertTrue(DuplicateFinder.getBlockingKeys(entry).contains("author-year:author:2017"));
+    }
+
+    @Test
+    void blockingKeysOfEntryWithoutFieldsAreEmpty() {
+        assertEquals(Set.of(), DuplicateFinder.getBlockingKeys(new BibEntry()));
+    }
+}
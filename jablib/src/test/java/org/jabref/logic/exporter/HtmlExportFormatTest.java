@@ -6,6 +6,9 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
 
 import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.transform.TransformerException;
@@ -27,6 +30,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.mock;
 
 public class HtmlExportFormatTest {
+    private static final Pattern KEY_LINK = Pattern.compile("<a name=\"([^\"]*)\">");
+
     public BibDatabaseContext databaseContext;
     public Charset charset;
     public List<BibEntry> entries;
@@ -63,4 +68,34 @@ public class HtmlExportFormatTest {
         List<String> lines = Files.readAllLines(path);
         assertEquals("</html>", lines.getLast());
     }
+
+    @Test
+    void exportOfManyEntriesKeepsOrder(@TempDir Path testFolder) throws IOException {
+        List<BibEntry> manyEntries = IntStream.range(0, 2000)
+                                              .mapToObj(i -> new BibEntry().withCitationKey("key" + i))
+                                              .toList();
+        Path path = testFolder.resolve("ThisIsARandomlyNamedFile");
+
+        exportFormat.export(databaseContext, path, manyEntries);
+
+        List<String> exportedKeys = Files.readAllLines(path).stream()
+                                         .map(line -> KEY_LINK.matcher(line))
+                                         .filter(Matcher::find)
+                                         .map(matcher -> matcher.group(1))
+                                         .toList();
+        assertEquals(manyEntries.stream().map(entry -> entry.getCitationKey().get()).toList(), exportedKeys);
+    }
+
+    @Test
+    void repeatedExportWritesCompleteFile(@TempDir Path testFolder) throws IOException {
+        Path first = testFolder.resolve("first");
+        Path second = testFolder.resolve("second");
+
+        exportFormat.export(databaseContext, first, entries);
+        exportFormat.export(databaseContext, second, entries);
+
+        // The layouts include the current date, thus only the structure is compared
+        assertEquals(Files.readAllLines(first).size(), Files.readAllLines(second).size());
+        assertEquals("</html>", Files.readAllLines(second).getLast());
+    }
 }
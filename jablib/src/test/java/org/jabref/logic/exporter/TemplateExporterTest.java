@@ -0,0 +1,70 @@
+package org.jabref.logic.exporter;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.List;
+
+import org.jabref.logic.layout.LayoutFormatterPreferences;
+import org.jabref.logic.util.StandardFileType;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.metadata.SaveOrder;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Answers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+class TemplateExporterTest {
+
+    @TempDir
+    private Path layoutDirectory;
+
+    private TemplateExporter exporter;
+    private final BibDatabaseContext databaseContext = new BibDatabaseContext();
+    private final List<BibEntry> entries = List.of(new BibEntry().withCitationKey("key"));
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Files.writeString(layoutDirectory.resolve("custom.layout"), "\\citationkey\n");
+        exporter = new TemplateExporter("Custom",
+                "custom",
+                layoutDirectory.resolve("custom").toString(),
+                null,
+                StandardFileType.TXT,
+                mock(LayoutFormatterPreferences.class, Answers.RETURNS_DEEP_STUBS),
+                SaveOrder.getDefaultSaveOrder());
+        exporter.setCustomExport(true);
+    }
+
+    @Test
+    void exportUsesModifiedBeginLayout(@TempDir Path exportDirectory) throws IOException {
+        Path beginLayout = layoutDirectory.resolve("custom.begin.layout");
+        Files.writeString(beginLayout, "first\n");
+        Path file = exportDirectory.resolve("export.txt");
+        exporter.export(databaseContext, file, entries);
+
+        Files.writeString(beginLayout, "second\n");
+        Files.setLastModifiedTime(beginLayout, FileTime.from(Instant.now().plusSeconds(10)));
+        exporter.export(databaseContext, file, entries);
+
+        assertEquals(List.of("second", "key"), Files.readAllLines(file));
+    }
+
+    @Test
+    void exportUsesAddedEndLayout(@TempDir Path exportDirectory) throws IOException {
+        Path file = exportDirectory.resolve("export.txt");
+        exporter.export(databaseContext, file, entries);
+
+        Files.writeString(layoutDirectory.resolve("custom.end.layout"), "end\n");
+        exporter.export(databaseContext, file, entries);
+
+        assertEquals(List.of("key", "end"), Files.readAllLines(file));
+    }
+}
@@ -339,6 +339,18 @@ class BibtexParserTest {
         assertEquals(secondEntry, parsedEntries.get(1).getParsedSerialization());
     }
 
+    @Test
+    void parseSetsParsedSerializationOfEntriesLongerThanReadBuffer() throws IOException {
+        String longAbstract = "a".repeat(100_000);
+        String firstEntry = "@article{first," + OS.NEWLINE + "  abstract = {" + longAbstract + "}}" + OS.NEWLINE;
+        String secondEntry = "@article{second," + OS.NEWLINE + "  abstract = {" + longAbstract + "}}";
+        List<BibEntry> parsedEntries = parser.parse(Reader.of(firstEntry + secondEntry))
+                                             .getDatabase().getEntries();
+        assertEquals(firstEntry, parsedEntries.getFirst().getParsedSerialization());
+        assertEquals(secondEntry, parsedEntries.get(1).getParsedSerialization());
+        assertEquals(Optional.of(longAbstract), parsedEntries.get(1).getField(StandardField.ABSTRACT));
+    }
+
     @Test
     void parseRecognizesMultipleEntriesOnSameLine() throws IOException {
         ParserResult result = parser
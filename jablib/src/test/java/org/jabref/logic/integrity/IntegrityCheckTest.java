@@ -146,6 +146,58 @@ class IntegrityCheckTest {
         assertEquals(clonedEntry, entry);
     }
 
+    @Test
+    void changedEntryIsCheckedAgain() {
+        BibDatabaseContext context = createContext(StandardField.YEAR, "not a year");
+        BibEntry entry = context.getDatabase().getEntries().getFirst();
+        IntegrityCheck integrityCheck = createIntegrityCheck(context);
+        assertNotEquals(List.of(), getMessagesOfField(integrityCheck.check(), StandardField.YEAR));
+
+        entry.setField(StandardField.YEAR, "2025");
+
+        assertEquals(List.of(), getMessagesOfField(integrityCheck.check(), StandardField.YEAR));
+    }
+
+    @Test
+    void duplicateDoiIsFoundAfterChange() {
+        BibEntry first = new BibEntry().withField(StandardField.DOI, "10.1023/A:1022883727209");
+        BibEntry second = new BibEntry().withField(StandardField.DOI, "10.1177/1461444811422887");
+        BibDatabaseContext context = new BibDatabaseContext(new BibDatabase(List.of(first, second)));
+        try (IntegrityCheck integrityCheck = createIntegrityCheck(context).listenForChanges()) {
+            assertEquals(List.of(), integrityCheck.checkDatabase(context.getDatabase()));
+
+            second.setField(StandardField.DOI, "10.1023/A:1022883727209");
+            assertEquals(2, integrityCheck.checkDatabase(context.getDatabase()).size());
+
+            context.getDatabase().removeEntry(first);
+            assertEquals(List.of(), integrityCheck.checkDatabase(context.getDatabase()));
+        }
+    }
+
+    @Test
+    void duplicateDoiIsFoundAfterChangeWithoutListening() {
+        BibEntry first = new BibEntry().withField(StandardField.DOI, "10.1023/A:1022883727209");
+        BibEntry second = new BibEntry().withField(StandardField.DOI, "10.1177/1461444811422887");
+        BibDatabaseContext context = new BibDatabaseContext(new BibDatabase(List.of(first, second)));
+        IntegrityCheck integrityCheck = createIntegrityCheck(context);
+        assertEquals(List.of(), integrityCheck.checkDatabase(context.getDatabase()));
+
+        second.setField(StandardField.DOI, "10.1023/A:1022883727209");
+        assertEquals(2, integrityCheck.checkDatabase(context.getDatabase()).size());
+    }
+
+    private IntegrityCheck createIntegrityCheck(BibDatabaseContext context) {
+        return new IntegrityCheck(context,
+                mock(FilePreferences.class),
+                createCitationKeyPatternPreferences(),
+                JournalAbbreviationLoader.loadBuiltInRepository(),
+                false);
+    }
+
+    private List<IntegrityMessage> getMessagesOfField(List<IntegrityMessage> messages, Field field) {
+        return messages.stream().filter(message -> message.field().equals(field)).toList();
+    }
+
     private BibDatabaseContext createContext(Field field, String value, EntryType type) {
         BibEntry entry = new BibEntry(type)
                 .withField(field, value);
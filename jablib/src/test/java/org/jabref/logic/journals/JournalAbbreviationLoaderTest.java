@@ -0,0 +1,31 @@
+package org.jabref.logic.journals;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class JournalAbbreviationLoaderTest {
+
+    @Test
+    void closingReplacedRepositoryKeepsJournalListOpen() {
+        JournalAbbreviationRepository replacedRepository = JournalAbbreviationLoader.loadBuiltInRepository();
+        try (JournalAbbreviationRepository repository = JournalAbbreviationLoader.loadBuiltInRepository()) {
+            replacedRepository.close();
+
+            assertEquals(Optional.of("2D Mater."), repository.getDefaultAbbreviation("2D Materials"));
+            // A replaced repository might still be referenced
+            assertEquals(Optional.of("2D Mater."), replacedRepository.getDefaultAbbreviation("2D Materials"));
+        }
+    }
+
+    @Test
+    void repositoryCanBeLoadedAfterAllRepositoriesAreClosed() {
+        JournalAbbreviationLoader.loadBuiltInRepository().close();
+
+        try (JournalAbbreviationRepository repository = JournalAbbreviationLoader.loadBuiltInRepository()) {
+            assertEquals(Optional.of("2D Mater."), repository.getDefaultAbbreviation("2D Materials"));
+        }
+    }
+}
@@ -19,6 +19,8 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Answers;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -184,4 +186,28 @@ class LayoutTest {
 
         assertEquals("Joe Doe and Mary Jane: Joe Doe and Mary Jane 1:corresponding,2:highlight", layoutText);
     }
+
+    @Test
+    void layoutWithoutGroupsAndNumberDoesNotDependOnEntryOrder() throws IOException {
+        Layout layout = new LayoutHelper(Reader.of("\\begin{author}\\format[HTMLChars]{\\author}\\end{author}"), layoutFormatterPreferences, abbreviationRepository)
+                .getLayoutFromText();
+
+        assertFalse(layout.dependsOnEntryOrder());
+    }
+
+    @Test
+    void layoutWithNumberInFieldBlockDependsOnEntryOrder() throws IOException {
+        Layout layout = new LayoutHelper(Reader.of("\\begin{author}\\format[Number]{\\author}\\end{author}"), layoutFormatterPreferences, abbreviationRepository)
+                .getLayoutFromText();
+
+        assertTrue(layout.dependsOnEntryOrder());
+    }
+
+    @Test
+    void layoutWithGroupDependsOnEntryOrder() throws IOException {
+        Layout layout = new LayoutHelper(Reader.of("\\begingroup{year}\\year\\endgroup{year}"), layoutFormatterPreferences, abbreviationRepository)
+                .getLayoutFromText();
+
+        assertTrue(layout.dependsOnEntryOrder());
+    }
 }
@@ -0,0 +1,120 @@
+package org.jabref.logic.net;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.jabref.logic.importer.FetcherException;
+import org.jabref.logic.util.URLUtil;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HttpResponseCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    private WireMockServer wireMockServer;
+    private HttpResponseCache cache;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        wireMockServer = new WireMockServer(wireMockConfig().dynamicPort());
+        wireMockServer.start();
+        cache = new HttpResponseCache(tempDir.resolve("cache"), 1024);
+        URLDownload.setResponseCache(cache);
+    }
+
+    @AfterEach
+    void tearDown() {
+        URLDownload.setResponseCache(null);
+        wireMockServer.stop();
+    }
+
+    private String download(String path) throws IOException, FetcherException {
+        return new URLDownload(URLUtil.create(wireMockServer.baseUrl() + path)).asString();
+    }
+
+    @Test
+    void freshResponseIsReusedWithoutRequest() throws IOException, FetcherException {
+        wireMockServer.stubFor(get("/fresh").willReturn(aResponse()
+                .withHeader("Cache-Control", "max-age=600")
+                .withBody("content")));
+
+        download("/fresh");
+        String cached = download("/fresh");
+
+        assertEquals("content\n", cached);
+        wireMockServer.verify(1, getRequestedFor(urlEqualTo("/fresh")));
+        assertEquals(new HttpResponseCache.Statistics(1, 0, 1), cache.getStatistics());
+    }
+
+    @Test
+    void staleResponseIsRevalidatedByETag() throws IOException, FetcherException {
+        wireMockServer.stubFor(get("/etag").willReturn(aResponse()
+                .withHeader("Cache-Control", "no-cache")
+                .withHeader("ETag", "\"v1\"")
+                .withBody("content")));
+        wireMockServer.stubFor(get("/etag").withHeader("If-None-Match", equalTo("\"v1\"")).willReturn(aResponse()
+                .withStatus(304)));
+
+        download("/etag");
+        String revalidated = download("/etag");
+
+        assertEquals("content\n", revalidated);
+        wireMockServer.verify(2, getRequestedFor(urlEqualTo("/etag")));
+        assertEquals(new HttpResponseCache.Statistics(0, 1, 1), cache.getStatistics());
+    }
+
+    @Test
+    void noStoreResponseIsNotCached() throws IOException, FetcherException {
+        wireMockServer.stubFor(get("/nostore").willReturn(aResponse()
+                .withHeader("Cache-Control", "no-store")
+                .withBody("content")));
+
+        download("/nostore");
+        download("/nostore");
+
+        wireMockServer.verify(2, getRequestedFor(urlEqualTo("/nostore")));
+        assertEquals(0, cache.getSize());
+    }
+
+    @Test
+    void leastRecentlyUsedResponseIsRemovedIfCacheIsFull() throws IOException {
+        HttpResponseCache smallCache = new HttpResponseCache(tempDir.resolve("small"), 10);
+        Map<String, List<String>> headers = Map.of("Cache-Control", List.of("max-age=600"));
+
+        smallCache.store("first", headers, new byte[6]);
+        smallCache.store("second", headers, new byte[6]);
+
+        assertTrue(smallCache.get("first").isEmpty());
+        assertTrue(smallCache.get("second").isPresent());
+        assertEquals(6, smallCache.getSize());
+    }
+
+    @Test
+    void storedResponsesAreReusedByNewCache() throws IOException {
+        Path cacheDirectory = tempDir.resolve("persistent");
+        Map<String, List<String>> headers = Map.of("Cache-Control", List.of("max-age=600"));
+        new HttpResponseCache(cacheDirectory, 1024).store("key", headers, new byte[] {1, 2, 3});
+
+        HttpResponseCache newCache = new HttpResponseCache(cacheDirectory, 1024);
+
+        assertTrue(newCache.get("key").map(HttpResponseCache.CachedResponse::fresh).orElse(false));
+        assertEquals(3, newCache.getSize());
+    }
+}
@@ -0,0 +1,152 @@
+package org.jabref.logic.search.indexing;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.jabref.logic.search.PostgreServer;
+import org.jabref.logic.search.retrieval.BibFieldsSearcher;
+import org.jabref.logic.util.BackgroundTask;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryPreferences;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.search.PostgreConstants;
+import org.jabref.model.search.SearchFlags;
+import org.jabref.model.search.query.SearchQuery;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BibFieldsIndexerTest {
+
+    private static final int NUMBER_OF_ENTRIES = 300;
+
+    private final BibEntryPreferences bibEntryPreferences = mock(BibEntryPreferences.class);
+    private final BibDatabaseContext databaseContext = new BibDatabaseContext();
+
+    private PostgreServer postgreServer;
+    private BibFieldsIndexer copyIndexer;
+    private BibFieldsIndexer insertIndexer;
+
+    @BeforeEach
+    void setUp() {
+        when(bibEntryPreferences.getKeywordSeparator()).thenReturn(',');
+        for (int i = 0; i < NUMBER_OF_ENTRIES; i++) {
+            databaseContext.getDatabase().insertEntry(new BibEntry()
+                    .withCitationKey("key" + i)
+                    .withField(StandardField.AUTHOR, "Author" + (i % 10) + ", First and Other, Second")
+                    .withField(StandardField.TITLE, "Title " + i + " on \\textit{process}\nmining\twith tabs")
+                    .withField(StandardField.KEYWORDS, "keyword" + (i % 7) + ", common")
+                    .withField(StandardField.YEAR, String.valueOf(2000 + (i % 20))));
+        }
+
+        postgreServer = new PostgreServer();
+        copyIndexer = new BibFieldsIndexer(bibEntryPreferences, databaseContext, postgreServer.getConnection());
+        copyIndexer.updateOnStart(mock(BackgroundTask.class));
+        insertIndexer = new BibFieldsIndexer(bibEntryPreferences, databaseContext, withoutCopySupport(postgreServer.getConnection()));
+        insertIndexer.updateOnStart(mock(BackgroundTask.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        copyIndexer.closeAndWait();
+        insertIndexer.closeAndWait();
+        postgreServer.shutdown();
+    }
+
+    /**
+     * Hides the Postgres connection, thus the indexer cannot use <code>COPY</code> and falls back to batch inserts
+     */
+    private static Connection withoutCopySupport(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] {Connection.class}, (_, method, args) -> {
+            if ("unwrap".equals(method.getName())) {
+                throw new SQLException("Not a wrapper");
+            }
+            if ("isWrapperFor".equals(method.getName())) {
+                return false;
+            }
+            try {
+                return method.invoke(connection, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        });
+    }
+
+    private List<String> getRows(String tableReference) throws SQLException {
+        List<String> rows = new ArrayList<>();
+        try (Statement statement = postgreServer.getConnection().createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT * FROM " + tableReference)) {
+            while (resultSet.next()) {
+                rows.add(String.join("|", resultSet.getString(1), resultSet.getString(2), resultSet.getString(3), resultSet.getString(4)));
+            }
+        }
+        rows.sort(null);
+        return rows;
+    }
+
+    @Test
+    void copyAndBatchInsertStoreSameRows() throws SQLException {
+        List<String> copiedRows = getRows(PostgreConstants.getMainTableSchemaReference(copyIndexer.getTable()));
+
+        assertEquals(getRows(PostgreConstants.getMainTableSchemaReference(insertIndexer.getTable())), copiedRows);
+        assertEquals(getRows(PostgreConstants.getSplitTableSchemaReference(insertIndexer.getTable())),
+                getRows(PostgreConstants.getSplitTableSchemaReference(copyIndexer.getTable())));
+        assertFalse(copiedRows.isEmpty());
+    }
+
+    @ParameterizedTest
+    @MethodSource("searchQueries")
+    void copyAndBatchInsertFindSameEntries(String query, int expectedMatches) {
+        SearchQuery searchQuery = new SearchQuery(query, EnumSet.noneOf(SearchFlags.class));
+
+        Set<String> copyMatches = new BibFieldsSearcher(postgreServer.getConnection(), copyIndexer.getTable()).search(searchQuery).getMatchedEntries();
+        Set<String> insertMatches = new BibFieldsSearcher(postgreServer.getConnection(), insertIndexer.getTable()).search(searchQuery).getMatchedEntries();
+
+        assertEquals(expectedMatches, copyMatches.size());
+        assertEquals(insertMatches, copyMatches);
+    }
+
+    private static Stream<Arguments> searchQueries() {
+        return Stream.of(
+                Arguments.of("title=process", NUMBER_OF_ENTRIES),
+                Arguments.of("author=Author3", NUMBER_OF_ENTRIES / 10),
+                Arguments.of("keywords=keyword0", 43),
+                Arguments.of("year=2005", NUMBER_OF_ENTRIES / 20));
+    }
+
+    private static Stream<Arguments> copyValues() {
+        return Stream.of(
+                Arguments.of("Plain value", "Plain value"),
+                Arguments.of("\\\\textit{Title}", "\\textit{Title}"),
+                Arguments.of("first\\nsecond", "first\nsecond"),
+                Arguments.of("first\\r\\nsecond", "first\r\nsecond"),
+                Arguments.of("tab\\tseparated", "tab\tseparated"),
+                Arguments.of("\\N", null)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("copyValues")
+    void appendCopyValueEscapesSpecialCharacters(String expected, String value) {
+        assertEquals(expected, BibFieldsIndexer.appendCopyValue(new StringBuilder(), value).toString());
+    }
+}
@@ -2,8 +2,13 @@ package org.jabref.logic.search.indexing;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.jabref.logic.FilePreferences;
 import org.jabref.logic.preferences.CliPreferences;
@@ -14,14 +19,21 @@ import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.LinkedFile;
 import org.jabref.model.entry.types.StandardEntryType;
+import org.jabref.model.search.LinkedFilesConstants;
 
+import com.google.common.util.concurrent.Uninterruptibles;
+import org.apache.lucene.document.Document;
 import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.TermQuery;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mockito;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -29,6 +41,8 @@ public class LinkedFilesIndexerTest {
     private final CliPreferences preferences = mock(CliPreferences.class);
     private final FilePreferences filePreferences = mock(FilePreferences.class);
 
+    private final BibDatabaseContext context = mock(BibDatabaseContext.class);
+
     private LuceneIndexer indexer;
 
     @BeforeEach
@@ -36,7 +50,6 @@ public class LinkedFilesIndexerTest {
         when(filePreferences.shouldFulltextIndexLinkedFiles()).thenReturn(true);
         when(preferences.getFilePreferences()).thenReturn(filePreferences);
 
-        BibDatabaseContext context = mock(BibDatabaseContext.class);
         when(context.getDatabasePath()).thenReturn(Optional.of(Path.of("src/test/resources/pdfs/")));
         when(context.getFileDirectories(Mockito.any())).thenReturn(List.of(Path.of("src/test/resources/pdfs")));
         when(context.getFulltextIndexPath()).thenReturn(indexDir);
@@ -176,4 +189,108 @@ public class LinkedFilesIndexerTest {
             assertEquals(0, reader.numDocs());
         }
     }
+
+    @Test
+    void fileExceedingExtractionTimeoutIsSkipped(@TempDir Path indexDir) throws IOException, InterruptedException {
+        when(context.getFulltextIndexPath()).thenReturn(indexDir);
+        DocumentReader documentReader = new DocumentReader();
+        CountDownLatch interrupted = new CountDownLatch(1);
+        LuceneIndexer indexerWithTimeout = new DefaultLinkedFilesIndexer(context, filePreferences, (fileLink, path) -> {
+            if ("metaData.pdf".equals(fileLink)) {
+                return blockUntilInterrupted(new CountDownLatch(1), interrupted);
+            }
+            return documentReader.readPdfContents(fileLink, path);
+        }, Duration.ofMillis(200));
+
+        BibEntry thesis = new BibEntry(StandardEntryType.PhdThesis);
+        thesis.setFiles(List.of(new LinkedFile("Example Thesis", "thesis-example.pdf", StandardFileType.PDF.getName())));
+        BibEntry slowFile = new BibEntry(StandardEntryType.Article);
+        slowFile.setFiles(List.of(new LinkedFile("Metadata file", "metaData.pdf", StandardFileType.PDF.getName())));
+
+        indexerWithTimeout.addToIndex(List.of(thesis, slowFile), mock(BackgroundTask.class));
+
+        assertTrue(interrupted.await(10, TimeUnit.SECONDS));
+        indexerWithTimeout.getSearcherManager().maybeRefreshBlocking();
+        try (IndexReader reader = indexerWithTimeout.getSearcherManager().acquire().getIndexReader()) {
+            assertEquals(33, reader.numDocs());
+        }
+    }
+
+    @Test
+    void cancellingTaskInterruptsExtraction(@TempDir Path indexDir) throws IOException, InterruptedException {
+        when(context.getFulltextIndexPath()).thenReturn(indexDir);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        LuceneIndexer blockingIndexer = new DefaultLinkedFilesIndexer(context, filePreferences, (_, _) -> blockUntilInterrupted(started, interrupted), Duration.ofMinutes(1));
+
+        // The task is cancelled while the first file is extracted
+        BackgroundTask<?> task = mock(BackgroundTask.class);
+        AtomicInteger cancellationChecks = new AtomicInteger();
+        when(task.isCancelled()).thenAnswer(_ -> cancellationChecks.getAndIncrement() > 0 && started.await(10, TimeUnit.SECONDS));
+
+        BibEntry thesis = new BibEntry(StandardEntryType.PhdThesis);
+        thesis.setFiles(List.of(new LinkedFile("Example Thesis", "thesis-example.pdf", StandardFileType.PDF.getName())));
+        BibEntry metadata = new BibEntry(StandardEntryType.Article);
+        metadata.setFiles(List.of(new LinkedFile("Metadata file", "metaData.pdf", StandardFileType.PDF.getName())));
+
+        blockingIndexer.addToIndex(List.of(thesis, metadata), task);
+
+        assertTrue(interrupted.await(10, TimeUnit.SECONDS));
+        blockingIndexer.getSearcherManager().maybeRefreshBlocking();
+        try (IndexReader reader = blockingIndexer.getSearcherManager().acquire().getIndexReader()) {
+            assertEquals(0, reader.numDocs());
+        }
+    }
+
+    @Test
+    void hangingExtractionDoesNotBlockFollowingFiles(@TempDir Path indexDir) throws IOException {
+        when(context.getFulltextIndexPath()).thenReturn(indexDir);
+        when(filePreferences.getFulltextIndexParallelism()).thenReturn(1);
+        DocumentReader documentReader = new DocumentReader();
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicReference<String> hangingFile = new AtomicReference<>();
+        // The first extraction ignores interrupts, as PDFBox does
+        LuceneIndexer indexerWithTimeout = new DefaultLinkedFilesIndexer(context, filePreferences, (fileLink, path) -> {
+            if (hangingFile.compareAndSet(null, fileLink)) {
+                Uninterruptibles.awaitUninterruptibly(release);
+                return List.of();
+            }
+            return documentReader.readPdfContents(fileLink, path);
+        }, Duration.ofMillis(200));
+
+        BibEntry thesis = new BibEntry(StandardEntryType.PhdThesis);
+        thesis.setFiles(List.of(new LinkedFile("Example Thesis", "thesis-example.pdf", StandardFileType.PDF.getName())));
+        BibEntry metadata = new BibEntry(StandardEntryType.Article);
+        metadata.setFiles(List.of(new LinkedFile("Metadata file", "metaData.pdf", StandardFileType.PDF.getName())));
+
+        try {
+            indexerWithTimeout.addToIndex(List.of(thesis, metadata), mock(BackgroundTask.class));
+
+            String followingFile = "metaData.pdf".equals(hangingFile.get()) ? "thesis-example.pdf" : "metaData.pdf";
+            indexerWithTimeout.getSearcherManager().maybeRefreshBlocking();
+            IndexSearcher searcher = indexerWithTimeout.getSearcherManager().acquire();
+            try {
+                assertTrue(searcher.count(new TermQuery(new Term(LinkedFilesConstants.PATH.toString(), followingFile))) > 0);
+                assertEquals(0, searcher.count(new TermQuery(new Term(LinkedFilesConstants.PATH.toString(), hangingFile.get()))));
+            } finally {
+                indexerWithTimeout.getSearcherManager().release(searcher);
+            }
+        } finally {
+            release.countDown();
+        }
+    }
+
+    /**
+     * Simulates the extraction of a pathological PDF, which only ends when the worker is interrupted
+     */
+    private static List<Document> blockUntilInterrupted(CountDownLatch started, CountDownLatch interrupted) {
+        started.countDown();
+        try {
+            new CountDownLatch(1).await();
+        } catch (InterruptedException e) {
+            interrupted.countDown();
+            Thread.currentThread().interrupt();
+        }
+        return List.of();
+    }
 }
@@ -0,0 +1,75 @@
+package org.jabref.logic.search.retrieval;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.jabref.logic.search.PostgreServer;
+import org.jabref.logic.search.indexing.BibFieldsIndexer;
+import org.jabref.logic.util.BackgroundTask;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryPreferences;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.search.SearchFlags;
+import org.jabref.model.search.query.SearchQuery;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BibFieldsSearcherTest {
+    private final BibEntryPreferences bibEntryPreferences = mock(BibEntryPreferences.class);
+    private final BibEntry harrer = new BibEntry().withField(StandardField.AUTHOR, "Harrer").withField(StandardField.TITLE, "Process mining");
+    private final BibEntry kopp = new BibEntry().withField(StandardField.AUTHOR, "Kopp").withField(StandardField.TITLE, "Process modelling");
+    private final BibEntry other = new BibEntry().withField(StandardField.AUTHOR, "Someone").withField(StandardField.TITLE, "Unrelated");
+
+    private PostgreServer postgreServer;
+    private BibFieldsIndexer indexer;
+    private BibFieldsSearcher searcher;
+
+    @BeforeEach
+    void setUp() {
+        when(bibEntryPreferences.getKeywordSeparator()).thenReturn(',');
+        BibDatabaseContext databaseContext = new BibDatabaseContext();
+        databaseContext.getDatabase().insertEntries(List.of(harrer, kopp, other));
+
+        postgreServer = new PostgreServer();
+        indexer = new BibFieldsIndexer(bibEntryPreferences, databaseContext, postgreServer.getConnection());
+        indexer.updateOnStart(mock(BackgroundTask.class));
+        searcher = new BibFieldsSearcher(postgreServer.getConnection(), indexer.getTable());
+    }
+
+    @AfterEach
+    void tearDown() {
+        indexer.closeAndWait();
+        postgreServer.shutdown();
+    }
+
+    @Test
+    void getMatchedEntryIdsEvaluatesAllQueriesForGivenEntries() {
+        SearchQuery processQuery = new SearchQuery("title=process", EnumSet.noneOf(SearchFlags.class));
+        SearchQuery harrerQuery = new SearchQuery("author=harrer", EnumSet.noneOf(SearchFlags.class));
+
+        Map<SearchQuery, Set<String>> matches = searcher.getMatchedEntryIds(List.of(harrer, other), List.of(processQuery, harrerQuery));
+
+        // kopp matches the process query, but is not part of the requested entries
+        assertEquals(Map.of(processQuery, Set.of(harrer.getId()), harrerQuery, Set.of(harrer.getId())), matches);
+    }
+
+    @Test
+    void getMatchedEntryIdsAgreesWithIsMatched() {
+        SearchQuery processQuery = new SearchQuery("title=process", EnumSet.noneOf(SearchFlags.class));
+
+        Set<String> matchedIds = searcher.getMatchedEntryIds(List.of(harrer, kopp, other), List.of(processQuery)).get(processQuery);
+
+        for (BibEntry entry : List.of(harrer, kopp, other)) {
+            assertEquals(searcher.isMatched(entry, processQuery), matchedIds.contains(entry.getId()));
+        }
+    }
+}
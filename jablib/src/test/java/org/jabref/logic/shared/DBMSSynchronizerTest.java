@@ -1,6 +1,7 @@
 package org.jabref.logic.shared;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -20,6 +21,8 @@ import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.database.BibDatabaseMode;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.event.EntriesEventSource;
+import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.event.FieldsChangedEvent;
 import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.entry.field.UnknownField;
 import org.jabref.model.entry.types.StandardEntryType;
@@ -27,6 +30,7 @@ import org.jabref.model.metadata.MetaData;
 import org.jabref.model.util.DummyFileUpdateMonitor;
 import org.jabref.testutils.category.DatabaseTest;
 
+import com.google.common.eventbus.Subscribe;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -212,6 +216,27 @@ class DBMSSynchronizerTest {
         assertEquals(List.of(modifiedBibEntry), dbmsProcessor.getSharedEntries());
     }
 
+    @Test
+    void synchronizeLocalDatabaseWithMultiFieldUpdatePostsOneEvent() throws SQLException, OfflineLockException {
+        BibEntry bibEntry = createExampleBibEntry(1);
+        bibDatabase.insertEntry(bibEntry);
+
+        BibEntry modifiedBibEntry = createExampleBibEntry(1)
+                .withField(StandardField.AUTHOR, "Brad L and Gilson")
+                .withField(new UnknownField("custom"), "custom value");
+        modifiedBibEntry.clearField(StandardField.TITLE);
+        dbmsProcessor.updateEntry(modifiedBibEntry);
+
+        FieldEventCounter counter = new FieldEventCounter();
+        bibDatabase.registerListener(counter);
+        dbmsSynchronizer.synchronizeLocalDatabase();
+
+        assertEquals(List.of(), counter.fieldChangedEvents);
+        assertEquals(1, counter.fieldsChangedEvents.size());
+        assertEquals(3, counter.fieldsChangedEvents.getFirst().getChanges().size());
+        assertEquals(List.of(modifiedBibEntry), bibDatabase.getEntries());
+    }
+
     @Test
     void updateEntryDoesNotModifyLocalDatabase() throws SQLException, OfflineLockException {
         BibEntry bibEntry = createExampleBibEntry(1);
@@ -242,4 +267,19 @@ class DBMSSynchronizerTest {
 
         assertEquals("wirthlin, michael j1", bibEntry.getField(StandardField.AUTHOR).get());
     }
+
+    public static class FieldEventCounter {
+        private final List<FieldChangedEvent> fieldChangedEvents = new ArrayList<>();
+        private final List<FieldsChangedEvent> fieldsChangedEvents = new ArrayList<>();
+
+        @Subscribe
+        public void listen(FieldChangedEvent event) {
+            fieldChangedEvents.add(event);
+        }
+
+        @Subscribe
+        public void listen(FieldsChangedEvent event) {
+            fieldsChangedEvents.add(event);
+        }
+    }
 }
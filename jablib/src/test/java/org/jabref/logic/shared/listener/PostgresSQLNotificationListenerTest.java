@@ -0,0 +1,67 @@
+package org.jabref.logic.shared.listener;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PostgresSQLNotificationListenerTest {
+
+    private static final String PROCESSOR_ID = "d5c8e0b4-5b53-4c4b-9b7e-1c0e9f3a2b71";
+
+    @Test
+    void payloadWithoutChangedEntriesContainsProcessorIdOnly() {
+        assertEquals(List.of(PROCESSOR_ID), PostgresSQLNotificationListener.createPayloads(PROCESSOR_ID, Map.of()));
+    }
+
+    @Test
+    void changedEntriesAreEncoded() {
+        Map<Integer, Integer> changedEntries = new LinkedHashMap<>();
+        changedEntries.put(1, 3);
+        changedEntries.put(42, 0);
+
+        assertEquals(List.of(PROCESSOR_ID + ";1:3,42:0"), PostgresSQLNotificationListener.createPayloads(PROCESSOR_ID, changedEntries));
+    }
+
+    @Test
+    void changedEntriesAreParsed() {
+        String payload = PostgresSQLNotificationListener.createPayloads(PROCESSOR_ID, Map.of(7, 2)).getFirst();
+
+        assertEquals(PROCESSOR_ID, PostgresSQLNotificationListener.getProcessorId(payload));
+        assertEquals(Map.of(7, 2), PostgresSQLNotificationListener.parseChangedEntries(payload));
+    }
+
+    @Test
+    void payloadOfProcessorIdOnlyHasNoChangedEntries() {
+        assertEquals(PROCESSOR_ID, PostgresSQLNotificationListener.getProcessorId(PROCESSOR_ID));
+        assertEquals(Map.of(), PostgresSQLNotificationListener.parseChangedEntries(PROCESSOR_ID));
+    }
+
+    @Test
+    void malformedPayloadHasNoChangedEntries() {
+        assertEquals(Map.of(), PostgresSQLNotificationListener.parseChangedEntries(PROCESSOR_ID + ";1:x"));
+    }
+
+    @Test
+    void manyChangedEntriesAreSplitIntoSeveralPayloads() {
+        Map<Integer, Integer> changedEntries = new HashMap<>();
+        for (int i = 1; i <= 2000; i++) {
+            changedEntries.put(100_000 + i, 1);
+        }
+
+        List<String> payloads = PostgresSQLNotificationListener.createPayloads(PROCESSOR_ID, changedEntries);
+
+        assertTrue(payloads.size() > 1);
+        Map<Integer, Integer> parsed = new HashMap<>();
+        for (String payload : payloads) {
+            assertTrue(payload.length() < 8000);
+            parsed.putAll(PostgresSQLNotificationListener.parseChangedEntries(payload));
+        }
+        assertEquals(changedEntries, parsed);
+    }
+}
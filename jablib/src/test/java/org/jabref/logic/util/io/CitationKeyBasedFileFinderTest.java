@@ -125,4 +125,25 @@ class CitationKeyBasedFileFinderTest {
 
         assertNotEquals(List.of(testFile), results);
     }
+
+    @Test
+    void findAssociatedFilesOfManyEntries() throws IOException {
+        BibEntry otherEntry = new BibEntry(StandardEntryType.Article).withCitationKey("Other");
+        BibEntry entryWithoutKey = new BibEntry(StandardEntryType.Article);
+        FileFinder fileFinder = new CitationKeyBasedFileFinder(false);
+
+        List<List<Path>> results = fileFinder.findAssociatedFiles(List.of(entry, otherEntry, entryWithoutKey), List.of(graphicsDir, pdfsDir), List.of("jpg", "pdf"));
+
+        assertEquals(List.of(List.of(jpgFile, pdfFile), List.of(), List.of()), results);
+    }
+
+    @Test
+    void findAssociatedFilesOfEqualEntries() throws IOException {
+        BibEntry equalEntry = (BibEntry) entry.clone();
+        FileFinder fileFinder = new CitationKeyBasedFileFinder(false);
+
+        List<List<Path>> results = fileFinder.findAssociatedFiles(List.of(entry, equalEntry), List.of(graphicsDir, pdfsDir), List.of("jpg", "pdf"));
+
+        assertEquals(List.of(List.of(jpgFile, pdfFile), List.of(jpgFile, pdfFile)), results);
+    }
 }
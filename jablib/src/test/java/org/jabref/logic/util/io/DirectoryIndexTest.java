@@ -0,0 +1,87 @@
+package org.jabref.logic.util.io;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DirectoryIndexTest {
+
+    private Path rootDir;
+    private Path subDir;
+    private Path subSubDir;
+    private Path pdfFile;
+    private Path txtFile;
+
+    @BeforeEach
+    void setUp(@TempDir Path temporaryFolder) throws IOException {
+        rootDir = temporaryFolder;
+        subDir = Files.createDirectory(rootDir.resolve("sub"));
+        subSubDir = Files.createDirectory(subDir.resolve("subsub"));
+        pdfFile = Files.createFile(subSubDir.resolve("HipKro03 - Hello.pdf"));
+        txtFile = Files.createFile(rootDir.resolve("HipKro03.txt"));
+    }
+
+    @Test
+    void findsFilesByPrefixAndBaseName() throws IOException {
+        DirectoryIndex index = DirectoryIndex.of(rootDir);
+
+        assertEquals(List.of(pdfFile), index.getFilesStartingWith("HipKro03 "));
+        assertEquals(List.of(txtFile), index.getFilesWithBaseName("HipKro03"));
+        assertEquals(List.of(), index.getFilesStartingWith("Other"));
+    }
+
+    @Test
+    void listsDirectories() throws IOException {
+        DirectoryIndex index = DirectoryIndex.of(rootDir);
+
+        assertTrue(index.contains(subSubDir));
+        assertEquals(List.of(subDir), index.getSubdirectories(rootDir));
+        assertEquals(List.of(subDir, subSubDir), index.getAllSubdirectories(rootDir));
+        assertEquals(List.of(txtFile), index.getFiles(rootDir));
+    }
+
+    @Test
+    void containsFileAddedAfterIndexing() throws IOException {
+        DirectoryIndex.of(rootDir);
+        Path addedFile = Files.createFile(subSubDir.resolve("HipKro03 - Second.pdf"));
+
+        DirectoryIndex index = DirectoryIndex.of(rootDir);
+
+        assertEquals(List.of(pdfFile, addedFile), index.getFilesStartingWith("HipKro03 "));
+    }
+
+    @Test
+    void leavesOutSubtreesNotAcceptedByFilter() throws IOException {
+        DirectoryIndex index = DirectoryIndex.of(rootDir, directory -> !directory.equals(subSubDir), () -> false);
+
+        assertFalse(index.contains(subSubDir));
+        assertEquals(List.of(subDir), index.getAllSubdirectories(rootDir));
+        assertEquals(List.of(), index.getFilesStartingWith("HipKro03 "));
+        // The index of all directories is kept separately
+        assertEquals(List.of(pdfFile), DirectoryIndex.of(rootDir).getFilesStartingWith("HipKro03 "));
+    }
+
+    @Test
+    void cancelledIndexingThrowsCancellationException() {
+        assertThrows(CancellationException.class, () -> DirectoryIndex.of(rootDir, _ -> true, () -> true));
+    }
+
+    @Test
+    void nonExistingDirectoryResultsInEmptyIndex() throws IOException {
+        DirectoryIndex index = DirectoryIndex.of(rootDir.resolve("missing"));
+
+        assertFalse(index.contains(rootDir.resolve("missing")));
+        assertEquals(List.of(), index.getFilesStartingWith(""));
+    }
+}
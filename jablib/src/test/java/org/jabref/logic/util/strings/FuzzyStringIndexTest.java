@@ -0,0 +1,56 @@
+package org.jabref.logic.util.strings;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class FuzzyStringIndexTest {
+
+    private static final List<String> JOURNALS = List.of(
+            "Physical Review Letters",
+            "Physical Review",
+            "Physical Review A",
+            "Physical Review B",
+            "PHYSICAL REVIEW LETTERS",
+            "Journal of Applied Physics",
+            "Journal of Applied Polymer Science",
+            "Nature",
+            "Nature Physics",
+            "Science");
+
+    private final StringSimilarity similarity = new StringSimilarity();
+    private final FuzzyStringIndex index = new FuzzyStringIndex(JOURNALS);
+
+    @ParameterizedTest
+    @ValueSource(strings = {"Physical Review Leters", "physical review", "Natrue", "Journal of Aplied Physics", "Sceince", "", "Unknown"})
+    void findsSameStringsAsStringSimilarity(String query) {
+        Set<String> expected = JOURNALS.stream()
+                                       .filter(journal -> similarity.isSimilar(query, journal))
+                                       .collect(Collectors.toSet());
+
+        Set<String> result = index.findWithin(query, StringSimilarity.METRIC_THRESHOLD).stream()
+                                  .map(FuzzyStringIndex.Match::value)
+                                  .collect(Collectors.toSet());
+
+        assertEquals(expected, result);
+    }
+
+    @Test
+    void matchHasEditDistanceIgnoringCase() {
+        assertEquals(List.of(new FuzzyStringIndex.Match("Nature", 1)), index.findWithin("NATUR", 1));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"kitten,sitting", "flaw,lawn", "abc,", ",abc", "same,same"})
+    void distanceEqualsStringSimilarity(String pair) {
+        String[] strings = pair.split(",", -1);
+
+        assertEquals((int) similarity.editDistanceIgnoreCase(strings[0], strings[1]), FuzzyStringIndex.distance(strings[0], strings[1]));
+    }
+}
@@ -344,6 +344,45 @@ class BibDatabaseTest {
         assertEquals(1, database.getNumberOfCitationKeyOccurrences("AAA"));
     }
 
+    @Test
+    void correctKeyCountAfterChangingKey() {
+        BibEntry entry = new BibEntry();
+        entry.setCitationKey("AAA");
+        database.insertEntry(entry);
+        entry.setCitationKey("BBB");
+        assertEquals(0, database.getNumberOfCitationKeyOccurrences("AAA"));
+        assertEquals(1, database.getNumberOfCitationKeyOccurrences("BBB"));
+    }
+
+    @Test
+    void entryIsNotFoundAfterClearingKey() {
+        BibEntry entry = new BibEntry();
+        entry.setCitationKey("AAA");
+        database.insertEntry(entry);
+        entry.clearCiteKey();
+        assertEquals(Optional.empty(), database.getEntryByCitationKey("AAA"));
+    }
+
+    @Test
+    void changingKeyOfRemovedEntryDoesNotAddItAgain() {
+        BibEntry entry = new BibEntry();
+        entry.setCitationKey("AAA");
+        database.insertEntry(entry);
+        database.removeEntry(entry);
+        entry.setCitationKey("BBB");
+        assertEquals(List.of(), database.getEntriesByCitationKey("BBB"));
+    }
+
+    @Test
+    void entriesByCitationKeyAreInOrderOfDatabase() {
+        BibEntry first = new BibEntry().withCitationKey("AAA");
+        BibEntry second = new BibEntry().withCitationKey("BBB");
+        database.insertEntries(first, second);
+        second.setCitationKey("CCC");
+        first.setCitationKey("CCC");
+        assertEquals(List.of(first, second), database.getEntriesByCitationKey("CCC"));
+    }
+
     @Test
     void circularStringResolving() {
         BibtexString string = new BibtexString("AAA", "#BBB#");
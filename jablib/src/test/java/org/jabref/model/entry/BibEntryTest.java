@@ -10,9 +10,12 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Stream;
 
+import javafx.beans.property.ObjectProperty;
+
 import org.jabref.logic.util.URLUtil;
 import org.jabref.model.FieldChange;
 import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.event.FieldChangedEvent;
 import org.jabref.model.entry.field.BibField;
 import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.FieldPriority;
@@ -21,9 +24,11 @@ import org.jabref.model.entry.field.OrFields;
 import org.jabref.model.entry.field.SpecialField;
 import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.entry.field.UnknownField;
+import org.jabref.model.entry.types.EntryType;
 import org.jabref.model.entry.types.StandardEntryType;
 
 import com.google.common.collect.Sets;
+import com.google.common.eventbus.Subscribe;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.parallel.Execution;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -53,6 +58,33 @@ class BibEntryTest {
         assertThrows(NullPointerException.class, () -> entry.setType(null));
     }
 
+    @Test
+    void typePropertyFollowsSetType() {
+        ObjectProperty<EntryType> typeProperty = entry.typeProperty();
+        entry.setType(StandardEntryType.Book);
+        assertEquals(StandardEntryType.Book, typeProperty.get());
+    }
+
+    @Test
+    void listenerIsNotifiedAboutFieldChange() {
+        List<FieldChangedEvent> events = new ArrayList<>();
+        entry.registerListener(new Object() {
+            @Subscribe
+            public void listen(FieldChangedEvent event) {
+                events.add(event);
+            }
+        });
+        entry.setField(StandardField.AUTHOR, "value");
+        assertEquals(1, events.size());
+    }
+
+    @Test
+    void unregisterListenerWithoutAnyRegisteredListenerDoesNotFail() {
+        entry.unregisterListener(new Object());
+        entry.setField(StandardField.AUTHOR, "value");
+        assertEquals(Optional.of("value"), entry.getField(StandardField.AUTHOR));
+    }
+
     @Test
     void setNullFieldThrowsNPE() {
         assertThrows(NullPointerException.class, () -> entry.setField(null));
@@ -29,7 +29,14 @@ public record BibEntryDTO(SharedBibEntryData sharingMetadata, String userComment
     public static final Logger LOGGER = LoggerFactory.getLogger(BibEntryDTO.class);
 
     public BibEntryDTO(BibEntry bibEntry, BibDatabaseMode bibDatabaseMode, FieldPreferences fieldWriterPreferences, BibEntryTypesManager bibEntryTypesManager) {
-        this(bibEntry.getSharedBibEntryData(),
+        this(bibEntry, bibEntry.getSharedBibEntryData(), bibDatabaseMode, fieldWriterPreferences, bibEntryTypesManager);
+    }
+
+    /**
+     * @param sharingMetadata the sharing metadata to send instead of the one of the entry. This way, the entry itself does not need to be modified.
+     */
+    public BibEntryDTO(BibEntry bibEntry, SharedBibEntryData sharingMetadata, BibDatabaseMode bibDatabaseMode, FieldPreferences fieldWriterPreferences, BibEntryTypesManager bibEntryTypesManager) {
+        this(sharingMetadata,
                 bibEntry.getUserComments(),
                 bibEntry.getCitationKey().orElse(""),
                 convertToString(bibEntry, bibDatabaseMode, fieldWriterPreferences, bibEntryTypesManager)
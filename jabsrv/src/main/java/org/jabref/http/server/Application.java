@@ -27,5 +27,7 @@ public class Application extends jakarta.ws.rs.core.Application {
     private void initialize() {
         ServiceLocatorUtilities.addFactoryConstants(serviceLocator, new GsonFactory());
         ServiceLocatorUtilities.addFactoryConstants(serviceLocator, new PreferencesFactory());
+        // The cache has to be shared by all requests
+        ServiceLocatorUtilities.addOneConstant(serviceLocator, new LibraryCache());
     }
 }
@@ -3,7 +3,6 @@ package org.jabref.http.server;
 import java.util.List;
 
 import org.jabref.logic.preferences.CliPreferences;
-import org.jabref.logic.util.io.BackupFileUtil;
 
 import com.google.gson.Gson;
 import jakarta.inject.Inject;
@@ -17,11 +16,14 @@ public class LibrariesResource {
     @Inject
     CliPreferences preferences;
 
+    @Inject
+    LibraryCache libraryCache;
+
     @GET
     @Produces(MediaType.APPLICATION_JSON)
     public String get() {
         List<String> fileNamesWithUniqueSuffix = preferences.getLastFilesOpenedPreferences().getLastFilesOpened().stream()
-                                                            .map(p -> p.getFileName() + "-" + BackupFileUtil.getUniqueFilePrefix(p))
+                                                            .map(libraryCache::getLibraryId)
                                                             .toList();
         return new Gson().toJson(fileNamesWithUniqueSuffix);
     }
@@ -0,0 +1,144 @@
+package org.jabref.http.server;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.logic.importer.ParserResult;
+import org.jabref.logic.importer.fileformat.BibtexImporter;
+import org.jabref.logic.util.io.BackupFileUtil;
+import org.jabref.model.util.DummyFileUpdateMonitor;
+
+import jakarta.ws.rs.core.EntityTag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Caches the parsed libraries served, so that a library is parsed only again if its file changed.
+ * <p>
+ * A cached library is valid as long as the modification time and the size of its file stay the same.
+ * If the estimated memory of all cached libraries exceeds the memory budget, the least recently used libraries are evicted.
+ */
+public class LibraryCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LibraryCache.class);
+
+    // Rough estimate of the memory a parsed library takes in relation to the size of its file
+    private static final int MEMORY_PER_FILE_BYTE = 8;
+
+    private final long memoryBudget;
+
+    // Access ordered, thus the least recently used library comes first
+    private final Map<Path, CachedLibrary> libraries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<Path, String> libraryIds = new ConcurrentHashMap<>();
+    private long usedMemory;
+
+    public LibraryCache() {
+        this(Runtime.getRuntime().maxMemory() / 4);
+    }
+
+    LibraryCache(long memoryBudget) {
+        this.memoryBudget = memoryBudget;
+    }
+
+    /**
+     * @return the id under which the library is served, see {@link LibrariesResource}
+     */
+    public String getLibraryId(Path library) {
+        return libraryIds.computeIfAbsent(library, path -> path.getFileName() + "-" + BackupFileUtil.getUniqueFilePrefix(path));
+    }
+
+    /**
+     * Returns the parsed library. The library is parsed only if it is not cached or if its file changed since it was cached.
+     */
+    public CachedLibrary getLibrary(Path library, ImportFormatPreferences importFormatPreferences) throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(library, BasicFileAttributes.class);
+        synchronized (this) {
+            CachedLibrary cachedLibrary = libraries.get(library);
+            if (cachedLibrary != null && cachedLibrary.isUpToDate(attributes)) {
+                return cachedLibrary;
+            }
+        }
+
+        // Parsing takes long, thus other libraries can be served in the meantime
+        LOGGER.debug("Parsing library {}", library);
+        ParserResult parserResult = new BibtexImporter(importFormatPreferences, new DummyFileUpdateMonitor()).importDatabase(library);
+        CachedLibrary parsedLibrary = new CachedLibrary(parserResult, attributes);
+
+        synchronized (this) {
+            CachedLibrary replacedLibrary = libraries.put(library, parsedLibrary);
+            if (replacedLibrary != null) {
+                usedMemory -= replacedLibrary.getEstimatedMemory();
+            }
+            usedMemory += parsedLibrary.getEstimatedMemory();
+            evict();
+        }
+        return parsedLibrary;
+    }
+
+    /**
+     * Evicts the least recently used libraries until the memory budget is met. The most recently used library is always kept.
+     */
+    private void evict() {
+        Iterator<CachedLibrary> iterator = libraries.values().iterator();
+        while (usedMemory > memoryBudget && libraries.size() > 1) {
+            CachedLibrary evictedLibrary = iterator.next();
+            iterator.remove();
+            usedMemory -= evictedLibrary.getEstimatedMemory();
+        }
+    }
+
+    synchronized int size() {
+        return libraries.size();
+    }
+
+    /**
+     * @param representation distinguishes the different representations (e.g., BibTeX and CSL JSON) of the same file
+     */
+    public static EntityTag getEntityTag(BasicFileAttributes attributes, String representation) {
+        return new EntityTag(Long.toHexString(attributes.size()) + "-" + Long.toHexString(attributes.lastModifiedTime().toMillis()) + "-" + representation);
+    }
+
+    public static class CachedLibrary {
+        private final ParserResult parserResult;
+        private final BasicFileAttributes attributes;
+        private final Map<String, String> representations = new ConcurrentHashMap<>();
+
+        private CachedLibrary(ParserResult parserResult, BasicFileAttributes attributes) {
+            this.parserResult = parserResult;
+            this.attributes = attributes;
+        }
+
+        public ParserResult getParserResult() {
+            return parserResult;
+        }
+
+        public EntityTag getEntityTag(String representation) {
+            return LibraryCache.getEntityTag(attributes, representation);
+        }
+
+        /**
+         * Returns the serialized library. The serialization is computed only once per representation.
+         */
+        public String getRepresentation(String representation, Function<ParserResult, String> serializer) {
+            return representations.computeIfAbsent(representation, _ -> serializer.apply(parserResult));
+        }
+
+        private boolean isUpToDate(BasicFileAttributes currentAttributes) {
+            FileTime lastModified = attributes.lastModifiedTime();
+            return lastModified.equals(currentAttributes.lastModifiedTime()) && (attributes.size() == currentAttributes.size());
+        }
+
+        private long getEstimatedMemory() {
+            return attributes.size() * MEMORY_PER_FILE_BYTE;
+        }
+    }
+}
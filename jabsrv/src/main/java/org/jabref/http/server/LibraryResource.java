@@ -2,18 +2,20 @@ package org.jabref.http.server;
 
 import java.io.IOException;
 import java.nio.file.Files;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Function;
 
 import org.jabref.http.JabrefMediaType;
 import org.jabref.http.dto.BibEntryDTO;
+import org.jabref.http.server.LibraryCache.CachedLibrary;
 import org.jabref.logic.citationstyle.JabRefItemDataProvider;
 import org.jabref.logic.importer.ParserResult;
-import org.jabref.logic.importer.fileformat.BibtexImporter;
 import org.jabref.logic.preferences.CliPreferences;
-import org.jabref.logic.util.io.BackupFileUtil;
+import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryTypesManager;
-import org.jabref.model.util.DummyFileUpdateMonitor;
+import org.jabref.model.entry.SharedBibEntryData;
 
 import com.airhacks.afterburner.injection.Injector;
 import com.google.gson.Gson;
@@ -24,60 +26,89 @@ import jakarta.ws.rs.NotFoundException;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.EntityTag;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Serves a single library. All responses carry an ETag, thus clients polling the library can use <code>If-None-Match</code>
+ * and get a <code>304 Not Modified</code> as long as the library did not change.
+ * <p>
+ * The JSON representation of an entry contains a hash of the entry as shared ID. Clients can compare these with the ones they
+ * know and fetch only the changed entries at <code>entries/{citationKey}</code>.
+ */
 @Path("libraries/{id}")
 public class LibraryResource {
     public static final Logger LOGGER = LoggerFactory.getLogger(LibraryResource.class);
 
+    private static final String JSON_REPRESENTATION = "json";
+    private static final String CSL_REPRESENTATION = "csl";
+    private static final String BIBTEX_REPRESENTATION = "bib";
+
     @Inject
     CliPreferences preferences;
 
     @Inject
     Gson gson;
 
+    @Inject
+    LibraryCache libraryCache;
+
     @GET
     @Produces(MediaType.APPLICATION_JSON)
-    public String getJson(@PathParam("id") String id) {
-        ParserResult parserResult = getParserResult(id);
-        BibEntryTypesManager entryTypesManager = Injector.instantiateModelOrService(BibEntryTypesManager.class);
-        List<BibEntryDTO> list = parserResult.getDatabase().getEntries().stream()
-                                             .peek(bibEntry -> bibEntry.getSharedBibEntryData().setSharedID(Objects.hash(bibEntry)))
-                                             .map(entry -> new BibEntryDTO(entry, parserResult.getDatabaseContext().getMode(), preferences.getFieldPreferences(), entryTypesManager))
-                                             .toList();
-        return gson.toJson(list);
+    public Response getJson(@PathParam("id") String id, @Context Request request) {
+        return getRepresentation(getCachedLibrary(id), JSON_REPRESENTATION, request, parserResult -> {
+            BibEntryTypesManager entryTypesManager = Injector.instantiateModelOrService(BibEntryTypesManager.class);
+            List<BibEntryDTO> list = parserResult.getDatabase().getEntries().stream()
+                                                 .map(entry -> toDTO(entry, parserResult, entryTypesManager))
+                                                 .toList();
+            return gson.toJson(list);
+        });
     }
 
     @GET
     @Produces(JabrefMediaType.JSON_CSL_ITEM)
-    public String getClsItemJson(@PathParam("id") String id) {
-        ParserResult parserResult = getParserResult(id);
-        JabRefItemDataProvider jabRefItemDataProvider = new JabRefItemDataProvider();
-        jabRefItemDataProvider.setData(parserResult.getDatabaseContext(), new BibEntryTypesManager());
-        return jabRefItemDataProvider.toJson();
+    public Response getClsItemJson(@PathParam("id") String id, @Context Request request) {
+        return getRepresentation(getCachedLibrary(id), CSL_REPRESENTATION, request, parserResult -> {
+            JabRefItemDataProvider jabRefItemDataProvider = new JabRefItemDataProvider();
+            jabRefItemDataProvider.setData(parserResult.getDatabaseContext(), new BibEntryTypesManager());
+            return jabRefItemDataProvider.toJson();
+        });
     }
 
-    private ParserResult getParserResult(String id) {
-        java.nio.file.Path library = getLibraryPath(id);
-        ParserResult parserResult;
-        try {
-            parserResult = new BibtexImporter(preferences.getImportFormatPreferences(), new DummyFileUpdateMonitor()).importDatabase(library);
-        } catch (IOException e) {
-            LOGGER.warn("Could not find open library file {}", library, e);
-            throw new InternalServerErrorException("Could not parse library", e);
+    @GET
+    @Path("entries/{citationKey}")
+    @Produces(MediaType.APPLICATION_JSON)
+    public Response getEntryJson(@PathParam("id") String id, @PathParam("citationKey") String citationKey, @Context Request request) {
+        CachedLibrary library = getCachedLibrary(id);
+        BibEntry entry = library.getParserResult().getDatabase().getEntryByCitationKey(citationKey).orElseThrow(NotFoundException::new);
+        EntityTag entityTag = new EntityTag(String.valueOf(Objects.hash(entry)));
+        Response.ResponseBuilder notModified = request.evaluatePreconditions(entityTag);
+        if (notModified != null) {
+            return notModified.build();
         }
-        return parserResult;
+        BibEntryTypesManager entryTypesManager = Injector.instantiateModelOrService(BibEntryTypesManager.class);
+        return Response.ok(gson.toJson(toDTO(entry, library.getParserResult(), entryTypesManager)))
+                       .tag(entityTag)
+                       .build();
     }
 
     @GET
     @Produces(JabrefMediaType.BIBTEX)
-    public Response getBibtex(@PathParam("id") String id) {
+    public Response getBibtex(@PathParam("id") String id, @Context Request request) {
         java.nio.file.Path library = getLibraryPath(id);
+        EntityTag entityTag;
         String libraryAsString;
         try {
+            entityTag = LibraryCache.getEntityTag(Files.readAttributes(library, BasicFileAttributes.class), BIBTEX_REPRESENTATION);
+            Response.ResponseBuilder notModified = request.evaluatePreconditions(entityTag);
+            if (notModified != null) {
+                return notModified.build();
+            }
             libraryAsString = Files.readString(library);
         } catch (IOException e) {
             LOGGER.error("Could not read library {}", library, e);
@@ -85,13 +116,46 @@ public class LibraryResource {
         }
         return Response.ok()
                 .entity(libraryAsString)
+                .tag(entityTag)
                 .build();
     }
 
+    /**
+     * The entries of a cached library are shared by concurrent requests, thus they must not be modified here
+     */
+    private BibEntryDTO toDTO(BibEntry entry, ParserResult parserResult, BibEntryTypesManager entryTypesManager) {
+        // The hash allows clients to detect which entries changed
+        SharedBibEntryData sharingMetadata = new SharedBibEntryData();
+        sharingMetadata.setSharedID(Objects.hash(entry));
+        sharingMetadata.setVersion(entry.getSharedBibEntryData().getVersion());
+        return new BibEntryDTO(entry, sharingMetadata, parserResult.getDatabaseContext().getMode(), preferences.getFieldPreferences(), entryTypesManager);
+    }
+
+    private Response getRepresentation(CachedLibrary library, String representation, Request request, Function<ParserResult, String> serializer) {
+        EntityTag entityTag = library.getEntityTag(representation);
+        Response.ResponseBuilder notModified = request.evaluatePreconditions(entityTag);
+        if (notModified != null) {
+            return notModified.build();
+        }
+        return Response.ok(library.getRepresentation(representation, serializer))
+                       .tag(entityTag)
+                       .build();
+    }
+
+    private CachedLibrary getCachedLibrary(String id) {
+        java.nio.file.Path library = getLibraryPath(id);
+        try {
+            return libraryCache.getLibrary(library, preferences.getImportFormatPreferences());
+        } catch (IOException e) {
+            LOGGER.warn("Could not find open library file {}", library, e);
+            throw new InternalServerErrorException("Could not parse library", e);
+        }
+    }
+
     private java.nio.file.Path getLibraryPath(String id) {
         return preferences.getLastFilesOpenedPreferences().getLastFilesOpened()
                           .stream()
-                          .filter(p -> (p.getFileName() + "-" + BackupFileUtil.getUniqueFilePrefix(p)).equals(id))
+                          .filter(p -> libraryCache.getLibraryId(p).equals(id))
                           .findAny()
                           .orElseThrow(NotFoundException::new);
     }
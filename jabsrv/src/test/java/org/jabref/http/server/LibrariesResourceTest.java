@@ -15,6 +15,7 @@ class LibrariesResourceTest extends ServerTest {
     protected Application configure() {
         ResourceConfig resourceConfig = new ResourceConfig(LibrariesResource.class);
         addPreferencesToResourceConfig(resourceConfig);
+        addLibraryCacheToResourceConfig(resourceConfig);
         return resourceConfig.getApplication();
     }
 
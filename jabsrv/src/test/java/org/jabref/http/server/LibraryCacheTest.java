@@ -0,0 +1,74 @@
+package org.jabref.http.server;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.jabref.logic.bibtex.FieldPreferences;
+import org.jabref.logic.importer.ImportFormatPreferences;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Answers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class LibraryCacheTest {
+
+    private static final String LIBRARY = """
+            @Misc{Author2023test,
+              author = {Demo Author},
+              title  = {Demo Title},
+            }
+            """;
+
+    private final ImportFormatPreferences importFormatPreferences = mock(ImportFormatPreferences.class, Answers.RETURNS_DEEP_STUBS);
+
+    @TempDir
+    private Path tempDir;
+
+    @BeforeEach
+    void setUp() {
+        when(importFormatPreferences.bibEntryPreferences().getKeywordSeparator()).thenReturn(',');
+        when(importFormatPreferences.fieldPreferences()).thenReturn(new FieldPreferences(false, List.of(), List.of()));
+    }
+
+    @Test
+    void unchangedLibraryIsParsedOnce() throws Exception {
+        Path library = Files.writeString(tempDir.resolve("library.bib"), LIBRARY);
+        LibraryCache libraryCache = new LibraryCache();
+
+        assertSame(libraryCache.getLibrary(library, importFormatPreferences), libraryCache.getLibrary(library, importFormatPreferences));
+    }
+
+    @Test
+    void changedLibraryIsParsedAgain() throws Exception {
+        Path library = Files.writeString(tempDir.resolve("library.bib"), LIBRARY);
+        LibraryCache libraryCache = new LibraryCache();
+        LibraryCache.CachedLibrary cachedLibrary = libraryCache.getLibrary(library, importFormatPreferences);
+
+        Files.writeString(library, LIBRARY + LIBRARY.replace("Author2023test", "Author2023second"));
+        LibraryCache.CachedLibrary changedLibrary = libraryCache.getLibrary(library, importFormatPreferences);
+
+        assertNotSame(cachedLibrary, changedLibrary);
+        assertEquals(2, changedLibrary.getParserResult().getDatabase().getEntryCount());
+    }
+
+    @Test
+    void leastRecentlyUsedLibraryIsEvicted() throws Exception {
+        Path first = Files.writeString(tempDir.resolve("first.bib"), LIBRARY);
+        Path second = Files.writeString(tempDir.resolve("second.bib"), LIBRARY);
+        LibraryCache libraryCache = new LibraryCache(1);
+
+        libraryCache.getLibrary(first, importFormatPreferences);
+        LibraryCache.CachedLibrary secondLibrary = libraryCache.getLibrary(second, importFormatPreferences);
+
+        assertEquals(1, libraryCache.size());
+        assertSame(secondLibrary, libraryCache.getLibrary(second, importFormatPreferences));
+    }
+}
@@ -1,12 +1,21 @@
 package org.jabref.http.server;
 
+import java.io.IOException;
+
 import org.jabref.http.JabrefMediaType;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.SharedBibEntryData;
 
 import jakarta.ws.rs.core.Application;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
 import org.glassfish.jersey.server.ResourceConfig;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class LibraryResourceTest extends ServerTest {
 
@@ -14,6 +23,7 @@ class LibraryResourceTest extends ServerTest {
     protected Application configure() {
         ResourceConfig resourceConfig = new ResourceConfig(LibraryResource.class, LibrariesResource.class);
         addPreferencesToResourceConfig(resourceConfig);
+        addLibraryCacheToResourceConfig(resourceConfig);
         addGsonToResourceConfig(resourceConfig);
         return resourceConfig.getApplication();
     }
@@ -36,4 +46,35 @@ class LibraryResourceTest extends ServerTest {
         assertEquals("""
                 [{"id":"Author2023test","type":"article","author":[{"family":"Author","given":"Demo"}],"event-date":{"date-parts":[[2023]]},"issued":{"date-parts":[[2023]]},"title":"Demo Title"}]""", target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id).request(JabrefMediaType.JSON_CSL_ITEM).get(String.class));
     }
+
+    @Test
+    void notModifiedIfEntityTagMatches() {
+        Response response = target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id).request(JabrefMediaType.JSON_CSL_ITEM).get();
+        String entityTag = response.getHeaderString(HttpHeaders.ETAG);
+        assertNotNull(entityTag);
+
+        Response secondResponse = target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id).request(JabrefMediaType.JSON_CSL_ITEM).header(HttpHeaders.IF_NONE_MATCH, entityTag).get();
+        assertEquals(Response.Status.NOT_MODIFIED.getStatusCode(), secondResponse.getStatus());
+    }
+
+    @Test
+    void getEntryJson() {
+        String entry = target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id + "/entries/Author2023test").request(MediaType.APPLICATION_JSON).get(String.class);
+        assertTrue(entry.contains("\"citationKey\": \"Author2023test\""));
+    }
+
+    @Test
+    void getJsonDoesNotModifyCachedEntries() throws IOException {
+        target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id).request(MediaType.APPLICATION_JSON).get(String.class);
+
+        BibEntry cachedEntry = libraryCache.getLibrary(TestBibFile.GENERAL_SERVER_TEST.path, preferences.getImportFormatPreferences())
+                                           .getParserResult().getDatabase().getEntries().getFirst();
+        assertEquals(new SharedBibEntryData().getSharedID(), cachedEntry.getSharedBibEntryData().getSharedID());
+    }
+
+    @Test
+    void getUnknownEntryJson() {
+        Response response = target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id + "/entries/unknown").request(MediaType.APPLICATION_JSON).get();
+        assertEquals(Response.Status.NOT_FOUND.getStatusCode(), response.getStatus());
+    }
 }
@@ -27,15 +27,17 @@ import static org.mockito.Mockito.when;
  * Abstract test class to
  * <ul>
  *   <li>Initialize the JCL to SLF4J bridge</li>
- *   <li>Provide injection capabilities of JabRef's preferences and Gson<./li>
+ *   <li>Provide injection capabilities of JabRef's preferences, Gson, and the library cache</li>
  * </ul>
  * <p>More information on testing with Jersey is available at <a href="https://eclipse-ee4j.github.io/jersey.github.io/documentation/latest/test-framework.html">the Jersey's testing documentation</a></p>.
  */
 abstract class ServerTest extends JerseyTest {
 
-    private static CliPreferences preferences;
+    protected static CliPreferences preferences;
     private static LastFilesOpenedPreferences lastFilesOpenedPreferences;
 
+    protected final LibraryCache libraryCache = new LibraryCache();
+
     @BeforeAll
     static void installLoggingBridge() {
         // Grizzly uses java.commons.logging, but we use TinyLog
@@ -63,6 +65,15 @@ abstract class ServerTest extends JerseyTest {
         });
     }
 
+    protected void addLibraryCacheToResourceConfig(ResourceConfig resourceConfig) {
+        resourceConfig.register(new AbstractBinder() {
+            @Override
+            protected void configure() {
+                bind(libraryCache).to(LibraryCache.class);
+            }
+        });
+    }
+
     protected void setAvailableLibraries(EnumSet<TestBibFile> files) {
         when(lastFilesOpenedPreferences.getLastFilesOpened()).thenReturn(
                 FXCollections.observableArrayList(